@@ -1,6 +1,7 @@
 package com.discordBot.demo.config;
 
 import com.discordBot.demo.service.ChampionService;
+import com.discordBot.demo.service.ScoreboardIconService;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,12 +15,15 @@ import lombok.RequiredArgsConstructor;
 public class ChampionConfig {
 
     private final ChampionService championService;
+    private final ScoreboardIconService scoreboardIconService;
 
     @Bean
     public ApplicationRunner runChampionUpdateOnStartup() {
         return args -> {
             // ApplicationContext 로드 완료 후 챔피언 업데이트 서비스 호출
             championService.updateChampionDataIfNecessary();
+            // 갱신된 버전의 점수판 아이콘 스냅샷을 백그라운드에서 준비
+            scoreboardIconService.prepareSnapshot();
         };
     }
 }
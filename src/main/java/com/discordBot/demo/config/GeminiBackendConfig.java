@@ -0,0 +1,62 @@
+package com.discordBot.demo.config;
+
+import com.discordBot.demo.service.impl.GeminiApiServiceImpl;
+import com.discordBot.demo.support.GeminiCorpus;
+import com.discordBot.demo.support.GeminiReplayCall;
+import com.google.genai.types.GenerateContentResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Gemini 호출 대상 선택 (프로필)
+ *
+ * - 기본: 실제 Gemini API
+ * - gemini-record: 실제 API를 호출하고 응답을 녹화 폴더에 저장
+ * - gemini-replay: 네트워크 없이 녹화된 응답을 재생 (지연 분포 / 오류 주입)
+ *
+ * 어느 쪽이든 GeminiApiServiceImpl의 동시 실행 한도, 재시도, 서킷 브레이커는 그대로 거칩니다.
+ */
+@Slf4j
+@Configuration
+public class GeminiBackendConfig {
+
+    @Bean
+    @Profile({"gemini-record", "gemini-replay"})
+    public GeminiCorpus geminiCorpus(@Value("${spring.gemini.replay.corpus-dir:./gemini-corpus}") String corpusDir) throws IOException {
+        GeminiCorpus corpus = new GeminiCorpus(Path.of(corpusDir));
+        log.info("📼 Gemini 녹화 폴더: {} (응답 {}건)", Path.of(corpusDir).toAbsolutePath(), corpus.getImageHashes().size());
+        return corpus;
+    }
+
+    @Bean
+    @Profile("gemini-replay")
+    public GeminiApiServiceImpl.GeminiCall replayGeminiCall(GeminiCorpus corpus,
+                                                            @Value("${spring.gemini.replay.on-miss:error}") String onMiss,
+                                                            @Value("${spring.gemini.replay.latency.median-ms:3000}") long medianMillis,
+                                                            @Value("${spring.gemini.replay.latency.p99-ms:12000}") long p99Millis,
+                                                            @Value("${spring.gemini.replay.throttle-rate:0.0}") double throttleRate,
+                                                            @Value("${spring.gemini.replay.error-rate:0.0}") double errorRate) {
+        log.warn("📼 gemini-replay 프로필: 실제 Gemini API 대신 녹화된 응답을 사용합니다. (지연 중앙값 {}ms / p99 {}ms, 429 {} / 503 {})",
+                medianMillis, p99Millis, throttleRate, errorRate);
+        return new GeminiReplayCall(corpus, "pick".equalsIgnoreCase(onMiss), medianMillis, p99Millis, throttleRate, errorRate);
+    }
+
+    @Bean
+    @Profile("gemini-record")
+    public GeminiApiServiceImpl.GeminiCall recordingGeminiCall(GeminiCorpus corpus,
+                                                               @Value("${spring.gemini.api.key}") String apiKey,
+                                                               @Value("${spring.gemini.resilience.timeout-ms:60000}") long timeoutMillis) {
+        GeminiApiServiceImpl.GeminiCall clientCall = GeminiApiServiceImpl.clientCall(apiKey, timeoutMillis);
+        return (modelName, contents, config) -> {
+            GenerateContentResponse response = clientCall.generate(modelName, contents, config);
+            GeminiCorpus.imageHash(contents).ifPresent(imageHash -> corpus.save(imageHash, response));
+            return response;
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.discordBot.demo.config;
+
+import com.discordBot.demo.service.GuildWriteLaneService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 서버별 경기 등록 대기열 깊이 (GET /actuator/ingestqueues)
+ * 서버마다 게이지를 만들면 지표 계열이 서버 수만큼 늘어나므로, 지표에는 합계만 두고 서버별 깊이는 여기서 조회합니다.
+ * 대기 중이거나 실행 중인 작업이 있는 서버만 포함합니다.
+ */
+@Component
+@Endpoint(id = "ingestqueues")
+@RequiredArgsConstructor
+public class IngestQueueEndpoint {
+
+    private final GuildWriteLaneService guildWriteLaneService;
+
+    @ReadOperation
+    public Map<String, Object> queueDepths() {
+        Map<Long, Integer> depths = new TreeMap<>(guildWriteLaneService.getQueueDepths());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("total", depths.values().stream().mapToInt(Integer::intValue).sum());
+        body.put("guilds", depths);
+        return body;
+    }
+}
@@ -0,0 +1,40 @@
+package com.discordBot.demo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IDENTITY로 쌓인 기존 데이터가 있는 DB에서 새 pooled 시퀀스가 이미 사용된 ID를 다시 발급하지 않도록,
+ * 시퀀스 값을 테이블의 최대 ID 이상으로 맞춥니다. (이미 앞서 있으면 변경하지 않음)
+ */
+@Configuration
+@Slf4j
+public class SequenceInitializer {
+
+    // 시퀀스 이름 → 테이블 이름 (엔티티의 @SequenceGenerator와 일치)
+    private static final Map<String, String> POOLED_SEQUENCES = Map.of(
+            "match_record_seq", "match_record",
+            "player_stats_seq", "player_stats"
+    );
+
+    @Bean
+    public ApplicationRunner alignPooledSequences(JdbcTemplate jdbcTemplate) {
+        return args -> POOLED_SEQUENCES.forEach((sequence, table) -> {
+            List<Long> aligned = jdbcTemplate.queryForList(
+                    "SELECT setval('" + sequence + "', m.max_id) " +
+                    "FROM (SELECT MAX(id) AS max_id FROM " + table + ") m " +
+                    "WHERE m.max_id IS NOT NULL AND m.max_id >= (SELECT last_value FROM " + sequence + ")",
+                    Long.class);
+
+            if (!aligned.isEmpty()) {
+                log.info("✅ [INIT] 시퀀스 {} 를 {} 의 최대 ID {} 에 맞췄습니다.", sequence, table, aligned.get(0));
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.discordBot.demo.config;
+
+import com.discordBot.demo.service.StatsProjectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MATCH_OUTBOX 이벤트를 주기적으로 누적 통계에 반영합니다.
+ * 동기 모드(기본)에서는 아웃박스 이벤트가 기록되지 않으므로 비동기 모드에서만 동작합니다.
+ * 비동기 모드를 끌 때 남은 이벤트는 '/통계재계산'이 반영된 것으로 처리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.stats.projection.async", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StatsProjectionScheduler {
+
+    // 한 번의 실행에서 연속으로 처리할 최대 배치 수 (밀린 이벤트가 많을 때 다음 주기까지 기다리지 않도록)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final StatsProjectionService statsProjectionService;
+
+    @Value("${spring.stats.projection.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${spring.stats.projection.interval-ms:1000}")
+    public void drainOutbox() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            int processed;
+            try {
+                processed = statsProjectionService.projectPending(batchSize);
+            } catch (Exception e) {
+                log.warn("⚠️ 통계 프로젝션 배치 실패, 이벤트별 재시도로 전환합니다: {}", e.getMessage());
+                projectOneByOne();
+                return;
+            }
+            if (processed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치가 실패하면 이벤트를 한 건씩 반영해 문제 있는 이벤트만 실패로 기록합니다.
+     * 실패 횟수가 늘어난 이벤트는 조회 순서에서 뒤로 밀리므로 정상 이벤트의 반영을 막지 않습니다.
+     */
+    private void projectOneByOne() {
+        List<Long> eventIds = statsProjectionService.findPendingEventIds(batchSize);
+        for (Long eventId : eventIds) {
+            try {
+                statsProjectionService.projectEvents(List.of(eventId));
+            } catch (Exception e) {
+                log.error("❌ 통계 프로젝션 실패 (outbox id={}): {}", eventId, e.getMessage());
+                statsProjectionService.recordFailure(List.of(eventId), e.getMessage());
+            }
+        }
+    }
+}
@@ -5,4 +5,12 @@ import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEve
 public interface AdminCommandHandler {
     void handleInitDataCommand(SlashCommandInteractionEvent event);
 
+    void handleRebuildStatsCommand(SlashCommandInteractionEvent event);
+
+    void handleDeleteMatchCommand(SlashCommandInteractionEvent event);
+
+    void handleImportMatchesCommand(SlashCommandInteractionEvent event);
+
+    void handleTransferAccountCommand(SlashCommandInteractionEvent event);
+
 }
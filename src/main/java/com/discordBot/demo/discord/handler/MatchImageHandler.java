@@ -10,9 +10,14 @@ public interface MatchImageHandler {
     String BUTTON_ID_CANCEL = "MATCH_CANCEL";
     String BUTTON_ID_EDIT = "MATCH_EDIT"; // 통합된 수정 버튼 ID
     String MODAL_ID_BASE = "MATCH_MODAL_SUBMIT";
+    String BUTTON_ID_BULK_CONFIRM = "BULK_CONFIRM";
+    String BUTTON_ID_BULK_CANCEL = "BULK_CANCEL";
 
     void handleMatchUploadCommand(SlashCommandInteractionEvent event);
 
+    /** 여러 장의 스크린샷(첨부 여러 개 또는 ZIP)을 한 번에 분석하고 한 번에 확정 */
+    void handleBulkUploadCommand(SlashCommandInteractionEvent event);
+
     /** 버튼 인터랙션 (확인, 취소, 수정 버튼) 처리 */
     void handleButtonInteraction(ButtonInteractionEvent event);
 
@@ -1,23 +1,41 @@
 package com.discordBot.demo.discord.handler.impl;
 
 import com.discordBot.demo.discord.handler.AdminCommandHandler;
+import com.discordBot.demo.domain.dto.MatchImportResultDto;
 import com.discordBot.demo.domain.dto.MatchRegistrationDto;
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.StatsRebuildProgressDto;
+import com.discordBot.demo.domain.dto.StatsRebuildResultDto;
 import com.discordBot.demo.domain.entity.GuildServer;
 import com.discordBot.demo.domain.entity.User;
 import com.discordBot.demo.domain.repository.GuildServerRepository;
 import com.discordBot.demo.domain.repository.UserRepository;
+import com.discordBot.demo.service.GuildWriteLaneService;
+import com.discordBot.demo.service.MatchImportService;
 import com.discordBot.demo.service.MatchRecordService;
+import com.discordBot.demo.service.StatsRebuildService;
 import com.discordBot.demo.service.UserService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.Permission;
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
+import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 @RequiredArgsConstructor
@@ -28,6 +46,27 @@ public class AdminCommandHandlerImpl implements AdminCommandHandler {
     private final GuildServerRepository guildServerRepository;
     private final UserService userService;
     private final MatchRecordService matchRecordService;
+    private final StatsRebuildService statsRebuildService;
+    private final GuildWriteLaneService guildWriteLaneService;
+    private final MatchImportService matchImportService;
+
+    // 진행 상황 메시지 수정 최소 간격 (Discord 메시지 수정 rate limit 고려)
+    private static final long PROGRESS_EDIT_INTERVAL_MS = 2_000;
+
+    private static final Pattern RIOT_ID_PATTERN = Pattern.compile("^(.+)#(.+)$");
+
+    // 오류 목록 뒤에 "… 외 n건"을 붙일 여유를 남긴 메시지 길이
+    private static final int IMPORT_MESSAGE_LIMIT = 1_900;
+
+    // 재계산과 가져오기는 서로 기다리지 않도록 작업 종류별로 한 번에 하나씩만 실행합니다.
+    private final ThreadPoolExecutor rebuildExecutor = newSingleWorker("admin-rebuild");
+    private final ThreadPoolExecutor importExecutor = newSingleWorker("admin-import");
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+        importExecutor.shutdownNow();
+    }
 
     /**
      * '/init-data' 명령어를 처리하며, 현재 서버에 테스트 데이터를 주입합니다.
@@ -62,6 +101,261 @@ public class AdminCommandHandlerImpl implements AdminCommandHandler {
         }
     }
 
+    /**
+     * '/통계재계산' 명령어를 처리하며, 현재 서버의 누적 통계를 PLAYER_STATS 원본으로 다시 계산합니다.
+     */
+    @Override
+    public void handleRebuildStatsCommand(SlashCommandInteractionEvent event) {
+
+        event.deferReply(true).queue();
+
+        Member member = event.getMember();
+        if (member == null || !member.hasPermission(Permission.ADMINISTRATOR)) {
+            event.getHook().sendMessage("❌ 오류: **통계 재계산** 명령어는 서버 관리자만 사용할 수 있습니다.").queue();
+            return;
+        }
+
+        Long discordServerId = event.getGuild().getIdLong();
+        notifyIfQueued(event, rebuildExecutor, "통계 재계산");
+
+        rebuildExecutor.execute(() -> {
+            event.getHook().editOriginal("🔄 누적 통계를 재계산하는 중입니다... (경기 등록은 계속 가능합니다)").queue();
+            AtomicLong lastEditAt = new AtomicLong();
+            try {
+                StatsRebuildResultDto result = statsRebuildService.rebuild(List.of(discordServerId), progress -> {
+                    long now = System.currentTimeMillis();
+                    long last = lastEditAt.get();
+                    if (now - last >= PROGRESS_EDIT_INTERVAL_MS && lastEditAt.compareAndSet(last, now)) {
+                        event.getHook().editOriginal(formatRebuildProgress(progress)).queue();
+                    }
+                });
+
+                event.getHook().editOriginal(String.format(
+                        "✅ **[통계 재계산 완료]** 경기 %,d건 / 선수 기록 %,d건으로 집계 %,d행을 다시 만들었습니다. (%.1f초, %,d rows/s)",
+                        result.getMatchesScanned(), result.getRowsScanned(), result.getAggregateRows(),
+                        result.getElapsedMillis() / 1000.0, result.getRowsPerSecond())).queue();
+            } catch (IllegalArgumentException e) {
+                event.getHook().editOriginal(e.getMessage()).queue();
+            } catch (Exception e) {
+                log.error("통계 재계산 중 오류 발생 (서버 ID: {}): {}", discordServerId, e.getMessage(), e);
+                event.getHook().editOriginal("❌ **[통계 재계산 실패]** 기존 통계는 그대로 유지됩니다. (자세한 내용은 로그 확인)").queue();
+            }
+        });
+    }
+
+    /**
+     * '/경기삭제' 명령어를 처리하며, 잘못 등록된 경기를 삭제하고 누적 통계에서 해당 경기만큼 되돌립니다.
+     */
+    @Override
+    public void handleDeleteMatchCommand(SlashCommandInteractionEvent event) {
+
+        event.deferReply(true).queue();
+
+        Member member = event.getMember();
+        if (member == null || !member.hasPermission(Permission.ADMINISTRATOR)) {
+            event.getHook().sendMessage("❌ 오류: **경기 삭제** 명령어는 서버 관리자만 사용할 수 있습니다.").queue();
+            return;
+        }
+
+        OptionMapping matchIdOption = event.getOption("match-id");
+        if (matchIdOption == null) {
+            event.getHook().sendMessage("❌ 오류: 삭제할 경기 ID를 입력해야 합니다.").queue();
+            return;
+        }
+
+        Long discordServerId = event.getGuild().getIdLong();
+        Long matchId = matchIdOption.getAsLong();
+
+        // 경기 등록과 같은 서버별 대기열에서 실행해 같은 통계 행을 동시에 건드리지 않도록 합니다.
+        CompletableFuture<Integer> deletion;
+        try {
+            deletion = guildWriteLaneService.submit(discordServerId, () -> matchRecordService.deleteMatch(discordServerId, matchId));
+        } catch (IllegalArgumentException e) {
+            // 대기열이 가득 차 바로 거절된 경우
+            event.getHook().editOriginal(e.getMessage()).queue();
+            return;
+        }
+        deletion.whenComplete((revertedPlayers, error) -> {
+            if (error == null) {
+                event.getHook().sendMessage("✅ **[경기 삭제 완료]** 경기 ID " + matchId + " 기록을 삭제하고, 선수 " + revertedPlayers + "명의 누적 통계를 되돌렸습니다.").queue();
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof IllegalArgumentException) {
+                event.getHook().sendMessage(cause.getMessage()).queue();
+            } else {
+                log.error("경기 삭제 중 오류 발생 (서버 ID: {}, 경기 ID: {}): {}", discordServerId, matchId, cause.getMessage(), cause);
+                event.getHook().sendMessage("❌ **[경기 삭제 실패]** 기록과 통계는 변경되지 않았습니다. (자세한 내용은 로그 확인)").queue();
+            }
+        });
+    }
+
+    /**
+     * '/경기가져오기' 명령어를 처리하며, 첨부된 JSON Lines / CSV 파일의 경기 기록을 스트리밍으로 등록합니다.
+     */
+    @Override
+    public void handleImportMatchesCommand(SlashCommandInteractionEvent event) {
+
+        event.deferReply(true).queue();
+
+        Member member = event.getMember();
+        if (member == null || !member.hasPermission(Permission.ADMINISTRATOR)) {
+            event.getHook().sendMessage("❌ 오류: **경기 가져오기** 명령어는 서버 관리자만 사용할 수 있습니다.").queue();
+            return;
+        }
+
+        OptionMapping fileOption = event.getOption("file");
+        if (fileOption == null) {
+            event.getHook().sendMessage("❌ 오류: 가져올 경기 기록 파일을 첨부해야 합니다.").queue();
+            return;
+        }
+
+        Message.Attachment attachment = fileOption.getAsAttachment();
+        Long discordServerId = event.getGuild().getIdLong();
+        notifyIfQueued(event, importExecutor, "경기 가져오기");
+
+        importExecutor.execute(() -> {
+            event.getHook().editOriginal("📥 `" + attachment.getFileName() + "` 파일에서 경기 기록을 가져오는 중입니다...").queue();
+            AtomicLong lastEditAt = new AtomicLong();
+            try (InputStream input = attachment.getProxy().download().join()) {
+                MatchImportResultDto result = matchImportService.importMatches(
+                        discordServerId, attachment.getFileName(), attachment.getSize(), input, progress -> {
+                            long now = System.currentTimeMillis();
+                            if (now - lastEditAt.get() >= PROGRESS_EDIT_INTERVAL_MS) {
+                                lastEditAt.set(now);
+                                event.getHook().editOriginal(String.format(
+                                        "📥 경기 가져오는 중... 등록 %,d건 / 실패 %,d건 (%,d matches/s)",
+                                        progress.getImported(), progress.getFailed(), progress.getMatchesPerSecond())).queue();
+                            }
+                        });
+
+                event.getHook().editOriginal(formatImportResult(result)).queue();
+            } catch (IllegalArgumentException e) {
+                event.getHook().editOriginal(e.getMessage() + "\n같은 파일을 다시 올리면 마지막으로 저장된 지점부터 이어서 가져옵니다.").queue();
+            } catch (Exception e) {
+                log.error("경기 가져오기 중 오류 발생 (서버 ID: {}, 파일: {}): {}", discordServerId, attachment.getFileName(), e.getMessage(), e);
+                event.getHook().editOriginal("❌ **[경기 가져오기 중단]** 같은 파일을 다시 올리면 마지막으로 저장된 지점부터 이어서 가져옵니다. (자세한 내용은 로그 확인)").queue();
+            }
+        });
+    }
+
+    /**
+     * '/계정소유자변경' 명령어를 처리하며, 롤 계정의 소유자를 바꾸고 과거 기록의 누적 통계를 새 소유자에게 옮깁니다.
+     */
+    @Override
+    public void handleTransferAccountCommand(SlashCommandInteractionEvent event) {
+
+        event.deferReply(true).queue();
+
+        Member member = event.getMember();
+        if (member == null || !member.hasPermission(Permission.ADMINISTRATOR)) {
+            event.getHook().sendMessage("❌ 오류: **계정 소유자 변경** 명령어는 서버 관리자만 사용할 수 있습니다.").queue();
+            return;
+        }
+
+        OptionMapping targetUserOption = event.getOption("target-user");
+        OptionMapping nicknameOption = event.getOption("lol-nickname");
+        if (targetUserOption == null || nicknameOption == null) {
+            event.getHook().sendMessage("❌ 오류: 새 소유자와 롤 닉네임 옵션을 모두 입력해 주세요.").queue();
+            return;
+        }
+
+        Matcher matcher = RIOT_ID_PATTERN.matcher(nicknameOption.getAsString());
+        if (!matcher.matches()) {
+            event.getHook().sendMessage("❌ 오류: 롤 닉네임을 **'게임이름#태그'** 형식으로 정확히 입력해 주세요. (예: Faker#KR1)").queue();
+            return;
+        }
+
+        Long discordServerId = event.getGuild().getIdLong();
+        Long targetDiscordUserId = targetUserOption.getAsUser().getIdLong();
+        String gameName = matcher.group(1);
+        String tagLine = matcher.group(2);
+
+        // 경기 등록/삭제와 같은 서버별 대기열에서 실행해 같은 통계 행을 동시에 건드리지 않도록 합니다.
+        CompletableFuture<String> transfer;
+        try {
+            transfer = guildWriteLaneService.submit(discordServerId,
+                    () -> userService.transferLolAccount(targetDiscordUserId, gameName, tagLine, discordServerId));
+        } catch (IllegalArgumentException e) {
+            // 대기열이 가득 차 바로 거절된 경우
+            event.getHook().editOriginal(e.getMessage()).queue();
+            return;
+        }
+        transfer.whenComplete((message, error) -> {
+            if (error == null) {
+                event.getHook().sendMessage(message).queue();
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof IllegalArgumentException) {
+                event.getHook().sendMessage(cause.getMessage()).queue();
+            } else {
+                log.error("계정 소유자 변경 중 오류 발생 (서버 ID: {}, 계정: {}#{}): {}", discordServerId, gameName, tagLine, cause.getMessage(), cause);
+                event.getHook().sendMessage("❌ **[계정 소유자 변경 실패]** 소유자와 통계는 변경되지 않았습니다. (자세한 내용은 로그 확인)").queue();
+            }
+        });
+    }
+
+    /**
+     * 앞선 작업이 실행 중이거나 대기 중이면, 작업이 시작될 때까지 대기 상태임을 먼저 알립니다.
+     */
+    private void notifyIfQueued(SlashCommandInteractionEvent event, ThreadPoolExecutor executor, String jobName) {
+        int ahead = executor.getActiveCount() + executor.getQueue().size();
+        if (ahead > 0) {
+            event.getHook().editOriginal(String.format(
+                    "⏳ 다른 %s 작업 %d건이 끝나면 시작합니다. (대기 중)", jobName, ahead)).queue();
+        }
+    }
+
+    private static ThreadPoolExecutor newSingleWorker(String name) {
+        AtomicLong threadIndex = new AtomicLong();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private String formatImportResult(MatchImportResultDto result) {
+        StringBuilder sb = new StringBuilder(String.format(
+                "%s 등록 %,d건 / 실패 %,d건 (이번 실행 %,d건, %.1f초, %,d matches/s)",
+                result.isCompleted() ? "✅ **[경기 가져오기 완료]**" : "⚠️ **[경기 가져오기 중단]** 실패가 너무 많아 멈췄습니다.",
+                result.getImported(), result.getFailed(), result.getMatchesRead(),
+                result.getElapsedMillis() / 1000.0, result.getMatchesPerSecond()));
+        if (result.getResumedFrom() > 0) {
+            sb.append("\n↪️ 이전에 처리된 ").append(result.getResumedFrom()).append("번째 경기 이후부터 이어서 가져왔습니다.");
+        }
+        if (!result.isCompleted()) {
+            sb.append("\n같은 파일을 다시 올리면 마지막으로 저장된 지점부터 이어서 가져옵니다.");
+        }
+
+        // Discord 메시지 길이 제한(2000자) 안에서 오류를 보여 주고 나머지는 개수만 표시
+        if (!result.getErrors().isEmpty()) {
+            sb.append("\n\n**[실패 목록]**");
+            int shown = 0;
+            for (String error : result.getErrors()) {
+                String line = "\n- " + error;
+                if (sb.length() + line.length() > IMPORT_MESSAGE_LIMIT) {
+                    break;
+                }
+                sb.append(line);
+                shown++;
+            }
+            if (shown < result.getFailed()) {
+                sb.append("\n… 외 ").append(result.getFailed() - shown).append("건");
+            }
+        }
+        return sb.toString();
+    }
+
+    private String formatRebuildProgress(StatsRebuildProgressDto progress) {
+        return String.format("🔄 누적 통계 재계산 중... %d%% (%,d / %,d건, %,d rows/s)",
+                progress.getPercent(), progress.getRowsScanned(), progress.getRowsTotal(), progress.getRowsPerSecond());
+    }
+
     // --- 2. Data Initializer Logic (Core) ---
 
     /**
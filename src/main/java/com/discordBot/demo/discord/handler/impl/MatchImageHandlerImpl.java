@@ -2,21 +2,34 @@ package com.discordBot.demo.discord.handler.impl;
 
 import com.discordBot.demo.discord.handler.MatchImageHandler;
 import com.discordBot.demo.discord.presenter.MatchImagePresenter;
+import com.discordBot.demo.domain.dto.BulkAnalysisResultDto;
+import com.discordBot.demo.domain.dto.MatchImportResultDto;
 import com.discordBot.demo.domain.dto.MatchRegistrationDto;
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
 import com.discordBot.demo.domain.dto.RiotAccountDto;
+import com.discordBot.demo.domain.dto.TemporaryMatchClaimDto;
 import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.entity.MatchRecord;
+import com.discordBot.demo.domain.enums.TemporaryMatchClaimStatus;
 import com.discordBot.demo.domain.repository.LolAccountRepository;
+import com.discordBot.demo.service.AnalysisSchedulerService;
+import com.discordBot.demo.service.BulkAnalysisService;
+import com.discordBot.demo.service.BulkAnalysisService.ImageSource;
 import com.discordBot.demo.service.MatchRecordService;
 import com.discordBot.demo.service.ImageAnalysisService;
 import com.discordBot.demo.service.ChampionService;
+import com.discordBot.demo.service.GuildWriteLaneService;
 import com.discordBot.demo.service.TemporaryMatchStorageService;
 import com.discordBot.demo.service.RiotApiService;
+import com.discordBot.demo.support.AccountNameMatcher;
+import com.discordBot.demo.support.ScreenshotArchive;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.dv8tion.jda.api.entities.Message.Attachment;
 import net.dv8tion.jda.api.interactions.InteractionHook;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
+import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
@@ -24,12 +37,23 @@ import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.text.TextInput;
 import net.dv8tion.jda.api.interactions.components.text.TextInputStyle;
 import net.dv8tion.jda.api.interactions.modals.Modal;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -46,8 +70,29 @@ public class MatchImageHandlerImpl implements MatchImageHandler {
     private final ChampionService championService;
     private final TemporaryMatchStorageService storageService;
     private final RiotApiService riotApiService;
+    private final GuildWriteLaneService guildWriteLaneService;
+    private final AnalysisSchedulerService analysisSchedulerService;
+    private final BulkAnalysisService bulkAnalysisService;
 
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // 수정 모달에 입력한 Riot ID를 등록 계정으로 맞출 최소 유사도 (분석 결과 보정보다 엄격하게: 사람이 직접 입력한 값)
+    private static final double MODAL_ACCOUNT_MIN_SIMILARITY = 0.8;
+
+    // 일괄 분석 진행 상황 메시지 수정 최소 간격 (Discord 메시지 수정 rate limit 고려)
+    private static final long PROGRESS_EDIT_INTERVAL_MS = 2_000;
+
+    @Value("${spring.analysis.bulk.max-images:50}")
+    private int bulkMaxImages;
+
+    @Value("${spring.analysis.bulk.max-image-mb:15}")
+    private long bulkMaxImageMb;
+
+    // 일괄 작업은 분석이 끝날 때까지 기다리므로 JDA 이벤트 스레드 대신 별도 스레드에서 실행 (실제 분석은 공유 스케줄러에서 실행)
+    private final ThreadPoolExecutor bulkExecutor = newBulkExecutor();
+
+    @PreDestroy
+    public void shutdown() {
+        bulkExecutor.shutdownNow();
+    }
 
     // -----------------------------------------------------------
     // 1. 슬래시 커맨드 처리 (생략)
@@ -62,25 +107,143 @@ public class MatchImageHandlerImpl implements MatchImageHandler {
         String initiatorId = event.getUser().getId();
         Long serverId = event.getGuild().getIdLong();
         if (!imageAttachment.isImage()) { event.getHook().sendMessage("❌ 오류: 첨부된 파일이 이미지가 아닙니다.").queue(); return; }
+        // 이미 등록된 경기와 화면이 거의 같아도 분석을 진행할지 여부 (오탐 시 업로더가 직접 지정)
+        boolean force = event.getOption("force", false, OptionMapping::getAsBoolean);
 
-        event.getHook().editOriginal(matchImagePresenter.createInitialAnalysisMessage()).queue();
         List<LolAccount> allRegisteredAccounts = lolAccountRepository.findAllByGuildServer_DiscordServerId(serverId);
         log.info("OCR 힌트를 위해 서버 {}에 등록된 계정 {}개를 로드했습니다.", serverId, allRegisteredAccounts.size());
 
-        executor.execute(() -> {
+        // 분석 워커 수와 대기열이 정해진 스케줄러에서 서버 간 순서대로 실행 (대기 중에는 순번을 안내)
+        try {
+            analysisSchedulerService.submit(serverId, () -> {
+                try {
+                    MatchRegistrationDto resultDto = imageAnalysisService.analyzeAndStructureData(imageAttachment.getUrl(), serverId, allRegisteredAccounts, force);
+                    Long tempMatchId = storageService.saveTemporaryMatch(resultDto);
+                    sendConfirmationMessage(event.getHook(), resultDto, initiatorId, tempMatchId);
+                } catch (IllegalArgumentException e) {
+                    event.getHook().editOriginal("❌ 분석 오류: " + e.getMessage()).setComponents().queue();
+                } catch (Exception e) {
+                    log.error("경기 기록 처리 중 오류 발생: {}", e.getMessage(), e);
+                    event.getHook().editOriginal("❌ 서버 오류: 이미지 분석 중 예상치 못한 오류가 발생했습니다. 로그를 확인하세요.").setComponents().queue();
+                }
+                return null;
+            }, position -> event.getHook().editOriginal(position == 0
+                    ? matchImagePresenter.createInitialAnalysisMessage()
+                    : matchImagePresenter.createQueuedAnalysisMessage(position)).queue());
+        } catch (IllegalArgumentException e) {
+            event.getHook().editOriginal(e.getMessage()).setComponents().queue();
+        }
+    }
+
+    @Override
+    public void handleBulkUploadCommand(SlashCommandInteractionEvent event) {
+        if (!event.isAcknowledged()) { event.deferReply(true).queue(); }
+        OptionMapping archiveOption = event.getOption("archive");
+        Attachment archiveAttachment = archiveOption != null ? archiveOption.getAsAttachment() : null;
+        List<Attachment> imageAttachments = event.getOptions().stream()
+                .filter(option -> option.getType() == OptionType.ATTACHMENT && option.getName().startsWith("image-"))
+                .map(OptionMapping::getAsAttachment)
+                .toList();
+        long maxImageBytes = bulkMaxImageMb * 1024 * 1024;
+
+        if (archiveAttachment == null && imageAttachments.isEmpty()) {
+            event.getHook().sendMessage("❌ 오류: ZIP 파일이나 스크린샷 이미지를 하나 이상 첨부해야 합니다.").queue();
+            return;
+        }
+        if (archiveAttachment != null && !archiveAttachment.getFileName().toLowerCase(Locale.ROOT).endsWith(".zip")) {
+            event.getHook().sendMessage("❌ 오류: archive에는 ZIP 파일만 첨부할 수 있습니다.").queue();
+            return;
+        }
+        for (Attachment attachment : imageAttachments) {
+            if (!attachment.isImage() || attachment.getSize() > maxImageBytes) {
+                event.getHook().sendMessage("❌ 오류: `" + attachment.getFileName() + "` 파일이 이미지가 아니거나 너무 큽니다. (최대 " + bulkMaxImageMb + "MB)").queue();
+                return;
+            }
+        }
+
+        String initiatorId = event.getUser().getId();
+        Long serverId = event.getGuild().getIdLong();
+        boolean force = event.getOption("force", false, OptionMapping::getAsBoolean);
+        event.getHook().editOriginal("📥 스크린샷을 준비하는 중입니다...").queue();
+
+        bulkExecutor.execute(() -> {
+            Path archivePath = null;
             try {
-                MatchRegistrationDto resultDto = imageAnalysisService.analyzeAndStructureData(imageAttachment.getUrl(), serverId, allRegisteredAccounts);
-                Long tempMatchId = storageService.saveTemporaryMatch(resultDto);
-                sendConfirmationMessage(event.getHook(), resultDto, initiatorId, tempMatchId);
+                ScreenshotArchive archive = null;
+                if (archiveAttachment != null) {
+                    // ZIP은 임시 파일로 받아 두고 항목은 분석할 때 한 장씩 꺼냄 (전체를 메모리에 올리지 않음)
+                    archivePath = Files.createTempFile("bulk-upload-", ".zip");
+                    try (InputStream input = archiveAttachment.getProxy().download().join()) {
+                        Files.copy(input, archivePath, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    archive = new ScreenshotArchive(archivePath, bulkMaxImages, maxImageBytes);
+                }
+
+                try (ScreenshotArchive openedArchive = archive) {
+                    List<ImageSource> sources = toImageSources(imageAttachments, archiveAttachment, openedArchive);
+                    if (sources.size() > bulkMaxImages) {
+                        throw new IllegalArgumentException("❌ 오류: 한 번에 최대 " + bulkMaxImages + "장까지 등록할 수 있습니다. (첨부 " + sources.size() + "장)");
+                    }
+
+                    AtomicLong lastEditAt = new AtomicLong();
+                    BulkAnalysisResultDto result = bulkAnalysisService.analyze(serverId, event.getUser().getIdLong(), sources, force, progress -> {
+                        long now = System.currentTimeMillis();
+                        long last = lastEditAt.get();
+                        if (now - last >= PROGRESS_EDIT_INTERVAL_MS && lastEditAt.compareAndSet(last, now)) {
+                            event.getHook().editOriginal(matchImagePresenter.createBulkProgressMessage(progress)).queue();
+                        }
+                    });
+
+                    event.getHook().editOriginal(matchImagePresenter.createBulkConfirmationMessage(result))
+                            .setComponents(matchImagePresenter.createBulkConfirmationButtons(initiatorId, result.getJobId(), result.getAnalyzedCount() > 0))
+                            .queue();
+                }
             } catch (IllegalArgumentException e) {
-                event.getHook().editOriginal("❌ 분석 오류: " + e.getMessage()).setComponents().queue();
+                event.getHook().editOriginal(e.getMessage()).setComponents().queue();
             } catch (Exception e) {
-                log.error("경기 기록 처리 중 오류 발생: {}", e.getMessage(), e);
-                event.getHook().editOriginal("❌ 서버 오류: 이미지 분석 중 예상치 못한 오류가 발생했습니다. 로그를 확인하세요.").setComponents().queue();
+                log.error("일괄 분석 중 오류 발생 (서버 ID: {}): {}", serverId, e.getMessage(), e);
+                event.getHook().editOriginal("❌ **[일괄 분석 중단]** 같은 파일을 다시 올리면 분석이 끝난 스크린샷은 건너뛰고 이어서 분석합니다. (자세한 내용은 로그 확인)").setComponents().queue();
+            } finally {
+                deleteQuietly(archivePath);
             }
         });
     }
 
+    /**
+     * 첨부 이미지 → ZIP 항목 순으로 분석 대상을 만듭니다.
+     * descriptor는 파일 이름과 크기로 만들어, 같은 파일을 다시 올리면 같은 작업으로 이어서 분석됩니다.
+     */
+    private List<ImageSource> toImageSources(List<Attachment> imageAttachments, Attachment archiveAttachment, ScreenshotArchive archive) {
+        List<ImageSource> sources = new ArrayList<>();
+        for (Attachment attachment : imageAttachments) {
+            sources.add(new ImageSource(attachment.getFileName(),
+                    "image:" + attachment.getFileName() + ":" + attachment.getSize(),
+                    () -> {
+                        try (InputStream input = attachment.getProxy().download().join()) {
+                            return input.readAllBytes();
+                        }
+                    }));
+        }
+        if (archive != null) {
+            String archivePrefix = "zip:" + archiveAttachment.getFileName() + ":" + archiveAttachment.getSize() + ":";
+            for (String entryName : archive.getImageEntryNames()) {
+                sources.add(new ImageSource(entryName, archivePrefix + entryName, () -> archive.read(entryName)));
+            }
+        }
+        return sources;
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("일괄 등록 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
     private void sendConfirmationMessage(InteractionHook hook, MatchRegistrationDto dto, String initiatorId, Long tempMatchId) {
         String messageContent = matchImagePresenter.createConfirmationMessageContent(dto);
         List<ActionRow> buttonRows = matchImagePresenter.createConfirmationButtonsWithId(initiatorId, tempMatchId, dto.getPlayerStatsList());
@@ -103,20 +266,29 @@ public class MatchImageHandlerImpl implements MatchImageHandler {
             return;
         }
 
+        if (buttonAction.equals(MatchImageHandler.BUTTON_ID_BULK_CONFIRM) || buttonAction.equals(MatchImageHandler.BUTTON_ID_BULK_CANCEL)) {
+            handleBulkButton(event, buttonAction, parts[2]);
+            return;
+        }
+
         Long tempMatchId = Long.parseLong(parts[2]);
 
         if (buttonAction.equals(MatchImageHandler.BUTTON_ID_CONFIRM) || buttonAction.equals(MatchImageHandler.BUTTON_ID_CANCEL)) {
             event.deferReply(true).queue();
-            MatchRegistrationDto finalDto = storageService.getTemporaryMatch(tempMatchId);
-            storageService.removeTemporaryMatch(tempMatchId);
-
-            if (finalDto == null) {
-                event.getHook().editOriginal("❌ 오류: 이 경기 세션이 만료되었거나 이미 처리되었습니다.").setComponents().queue();
+            // 꺼내기와 삭제를 한 번에 수행: 중복 클릭/다중 노드에서도 한 요청만 진행되고 나머지는 DB를 건드리지 않음
+            TemporaryMatchClaimDto claim = storageService.claimTemporaryMatch(tempMatchId, event.getId());
+
+            if (!claim.isClaimed()) {
+                String reason = claim.getStatus() == TemporaryMatchClaimStatus.ALREADY_CLAIMED
+                        ? "⏳ 이 경기는 이미 처리 중이거나 처리되었습니다."
+                        : "❌ 오류: 이 경기 세션이 만료되었거나 이미 처리되었습니다.";
+                event.getHook().editOriginal(reason).setComponents().queue();
                 return;
             }
+            MatchRegistrationDto finalDto = claim.getMatch();
 
             if (buttonAction.equals(MatchImageHandler.BUTTON_ID_CONFIRM)) {
-                handleConfirm(event, finalDto);
+                handleConfirm(event, tempMatchId, finalDto);
             } else if (buttonAction.equals(MatchImageHandler.BUTTON_ID_CANCEL)) {
                 event.getHook().editOriginal("🚫 경기 기록 등록이 취소되었습니다. `/match-upload`를 다시 사용해 주세요.").setComponents().queue();
             }
@@ -130,18 +302,55 @@ public class MatchImageHandlerImpl implements MatchImageHandler {
         }
     }
 
-    private void handleConfirm(ButtonInteractionEvent event, MatchRegistrationDto finalDto) {
-        event.getHook().editOriginal("💾 DB에 기록을 저장 중입니다...").setComponents().queue();
-        executor.execute(() -> {
+    private void handleConfirm(ButtonInteractionEvent event, Long tempMatchId, MatchRegistrationDto finalDto) {
+        Long serverId = finalDto.getServerId();
+        int waiting = guildWriteLaneService.getQueueDepth(serverId);
+        event.getHook().editOriginal(waiting > 0
+                ? "💾 DB 저장 대기 중입니다... (이 서버에서 먼저 처리 중인 등록 " + waiting + "건)"
+                : "💾 DB에 기록을 저장 중입니다...").setComponents().queue();
+
+        // 같은 서버의 등록은 서버별 대기열에서 하나씩 처리되어 누적 통계 행을 두고 경합하지 않습니다.
+        try {
+            guildWriteLaneService.submit(serverId, () -> {
+                try {
+                    MatchRecord savedMatch = matchRecordService.registerMatch(finalDto);
+                    event.getHook().editOriginal("✅ **최종 등록 완료!** 경기 기록이 성공적으로 저장되었습니다. (경기 ID: " + savedMatch.getId() + ")").setComponents().queue();
+                } catch (IllegalArgumentException e) {
+                    log.error("DB 등록 오류 (비즈니스): {}", e.getMessage(), e);
+                    event.getHook().editOriginal("❌ 등록 오류: " + e.getMessage() + "\n 기록을 다시 확인해주세요. 재시도는 `/match-upload`를 사용하세요.").setComponents().queue();
+                } catch (Exception e) {
+                    log.error("DB 등록 실패: {}", e.getMessage(), e);
+                    event.getHook().editOriginal("❌ 서버 오류: 기록 저장 중 예상치 못한 오류가 발생했습니다. 로그를 확인하세요.").setComponents().queue();
+                }
+                return null;
+            });
+        } catch (IllegalArgumentException e) {
+            // 대기열이 가득 차 거절됨: 이미 꺼낸 임시 경기를 되돌려 분석 결과를 잃지 않게 합니다.
+            storageService.restoreTemporaryMatch(tempMatchId, finalDto);
+            event.getHook().editOriginal(e.getMessage() + "\n분석 결과는 그대로 남아 있으니 잠시 후 **확정** 버튼을 다시 눌러 주세요.").setComponents().queue();
+        }
+    }
+
+    private void handleBulkButton(ButtonInteractionEvent event, String buttonAction, String jobId) {
+        event.deferReply(true).queue();
+        Long serverId = event.getGuild().getIdLong();
+
+        if (buttonAction.equals(MatchImageHandler.BUTTON_ID_BULK_CANCEL)) {
+            bulkAnalysisService.cancel(serverId, jobId);
+            event.getHook().editOriginal("🚫 일괄 등록이 취소되었습니다. 분석 결과는 삭제되었습니다.").setComponents().queue();
+            return;
+        }
+
+        event.getHook().editOriginal("💾 DB에 경기 기록을 한 번에 저장 중입니다...").setComponents().queue();
+        bulkExecutor.execute(() -> {
             try {
-                matchRecordService.registerMatch(finalDto);
-                event.getHook().editOriginal("✅ **최종 등록 완료!** 경기 기록이 성공적으로 저장되었습니다.").setComponents().queue();
+                MatchImportResultDto result = bulkAnalysisService.registerAll(serverId, jobId);
+                event.getHook().editOriginal(matchImagePresenter.createBulkRegisterResultMessage(result)).queue();
             } catch (IllegalArgumentException e) {
-                log.error("DB 등록 오류 (비즈니스): {}", e.getMessage(), e);
-                event.getHook().editOriginal("❌ 등록 오류: " + e.getMessage() + "\n 기록을 다시 확인해주세요. 재시도는 `/match-upload`를 사용하세요.").setComponents().queue();
+                event.getHook().editOriginal(e.getMessage()).queue();
             } catch (Exception e) {
-                log.error("DB 등록 실패: {}", e.getMessage(), e);
-                event.getHook().editOriginal("❌ 서버 오류: 기록 저장 중 예상치 못한 오류가 발생했습니다. 로그를 확인하세요.").setComponents().queue();
+                log.error("일괄 등록 중 오류 발생 (서버 ID: {}, 작업: {}): {}", serverId, jobId, e.getMessage(), e);
+                event.getHook().editOriginal("❌ **[일괄 등록 실패]** 기록은 저장되지 않았습니다. 같은 확정 버튼으로 다시 시도할 수 있습니다. (자세한 내용은 로그 확인)").queue();
             }
         });
     }
@@ -254,6 +463,11 @@ public class MatchImageHandlerImpl implements MatchImageHandler {
                 .filter(p -> p.getTeam().equalsIgnoreCase(teamFilter))
                 .collect(Collectors.toList());
 
+        // 계정 수정일 때만 서버 등록 계정 색인을 만듭니다. (5명 모두 같은 색인 사용)
+        AccountNameMatcher accountNameMatcher = category.equals("ACCOUNT")
+                ? new AccountNameMatcher(lolAccountRepository.findAllByGuildServer_DiscordServerId(event.getGuild().getIdLong()))
+                : null;
+
         try {
             for (int i = 0; i < 5; i++) {
                 PlayerStatsDto player = playersToEdit.get(i);
@@ -263,8 +477,12 @@ public class MatchImageHandlerImpl implements MatchImageHandler {
                 String newValue = event.getValue(componentId).getAsString().trim();
 
                 if (category.equals("CHAMP")) {
-                    if (championService.findChampionByIdentifier(newValue).isEmpty()) { throw new IllegalArgumentException("'" + newValue + "'는 유효한 챔피언 이름이 아닙니다."); }
-                    player.setChampionName(newValue);
+                    // 오타는 챔피언 목록에서 가장 가까운 이름으로 보정
+                    String championName = championService.findChampionByIdentifier(newValue).isPresent()
+                            ? newValue
+                            : championService.correctChampionName(newValue)
+                                    .orElseThrow(() -> new IllegalArgumentException("'" + newValue + "'는 유효한 챔피언 이름이 아닙니다."));
+                    player.setChampionName(championName);
                 } else if (category.equals("LANE")) {
                     String normalizedLane = normalizeLaneInput(newValue);
                     if (!isValidLane(normalizedLane)) { throw new IllegalArgumentException("'" + newValue + "'는 유효한 라인 정보가 아닙니다. (TOP, JUNGLE, MID, ADC, SUPPORT)"); }
@@ -275,6 +493,14 @@ public class MatchImageHandlerImpl implements MatchImageHandler {
                     String gameName = partsLol[0];
                     String tagLine = partsLol[1];
 
+                    // 0. 이 서버에 등록된 계정과 (오타 수준으로) 일치하면 Riot API 조회 없이 바로 사용 (등록 시 이미 검증된 계정)
+                    Optional<LolAccount> registeredMatch = accountNameMatcher.find(gameName, tagLine, MODAL_ACCOUNT_MIN_SIMILARITY);
+                    if (registeredMatch.isPresent()) {
+                        player.setLolGameName(registeredMatch.get().getGameName());
+                        player.setLolTagLine(registeredMatch.get().getTagLine());
+                        continue;
+                    }
+
                     // 1. Riot API 호출하여 계정 유효성 검증 및 현재 대소문자 획득 (Canonical Name)
                     Optional<RiotAccountDto> riotAccountOpt = riotApiService.verifyNickname(gameName, tagLine);
 
@@ -365,4 +591,16 @@ public class MatchImageHandlerImpl implements MatchImageHandler {
             throw new IllegalArgumentException("라이엇 계정명은 '이름#태그' 형식이어야 합니다.");
         }
     }
+
+    private static ThreadPoolExecutor newBulkExecutor() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-upload-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 }
\ No newline at end of file
@@ -20,7 +20,9 @@ public class MatchButtonListener extends ListenerAdapter {
         // ID 포맷은 'ACTION:...' 이므로, 모든 매치 관련 액션을 포함합니다.
         if (componentId.startsWith(MatchImageHandler.BUTTON_ID_CONFIRM) ||
                 componentId.startsWith(MatchImageHandler.BUTTON_ID_CANCEL) ||
-                componentId.startsWith(MatchImageHandler.BUTTON_ID_EDIT)) {
+                componentId.startsWith(MatchImageHandler.BUTTON_ID_EDIT) ||
+                componentId.startsWith(MatchImageHandler.BUTTON_ID_BULK_CONFIRM) ||
+                componentId.startsWith(MatchImageHandler.BUTTON_ID_BULK_CANCEL)) {
 
             // ⭐ 수정: 모든 버튼 상호작용은 통합 핸들러로 위임합니다.
             matchImageHandler.handleButtonInteraction(event);
@@ -14,6 +14,7 @@ import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.CommandData;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -25,6 +26,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SlashCommandListener extends ListenerAdapter {
 
+    // '/내전경기일괄등록'의 개별 첨부 옵션 수 (image-1 ~ image-10, 더 많으면 ZIP 사용)
+    private static final int BULK_UPLOAD_IMAGE_OPTIONS = 10;
+
     private final MatchImageHandler matchImageHandler;
     private final RankingHandler rankingHandler;
     private final AdminCommandHandler adminCommandHandler;
@@ -44,6 +48,10 @@ public class SlashCommandListener extends ListenerAdapter {
                     matchImageHandler.handleMatchUploadCommand(event);
                     break;
 
+                case "내전경기일괄등록": // match-bulk-upload
+                    matchImageHandler.handleBulkUploadCommand(event);
+                    break;
+
                 case "내전통합랭킹": // rank-check
                     rankingHandler.handleRankingCommand(event);
                     break;
@@ -60,6 +68,22 @@ public class SlashCommandListener extends ListenerAdapter {
                     adminCommandHandler.handleInitDataCommand(event);
                     break;
 
+                case "통계재계산": // rebuild-stats
+                    adminCommandHandler.handleRebuildStatsCommand(event);
+                    break;
+
+                case "경기삭제": // delete-match
+                    adminCommandHandler.handleDeleteMatchCommand(event);
+                    break;
+
+                case "경기가져오기": // import-matches
+                    adminCommandHandler.handleImportMatchesCommand(event);
+                    break;
+
+                case "계정소유자변경": // transfer-account
+                    adminCommandHandler.handleTransferAccountCommand(event);
+                    break;
+
                 default:
                         // deferReply가 되지 않은 경우 event.reply() 사용
                         event.reply("알 수 없는 커맨드입니다.").setEphemeral(true).queue();
@@ -89,8 +113,17 @@ public class SlashCommandListener extends ListenerAdapter {
         commandDataList.add(
                 Commands.slash("내전경기등록", "경기 결과 이미지로 기록을 등록합니다.")
                         .addOption(OptionType.ATTACHMENT, "input-image", "경기 결과 스크린샷 이미지", true)
+                        .addOption(OptionType.BOOLEAN, "force", "이미 등록된 경기와 비슷한 스크린샷이어도 분석합니다 (기본: 꺼짐)", false)
         );
 
+        SlashCommandData bulkUploadCommand = Commands.slash("내전경기일괄등록", "여러 경기 결과 이미지(첨부 최대 10장 또는 ZIP)로 기록을 한 번에 등록합니다.")
+                .addOption(OptionType.ATTACHMENT, "archive", "경기 스크린샷을 모은 ZIP 파일 (같은 파일을 다시 올리면 분석이 끝난 스크린샷은 건너뜀)", false);
+        for (int i = 1; i <= BULK_UPLOAD_IMAGE_OPTIONS; i++) {
+            bulkUploadCommand.addOption(OptionType.ATTACHMENT, "image-" + i, "경기 결과 스크린샷 이미지 " + i, false);
+        }
+        bulkUploadCommand.addOption(OptionType.BOOLEAN, "force", "이미 등록된 경기와 비슷한 스크린샷이어도 분석합니다 (기본: 꺼짐)", false);
+        commandDataList.add(bulkUploadCommand);
+
         commandDataList.add(
                 Commands.slash("내전통합랭킹", "내전 랭킹을 확인합니다")
         );
@@ -110,6 +143,26 @@ public class SlashCommandListener extends ListenerAdapter {
                 Commands.slash("데이터초기화", "관리자 전용: 현재 서버에 테스트용 5경기 기록을 주입합니다.")
         );
 
+        commandDataList.add(
+                Commands.slash("통계재계산", "관리자 전용: 저장된 경기 기록으로 현재 서버의 누적 통계를 다시 계산합니다.")
+        );
+
+        commandDataList.add(
+                Commands.slash("경기삭제", "관리자 전용: 잘못 등록된 경기를 삭제하고 누적 통계를 되돌립니다.")
+                        .addOption(OptionType.INTEGER, "match-id", "삭제할 경기 ID (등록 완료 메시지에 표시됩니다)", true)
+        );
+
+        commandDataList.add(
+                Commands.slash("경기가져오기", "관리자 전용: 과거 경기 기록 파일(JSON Lines 또는 CSV)을 이미지 분석 없이 등록합니다.")
+                        .addOption(OptionType.ATTACHMENT, "file", "경기 기록 파일 (.jsonl 또는 .csv, 같은 파일을 다시 올리면 중단된 지점부터 이어서 등록)", true)
+        );
+
+        commandDataList.add(
+                Commands.slash("계정소유자변경", "관리자 전용: 롤 계정을 다른 유저에게 옮기고, 과거 경기 통계도 함께 옮깁니다.")
+                        .addOption(OptionType.USER, "target-user", "새 소유자 디스코드 유저를 @멘션하세요.", true)
+                        .addOption(OptionType.STRING, "lol-nickname", "옮길 롤 계정을 '이름#태그' 형식으로 입력하세요 (예: Hide On Bush#KR1)", true)
+        );
+
         return commandDataList;
     }
 
@@ -1,6 +1,9 @@
 package com.discordBot.demo.discord.presenter;
 
 import com.discordBot.demo.discord.handler.MatchImageHandler;
+import com.discordBot.demo.domain.dto.BulkAnalysisItemDto;
+import com.discordBot.demo.domain.dto.BulkAnalysisResultDto;
+import com.discordBot.demo.domain.dto.MatchImportResultDto;
 import com.discordBot.demo.domain.dto.MatchRegistrationDto;
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
@@ -14,6 +17,9 @@ import java.util.List;
 @Component
 public class MatchImagePresenter {
 
+    // 목록 뒤에 "… 외 n건"을 붙일 여유를 남긴 메시지 길이
+    private static final int BULK_MESSAGE_LIMIT = 1_900;
+
     private String getDisplayTeamLabel(String dbTeamSide) {
         if (dbTeamSide.equals("BLUE")) {
             return "1팀 (🟦)";
@@ -44,7 +50,12 @@ public class MatchImagePresenter {
             sb.append("**").append(stats.getLolGameName()).append("#").append(stats.getLolTagLine()).append("**");
             sb.append(" (").append(stats.getChampionName()).append(" / **").append(laneDisplay).append("**) | ");
 
-            sb.append("KDA: ").append(stats.getKills()).append("/").append(stats.getDeaths()).append("/").append(stats.getAssists()).append("\n");
+            sb.append("KDA: ").append(stats.getKills()).append("/").append(stats.getDeaths()).append("/").append(stats.getAssists());
+            if (stats.getOcrWarning() != null) {
+                // 로컬 숫자 인식과 다른 항목 (Gemini 값 ≠ 로컬 값)
+                sb.append(" ⚠️ ").append(stats.getOcrWarning());
+            }
+            sb.append("\n");
         });
 
         return sb.toString();
@@ -105,6 +116,77 @@ public class MatchImagePresenter {
         return "🔍 이미지를 분석 중입니다. 잠시 기다려 주세요... (AI 처리)";
     }
 
+    public String createQueuedAnalysisMessage(int position) {
+        return "⏳ 분석 대기 중입니다... (대기 순번: " + position + "번째)";
+    }
+
+    public String createBulkProgressMessage(BulkAnalysisResultDto progress) {
+        String resumed = progress.getResumed() > 0 ? " (이전 실행에서 " + progress.getResumed() + "장 완료)" : "";
+        return String.format("🔍 스크린샷 %d장 중 %d장 분석 완료... (실패 %d장)%s",
+                progress.getTotal(), progress.getItems().size(), progress.getFailedCount(), resumed);
+    }
+
+    /**
+     * 일괄 분석 결과를 한 메시지로 요약합니다. (경기당 한 줄: 승리팀과 팀별 선수)
+     */
+    public String createBulkConfirmationMessage(BulkAnalysisResultDto result) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("✅ **일괄 분석 완료!** %d장 중 %d경기 분석, %d장 실패. 아래 경기를 한 번에 등록합니까?\n",
+                result.getTotal(), result.getAnalyzedCount(), result.getFailedCount()));
+        sb.append("(개별 수정이 필요한 경기는 등록 후 `/경기삭제`하거나 `/내전경기등록`으로 따로 올려 주세요)\n\n");
+
+        List<BulkAnalysisItemDto> items = result.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            String line = formatBulkItem(items.get(i));
+            if (sb.length() + line.length() > BULK_MESSAGE_LIMIT) {
+                sb.append("… 외 ").append(items.size() - i).append("건");
+                break;
+            }
+            sb.append(line);
+        }
+        return sb.toString();
+    }
+
+    // 일괄 확정/취소 버튼 ID 포맷: ACTION:INITIATOR_ID:JOB_ID
+    public List<ActionRow> createBulkConfirmationButtons(String initiatorId, String jobId, boolean hasAnalyzed) {
+        Button confirmButton = Button.success(MatchImageHandler.BUTTON_ID_BULK_CONFIRM + ":" + initiatorId + ":" + jobId, "✅ 모두 등록")
+                .withDisabled(!hasAnalyzed);
+        Button cancelButton = Button.danger(MatchImageHandler.BUTTON_ID_BULK_CANCEL + ":" + initiatorId + ":" + jobId, "❌ 취소");
+        return List.of(ActionRow.of(confirmButton, cancelButton));
+    }
+
+    public String createBulkRegisterResultMessage(MatchImportResultDto result) {
+        StringBuilder sb = new StringBuilder(String.format("✅ **[일괄 등록 완료]** %d경기 등록, %d건 실패",
+                result.getImported(), result.getFailed()));
+        List<String> errors = result.getErrors();
+        for (int i = 0; i < errors.size(); i++) {
+            String line = "\n- " + errors.get(i);
+            if (sb.length() + line.length() > BULK_MESSAGE_LIMIT) {
+                sb.append("\n… 외 ").append(errors.size() - i).append("건");
+                break;
+            }
+            sb.append(line);
+        }
+        return sb.toString();
+    }
+
+    private String formatBulkItem(BulkAnalysisItemDto item) {
+        String prefix = "`#" + item.getOrdinal() + "` " + item.getFileName() + " | ";
+        if (item.getMatch() == null) {
+            return prefix + "⚠️ " + item.getError() + "\n";
+        }
+        MatchRegistrationDto match = item.getMatch();
+        return prefix + "🏆 " + getDisplayTeamLabel(match.getWinnerTeam())
+                + " | 🟦 " + joinGameNames(match, "BLUE") + " vs 🟥 " + joinGameNames(match, "RED") + "\n";
+    }
+
+    private String joinGameNames(MatchRegistrationDto match, String team) {
+        return String.join(", ", match.getPlayerStatsList().stream()
+                .filter(stats -> team.equals(stats.getTeam()))
+                .map(PlayerStatsDto::getLolGameName)
+                .toList());
+    }
+
     public String createEditSuccessMessage(PlayerStatsDto stats) {
         return String.format("✅ **%s (%s)** 기록이 수정되었습니다. 최종 등록을 진행해주세요.",
                 stats.getLolGameName() + "#" + stats.getLolTagLine(),
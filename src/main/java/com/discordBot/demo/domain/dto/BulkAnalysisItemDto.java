@@ -0,0 +1,29 @@
+package com.discordBot.demo.domain.dto;
+
+import com.discordBot.demo.domain.enums.BulkAnalysisItemStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 일괄 등록 작업의 스크린샷 한 장 처리 결과 (Redis 저장용)
+ * 분석이 끝날 때마다 저장되므로, 봇이 재시작되어도 같은 파일로 다시 실행하면 끝난 항목은 건너뜁니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkAnalysisItemDto {
+
+    // 작업 내 순번 (1부터, 첨부/압축 파일 이름 순)
+    private int ordinal;
+
+    private String fileName;
+
+    private BulkAnalysisItemStatus status;
+
+    // ANALYZED 일 때만 존재
+    private MatchRegistrationDto match;
+
+    // FAILED 일 때만 존재 (사용자에게 보여줄 메시지)
+    private String error;
+}
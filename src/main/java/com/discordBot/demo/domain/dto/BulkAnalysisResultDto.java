@@ -0,0 +1,36 @@
+package com.discordBot.demo.domain.dto;
+
+import com.discordBot.demo.domain.enums.BulkAnalysisItemStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 분석 진행 상황 / 최종 결과 요약
+ */
+@Getter
+@Builder
+public class BulkAnalysisResultDto {
+
+    // 확정/취소 버튼에서 작업을 찾는 ID (같은 파일 구성이면 같은 ID)
+    private String jobId;
+
+    private int total;
+
+    // 이전 실행에서 이미 분석이 끝나 건너뛴 스크린샷 수
+    private int resumed;
+
+    // 지금까지 끝난 항목 (순번 순)
+    private List<BulkAnalysisItemDto> items;
+
+    private boolean completed;
+
+    public long getAnalyzedCount() {
+        return items.stream().filter(item -> item.getStatus() == BulkAnalysisItemStatus.ANALYZED).count();
+    }
+
+    public long getFailedCount() {
+        return items.stream().filter(item -> item.getStatus() == BulkAnalysisItemStatus.FAILED).count();
+    }
+}
@@ -0,0 +1,16 @@
+package com.discordBot.demo.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 롤 계정 소유자가 이 서버에서 특정 라인으로 플레이한 경기 수 (LINE_STATS 기준, 라인 자동 배정 가중치로 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class LineFrequencyDto {
+
+    private Long lolAccountId;
+    private String lineName;
+    private int totalGames;
+}
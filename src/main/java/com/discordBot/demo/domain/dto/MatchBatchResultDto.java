@@ -0,0 +1,29 @@
+package com.discordBot.demo.domain.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 경기를 한 트랜잭션으로 등록한 결과입니다.
+ * 검증에 실패한 경기는 건너뛰고, 배치 내 위치(0부터)별 오류 메시지를 남깁니다.
+ */
+@Getter
+public class MatchBatchResultDto {
+
+    private final List<Long> registeredMatchIds = new ArrayList<>();
+
+    // key: 배치 내 위치, value: 사용자에게 보여줄 오류 메시지
+    private final Map<Integer, String> errors = new LinkedHashMap<>();
+
+    public void addRegistered(Long matchId) {
+        registeredMatchIds.add(matchId);
+    }
+
+    public void addError(int index, String message) {
+        errors.put(index, message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.discordBot.demo.domain.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경기 가져오기 재개 지점 (Redis 저장용)
+ * 배치가 커밋될 때마다 마지막으로 처리한 경기 순번과 누적 결과를 갱신합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MatchImportCheckpointDto {
+
+    // 여기까지의 경기(파일 내 순번)는 처리 완료 (다시 가져올 때 건너뜀)
+    private int lastOrdinal;
+
+    private long imported;
+    private long failed;
+
+    // 경기별 오류 메시지 (최대 MatchImportServiceImpl.MAX_REPORTED_ERRORS건까지만 보관)
+    private List<String> errors = new ArrayList<>();
+}
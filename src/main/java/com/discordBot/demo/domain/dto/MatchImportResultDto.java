@@ -0,0 +1,34 @@
+package com.discordBot.demo.domain.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 경기 가져오기 진행 상황 / 최종 결과 요약
+ */
+@Getter
+@Builder
+public class MatchImportResultDto {
+
+    // 이번 실행에서 읽은 경기 수 (재개로 건너뛴 경기 제외)
+    private long matchesRead;
+
+    // 이전 실행에서 이미 처리되어 건너뛴 경기 수
+    private int resumedFrom;
+
+    // 누적 등록 / 실패 경기 수 (이전 실행 포함)
+    private long imported;
+    private long failed;
+
+    private List<String> errors;
+
+    private long elapsedMillis;
+
+    private boolean completed;
+
+    public long getMatchesPerSecond() {
+        return elapsedMillis <= 0 ? matchesRead : matchesRead * 1000 / elapsedMillis;
+    }
+}
@@ -29,6 +29,9 @@ public class MatchRegistrationDto {
     // 3. 레드팀 총 골드 합산
     private int redTotalGold;
 
+    // 스크린샷 dHash (유사 스크린샷 재등록 검사용, 이미지로 분석한 경기만 값이 있음)
+    private Long screenshotHash;
+
     // 선수별 상세 통계
     private List<PlayerStatsDto> playerStatsList;
 }
\ No newline at end of file
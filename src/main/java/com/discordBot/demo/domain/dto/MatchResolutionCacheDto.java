@@ -0,0 +1,32 @@
+package com.discordBot.demo.domain.dto;
+
+import com.discordBot.demo.domain.entity.Champion;
+import com.discordBot.demo.domain.entity.GuildServer;
+import com.discordBot.demo.domain.entity.Line;
+import com.discordBot.demo.domain.entity.LolAccount;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 한 서버의 계정(+소유자) / 챔피언 / 라인을 미리 읽어 둔 조회 캐시입니다.
+ * 대량 가져오기처럼 같은 서버의 경기를 여러 건 등록할 때, 경기마다 IN 쿼리를 반복하지 않도록 파일당 한 번만 만듭니다.
+ */
+@Getter
+@Builder
+public class MatchResolutionCacheDto {
+
+    private Long serverId;
+
+    private GuildServer guildServer;
+
+    // key: gameName#tagLine
+    private Map<String, LolAccount> accountsByFullName;
+
+    // key: 챔피언 이름(한글) 또는 영문 키
+    private Map<String, Champion> championsByIdentifier;
+
+    // key: Line.name (대문자)
+    private Map<String, Line> linesByName;
+}
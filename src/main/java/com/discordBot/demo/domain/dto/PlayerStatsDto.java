@@ -21,6 +21,10 @@ public class PlayerStatsDto {
 
     private String laneName;
 
+    // 소환사 주문에 강타가 보이는지 / 첫 아이템 칸에 서포터 아이템이 보이는지 (라인 배정 근거, 판단 못 하면 null)
+    private Boolean smiteDetected;
+    private Boolean supportItemDetected;
+
     private int kills;
     private int deaths;
     private int assists;
@@ -29,4 +33,7 @@ public class PlayerStatsDto {
     private int totalDamage;
 
     private long durationSeconds;
+
+    // 로컬 숫자 인식 결과와 다른 항목 (예: "K 5≠6"), 확인 화면에 경고로 표시. 일치하거나 비교하지 못했으면 null
+    private String ocrWarning;
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.discordBot.demo.domain.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Gemini로 보낼 전처리된 스크린샷과 단계별 처리 결과 요약
+ */
+@Getter
+@Builder
+public class PreprocessedImageDto {
+
+    // 실제로 전송할 이미지 바이트와 MIME 타입 (전처리를 건너뛰면 원본 그대로)
+    private byte[] bytes;
+    private String mimeType;
+
+    // 원본에서 감지한 MIME 타입
+    private String originalMimeType;
+
+    private long originalBytes;
+
+    // 최종 해상도 (디코딩하지 못했으면 0)
+    private int width;
+    private int height;
+
+    // 원본 해상도 (디코딩하지 못했으면 0)
+    private int originalWidth;
+    private int originalHeight;
+
+    // 전처리 전체 소요 시간
+    private long elapsedMillis;
+
+    public long getBytesSaved() {
+        return originalBytes - bytes.length;
+    }
+}
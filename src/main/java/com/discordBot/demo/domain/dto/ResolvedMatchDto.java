@@ -0,0 +1,24 @@
+package com.discordBot.demo.domain.dto;
+
+import com.discordBot.demo.domain.entity.GuildServer;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 경기 등록에 필요한 모든 참조 엔티티(계정, 유저, 챔피언, 라인)를 한 번에 조회한 결과입니다.
+ */
+@Getter
+@Builder
+public class ResolvedMatchDto {
+
+    private Long serverId;
+
+    private GuildServer guildServer;
+
+    // 통계 누적에 사용되는 경기 지속 시간 (초 단위)
+    private long gameDurationSeconds;
+
+    private List<ResolvedPlayerDto> players;
+}
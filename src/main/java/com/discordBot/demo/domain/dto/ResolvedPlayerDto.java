@@ -0,0 +1,33 @@
+package com.discordBot.demo.domain.dto;
+
+import com.discordBot.demo.domain.entity.Champion;
+import com.discordBot.demo.domain.entity.Line;
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.entity.User;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 경기 등록 시 한 선수에 대해 일괄 조회가 끝난 엔티티 묶음입니다.
+ * MatchResolutionService가 생성하며, 통계 서비스들은 이 객체만으로 추가 조회 없이 누적합니다.
+ */
+@Getter
+@Builder
+public class ResolvedPlayerDto {
+
+    private PlayerStatsDto playerStats;
+
+    private LolAccount lolAccount;
+
+    // 롤 계정 소유자 (소유자가 없는 계정이면 null)
+    private User user;
+
+    private Champion champion;
+
+    private Line line;
+
+    private boolean win;
+
+    // KP 계산을 위한 해당 선수 팀의 총 킬 수
+    private int teamTotalKills;
+}
@@ -0,0 +1,163 @@
+package com.discordBot.demo.domain.dto;
+
+import com.discordBot.demo.domain.entity.PlayerStats;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한 선수의 한 경기 결과를 누적 통계 테이블(USER_SERVER_STATS, CHAMPION_STATS, LINE_STATS)에 더할 증감분입니다.
+ */
+@Getter
+@Builder
+public class StatsDeltaDto {
+
+    // GuildServer PK (Discord Server ID)
+    private Long serverId;
+
+    // USERS 테이블 PK (통계 테이블의 user_id 컬럼 값, Discord User ID 아님)
+    private Long userId;
+
+    private Long championId;
+
+    private Long lineId;
+
+    private int games;
+    private int wins;
+    private int kills;
+    private int deaths;
+    private int assists;
+    private long gold;
+    private long damage;
+    private int teamKills;
+    private long durationSeconds;
+
+    /**
+     * 일괄 조회가 끝난 선수 정보로 +1경기 증감분을 생성합니다.
+     */
+    public static StatsDeltaDto from(ResolvedMatchDto match, ResolvedPlayerDto player) {
+        PlayerStatsDto stats = player.getPlayerStats();
+
+        return StatsDeltaDto.builder()
+                .serverId(match.getServerId())
+                .userId(player.getUser().getId())
+                .championId(player.getChampion().getChampionId())
+                .lineId(player.getLine().getLineId())
+                .games(1)
+                .wins(player.isWin() ? 1 : 0)
+                .kills(stats.getKills())
+                .deaths(stats.getDeaths())
+                .assists(stats.getAssists())
+                .gold(stats.getTotalGold())
+                .damage(stats.getTotalDamage())
+                .teamKills(player.getTeamTotalKills())
+                .durationSeconds(match.getGameDurationSeconds())
+                .build();
+    }
+
+    /**
+     * 저장된 PlayerStats로 +1경기 증감분을 생성합니다. (아웃박스 프로젝터 / 재계산용)
+     * 연관 엔티티는 프록시 식별자만 사용하므로 추가 SELECT가 발생하지 않습니다.
+     */
+    public static StatsDeltaDto from(PlayerStats stats, int teamTotalKills) {
+        return StatsDeltaDto.builder()
+                .serverId(stats.getMatchRecord().getGuildServer().getDiscordServerId())
+                .userId(stats.getUser() != null ? stats.getUser().getId() : null)
+                .championId(stats.getChampion().getChampionId())
+                .lineId(stats.getLine().getLineId())
+                .games(1)
+                .wins(Boolean.TRUE.equals(stats.getIsWin()) ? 1 : 0)
+                .kills(stats.getKills())
+                .deaths(stats.getDeaths())
+                .assists(stats.getAssists())
+                .gold(stats.getTotalGold())
+                .damage(stats.getTotalDamage())
+                .teamKills(teamTotalKills)
+                .durationSeconds(stats.getMatchRecord().getGameDurationSeconds())
+                .build();
+    }
+
+    /**
+     * 저장된 여러 경기의 선수 기록으로 증감분 목록을 만듭니다. 팀 총 킬은 경기/팀 단위로 계산합니다.
+     */
+    public static List<StatsDeltaDto> fromPlayerStats(List<PlayerStats> players) {
+        Map<String, Integer> teamKills = new HashMap<>();
+        for (PlayerStats stats : players) {
+            teamKills.merge(teamKey(stats), stats.getKills(), Integer::sum);
+        }
+
+        List<StatsDeltaDto> deltas = new ArrayList<>(players.size());
+        for (PlayerStats stats : players) {
+            deltas.add(from(stats, teamKills.get(teamKey(stats))));
+        }
+        return deltas;
+    }
+
+    private static String teamKey(PlayerStats stats) {
+        // 등록 시 팀 총 킬 계산(MatchResolutionServiceImpl)과 같이 팀 이름은 대소문자를 구분하지 않습니다.
+        String team = stats.getTeam() == null ? null : stats.getTeam().toUpperCase(Locale.ROOT);
+        return stats.getMatchRecord().getId() + ":" + team;
+    }
+
+    /**
+     * 같은 증감분을 다른 유저에게 귀속시킨 복사본을 반환합니다. (계정 소유자 변경 시 통계 이전용)
+     */
+    public StatsDeltaDto withUserId(Long newUserId) {
+        return StatsDeltaDto.builder()
+                .serverId(serverId)
+                .userId(newUserId)
+                .championId(championId)
+                .lineId(lineId)
+                .games(games)
+                .wins(wins)
+                .kills(kills)
+                .deaths(deaths)
+                .assists(assists)
+                .gold(gold)
+                .damage(damage)
+                .teamKills(teamKills)
+                .durationSeconds(durationSeconds)
+                .build();
+    }
+
+    /**
+     * 부호를 뒤집은 증감분을 반환합니다. (경기 삭제 시 누적 통계에서 되돌리기용)
+     */
+    public StatsDeltaDto negate() {
+        return StatsDeltaDto.builder()
+                .serverId(serverId)
+                .userId(userId)
+                .championId(championId)
+                .lineId(lineId)
+                .games(-games)
+                .wins(-wins)
+                .kills(-kills)
+                .deaths(-deaths)
+                .assists(-assists)
+                .gold(-gold)
+                .damage(-damage)
+                .teamKills(-teamKills)
+                .durationSeconds(-durationSeconds)
+                .build();
+    }
+
+    /**
+     * 같은 통계 행에 더해질 다른 증감분을 합산합니다. (키는 호출 측에서 보장)
+     */
+    public void add(StatsDeltaDto other) {
+        this.games += other.games;
+        this.wins += other.wins;
+        this.kills += other.kills;
+        this.deaths += other.deaths;
+        this.assists += other.assists;
+        this.gold += other.gold;
+        this.damage += other.damage;
+        this.teamKills += other.teamKills;
+        this.durationSeconds += other.durationSeconds;
+    }
+}
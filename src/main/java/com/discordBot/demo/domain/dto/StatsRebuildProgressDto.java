@@ -0,0 +1,29 @@
+package com.discordBot.demo.domain.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 누적 통계 재계산 진행 상황
+ */
+@Getter
+@Builder
+public class StatsRebuildProgressDto {
+
+    private int guildsCompleted;
+    private int guildsTotal;
+
+    private long rowsScanned;
+    private long rowsTotal;
+
+    private long elapsedMillis;
+
+    public int getPercent() {
+        if (rowsTotal <= 0) return 100;
+        return (int) Math.min(100, rowsScanned * 100 / rowsTotal);
+    }
+
+    public long getRowsPerSecond() {
+        return elapsedMillis <= 0 ? rowsScanned : rowsScanned * 1000 / elapsedMillis;
+    }
+}
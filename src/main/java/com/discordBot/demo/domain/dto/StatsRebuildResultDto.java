@@ -0,0 +1,27 @@
+package com.discordBot.demo.domain.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 누적 통계 재계산 결과 요약
+ */
+@Getter
+@Builder
+public class StatsRebuildResultDto {
+
+    private int guildCount;
+
+    // 스캔한 PLAYER_STATS 행 수 / 경기 수
+    private long rowsScanned;
+    private long matchesScanned;
+
+    // 새로 기록한 USER_SERVER_STATS + CHAMPION_STATS + LINE_STATS 행 수
+    private long aggregateRows;
+
+    private long elapsedMillis;
+
+    public long getRowsPerSecond() {
+        return elapsedMillis <= 0 ? rowsScanned : rowsScanned * 1000 / elapsedMillis;
+    }
+}
@@ -0,0 +1,22 @@
+package com.discordBot.demo.domain.dto;
+
+import com.discordBot.demo.domain.enums.TemporaryMatchClaimStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 임시 경기 확정/취소 시 원자적 점유(claim) 결과
+ */
+@Getter
+@Builder
+public class TemporaryMatchClaimDto {
+
+    private TemporaryMatchClaimStatus status;
+
+    // CLAIMED 일 때만 존재
+    private MatchRegistrationDto match;
+
+    public boolean isClaimed() {
+        return status == TemporaryMatchClaimStatus.CLAIMED;
+    }
+}
@@ -0,0 +1,59 @@
+package com.discordBot.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * "경기 등록됨" 아웃박스 이벤트.
+ * MatchRecord/PlayerStats와 같은 트랜잭션에서 저장되며, 백그라운드 프로젝터가 누적 통계에 반영한 뒤 processedAt을 기록합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "MATCH_OUTBOX", indexes = {
+        @Index(name = "idx_match_outbox_pending", columnList = "processed_at, attempts, id")
+})
+public class MatchOutboxEvent {
+
+    public static final String TYPE_MATCH_REGISTERED = "MATCH_REGISTERED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 멱등성 키: 경기 하나당 이벤트 하나만 존재합니다.
+    @Column(name = "match_id", nullable = false, unique = true)
+    private Long matchId;
+
+    @Column(name = "server_id", nullable = false)
+    private Long serverId;
+
+    @Column(name = "event_type", nullable = false, length = 30)
+    private String eventType = TYPE_MATCH_REGISTERED;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // 통계 반영 완료 시각 (null이면 미처리)
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // 반영 실패 횟수 (실패가 반복되는 이벤트는 뒤로 밀립니다)
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public static MatchOutboxEvent matchRegistered(Long matchId, Long serverId) {
+        MatchOutboxEvent event = new MatchOutboxEvent();
+        event.setMatchId(matchId);
+        event.setServerId(serverId);
+        return event;
+    }
+}
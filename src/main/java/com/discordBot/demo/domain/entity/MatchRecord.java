@@ -15,11 +15,16 @@ import java.util.List;
 @NoArgsConstructor
 @Table(name = "MATCH_RECORD", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"server_id", "game_duration_seconds", "blue_total_gold", "red_total_gold"})
+}, indexes = {
+        // 💡 서버별 스크린샷 유사도(해밍 거리) 검색용
+        @Index(name = "idx_match_record_server_hash", columnList = "server_id, screenshot_hash")
 })
 public class MatchRecord {
 
+    // 💡 pooled 시퀀스: ID를 50개 단위로 미리 받아 INSERT를 JDBC 배치로 묶을 수 있습니다. (IDENTITY는 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_record_id_gen")
+    @SequenceGenerator(name = "match_record_id_gen", sequenceName = "match_record_seq", allocationSize = 50)
     private Long id;
 
     // 경기가 진행된 서버
@@ -47,6 +52,10 @@ public class MatchRecord {
     @Column(name = "game_duration_seconds", nullable = false)
     private int gameDurationSeconds;
 
+    // 스크린샷 64비트 dHash (이미지로 등록한 경기만, 파일 가져오기 등은 null)
+    @Column(name = "screenshot_hash")
+    private Long screenshotHash;
+
     @OneToMany(mappedBy = "matchRecord", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PlayerStats> playerStats = new ArrayList<>();
 
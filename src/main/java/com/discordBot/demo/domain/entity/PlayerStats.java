@@ -9,11 +9,18 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "PLAYER_STATS")
+@Table(name = "PLAYER_STATS", indexes = {
+        // 경기 단위 조회 (통계 프로젝션 / 재계산)
+        @Index(name = "idx_player_stats_match", columnList = "match_id"),
+        // 롤 계정 단위 조회 (계정 소유자 변경 시 통계 이전)
+        @Index(name = "idx_player_stats_lol", columnList = "lol_id")
+})
 public class PlayerStats {
 
+    // 💡 pooled 시퀀스: ID를 50개 단위로 미리 받아 INSERT를 JDBC 배치로 묶을 수 있습니다. (IDENTITY는 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_stats_id_gen")
+    @SequenceGenerator(name = "player_stats_id_gen", sequenceName = "player_stats_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
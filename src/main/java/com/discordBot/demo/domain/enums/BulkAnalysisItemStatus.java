@@ -0,0 +1,8 @@
+package com.discordBot.demo.domain.enums;
+
+public enum BulkAnalysisItemStatus {
+    // 분석 완료 (일괄 확정 시 등록 대상)
+    ANALYZED,
+    // 분석 실패 (같은 파일로 다시 실행하면 이 항목만 다시 분석)
+    FAILED
+}
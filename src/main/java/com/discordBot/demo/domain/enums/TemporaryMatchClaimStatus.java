@@ -0,0 +1,10 @@
+package com.discordBot.demo.domain.enums;
+
+public enum TemporaryMatchClaimStatus {
+    // 이번 요청이 임시 경기를 가져감 (이 요청만 DB 등록을 진행)
+    CLAIMED,
+    // 다른 요청(중복 클릭, 다른 노드)이 이미 가져감
+    ALREADY_CLAIMED,
+    // TTL 만료 또는 존재하지 않는 ID
+    EXPIRED
+}
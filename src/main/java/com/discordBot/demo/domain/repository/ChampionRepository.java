@@ -4,6 +4,8 @@ import com.discordBot.demo.domain.entity.Champion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +16,10 @@ public interface ChampionRepository extends JpaRepository<Champion, Long> {
 
     // 챔피언의 현재 이름(한글 이름)으로 챔피언 정보를 조회.
     Optional<Champion> findByName(String name);
+
+    // 경기 등록 시 여러 챔피언을 이름(한글)으로 한 번에 조회.
+    List<Champion> findAllByNameIn(Collection<String> names);
+
+    // 이름으로 찾지 못한 식별자를 영문 키로 한 번에 조회.
+    List<Champion> findAllByChampionKeyIn(Collection<String> championKeys);
 }
\ No newline at end of file
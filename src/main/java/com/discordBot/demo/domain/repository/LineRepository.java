@@ -4,6 +4,7 @@ import com.discordBot.demo.domain.entity.Line;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,7 @@ public interface LineRepository extends JpaRepository<Line, Long> {
     Optional<Line> findByName(String name);
 
     List<Line> findAll();
+
+    /** 여러 라인 이름으로 엔티티를 한 번에 조회합니다. */
+    List<Line> findAllByNameIn(Collection<String> names);
 }
\ No newline at end of file
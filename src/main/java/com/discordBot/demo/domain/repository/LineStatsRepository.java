@@ -1,10 +1,14 @@
 package com.discordBot.demo.domain.repository;
 
 
+import com.discordBot.demo.domain.dto.LineFrequencyDto;
 import com.discordBot.demo.domain.entity.LineStats;
 import com.discordBot.demo.domain.entity.LineStatsId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +25,12 @@ public interface LineStatsRepository extends JpaRepository<LineStats, LineStatsI
     );
 
     List<LineStats> findAllByGuildServer_DiscordServerIdAndLine_LineId(Long serverId, Long lineId);
+
+    /**
+     * 여러 롤 계정 소유자의 (이 계정이 등록된 서버에서의) 라인별 경기 수를 한 번에 조회합니다. (이미지 분석의 라인 배정용)
+     */
+    @Query("SELECT new com.discordBot.demo.domain.dto.LineFrequencyDto(la.lolId, l.name, ls.totalGames) " +
+            "FROM LineStats ls JOIN ls.line l, LolAccount la " +
+            "WHERE la.user = ls.user AND la.guildServer = ls.guildServer AND la.lolId IN :lolAccountIds")
+    List<LineFrequencyDto> findLineFrequenciesByLolAccountIds(@Param("lolAccountIds") Collection<Long> lolAccountIds);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,26 @@ public interface LolAccountRepository extends JpaRepository<LolAccount, Long> {
             "WHERE la.guildServer.discordServerId = :serverId")
     List<LolAccount> findAllByGuildServer_DiscordServerId(@Param("serverId") Long serverId);
 
+    /**
+     * 경기 등록 시 선수들의 계정을 소유자(User)와 함께 한 번에 조회합니다.
+     * tagLine은 호출 측에서 gameName#tagLine 키로 다시 대조합니다.
+     */
+    @Query("SELECT la FROM LolAccount la " +
+            "LEFT JOIN FETCH la.user " +
+            "WHERE la.guildServer.discordServerId = :serverId AND la.gameName IN :gameNames")
+    List<LolAccount> findAllWithUserByServerIdAndGameNameIn(
+            @Param("serverId") Long serverId,
+            @Param("gameNames") Collection<String> gameNames
+    );
+
+    /**
+     * 서버에 등록된 모든 계정을 소유자(User)와 함께 조회합니다. (대량 가져오기 시 파일당 1회)
+     */
+    @Query("SELECT la FROM LolAccount la " +
+            "LEFT JOIN FETCH la.user " +
+            "WHERE la.guildServer.discordServerId = :serverId")
+    List<LolAccount> findAllWithUserByServerId(@Param("serverId") Long serverId);
+
     // ⭐ 3. Riot ID (GameName+TagLine)만으로 LolAccount를 조회 (UserSearchService에서 사용)
     Optional<LolAccount> findByGameNameAndTagLine(String gameName, String tagLine);
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.discordBot.demo.domain.repository;
+
+import com.discordBot.demo.domain.entity.MatchOutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MatchOutboxEventRepository extends JpaRepository<MatchOutboxEvent, Long> {
+
+    /**
+     * 미처리 이벤트를 잠그고 가져옵니다.
+     * SKIP LOCKED로 여러 프로젝터(인스턴스)가 같은 이벤트를 동시에 처리하지 않도록 합니다.
+     */
+    @Query(value = "SELECT * FROM match_outbox " +
+            "WHERE processed_at IS NULL AND attempts < :maxAttempts " +
+            "ORDER BY attempts, id " +
+            "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MatchOutboxEvent> lockPendingBatch(@Param("limit") int limit, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 지정한 미처리 이벤트만 잠그고 가져옵니다. (실패 이벤트를 한 건씩 격리해 재시도할 때 사용)
+     */
+    @Query(value = "SELECT * FROM match_outbox " +
+            "WHERE id IN (:ids) AND processed_at IS NULL " +
+            "ORDER BY id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MatchOutboxEvent> lockPendingByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 잠금 없이 다음 처리 대상 이벤트 ID를 조회합니다.
+     */
+    @Query(value = "SELECT id FROM match_outbox " +
+            "WHERE processed_at IS NULL AND attempts < :maxAttempts " +
+            "ORDER BY attempts, id LIMIT :limit", nativeQuery = true)
+    List<Long> findPendingIds(@Param("limit") int limit, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 반영 실패를 기록합니다. (프로젝션 트랜잭션이 롤백된 뒤 별도 트랜잭션에서 호출)
+     */
+    @Modifying
+    @Query("UPDATE MatchOutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error " +
+            "WHERE e.id IN :ids AND e.processedAt IS NULL")
+    int recordFailure(@Param("ids") Collection<Long> ids, @Param("error") String error);
+
+    long countByProcessedAtIsNull();
+
+    /**
+     * 경기의 아웃박스 이벤트를 잠그고 조회합니다. (프로젝터가 처리 중이면 커밋될 때까지 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MatchOutboxEvent> findByMatchId(Long matchId);
+
+    /**
+     * 여러 경기의 아웃박스 이벤트를 잠그고 조회합니다. (계정 소유자 변경 시 프로젝터와의 경합 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<MatchOutboxEvent> findByMatchIdIn(Collection<Long> matchIds);
+}
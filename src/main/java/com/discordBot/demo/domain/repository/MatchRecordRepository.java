@@ -2,6 +2,8 @@ package com.discordBot.demo.domain.repository;
 
 import com.discordBot.demo.domain.entity.MatchRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -24,4 +26,21 @@ public interface MatchRecordRepository extends JpaRepository<MatchRecord, Long>
             int redTotalGold,
             Long discordServerId
     );
-}
\ No newline at end of file
+
+    Optional<MatchRecord> findByIdAndGuildServer_DiscordServerId(Long id, Long discordServerId);
+
+    /**
+     * 같은 서버에서 스크린샷 해시와의 해밍 거리가 maxDistance 이하인 경기 중 가장 가까운 경기 ID를 조회합니다.
+     * (server_id, screenshot_hash) 인덱스로 해당 서버의 해시만 읽습니다.
+     * @param discordServerId 디스코드 서버 ID
+     * @param screenshotHash 새 스크린샷의 64비트 dHash
+     * @param maxDistance 같은 화면으로 볼 최대 해밍 거리
+     */
+    @Query(value = "SELECT id FROM match_record " +
+            "WHERE server_id = :serverId AND screenshot_hash IS NOT NULL " +
+            "AND bit_count(CAST(screenshot_hash # :hash AS bit(64))) <= :maxDistance " +
+            "ORDER BY bit_count(CAST(screenshot_hash # :hash AS bit(64))), id DESC LIMIT 1", nativeQuery = true)
+    Optional<Long> findNearestByScreenshotHash(@Param("serverId") Long discordServerId,
+                                               @Param("hash") long screenshotHash,
+                                               @Param("maxDistance") int maxDistance);
+}
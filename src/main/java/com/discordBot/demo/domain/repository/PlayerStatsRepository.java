@@ -0,0 +1,37 @@
+package com.discordBot.demo.domain.repository;
+
+import com.discordBot.demo.domain.entity.PlayerStats;
+import com.discordBot.demo.domain.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long> {
+
+    /**
+     * 여러 경기의 선수 기록을 경기 정보와 함께 한 번에 조회합니다. (통계 프로젝션용)
+     * 유저/챔피언/라인은 FK 값만 필요하므로 fetch 하지 않습니다.
+     */
+    @Query("SELECT ps FROM PlayerStats ps JOIN FETCH ps.matchRecord m " +
+            "WHERE m.id IN :matchIds ORDER BY m.id, ps.id")
+    List<PlayerStats> findAllWithMatchByMatchIdIn(@Param("matchIds") Collection<Long> matchIds);
+
+    /**
+     * 롤 계정이 참여한 경기 ID 목록 (idx_player_stats_lol 사용)
+     */
+    @Query("SELECT DISTINCT ps.matchRecord.id FROM PlayerStats ps WHERE ps.lolNickname.lolId = :lolId")
+    List<Long> findMatchIdsByLolId(@Param("lolId") Long lolId);
+
+    /**
+     * 롤 계정의 모든 선수 기록을 새 소유자에게 연결합니다.
+     */
+    @Modifying
+    @Query("UPDATE PlayerStats ps SET ps.user = :user WHERE ps.lolNickname.lolId = :lolId")
+    int reassignUserByLolId(@Param("lolId") Long lolId, @Param("user") User user);
+}
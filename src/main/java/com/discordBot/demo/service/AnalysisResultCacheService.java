@@ -0,0 +1,19 @@
+package com.discordBot.demo.service;
+
+/**
+ * 이미지 분석 결과(Gemini가 추출한 JSON) 캐시
+ * 같은 스크린샷이 여러 번 올라와도 Gemini는 한 번만 호출되도록, 결과를 Redis에 보관하고 동시에 들어온 같은 분석은 하나로 합칩니다.
+ */
+public interface AnalysisResultCacheService {
+
+    /**
+     * 캐시에 있으면 바로 반환하고, 없으면 loader를 실행해 성공한 결과만 저장합니다.
+     * 같은 키의 분석이 이미 진행 중이면 새로 호출하지 않고 그 결과를 함께 기다립니다. (loader의 예외도 그대로 전달)
+     */
+    String getOrLoad(String cacheKey, Loader loader) throws Exception;
+
+    @FunctionalInterface
+    interface Loader {
+        String load() throws Exception;
+    }
+}
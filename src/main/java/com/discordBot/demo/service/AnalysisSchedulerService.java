@@ -0,0 +1,23 @@
+package com.discordBot.demo.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 분석 작업 스케줄러
+ * 고정된 수의 워커와 크기가 정해진 대기열로 Gemini 호출 동시 실행 수를 제한하고,
+ * 대기 중인 작업은 서버(길드) 간 라운드 로빈으로 꺼내 한 서버의 연속 업로드가 다른 서버를 막지 않도록 합니다.
+ */
+public interface AnalysisSchedulerService {
+
+    /**
+     * 분석 작업을 대기열에 추가합니다.
+     * @param positionListener 대기 순번(1 = 다음 차례)이 바뀔 때마다 호출되며, 실행을 시작하면 0으로 한 번 호출됩니다.
+     * @throws IllegalArgumentException 전체 대기열 또는 서버별 대기 한도가 가득 찬 경우
+     */
+    <T> CompletableFuture<T> submit(Long discordServerId, Supplier<T> task, IntConsumer positionListener);
+
+    /** 실행을 기다리는 작업 수 (실행 중 제외) */
+    int getQueuedCount();
+}
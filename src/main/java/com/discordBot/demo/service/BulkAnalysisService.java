@@ -0,0 +1,46 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.BulkAnalysisResultDto;
+import com.discordBot.demo.domain.dto.MatchImportResultDto;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 여러 장의 경기 스크린샷(첨부 여러 개 또는 ZIP)을 한 번에 분석하고, 결과를 한 번에 확정합니다.
+ *
+ * 각 스크린샷은 공유 분석 스케줄러로 나눠 실행되고, 한 장이 끝날 때마다 결과를 Redis에 저장합니다.
+ * 봇이 재시작되거나 중간에 실패해도 같은 파일 구성으로 다시 실행하면 이미 분석된 스크린샷은 건너뜁니다.
+ */
+public interface BulkAnalysisService {
+
+    /**
+     * 모든 스크린샷의 분석이 끝날 때까지 기다린 뒤 결과를 반환합니다.
+     * @param discordUserId 업로드한 사용자 (같은 파일을 다른 사용자가 올려도 작업이 섞이지 않도록 작업 ID에 포함)
+     * @param sources 분석할 스크린샷 (descriptor가 같으면 같은 스크린샷으로 보고 재개에 사용)
+     * @param progressListener 스크린샷 한 장이 끝날 때마다 호출됩니다.
+     */
+    BulkAnalysisResultDto analyze(Long discordServerId, Long discordUserId, List<ImageSource> sources, boolean allowNearDuplicate,
+                                  Consumer<BulkAnalysisResultDto> progressListener);
+
+    /**
+     * 분석된 경기를 모두 한 트랜잭션으로 등록합니다. 같은 작업을 두 번 확정해도 한 번만 등록됩니다.
+     * 배치 저장이 DB 오류로 실패하면 한 경기씩 다시 등록하고, 저장하지 못한 경기는 결과의 실패 목록에 남깁니다.
+     * @throws IllegalArgumentException 작업이 만료되었거나 이미 확정/취소된 경우
+     */
+    MatchImportResultDto registerAll(Long discordServerId, String jobId);
+
+    /** 작업과 분석 결과를 버립니다. */
+    void cancel(Long discordServerId, String jobId);
+
+    /**
+     * @param descriptor 재개용 식별 문자열 (예: 파일 이름 + 크기)
+     */
+    record ImageSource(String fileName, String descriptor, ImageLoader loader) {
+    }
+
+    @FunctionalInterface
+    interface ImageLoader {
+        byte[] load() throws Exception;
+    }
+}
@@ -21,4 +21,17 @@ public interface ChampionService {
     Optional<Champion> findChampionByIdentifier(String identifier);
     List<String> getAllChampionNamesForHint();
 
+    /**
+     * OCR로 읽은 챔피언 이름을 가장 가까운 챔피언 이름(한글)으로 보정합니다. (이름/영문 Key 모두 비교, 자모 단위 유사도)
+     * @param ocrText 이미지에서 읽은 챔피언 이름
+     * @return 보정된 챔피언 이름. 충분히 비슷한 챔피언이 없거나 후보가 모호하면 빈 값
+     */
+    Optional<String> correctChampionName(String ocrText);
+
+    /**
+     * DB에 저장된 챔피언 데이터의 게임 버전 (예: "14.21.1", 데이터가 없으면 "unknown")
+     * 챔피언 목록이 바뀌면 이미지 분석 결과도 달라질 수 있으므로 분석 결과 캐시 키에 포함됩니다.
+     */
+    String getChampionDataVersion();
+
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.discordBot.demo.service;
 
 import com.discordBot.demo.domain.dto.ChampionSearchDto;
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
 
 import java.util.List;
 
@@ -28,6 +29,12 @@ public interface ChampionStatsService {
             int teamTotalKills
     );
 
+    /**
+     * 매치 등록 시 호출되어 참여 유저 전원의 챔피언별 통계를 한 번에 누적 업데이트합니다.
+     * @param resolvedMatch 챔피언/유저 엔티티가 이미 연결된 경기 정보
+     */
+    void applyMatch(ResolvedMatchDto resolvedMatch);
+
     /**
      * 유저 전적 검색 시 호출되어 해당 유저의 모든 챔피언 통계를 조회합니다.
      * @param userId Discord User ID
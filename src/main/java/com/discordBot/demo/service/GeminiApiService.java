@@ -0,0 +1,19 @@
+package com.discordBot.demo.service;
+
+import com.google.genai.types.Content;
+import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.GenerateContentResponse;
+
+import java.util.List;
+
+/**
+ * Gemini generateContent 호출 창구
+ * 모든 호출이 이곳을 거치므로 동시 실행 수 제한과 지연/거절 지표를 한 곳에서 관리합니다.
+ */
+public interface GeminiApiService {
+
+    /**
+     * @throws IllegalArgumentException 동시 실행 한도가 가득 차 대기 시간 안에 호출하지 못한 경우
+     */
+    GenerateContentResponse generateContent(String modelName, List<Content> contents, GenerateContentConfig config);
+}
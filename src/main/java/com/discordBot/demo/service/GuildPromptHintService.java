@@ -0,0 +1,23 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.entity.LolAccount;
+
+import java.util.List;
+
+/**
+ * 서버(길드)별 프롬프트 힌트 문구 캐시
+ * 등록 계정 수에 비례해 길어지는 힌트를 분석마다 다시 만들지 않고, 계정이 바뀔 때만 새로 만듭니다.
+ */
+public interface GuildPromptHintService {
+
+    /**
+     * 선호 라인 힌트 ("게임이름:라인,라인; ..."). 선호 라인이 없는 계정은 빠집니다.
+     * @param registeredAccounts 캐시가 비어 있을 때 힌트를 만들 서버 등록 계정 목록
+     */
+    String getPreferredLaneHint(Long discordServerId, List<LolAccount> registeredAccounts);
+
+    /**
+     * 계정 등록/변경 후 호출합니다. 트랜잭션 안이면 커밋 후에 비웁니다.
+     */
+    void invalidate(Long discordServerId);
+}
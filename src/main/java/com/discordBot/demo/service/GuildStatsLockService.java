@@ -0,0 +1,19 @@
+package com.discordBot.demo.service;
+
+/**
+ * 서버(길드) 단위 누적 통계 쓰기 잠금 (PostgreSQL 트랜잭션 advisory lock)
+ * - 경기 등록/삭제, 통계 프로젝션, 계정 소유자 변경: 공유 잠금 (서로 막지 않음)
+ * - 통계 재계산 교체 단계: 배타 잠금 (진행 중인 쓰기가 끝날 때까지 대기)
+ * 모든 잠금은 현재 트랜잭션이 끝나면 자동으로 해제됩니다.
+ */
+public interface GuildStatsLockService {
+
+    /** 공유 잠금을 획득할 때까지 대기합니다. */
+    void lockShared(Long serverId);
+
+    /** 공유 잠금을 즉시 시도합니다. (재계산 교체 중이면 false) */
+    boolean tryLockShared(Long serverId);
+
+    /** 배타 잠금을 획득할 때까지 대기합니다. */
+    void lockExclusive(Long serverId);
+}
@@ -0,0 +1,24 @@
+package com.discordBot.demo.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 서버(길드)별 단일 작성자 쓰기 대기열
+ * 같은 서버의 작업은 제출 순서대로 하나씩 실행되고, 서로 다른 서버의 작업은 공유 워커 풀에서 병렬로 실행됩니다.
+ */
+public interface GuildWriteLaneService {
+
+    /**
+     * 해당 서버의 대기열 끝에 작업을 추가합니다.
+     * @throws IllegalArgumentException 서버 대기열이 가득 찬 경우
+     */
+    <T> CompletableFuture<T> submit(Long discordServerId, Supplier<T> task);
+
+    /** 해당 서버에서 대기 중이거나 실행 중인 작업 수 */
+    int getQueueDepth(Long discordServerId);
+
+    /** 대기 중인 작업이 있는 서버별 작업 수 */
+    Map<Long, Integer> getQueueDepths();
+}
@@ -5,5 +5,17 @@ import com.discordBot.demo.domain.entity.LolAccount;
 import java.util.List;
 
 public interface ImageAnalysisService {
-    MatchRegistrationDto analyzeAndStructureData(String imageUrl, Long serverId, List<LolAccount> registeredAccounts) throws Exception;
+
+    /**
+     * 경기 결과 스크린샷을 분석해 등록용 DTO를 만듭니다.
+     * @param allowNearDuplicate false면 이미 등록된 경기와 거의 같은 스크린샷일 때 Gemini 호출 전에 예외를 던집니다.
+     */
+    MatchRegistrationDto analyzeAndStructureData(String imageUrl, Long serverId, List<LolAccount> registeredAccounts,
+                                                 boolean allowNearDuplicate) throws Exception;
+
+    /**
+     * 이미 내려받은(또는 압축 파일에서 꺼낸) 스크린샷 바이트를 분석합니다. (일괄 등록용)
+     */
+    MatchRegistrationDto analyzeAndStructureData(byte[] imageBytes, Long serverId, List<LolAccount> registeredAccounts,
+                                                 boolean allowNearDuplicate) throws Exception;
 }
\ No newline at end of file
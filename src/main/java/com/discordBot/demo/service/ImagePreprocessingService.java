@@ -0,0 +1,16 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.PreprocessedImageDto;
+
+/**
+ * Gemini 호출 전 스크린샷 전처리
+ * 실제 형식 감지 → 디코딩 → 점수판 영역(단색 여백 제외) 자르기 → 모델에 필요한 해상도로 축소 → JPEG 재인코딩 순서로 처리합니다.
+ */
+public interface ImagePreprocessingService {
+
+    /**
+     * 원본 이미지를 전처리합니다. 디코딩할 수 없는 형식(WebP 등)이거나 재인코딩이 더 크면 원본을 그대로 돌려줍니다.
+     * @throws IllegalArgumentException 이미지 형식으로 인식할 수 없는 경우
+     */
+    PreprocessedImageDto preprocess(byte[] imageBytes);
+}
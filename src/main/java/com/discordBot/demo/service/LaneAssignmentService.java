@@ -0,0 +1,21 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.entity.LolAccount;
+
+import java.util.List;
+
+/**
+ * 이미지 분석 결과의 라인을 팀별로 중복 없이 다시 배정합니다.
+ *
+ * Gemini의 라인 추정, 강타/서포터 아이템 감지 여부, 계정의 선호 라인, 이 서버에서의 라인별 플레이 기록을 점수로 합쳐
+ * 팀마다 TOP/JUNGLE/MID/ADC/SUPPORT를 한 명씩 배정하는 최소 비용 할당 문제로 풉니다.
+ */
+public interface LaneAssignmentService {
+
+    /**
+     * players의 laneName을 직접 바꿉니다. 한 팀에 5명이 넘으면 남는 선수는 UNKNOWN이 됩니다.
+     * @param registeredAccounts 서버에 등록된 계정 (선호 라인이 함께 로드되어 있어야 함)
+     */
+    void assignLanes(List<PlayerStatsDto> players, List<LolAccount> registeredAccounts);
+}
@@ -1,6 +1,7 @@
 package com.discordBot.demo.service;
 
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
 
 public interface LineStatsService {
 
@@ -15,4 +16,9 @@ public interface LineStatsService {
             long gameDurationSeconds,
             int teamTotalKills
     );
-}
\ No newline at end of file
+
+    /**
+     * 경기 후 참여 유저 전원의 라인별 통계를 한 번에 업데이트합니다.
+     */
+    void applyMatch(ResolvedMatchDto resolvedMatch);
+}
@@ -0,0 +1,22 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.MatchImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 과거 경기 기록(JSON Lines / CSV)을 이미지 분석 없이 대량으로 가져옵니다.
+ */
+public interface MatchImportService {
+
+    /**
+     * 파일을 스트리밍으로 읽어 배치 단위로 등록합니다.
+     * 같은 서버에 같은 파일(이름 + 크기)을 다시 올리면 마지막으로 커밋된 배치 다음부터 이어서 가져옵니다.
+     *
+     * @param progressListener 배치가 커밋될 때마다 호출됩니다.
+     */
+    MatchImportResultDto importMatches(Long discordServerId, String fileName, long fileSize, InputStream input,
+                                       Consumer<MatchImportResultDto> progressListener) throws IOException;
+}
@@ -1,9 +1,25 @@
 package com.discordBot.demo.service;
 
+import com.discordBot.demo.domain.dto.MatchBatchResultDto;
 import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.MatchResolutionCacheDto;
 import com.discordBot.demo.domain.entity.MatchRecord;
 
+import java.util.List;
+
 public interface MatchRecordService {
 
     MatchRecord registerMatch(MatchRegistrationDto matchDto);
+
+    /**
+     * 같은 서버의 경기 여러 건을 한 트랜잭션으로 등록합니다. (대량 가져오기용)
+     * 중복/미등록 계정 등 검증 오류는 해당 경기만 건너뛰고, 통계는 배치 전체를 한 번에 반영합니다.
+     */
+    MatchBatchResultDto registerMatches(List<MatchRegistrationDto> matchDtos, MatchResolutionCacheDto cache);
+
+    /**
+     * 잘못 등록된 경기를 삭제하고, 해당 경기만큼 누적 통계를 같은 트랜잭션에서 되돌립니다.
+     * @return 되돌린 선수 기록 수
+     */
+    int deleteMatch(Long discordServerId, Long matchId);
 }
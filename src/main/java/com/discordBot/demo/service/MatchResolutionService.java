@@ -0,0 +1,26 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.MatchResolutionCacheDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
+
+public interface MatchResolutionService {
+
+    /**
+     * 경기 DTO가 참조하는 LolAccount(+User), Champion, Line을 IN 쿼리로 일괄 조회합니다.
+     * 미등록 계정이나 알 수 없는 챔피언/라인이 있으면 IllegalArgumentException을 던집니다.
+     * @param matchDto 등록할 경기 정보
+     * @return 선수별로 엔티티가 연결된 경기 정보
+     */
+    ResolvedMatchDto resolve(MatchRegistrationDto matchDto);
+
+    /**
+     * 서버의 모든 계정(+소유자)과 전체 챔피언/라인을 한 번에 읽어 조회 캐시를 만듭니다. (대량 가져오기용)
+     */
+    MatchResolutionCacheDto preload(Long discordServerId);
+
+    /**
+     * 미리 읽어 둔 캐시로 경기 DTO를 검증/연결합니다. DB 조회는 하지 않습니다.
+     */
+    ResolvedMatchDto resolve(MatchRegistrationDto matchDto, MatchResolutionCacheDto cache);
+}
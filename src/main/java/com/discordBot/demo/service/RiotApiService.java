@@ -14,7 +14,17 @@ public interface RiotApiService {
 
     Map<String, Champion> getLatestChampionDataAsChampionEntity();
 
-    String getSmiteIconUrl();
+    /**
+     * 해당 버전의 소환사 주문 키 목록 (아이콘 파일 이름, 예: SummonerSmite). 실패하면 빈 목록
+     */
+    List<String> getSummonerSpellKeys(String version);
 
-    List<String> getSupportItemIconUrls();
+    String getSmiteSpellKey();
+
+    List<String> getSupportItemIds();
+
+    /**
+     * Data Dragon 아이콘 PNG (type: champion / spell / item). 없거나 실패하면 빈 값
+     */
+    Optional<byte[]> downloadIcon(String version, String type, String fileName);
 }
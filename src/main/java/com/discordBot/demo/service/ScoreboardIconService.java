@@ -0,0 +1,34 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.support.ScoreboardIconReader;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 점수판 아이콘(챔피언 초상화 / 강타 / 서포터 아이템) 로컬 인식
+ * Data Dragon 아이콘 스냅샷을 디스크에 캐시해 두고, 지문을 미리 계산해 가장 가까운 아이콘으로 알아봅니다.
+ */
+public interface ScoreboardIconService {
+
+    /**
+     * 현재 챔피언 데이터 버전의 아이콘 스냅샷을 백그라운드에서 준비합니다. (첫 분석이 다운로드를 기다리지 않도록)
+     * 이미 준비 중이면 새로 시작하지 않고 진행 중인 준비를 반환합니다.
+     * @return 준비가 끝나면(실패해도) 완료되는 future
+     */
+    CompletableFuture<Void> prepareSnapshot();
+
+    /**
+     * 원본 스크린샷에서 선수 행의 아이콘을 읽기 시작합니다. 꺼져 있거나 스냅샷이 없거나 읽지 못하면 빈 목록으로 완료됩니다.
+     */
+    CompletableFuture<List<ScoreboardIconReader.Row>> readAsync(byte[] imageBytes);
+
+    /**
+     * 챔피언으로 행과 선수를 맞춰, 화면에서 확인한 강타/서포터 아이템 여부를 라인 배정 근거로 채웁니다.
+     * 이름으로 맞출 수 없는 선수와 행이 하나씩만 남고 초상화 유사도가 충분히 높으면 아이콘의 챔피언으로 이름도 바로잡습니다.
+     * 주문/아이템 아이콘을 알아보지 못한 항목(null)은 Gemini 판단을 그대로 둡니다.
+     * @return 근거를 채운 선수 수
+     */
+    int applyIconEvidence(List<PlayerStatsDto> players, List<ScoreboardIconReader.Row> rows);
+}
@@ -0,0 +1,25 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.support.ScoreboardDigitReader;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 점수판 숫자 열(KDA / 피해량 / 골드) 로컬 인식과 Gemini 결과 교차 검증
+ * 모델 호출과 병렬로 실행되며, 네이티브 라이브러리나 네트워크 없이 동작합니다.
+ */
+public interface ScoreboardOcrService {
+
+    /**
+     * 원본 스크린샷에서 선수 행을 읽기 시작합니다. 꺼져 있거나 읽지 못하면 빈 목록으로 완료됩니다. (예외로 완료되지 않음)
+     */
+    CompletableFuture<List<ScoreboardDigitReader.Row>> readAsync(byte[] imageBytes);
+
+    /**
+     * Gemini가 읽은 값과 로컬 인식 행을 맞춰 보고, 다른 항목을 선수별 경고로 남깁니다. (fill 모드면 로컬 값으로 바꿈)
+     * @return 값이 다른 항목 수
+     */
+    int crossCheck(List<PlayerStatsDto> players, List<ScoreboardDigitReader.Row> rows);
+}
@@ -0,0 +1,26 @@
+package com.discordBot.demo.service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MATCH_OUTBOX에 쌓인 "경기 등록됨" 이벤트를 누적 통계 테이블에 반영(프로젝션)합니다.
+ * 통계 반영과 processedAt 기록이 같은 트랜잭션에서 이루어지므로, 경기 하나가 두 번 반영되지 않습니다.
+ */
+public interface StatsProjectionService {
+
+    /** 미처리 이벤트를 최대 batchSize건 잠그고 한 번의 upsert 배치로 반영합니다. @return 처리한 이벤트 수 */
+    int projectPending(int batchSize);
+
+    /** 지정한 미처리 이벤트만 반영합니다. (다른 프로젝터가 잡고 있는 이벤트는 건너뜀) @return 처리한 이벤트 수 */
+    int projectEvents(Collection<Long> eventIds);
+
+    /** 잠금 없이 다음 처리 대상 이벤트 ID를 조회합니다. */
+    List<Long> findPendingEventIds(int limit);
+
+    /** 반영에 실패한 이벤트의 시도 횟수와 오류 메시지를 기록합니다. */
+    void recordFailure(Collection<Long> eventIds, String error);
+
+    /** 아직 반영되지 않은 이벤트 수 */
+    long countPending();
+}
@@ -0,0 +1,18 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.entity.User;
+
+/**
+ * 롤 계정의 소유자가 바뀔 때, 그 계정으로 쌓인 선수 기록과 누적 통계를 새 소유자에게 옮깁니다.
+ * 서버 전체를 재계산하지 않고 해당 계정의 기록만 증감분으로 이동합니다.
+ */
+public interface StatsReattributionService {
+
+    /**
+     * 이전 소유자의 USER_SERVER_STATS / CHAMPION_STATS / LINE_STATS에서 빼고 새 소유자에게 더한 뒤,
+     * PLAYER_STATS.user_id를 새 소유자로 바꿉니다. 호출 측 트랜잭션 안에서 실행됩니다.
+     * @return 새 소유자에게 연결된 선수 기록 수
+     */
+    int reattribute(LolAccount lolAccount, User newOwner);
+}
@@ -0,0 +1,29 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.StatsRebuildProgressDto;
+import com.discordBot.demo.domain.dto.StatsRebuildResultDto;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * PLAYER_STATS 원본으로 USER_SERVER_STATS / CHAMPION_STATS / LINE_STATS 를 처음부터 다시 계산합니다.
+ * 집계가 어긋났거나 집계 공식이 바뀌었을 때 관리자가 실행합니다.
+ */
+public interface StatsRebuildService {
+
+    /**
+     * 지정한 서버들의 누적 통계를 재계산해 교체합니다.
+     * 스캔은 잠금 없이 진행되고, 교체 단계에서만 서버별로 잠깐 등록을 대기시킵니다.
+     * @param serverIds 재계산할 디스코드 서버 ID 목록 (서버 단위로 병렬 처리)
+     * @param progressListener 진행 상황 콜백 (작업 스레드에서 호출되므로 빠르게 반환해야 합니다)
+     */
+    StatsRebuildResultDto rebuild(Collection<Long> serverIds, Consumer<StatsRebuildProgressDto> progressListener);
+
+    /**
+     * 해당 서버의 재계산이 진행 중인지 확인합니다.
+     * 경기 목록은 그대로 두고 PLAYER_STATS만 고치는 작업(계정 소유자 변경)은 재계산 중에 실행하면 교체 단계에서 덮어써지므로,
+     * 서버 공유 잠금을 잡은 뒤 이 값을 확인해야 합니다.
+     */
+    boolean isRebuilding(Long serverId);
+}
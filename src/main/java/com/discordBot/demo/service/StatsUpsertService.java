@@ -0,0 +1,27 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+
+import java.util.Collection;
+
+/**
+ * 누적 통계 테이블에 증감분을 PostgreSQL INSERT ... ON CONFLICT DO UPDATE 로 반영합니다.
+ * 조회 후 저장(read-modify-write) 없이 DB에서 직접 더하므로 동시 등록에서도 누락이 없습니다.
+ */
+public interface StatsUpsertService {
+
+    /** USER_SERVER_STATS 에 (서버, 유저) 단위로 증감분을 반영합니다. */
+    void upsertUserServerStats(Collection<StatsDeltaDto> deltas);
+
+    /** CHAMPION_STATS 에 (서버, 유저, 챔피언) 단위로 증감분을 반영합니다. */
+    void upsertChampionStats(Collection<StatsDeltaDto> deltas);
+
+    /** LINE_STATS 에 (서버, 유저, 라인) 단위로 증감분을 반영합니다. */
+    void upsertLineStats(Collection<StatsDeltaDto> deltas);
+
+    /** 세 통계 테이블에 모두 반영합니다. */
+    void upsertAll(Collection<StatsDeltaDto> deltas);
+
+    /** 음수 증감분 반영 후 경기 수가 0 이하가 된 통계 행을 세 테이블에서 삭제합니다. (경기 삭제용) */
+    void deleteEmptyRows(Collection<StatsDeltaDto> deltas);
+}
@@ -1,6 +1,7 @@
 package com.discordBot.demo.service;
 
 import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.TemporaryMatchClaimDto;
 
 public interface TemporaryMatchStorageService {
 
@@ -14,6 +15,18 @@ public interface TemporaryMatchStorageService {
      */
     MatchRegistrationDto getTemporaryMatch(Long id);
 
+    /**
+     * 임시 저장된 DTO를 원자적으로 꺼내고 삭제합니다. (확정/취소 버튼용)
+     * 같은 ID로 여러 요청이 동시에 들어와도 정확히 하나만 CLAIMED를 받고, 나머지는 DB를 건드리지 않고 바로 반환됩니다.
+     * @param claimToken 점유한 요청의 식별자 (예: Discord interaction ID), 중복 요청 추적용으로 기록됩니다.
+     */
+    TemporaryMatchClaimDto claimTemporaryMatch(Long id, String claimToken);
+
+    /**
+     * 점유한 DTO를 같은 ID로 되돌립니다. (점유 후 등록 요청이 거절되어 다시 확정할 수 있게 할 때 사용)
+     */
+    void restoreTemporaryMatch(Long id, MatchRegistrationDto dto);
+
     /**
      * 임시 저장된 DTO를 ID로 삭제합니다 (등록 완료 또는 취소 시).
      */
@@ -1,6 +1,7 @@
 package com.discordBot.demo.service;
 
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
 import com.discordBot.demo.domain.entity.UserServerStats;
 
 public interface UserServerStatsService {
@@ -23,4 +24,12 @@ public interface UserServerStatsService {
             int teamTotalKils
 
     );
-}
\ No newline at end of file
+
+    /**
+     * 일괄 조회가 끝난 경기 정보로 참여 유저 전원의 서버 통계를 한 번에 누적합니다.
+     * 기존 통계를 조회하지 않고 유저별 증분을 일괄 upsert(INSERT ... ON CONFLICT DO UPDATE)로 DB에서 직접 더하며,
+     * 이 메서드도 MatchRecordService 트랜잭션 내에서 호출되어야 합니다.
+     * @param resolvedMatch MatchResolutionService가 생성한 경기 정보
+     */
+    void applyMatch(ResolvedMatchDto resolvedMatch);
+}
@@ -17,4 +17,10 @@ public interface UserService {
      * @return 처리 결과 메시지
      */
     String linkExistingAccount(Long discordUserId, Long lolAccountId);
+
+    /**
+     * 서버에 등록된 롤 계정(이름#태그)의 소유자를 다른 디스코드 유저로 변경합니다.
+     * 해당 계정의 과거 기록과 누적 통계도 새 소유자에게 옮겨집니다.
+     */
+    String transferLolAccount(Long discordUserId, String gameName, String tagLine, Long discordServerId);
 }
@@ -0,0 +1,116 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.service.AnalysisResultCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+@Service
+@Slf4j
+public class AnalysisResultCacheServiceImpl implements AnalysisResultCacheService {
+
+    private static final String RESULT_PREFIX = "analysis:result:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+
+    // 진행 중인 분석 (키별 하나) - 같은 키로 들어온 요청은 이 결과를 함께 기다립니다.
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+
+    public AnalysisResultCacheServiceImpl(RedisTemplate<String, Object> redisTemplate,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${spring.analysis.cache.ttl-hours:72}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.hitCounter = resultCounter(meterRegistry, "hit");
+        this.missCounter = resultCounter(meterRegistry, "miss");
+        this.coalescedCounter = resultCounter(meterRegistry, "coalesced");
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("image.analysis.cache")
+                .description("이미지 분석 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getOrLoad(String cacheKey, Loader loader) throws Exception {
+        String cached = readCache(cacheKey);
+        if (cached != null) {
+            hitCounter.increment();
+            log.info("⚡ 분석 결과 캐시 적중: {}", cacheKey);
+            return cached;
+        }
+
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(cacheKey, flight);
+        if (existing != null) {
+            coalescedCounter.increment();
+            log.info("⏳ 같은 이미지의 분석이 진행 중이라 결과를 함께 기다립니다: {}", cacheKey);
+            return await(existing);
+        }
+
+        try {
+            // 직전 분석이 방금 끝나 캐시에 저장했을 수 있으므로 한 번 더 확인
+            String value = readCache(cacheKey);
+            if (value != null) {
+                hitCounter.increment();
+            } else {
+                missCounter.increment();
+                value = loader.load();
+                writeCache(cacheKey, value);
+            }
+            flight.complete(value);
+            return value;
+        } catch (Exception e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, flight);
+        }
+    }
+
+    private String await(CompletableFuture<String> flight) throws Exception {
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("이미지 분석 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    // 캐시는 최적화일 뿐이므로 Redis 오류는 분석을 막지 않습니다.
+    private String readCache(String cacheKey) {
+        try {
+            Object value = redisTemplate.opsForValue().get(RESULT_PREFIX + cacheKey);
+            return value instanceof String json ? json : null;
+        } catch (RuntimeException e) {
+            log.warn("분석 결과 캐시 조회 실패 ({}): {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String cacheKey, String value) {
+        try {
+            redisTemplate.opsForValue().set(RESULT_PREFIX + cacheKey, value, ttl);
+        } catch (RuntimeException e) {
+            log.warn("분석 결과 캐시 저장 실패 ({}): {}", cacheKey, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.service.AnalysisSchedulerService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class AnalysisSchedulerServiceImpl implements AnalysisSchedulerService {
+
+    // 같은 작업의 대기 순번 안내 최소 간격 (Discord 메시지 수정 요청이 몰리지 않도록, 3번째 이내는 항상 안내)
+    static final long POSITION_UPDATE_INTERVAL_MS = 2000;
+
+    private final ThreadPoolExecutor workers;
+    private final int maxQueued;
+    private final int maxQueuedPerGuild;
+
+    // 아래 세 필드는 lock으로 보호: 서버별 대기 작업과, 다음에 꺼낼 서버 순서(라운드 로빈)
+    private final Object lock = new Object();
+    private final Map<Long, ArrayDeque<Ticket>> queues = new HashMap<>();
+    private final ArrayDeque<Long> ring = new ArrayDeque<>();
+    private int queuedCount = 0;
+
+    private final AtomicInteger runningCount = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    public AnalysisSchedulerServiceImpl(MeterRegistry meterRegistry,
+                                        @Value("${spring.analysis.scheduler.workers:4}") int workerCount,
+                                        @Value("${spring.analysis.scheduler.max-queued:100}") int maxQueued,
+                                        @Value("${spring.analysis.scheduler.max-queued-per-guild:10}") int maxQueuedPerGuild) {
+        int threads = Math.max(1, workerCount);
+        AtomicInteger threadIndex = new AtomicInteger();
+
+        // 워커 풀 대기열에는 작업 수만큼의 "차례"만 들어가고, 어떤 작업을 실행할지는 차례를 받은 시점에 라운드 로빈으로 정합니다.
+        this.workers = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-analysis-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.workers.allowCoreThreadTimeOut(true);
+        this.maxQueued = maxQueued;
+        this.maxQueuedPerGuild = maxQueuedPerGuild;
+
+        Gauge.builder("image.analysis.queue.depth", this, AnalysisSchedulerServiceImpl::getQueuedCount)
+                .description("실행을 기다리는 이미지 분석 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("image.analysis.running", runningCount, AtomicInteger::get)
+                .description("실행 중인 이미지 분석 작업 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("image.analysis.queue.rejected")
+                .description("대기열이 가득 차 거절된 이미지 분석 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Long discordServerId, Supplier<T> task, IntConsumer positionListener) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Ticket ticket = new Ticket(discordServerId, positionListener, () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        int position;
+        synchronized (lock) {
+            ArrayDeque<Ticket> queue = queues.get(discordServerId);
+            if (queuedCount >= maxQueued) {
+                rejectedCounter.increment();
+                throw new IllegalArgumentException("❌ 오류: 이미지 분석 대기열이 가득 찼습니다. (대기 " + queuedCount + "건) 잠시 후 다시 시도해 주세요.");
+            }
+            if (queue != null && queue.size() >= maxQueuedPerGuild) {
+                rejectedCounter.increment();
+                throw new IllegalArgumentException("❌ 오류: 이 서버에서 분석을 기다리는 이미지가 너무 많습니다. (최대 " + maxQueuedPerGuild + "건) 앞선 분석이 끝난 뒤 다시 시도해 주세요.");
+            }
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.put(discordServerId, queue);
+                ring.addLast(discordServerId);
+            }
+            queue.addLast(ticket);
+            queuedCount++;
+            position = positionOf(ticket);
+        }
+
+        ticket.notifyPosition(position, true);
+        workers.execute(this::runNext);
+        return future;
+    }
+
+    @Override
+    public int getQueuedCount() {
+        synchronized (lock) {
+            return queuedCount;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 워커 차례 하나당 작업 하나를 실행합니다. 맨 앞 서버의 가장 오래된 작업을 꺼내고, 그 서버에 작업이 남아 있으면 순서의 맨 뒤로 보냅니다.
+     */
+    private void runNext() {
+        Ticket ticket;
+        List<Map.Entry<Ticket, Integer>> moved;
+        synchronized (lock) {
+            Long serverId = ring.pollFirst();
+            if (serverId == null) {
+                return;
+            }
+            ArrayDeque<Ticket> queue = queues.get(serverId);
+            ticket = queue.pollFirst();
+            if (queue.isEmpty()) {
+                queues.remove(serverId);
+            } else {
+                ring.addLast(serverId);
+            }
+            queuedCount--;
+            moved = snapshotPositions();
+        }
+
+        runningCount.incrementAndGet();
+        try {
+            ticket.start();
+            // 남은 작업의 바뀐 순번 안내 (lock 밖에서 호출)
+            for (Map.Entry<Ticket, Integer> entry : moved) {
+                entry.getKey().notifyPosition(entry.getValue(), false);
+            }
+            ticket.task.run();
+        } catch (RuntimeException e) {
+            log.error("이미지 분석 작업 실행 중 오류 (서버 ID: {}): {}", ticket.serverId, e.getMessage(), e);
+        } finally {
+            runningCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 라운드 로빈 순서에서 이 작업보다 먼저 실행될 작업 수 + 1 (lock 안에서 호출)
+     * 서버 대기열에서 k번째(0부터) 작업은 k번째 바퀴에 실행되므로, 앞선 바퀴의 작업과 같은 바퀴에서 앞 순서 서버의 작업을 셉니다.
+     */
+    private int positionOf(Ticket ticket) {
+        int round = indexOf(queues.get(ticket.serverId), ticket);
+        int ahead = 0;
+        boolean beforeOwnGuild = true;
+        for (Long serverId : ring) {
+            int size = queues.get(serverId).size();
+            if (serverId.equals(ticket.serverId)) {
+                beforeOwnGuild = false;
+                ahead += round;
+                continue;
+            }
+            ahead += Math.min(size, round);
+            if (beforeOwnGuild && size > round) {
+                ahead++;
+            }
+        }
+        return ahead + 1;
+    }
+
+    private List<Map.Entry<Ticket, Integer>> snapshotPositions() {
+        List<Map.Entry<Ticket, Integer>> positions = new ArrayList<>(queuedCount);
+        for (ArrayDeque<Ticket> queue : queues.values()) {
+            for (Ticket waiting : queue) {
+                positions.add(Map.entry(waiting, positionOf(waiting)));
+            }
+        }
+        return positions;
+    }
+
+    private static int indexOf(ArrayDeque<Ticket> queue, Ticket ticket) {
+        int index = 0;
+        for (Iterator<Ticket> it = queue.iterator(); it.hasNext(); index++) {
+            if (it.next() == ticket) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("대기열에 없는 작업입니다.");
+    }
+
+    private static final class Ticket {
+        private final Long serverId;
+        private final IntConsumer positionListener;
+        private final Runnable task;
+
+        // 아래 필드는 this로 보호: 실행 시작 후에는 대기 순번 안내를 보내지 않음
+        private boolean started;
+        private int lastPosition = -1;
+        private long lastNotifiedAt;
+
+        private Ticket(Long serverId, IntConsumer positionListener, Runnable task) {
+            this.serverId = serverId;
+            this.positionListener = positionListener;
+            this.task = task;
+        }
+
+        private synchronized void notifyPosition(int position, boolean force) {
+            long now = System.currentTimeMillis();
+            if (started || position == lastPosition) {
+                return;
+            }
+            if (!force && position > 3 && now - lastNotifiedAt < POSITION_UPDATE_INTERVAL_MS) {
+                return;
+            }
+            lastPosition = position;
+            lastNotifiedAt = now;
+            safeNotify(position);
+        }
+
+        private synchronized void start() {
+            started = true;
+            safeNotify(0);
+        }
+
+        private void safeNotify(int position) {
+            try {
+                positionListener.accept(position);
+            } catch (RuntimeException e) {
+                log.warn("분석 대기 순번 안내 실패 (서버 ID: {}): {}", serverId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.BulkAnalysisItemDto;
+import com.discordBot.demo.domain.dto.BulkAnalysisResultDto;
+import com.discordBot.demo.domain.dto.MatchBatchResultDto;
+import com.discordBot.demo.domain.dto.MatchImportResultDto;
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.MatchResolutionCacheDto;
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.enums.BulkAnalysisItemStatus;
+import com.discordBot.demo.domain.repository.LolAccountRepository;
+import com.discordBot.demo.service.AnalysisSchedulerService;
+import com.discordBot.demo.service.BulkAnalysisService;
+import com.discordBot.demo.service.GuildWriteLaneService;
+import com.discordBot.demo.service.ImageAnalysisService;
+import com.discordBot.demo.service.MatchRecordService;
+import com.discordBot.demo.service.MatchResolutionService;
+import com.discordBot.demo.support.ContentHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class BulkAnalysisServiceImpl implements BulkAnalysisService {
+
+    private static final String JOB_PREFIX = "bulk:analysis:";
+
+    // 다른 서버 사용자로 공유 대기열이 가득 찼을 때 다시 제출하기 전 대기 시간 / 최대 재시도 횟수
+    private static final long SUBMIT_RETRY_DELAY_MS = 2_000;
+    private static final int SUBMIT_MAX_RETRIES = 60;
+
+    private final AnalysisSchedulerService analysisSchedulerService;
+    private final ImageAnalysisService imageAnalysisService;
+    private final LolAccountRepository lolAccountRepository;
+    private final MatchResolutionService matchResolutionService;
+    private final MatchRecordService matchRecordService;
+    private final GuildWriteLaneService guildWriteLaneService;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 한 작업이 스케줄러에 동시에 올려 두는 스크린샷 수 (서버별 대기 한도보다 작게 두어 다른 업로드가 끼어들 수 있게 함)
+    private final int maxInFlight;
+    private final Duration jobTtl;
+
+    public BulkAnalysisServiceImpl(AnalysisSchedulerService analysisSchedulerService,
+                                   ImageAnalysisService imageAnalysisService,
+                                   LolAccountRepository lolAccountRepository,
+                                   MatchResolutionService matchResolutionService,
+                                   MatchRecordService matchRecordService,
+                                   GuildWriteLaneService guildWriteLaneService,
+                                   RedisTemplate<String, Object> redisTemplate,
+                                   @Value("${spring.analysis.bulk.max-in-flight:4}") int maxInFlight,
+                                   @Value("${spring.analysis.bulk.job-ttl-hours:24}") long jobTtlHours) {
+        this.analysisSchedulerService = analysisSchedulerService;
+        this.imageAnalysisService = imageAnalysisService;
+        this.lolAccountRepository = lolAccountRepository;
+        this.matchResolutionService = matchResolutionService;
+        this.matchRecordService = matchRecordService;
+        this.guildWriteLaneService = guildWriteLaneService;
+        this.redisTemplate = redisTemplate;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.jobTtl = Duration.ofHours(jobTtlHours);
+    }
+
+    @Override
+    public BulkAnalysisResultDto analyze(Long discordServerId, Long discordUserId, List<ImageSource> sources,
+                                         boolean allowNearDuplicate, Consumer<BulkAnalysisResultDto> progressListener) {
+
+        // 같은 파일 구성이라도 서버/업로드한 사용자가 다르면 별도 작업 (다른 사람의 분석 결과를 재개/확정하지 않도록)
+        String jobId = ContentHash.sha256Hex(discordServerId + "\n" + discordUserId + "\n" + sources.stream()
+                .map(ImageSource::descriptor)
+                .collect(Collectors.joining("\n"))).substring(0, 16);
+        String jobKey = jobKey(discordServerId, jobId);
+
+        // 1. 이전 실행에서 분석이 끝난 항목은 그대로 사용 (실패 항목은 다시 분석)
+        Map<Integer, BulkAnalysisItemDto> finished = new ConcurrentHashMap<>();
+        loadItems(jobKey).forEach(item -> {
+            if (item.getStatus() == BulkAnalysisItemStatus.ANALYZED) {
+                finished.put(item.getOrdinal(), item);
+            }
+        });
+        int resumed = finished.size();
+        if (resumed > 0) {
+            log.info("🗂️ 일괄 분석 재개: 서버 {}, 작업 {}, {}/{}장 분석 완료 상태에서 시작", discordServerId, jobId, resumed, sources.size());
+        }
+
+        // 2. 계정 힌트는 작업당 한 번만 조회
+        List<LolAccount> accounts = lolAccountRepository.findAllByGuildServer_DiscordServerId(discordServerId);
+
+        // 3. 남은 스크린샷을 maxInFlight장씩 공유 스케줄러에 제출
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (int i = 0; i < sources.size(); i++) {
+            int ordinal = i + 1;
+            if (finished.containsKey(ordinal)) {
+                continue;
+            }
+            ImageSource source = sources.get(i);
+            inFlight.acquireUninterruptibly();
+
+            CompletableFuture<MatchRegistrationDto> analysis;
+            try {
+                analysis = submitWithRetry(discordServerId, () -> {
+                    try {
+                        return imageAnalysisService.analyzeAndStructureData(source.loader().load(), discordServerId, accounts, allowNearDuplicate);
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                });
+            } catch (IllegalArgumentException e) {
+                analysis = CompletableFuture.failedFuture(e);
+            }
+
+            pending.add(analysis.handle((match, error) -> {
+                try {
+                    BulkAnalysisItemDto item = toItem(ordinal, source.fileName(), match, error);
+                    finished.put(ordinal, item);
+                    checkpoint(jobKey, item);
+                } finally {
+                    // 저장이 실패해도 허가를 돌려주지 않으면 다음 제출이 영원히 대기합니다.
+                    inFlight.release();
+                }
+                progressListener.accept(toResult(jobId, sources.size(), resumed, finished, false));
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+
+        BulkAnalysisResultDto result = toResult(jobId, sources.size(), resumed, finished, true);
+        log.info("🗂️ 일괄 분석 완료: 서버 {}, 작업 {}, 분석 {}장, 실패 {}장", discordServerId, jobId,
+                result.getAnalyzedCount(), result.getFailedCount());
+        return result;
+    }
+
+    @Override
+    public MatchImportResultDto registerAll(Long discordServerId, String jobId) {
+        String jobKey = jobKey(discordServerId, jobId);
+        List<BulkAnalysisItemDto> items = loadItems(jobKey);
+
+        // 키 삭제에 성공한 요청만 등록을 진행 (중복 클릭/다중 노드에서 두 번 등록되지 않도록)
+        if (items.isEmpty() || !Boolean.TRUE.equals(redisTemplate.delete(jobKey))) {
+            throw new IllegalArgumentException("❌ 오류: 이 일괄 등록 작업은 만료되었거나 이미 처리되었습니다.");
+        }
+
+        List<BulkAnalysisItemDto> analyzed = items.stream()
+                .filter(item -> item.getStatus() == BulkAnalysisItemStatus.ANALYZED)
+                .toList();
+        List<String> errors = items.stream()
+                .filter(item -> item.getStatus() == BulkAnalysisItemStatus.FAILED)
+                .map(item -> formatError(item, item.getError()))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        long startedAt = System.currentTimeMillis();
+        MatchBatchResultDto batchResult = new MatchBatchResultDto();
+        if (!analyzed.isEmpty()) {
+            List<MatchRegistrationDto> matches = analyzed.stream().map(BulkAnalysisItemDto::getMatch).toList();
+            try {
+                // 이미지 등록 / 경기 가져오기와 같은 서버별 대기열에서 한 트랜잭션으로 등록
+                batchResult = registerInLane(discordServerId,
+                        () -> matchRecordService.registerMatches(matches, matchResolutionService.preload(discordServerId)));
+            } catch (CompletionException e) {
+                // 배치 트랜잭션이 DB 오류로 실패하면 어느 경기가 원인인지 알 수 없으므로 한 경기씩 다시 등록합니다.
+                log.warn("일괄 등록 배치 실패, 한 경기씩 다시 시도합니다 (서버 ID: {}, 작업: {}): {}",
+                        discordServerId, jobId, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                try {
+                    batchResult = registerInLane(discordServerId, () -> registerOneByOne(discordServerId, matches));
+                } catch (RuntimeException retry) {
+                    restoreItems(jobKey, items);
+                    throw unwrap(retry);
+                }
+            } catch (RuntimeException e) {
+                // 서버 대기열이 가득 찬 경우 등: 작업을 되돌려 다시 확정할 수 있게 함
+                restoreItems(jobKey, items);
+                throw e;
+            }
+        }
+        batchResult.getErrors().forEach((index, message) -> errors.add(formatError(analyzed.get(index), message)));
+
+        return MatchImportResultDto.builder()
+                .matchesRead(items.size())
+                .imported(batchResult.getRegisteredMatchIds().size())
+                .failed(errors.size())
+                .errors(errors)
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .completed(true)
+                .build();
+    }
+
+    @Override
+    public void cancel(Long discordServerId, String jobId) {
+        redisTemplate.delete(jobKey(discordServerId, jobId));
+    }
+
+    private MatchBatchResultDto registerInLane(Long discordServerId, java.util.function.Supplier<MatchBatchResultDto> task) {
+        return guildWriteLaneService.submit(discordServerId, task).join();
+    }
+
+    /**
+     * 경기마다 별도 트랜잭션으로 등록합니다. 한 경기의 저장 실패가 나머지 경기를 막지 않습니다.
+     */
+    private MatchBatchResultDto registerOneByOne(Long discordServerId, List<MatchRegistrationDto> matches) {
+        MatchResolutionCacheDto cache = matchResolutionService.preload(discordServerId);
+        MatchBatchResultDto result = new MatchBatchResultDto();
+        for (int i = 0; i < matches.size(); i++) {
+            try {
+                MatchBatchResultDto single = matchRecordService.registerMatches(List.of(matches.get(i)), cache);
+                single.getRegisteredMatchIds().forEach(result::addRegistered);
+                int index = i;
+                single.getErrors().values().forEach(message -> result.addError(index, message));
+            } catch (RuntimeException e) {
+                log.warn("일괄 등록 중 경기 저장 실패 (서버 ID: {}, {}번째): {}", discordServerId, i + 1, e.getMessage());
+                result.addError(i, "저장 실패: " + e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private RuntimeException unwrap(RuntimeException e) {
+        return e instanceof CompletionException && e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+
+    /**
+     * 다른 서버의 업로드로 공유 대기열이 가득 찼으면 잠시 기다렸다가 다시 제출합니다.
+     */
+    private CompletableFuture<MatchRegistrationDto> submitWithRetry(Long discordServerId,
+                                                                    java.util.function.Supplier<MatchRegistrationDto> task) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return analysisSchedulerService.submit(discordServerId, task, position -> { });
+            } catch (IllegalArgumentException e) {
+                if (attempt >= SUBMIT_MAX_RETRIES) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(SUBMIT_RETRY_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private BulkAnalysisItemDto toItem(int ordinal, String fileName, MatchRegistrationDto match, Throwable error) {
+        BulkAnalysisItemDto item = new BulkAnalysisItemDto();
+        item.setOrdinal(ordinal);
+        item.setFileName(fileName);
+        if (error == null) {
+            item.setStatus(BulkAnalysisItemStatus.ANALYZED);
+            item.setMatch(match);
+            return item;
+        }
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        item.setStatus(BulkAnalysisItemStatus.FAILED);
+        if (cause instanceof IllegalArgumentException) {
+            item.setError(cause.getMessage());
+        } else {
+            log.error("일괄 분석 중 오류 발생 ({}): {}", fileName, cause.getMessage(), cause);
+            item.setError("❌ 서버 오류: 이미지 분석 중 예상치 못한 오류가 발생했습니다.");
+        }
+        return item;
+    }
+
+    /**
+     * 분석이 끝난 항목을 Redis에 저장합니다. 저장에 실패해도 이번 실행의 결과에는 남고, 재개 시 해당 항목만 다시 분석됩니다.
+     */
+    private void checkpoint(String jobKey, BulkAnalysisItemDto item) {
+        try {
+            redisTemplate.opsForHash().put(jobKey, String.valueOf(item.getOrdinal()), item);
+            redisTemplate.expire(jobKey, jobTtl);
+        } catch (RuntimeException e) {
+            log.warn("일괄 분석 체크포인트 저장 실패 (작업 키: {}, {}번째): {}", jobKey, item.getOrdinal(), e.getMessage());
+        }
+    }
+
+    private List<BulkAnalysisItemDto> loadItems(String jobKey) {
+        return redisTemplate.opsForHash().values(jobKey).stream()
+                .filter(BulkAnalysisItemDto.class::isInstance)
+                .map(BulkAnalysisItemDto.class::cast)
+                .sorted(Comparator.comparingInt(BulkAnalysisItemDto::getOrdinal))
+                .toList();
+    }
+
+    private void restoreItems(String jobKey, List<BulkAnalysisItemDto> items) {
+        Map<String, Object> entries = new HashMap<>();
+        items.forEach(item -> entries.put(String.valueOf(item.getOrdinal()), item));
+        redisTemplate.opsForHash().putAll(jobKey, entries);
+        redisTemplate.expire(jobKey, jobTtl);
+    }
+
+    private BulkAnalysisResultDto toResult(String jobId, int total, int resumed, Map<Integer, BulkAnalysisItemDto> finished,
+                                           boolean completed) {
+        return BulkAnalysisResultDto.builder()
+                .jobId(jobId)
+                .total(total)
+                .resumed(resumed)
+                .items(finished.values().stream()
+                        .sorted(Comparator.comparingInt(BulkAnalysisItemDto::getOrdinal))
+                        .toList())
+                .completed(completed)
+                .build();
+    }
+
+    private String formatError(BulkAnalysisItemDto item, String message) {
+        return "#" + item.getOrdinal() + " " + item.getFileName() + ": " + message;
+    }
+
+    private String jobKey(Long discordServerId, String jobId) {
+        return JOB_PREFIX + discordServerId + ":" + jobId;
+    }
+}
@@ -6,12 +6,15 @@ import com.discordBot.demo.domain.repository.ChampionRepository;
 import com.discordBot.demo.domain.repository.GameVersionRepository;
 import com.discordBot.demo.service.ChampionService;
 import com.discordBot.demo.service.RiotApiService;
+import com.discordBot.demo.support.FuzzyNameIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,6 +30,12 @@ public class ChampionServiceImpl implements ChampionService {
     private final RiotApiService riotApiService;
     private final GameVersionRepository gameVersionRepository;
 
+    // OCR 보정에 필요한 최소 유사도 (트라이그램 Dice 계수)
+    private static final double CHAMPION_MIN_SIMILARITY = 0.5;
+
+    // 챔피언 이름/Key → 이름 색인. 처음 사용할 때 만들고, 챔피언 데이터가 갱신되면 버립니다.
+    private volatile FuzzyNameIndex<String> championNameIndex;
+
     @Override
     @Transactional
     public void updateChampionDataIfNecessary() {
@@ -85,6 +94,7 @@ public class ChampionServiceImpl implements ChampionService {
                 .collect(Collectors.toList());
 
         championRepository.saveAll(championsToSave);
+        championNameIndex = null;
 
         // ⭐ 3. DB에 성공적으로 업데이트된 최신 버전 기록
         // NOTE: 이전 버전이 있으면 삭제하지 않고 새 버전 레코드를 추가하여 히스토리를 유지합니다.
@@ -117,4 +127,38 @@ public class ChampionServiceImpl implements ChampionService {
                 .map(Champion::getName)
                 .collect(Collectors.toList());
     }
+
+    // 메모리 색인만 조회하므로 분석 스레드가 트랜잭션(커넥션)을 잡지 않도록 합니다. (색인 생성 시 조회는 리포지토리 트랜잭션 사용)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> correctChampionName(String ocrText) {
+        Optional<String> corrected = getChampionNameIndex().findBest(ocrText, CHAMPION_MIN_SIMILARITY)
+                .map(FuzzyNameIndex.Match::value);
+        corrected.filter(name -> !name.equals(ocrText))
+                .ifPresent(name -> log.debug("챔피언 이름 보정: '{}' → '{}'", ocrText, name));
+        return corrected;
+    }
+
+    private FuzzyNameIndex<String> getChampionNameIndex() {
+        FuzzyNameIndex<String> index = championNameIndex;
+        if (index == null) {
+            List<Map.Entry<String, String>> keyedNames = new ArrayList<>();
+            for (Champion champion : championRepository.findAll()) {
+                keyedNames.add(Map.entry(champion.getName(), champion.getName()));
+                keyedNames.add(Map.entry(champion.getChampionKey(), champion.getName()));
+            }
+            index = new FuzzyNameIndex<>(keyedNames);
+            championNameIndex = index;
+            log.info("✅ 챔피언 이름 보정 색인 생성: {}개 항목", index.size());
+        }
+        return index;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getChampionDataVersion() {
+        return gameVersionRepository.findTopByOrderByUpdateDateDesc()
+                .map(GameVersion::getVersion)
+                .orElse("unknown");
+    }
 }
@@ -2,6 +2,8 @@ package com.discordBot.demo.service.impl;
 
 import com.discordBot.demo.domain.dto.ChampionSearchDto;
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
 import com.discordBot.demo.domain.entity.Champion;
 import com.discordBot.demo.domain.entity.ChampionStats;
 import com.discordBot.demo.domain.entity.ChampionStatsId;
@@ -12,6 +14,7 @@ import com.discordBot.demo.domain.repository.UserRepository;
 import com.discordBot.demo.service.ChampionService;
 import com.discordBot.demo.service.ChampionStatsService;
 import com.discordBot.demo.service.ServerManagementService;
+import com.discordBot.demo.service.StatsUpsertService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +31,7 @@ public class ChampionStatsServiceImpl implements ChampionStatsService {
     private final ChampionService championService;
     private final UserRepository userRepository;
     private final ServerManagementService serverManagementService;
+    private final StatsUpsertService statsUpsertService;
 
     @Override
     @Transactional
@@ -70,6 +74,18 @@ public class ChampionStatsServiceImpl implements ChampionStatsService {
         championStatsRepository.save(stats);
     }
 
+    @Override
+    @Transactional
+    public void applyMatch(ResolvedMatchDto resolvedMatch) {
+        // (서버, 유저, 챔피언) 행에 증감분을 upsert로 바로 더합니다.
+        List<StatsDeltaDto> deltas = resolvedMatch.getPlayers().stream()
+                .filter(p -> p.getUser() != null)
+                .map(p -> StatsDeltaDto.from(resolvedMatch, p))
+                .collect(Collectors.toList());
+
+        statsUpsertService.upsertChampionStats(deltas);
+    }
+
     /**
      * 새로운 ChampionStats 레코드를 생성하고 복합 키를 설정합니다.
      */
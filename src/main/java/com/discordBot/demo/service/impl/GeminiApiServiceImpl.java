@@ -0,0 +1,416 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.service.GeminiApiService;
+import com.discordBot.demo.support.AdaptiveConcurrencyLimiter;
+import com.discordBot.demo.support.CircuitBreaker;
+import com.discordBot.demo.support.RollingPercentile;
+import com.google.genai.Client;
+import com.google.genai.errors.ApiException;
+import com.google.genai.types.Content;
+import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.HttpOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@Slf4j
+public class GeminiApiServiceImpl implements GeminiApiService {
+
+    // 쿼터 초과 응답 코드
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    // 다시 시도하면 성공할 수 있는 응답 코드 (쿼터 초과 / 서버 오류 / 일시적 과부하)
+    private static final Set<Integer> RETRYABLE_CODES = Set.of(TOO_MANY_REQUESTS, 500, 502, 503, 504);
+
+    // 헤지 지연 계산용 최근 응답 시간 표본 수 / 최소 표본 수
+    private static final int LATENCY_SAMPLES = 200;
+    private static final int MIN_LATENCY_SAMPLES = 20;
+
+    /**
+     * 실제 Gemini 호출 (테스트에서 대체할 수 있도록 분리)
+     */
+    @FunctionalInterface
+    public interface GeminiCall {
+        GenerateContentResponse generate(String modelName, List<Content> contents, GenerateContentConfig config);
+    }
+
+    private final GeminiCall geminiCall;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final CircuitBreaker circuitBreaker;
+    private final RollingPercentile latencyPercentile = new RollingPercentile(LATENCY_SAMPLES, MIN_LATENCY_SAMPLES);
+    private final ThreadPoolExecutor callExecutor;
+    private final ResilienceSettings settings;
+
+    private final Timer latencyTimer;
+    private final Counter rejectedCounter;
+    private final Counter throttledCounter;
+    private final Counter retryCounter;
+    private final Counter timeoutCounter;
+    private final Counter hedgeCounter;
+    private final Counter circuitOpenCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public GeminiApiServiceImpl(@Value("${spring.gemini.api.key}") String apiKey,
+                                ObjectProvider<GeminiCall> geminiCallOverride,
+                                MeterRegistry meterRegistry,
+                                @Value("${spring.gemini.concurrency.initial-limit:4}") int initialLimit,
+                                @Value("${spring.gemini.concurrency.min-limit:1}") int minLimit,
+                                @Value("${spring.gemini.concurrency.max-limit:16}") int maxLimit,
+                                @Value("${spring.gemini.concurrency.backoff-ratio:0.7}") double backoffRatio,
+                                @Value("${spring.gemini.concurrency.latency-tolerance:2.0}") double latencyTolerance,
+                                @Value("${spring.gemini.concurrency.max-wait-ms:30000}") long maxWaitMillis,
+                                @Value("${spring.gemini.resilience.timeout-ms:60000}") long timeoutMillis,
+                                @Value("${spring.gemini.resilience.max-attempts:3}") int maxAttempts,
+                                @Value("${spring.gemini.resilience.backoff-base-ms:1000}") long backoffBaseMillis,
+                                @Value("${spring.gemini.resilience.backoff-max-ms:8000}") long backoffMaxMillis,
+                                @Value("${spring.gemini.resilience.hedge.enabled:false}") boolean hedgeEnabled,
+                                @Value("${spring.gemini.resilience.hedge.min-delay-ms:2000}") long hedgeMinDelayMillis,
+                                @Value("${spring.gemini.resilience.circuit.failure-threshold:5}") int failureThreshold,
+                                @Value("${spring.gemini.resilience.circuit.open-ms:30000}") long openMillis) {
+        // 녹화/재생 프로필이면 해당 호출을, 아니면 실제 Gemini API를 사용합니다. (GeminiBackendConfig)
+        this(geminiCallOverride.getIfAvailable(() -> clientCall(apiKey, timeoutMillis)), meterRegistry,
+                new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance),
+                new CircuitBreaker(failureThreshold, TimeUnit.MILLISECONDS.toNanos(openMillis)),
+                new ResilienceSettings(maxWaitMillis, timeoutMillis, maxAttempts, backoffBaseMillis, backoffMaxMillis,
+                        hedgeEnabled, hedgeMinDelayMillis));
+    }
+
+    public GeminiApiServiceImpl(GeminiCall geminiCall, MeterRegistry meterRegistry, AdaptiveConcurrencyLimiter limiter,
+                         CircuitBreaker circuitBreaker, ResilienceSettings settings) {
+        this.geminiCall = geminiCall;
+        this.limiter = limiter;
+        this.circuitBreaker = circuitBreaker;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+
+        // 호출 스레드: 동시 호출은 limiter가 제한하므로, 마감 시간을 넘겨 응답을 기다리는 호출까지 감안해 여유 있게 둡니다.
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.callExecutor = new ThreadPoolExecutor(0, 64, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "gemini-call-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.latencyTimer = Timer.builder("image.analysis.gemini")
+                .description("Gemini 이미지 분석 호출 소요 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("gemini.concurrency.rejected")
+                .description("동시 실행 한도 대기 시간을 넘겨 거절된 Gemini 호출 수")
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("gemini.concurrency.throttled")
+                .description("Gemini가 429(쿼터 초과)로 거절한 호출 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("gemini.resilience.retries")
+                .description("일시적 오류로 다시 시도한 Gemini 호출 수")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("gemini.resilience.timeouts")
+                .description("마감 시간을 넘긴 Gemini 호출 수")
+                .register(meterRegistry);
+        this.hedgeCounter = Counter.builder("gemini.resilience.hedges")
+                .description("응답이 늦어 추가로 보낸 헤지 요청 수")
+                .register(meterRegistry);
+        this.circuitOpenCounter = Counter.builder("gemini.resilience.circuit.rejected")
+                .description("서킷 브레이커가 열려 즉시 거절한 Gemini 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("gemini.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 Gemini 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("gemini.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("실행 중인 Gemini 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("gemini.resilience.circuit.open", circuitBreaker, cb -> cb.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("서킷 브레이커 상태 (0: 정상, 1: 열림/시험 중)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 실제 Gemini API 호출
+     */
+    public static GeminiCall clientCall(String apiKey, long timeoutMillis) {
+        return createClient(apiKey, timeoutMillis).models::generateContent;
+    }
+
+    private static Client createClient(String apiKey, long timeoutMillis) {
+        // 전송 계층 타임아웃: 마감 시간을 넘긴 호출도 결국 소켓이 닫혀 호출 스레드가 풀려나도록 합니다.
+        HttpOptions httpOptions = HttpOptions.builder()
+                .timeout((int) Math.min(Integer.MAX_VALUE, timeoutMillis))
+                .build();
+        return Client.builder().apiKey(apiKey).httpOptions(httpOptions).build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callExecutor.shutdownNow();
+    }
+
+    @Override
+    public GenerateContentResponse generateContent(String modelName, List<Content> contents, GenerateContentConfig config) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitOpenCounter.increment();
+            throw new IllegalArgumentException("❌ 오류: AI 분석 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        RuntimeException lastFailure = null;
+        for (int attempt = 1; attempt <= settings.maxAttempts(); attempt++) {
+            try {
+                GenerateContentResponse response = attemptWithHedge(modelName, contents, config);
+                circuitBreaker.onSuccess();
+                recordTokenUsage(modelName, response);
+                return response;
+            } catch (RuntimeException e) {
+                if (!isRetryable(e)) {
+                    circuitBreaker.onIgnored();
+                    throw e;
+                }
+                lastFailure = e;
+                if (attempt < settings.maxAttempts()) {
+                    retryCounter.increment();
+                    long backoff = backoffMillis(attempt);
+                    log.warn("⚠️ Gemini 호출 실패 ({}번째 시도), {}ms 후 다시 시도합니다: {}", attempt, backoff, e.getMessage());
+                    sleep(backoff);
+                }
+            }
+        }
+
+        circuitBreaker.onFailure();
+        log.error("Gemini 호출이 {}번 모두 실패했습니다: {}", settings.maxAttempts(), lastFailure.getMessage(), lastFailure);
+        if (lastFailure instanceof GeminiTimeoutException) {
+            throw new IllegalArgumentException("❌ 오류: AI 분석 응답이 너무 늦어 중단했습니다. 잠시 후 다시 시도해 주세요.", lastFailure);
+        }
+        throw new IllegalArgumentException("❌ 오류: AI 분석 서비스 오류가 계속되어 분석하지 못했습니다. 잠시 후 다시 시도해 주세요.", lastFailure);
+    }
+
+    /**
+     * 응답의 사용량 정보로 호출당 토큰 수를 기록합니다. (gemini.tokens: 평균 = TOTAL / COUNT, type별로 입력/출력/추론 구분)
+     */
+    private void recordTokenUsage(String modelName, GenerateContentResponse response) {
+        if (response == null) {
+            return;
+        }
+        response.usageMetadata().ifPresent(usage -> {
+            int promptTokens = usage.promptTokenCount().orElse(0);
+            int responseTokens = usage.candidatesTokenCount().orElse(0);
+            int thoughtTokens = usage.thoughtsTokenCount().orElse(0);
+            tokenSummary(modelName, "prompt").record(promptTokens);
+            tokenSummary(modelName, "response").record(responseTokens);
+            tokenSummary(modelName, "thoughts").record(thoughtTokens);
+            tokenSummary(modelName, "total").record(usage.totalTokenCount().orElse(promptTokens + responseTokens + thoughtTokens));
+            log.debug("Gemini 토큰 사용량 ({}): 입력 {}, 출력 {}, 추론 {}", modelName, promptTokens, responseTokens, thoughtTokens);
+        });
+    }
+
+    private DistributionSummary tokenSummary(String modelName, String type) {
+        return DistributionSummary.builder("gemini.tokens")
+                .description("Gemini 호출 1회의 토큰 수")
+                .baseUnit("tokens")
+                .tag("model", modelName)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 번의 시도: 마감 시간 안에 응답을 기다리고, 헤지가 켜져 있으면 최근 p95만큼 지나도 응답이 없을 때 같은 요청을 하나 더 보냅니다.
+     * 먼저 성공한 응답을 사용하며, 늦게 끝난 요청은 결과만 버려집니다.
+     */
+    private GenerateContentResponse attemptWithHedge(String modelName, List<Content> contents, GenerateContentConfig config) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.timeoutMillis());
+        CompletableFuture<GenerateContentResponse> primary = launch(modelName, contents, config, true);
+
+        long hedgeDelay = hedgeDelayMillis();
+        if (hedgeDelay > 0 && hedgeDelay < settings.timeoutMillis()) {
+            try {
+                return primary.get(hedgeDelay, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 헤지 요청은 남는 슬롯이 있을 때만 보냅니다. (한도를 넘겨 쿼터를 소모하지 않도록)
+                CompletableFuture<GenerateContentResponse> hedge = launch(modelName, contents, config, false);
+                if (hedge != null) {
+                    hedgeCounter.increment();
+                    log.info("🪁 Gemini 응답이 {}ms를 넘어 헤지 요청을 보냅니다.", hedgeDelay);
+                    return await(firstSuccessful(primary, hedge), deadline);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Gemini 응답 대기 중 인터럽트되었습니다.", e);
+            } catch (ExecutionException e) {
+                // 헤지 지연 전에 실패: 아래에서 같은 방식으로 원인 예외를 꺼냅니다.
+                return await(primary, deadline);
+            }
+        }
+        return await(primary, deadline);
+    }
+
+    /**
+     * 호출을 별도 스레드에서 시작합니다. waitForSlot이 false면 limiter 슬롯이 바로 없을 때 null을 반환합니다.
+     */
+    private CompletableFuture<GenerateContentResponse> launch(String modelName, List<Content> contents,
+                                                             GenerateContentConfig config, boolean waitForSlot) {
+        if (!acquireSlot(waitForSlot ? settings.maxWaitMillis() : 0)) {
+            if (!waitForSlot) {
+                return null;
+            }
+            rejectedCounter.increment();
+            log.warn("⚠️ Gemini 동시 호출 한도({}) 초과로 요청을 거절했습니다.", limiter.getLimit());
+            throw new IllegalArgumentException("❌ 오류: AI 분석 요청이 몰려 있습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> callWithSlot(modelName, contents, config), callExecutor);
+        } catch (RejectedExecutionException e) {
+            limiter.onIgnore();
+            if (!waitForSlot) {
+                return null;
+            }
+            throw new IllegalArgumentException("❌ 오류: AI 분석 요청이 몰려 있습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+    }
+
+    /**
+     * 슬롯은 호출이 실제로 끝날 때 반납합니다. (마감 시간을 넘겨 포기한 호출도 끝날 때까지 한도에 포함)
+     */
+    private GenerateContentResponse callWithSlot(String modelName, List<Content> contents, GenerateContentConfig config) {
+        long startedAt = System.nanoTime();
+        try {
+            GenerateContentResponse response = geminiCall.generate(modelName, contents, config);
+            long latency = System.nanoTime() - startedAt;
+            latencyTimer.record(latency, TimeUnit.NANOSECONDS);
+            latencyPercentile.record(TimeUnit.NANOSECONDS.toMillis(latency));
+            limiter.onSuccess(latency);
+            return response;
+        } catch (ApiException e) {
+            if (e.code() == TOO_MANY_REQUESTS) {
+                throttledCounter.increment();
+                limiter.onDropped();
+                log.warn("⚠️ Gemini 쿼터 초과(429): 동시 호출 한도를 {}로 낮춥니다.", limiter.getLimit());
+            } else {
+                limiter.onIgnore();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            limiter.onIgnore();
+            throw e;
+        }
+    }
+
+    private boolean acquireSlot(long waitMillis) {
+        try {
+            return limiter.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private GenerateContentResponse await(CompletableFuture<GenerateContentResponse> future, long deadlineNanos) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            throw new GeminiTimeoutException("Gemini 응답 마감 시간(" + settings.timeoutMillis() + "ms) 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Gemini 응답 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause()
+                    : e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private long hedgeDelayMillis() {
+        if (!settings.hedgeEnabled()) {
+            return -1;
+        }
+        long p95 = latencyPercentile.percentile(0.95);
+        return p95 < 0 ? -1 : Math.max(settings.hedgeMinDelayMillis(), p95);
+    }
+
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> first, CompletableFuture<T> second) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        for (CompletableFuture<T> future : List.of(first, second)) {
+            future.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    result.complete(value);
+                } else if (remaining.decrementAndGet() == 0) {
+                    result.completeExceptionally(failure);
+                }
+            });
+        }
+        return result;
+    }
+
+    static boolean isRetryable(Throwable e) {
+        if (e instanceof GeminiTimeoutException) {
+            return true;
+        }
+        if (e instanceof ApiException apiException) {
+            return RETRYABLE_CODES.contains(apiException.code());
+        }
+        // 연결 끊김 / 소켓 타임아웃 등 전송 계층 오류
+        return e.getCause() instanceof IOException;
+    }
+
+    /**
+     * 지수 백오프 + 전체 지터: [0, min(max, base * 2^(attempt-1))] 구간에서 무작위로 기다려 재시도가 한꺼번에 몰리지 않도록 합니다.
+     */
+    private long backoffMillis(int attempt) {
+        long cap = Math.min(settings.backoffMaxMillis(), settings.backoffBaseMillis() << Math.min(20, attempt - 1));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Gemini 재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * 한 번의 시도가 마감 시간을 넘긴 경우 (재시도 대상)
+     */
+    static class GeminiTimeoutException extends RuntimeException {
+        GeminiTimeoutException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 마감 시간 / 재시도 / 헤지 설정
+     */
+    public record ResilienceSettings(long maxWaitMillis, long timeoutMillis, int maxAttempts,
+                              long backoffBaseMillis, long backoffMaxMillis,
+                              boolean hedgeEnabled, long hedgeMinDelayMillis) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.service.GuildPromptHintService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class GuildPromptHintServiceImpl implements GuildPromptHintService {
+
+    // key: 디스코드 서버 ID, value: 렌더링된 선호 라인 힌트
+    // 봇이 들어간 서버 수만큼 늘어나지 않도록 크기를 제한하고, 무효화를 놓친 경우에도 일정 시간 뒤 다시 만듭니다.
+    private final Cache<Long, String> preferredLaneHints;
+
+    public GuildPromptHintServiceImpl(@Value("${spring.analysis.prompt-hint.max-guilds:1000}") long maxGuilds,
+                                      @Value("${spring.analysis.prompt-hint.ttl-minutes:60}") long ttlMinutes) {
+        this.preferredLaneHints = Caffeine.newBuilder()
+                .maximumSize(maxGuilds)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    @Override
+    public String getPreferredLaneHint(Long discordServerId, List<LolAccount> registeredAccounts) {
+        return preferredLaneHints.get(discordServerId, serverId -> {
+            String hint = render(registeredAccounts);
+            log.debug("서버 {} 선호 라인 힌트 생성 ({}자)", serverId, hint.length());
+            return hint;
+        });
+    }
+
+    @Override
+    public void invalidate(Long discordServerId) {
+        // 커밋 전에 비우면 그 사이 분석이 이전 계정 목록으로 다시 채울 수 있으므로 커밋 후에 비웁니다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    preferredLaneHints.invalidate(discordServerId);
+                }
+            });
+            return;
+        }
+        preferredLaneHints.invalidate(discordServerId);
+    }
+
+    /**
+     * 계정마다 "게임이름:라인,라인" 한 항목을 만들고 "; "로 잇습니다. 토큰을 줄이려고 태그는 넣지 않고, 선호 라인이 없는 계정은 뺍니다.
+     * 항목과 라인은 정렬해 같은 계정 구성이면 항상 같은 문자열이 되도록 합니다. (이름 보정과 라인 배정은 분석 후 전체 계정 목록으로 다시 수행)
+     */
+    private String render(List<LolAccount> registeredAccounts) {
+        return registeredAccounts.stream()
+                .filter(account -> !account.getPreferredLines().isEmpty())
+                .map(account -> account.getGameName() + ":" + account.getPreferredLines().stream()
+                        .map(line -> line.getName().toUpperCase())
+                        .sorted()
+                        .collect(Collectors.joining(",")))
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,32 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.service.GuildStatsLockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class GuildStatsLockServiceImpl implements GuildStatsLockService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockShared(Long serverId) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock_shared(?)", rs -> null, serverId);
+    }
+
+    @Override
+    public boolean tryLockShared(Long serverId) {
+        Boolean acquired = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock_shared(?)", Boolean.class, serverId);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    @Override
+    public void lockExclusive(Long serverId) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> null, serverId);
+    }
+}
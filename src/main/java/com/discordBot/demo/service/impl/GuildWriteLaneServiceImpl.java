@@ -0,0 +1,141 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.service.GuildWriteLaneService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class GuildWriteLaneServiceImpl implements GuildWriteLaneService {
+
+    // 한 번 워커를 잡았을 때 연속으로 처리할 최대 작업 수 (다른 서버가 오래 기다리지 않도록 양보)
+    private static final int MAX_TASKS_PER_TURN = 8;
+
+    private final ThreadPoolExecutor workers;
+    private final int maxQueueDepth;
+
+    private final ConcurrentMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger totalDepth = new AtomicInteger();
+
+    public GuildWriteLaneServiceImpl(MeterRegistry meterRegistry,
+                                     @Value("${spring.ingest.workers:0}") int workerCount,
+                                     @Value("${spring.ingest.max-queue-per-guild:50}") int maxQueueDepth) {
+        int threads = workerCount > 0 ? workerCount : Math.max(2, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadIndex = new AtomicInteger();
+
+        // 워커 풀 대기열에는 서버당 최대 하나의 "차례"만 들어가므로 서버 수 이상으로 커지지 않습니다.
+        this.workers = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "guild-write-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.workers.allowCoreThreadTimeOut(true);
+        this.maxQueueDepth = maxQueueDepth;
+
+        // 서버별 게이지는 서버 수만큼 계열이 늘어나므로 합계만 지표로 내보냅니다. (서버별 깊이는 /actuator/ingestqueues)
+        Gauge.builder("match.ingest.queue.depth.total", totalDepth, AtomicInteger::get)
+                .description("모든 서버의 경기 등록 대기열 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Long discordServerId, Supplier<T> task) {
+        Lane lane = lanes.computeIfAbsent(discordServerId, id -> new Lane());
+
+        if (lane.depth.incrementAndGet() > maxQueueDepth) {
+            lane.depth.decrementAndGet();
+            throw new IllegalArgumentException("❌ 오류: 이 서버의 경기 등록 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        totalDepth.incrementAndGet();
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        lane.tasks.add(() -> {
+            T result = null;
+            Throwable failure = null;
+            try {
+                result = task.get();
+            } catch (Throwable e) {
+                failure = e;
+            }
+            // 대기열 깊이를 먼저 줄인 뒤 완료를 알립니다. (완료 콜백에서 깊이를 조회해도 정확하도록)
+            lane.depth.decrementAndGet();
+            totalDepth.decrementAndGet();
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        });
+        schedule(lane);
+        return future;
+    }
+
+    @Override
+    public int getQueueDepth(Long discordServerId) {
+        Lane lane = lanes.get(discordServerId);
+        return lane == null ? 0 : lane.depth.get();
+    }
+
+    @Override
+    public Map<Long, Integer> getQueueDepths() {
+        Map<Long, Integer> depths = new HashMap<>();
+        lanes.forEach((serverId, lane) -> {
+            int depth = lane.depth.get();
+            if (depth > 0) {
+                depths.put(serverId, depth);
+            }
+        });
+        return depths;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * 서버 대기열이 워커를 잡고 있지 않을 때만 차례를 넣습니다. (서버당 동시에 하나의 워커만 실행)
+     */
+    private void schedule(Lane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            workers.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(Lane lane) {
+        try {
+            for (int i = 0; i < MAX_TASKS_PER_TURN; i++) {
+                Runnable next = lane.tasks.poll();
+                if (next == null) {
+                    break;
+                }
+                next.run();
+            }
+        } finally {
+            lane.scheduled.set(false);
+            // 차례를 반납한 직후 들어온 작업이 있으면 다시 차례를 잡습니다.
+            if (!lane.tasks.isEmpty()) {
+                schedule(lane);
+            }
+        }
+    }
+
+    private static final class Lane {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+}
@@ -2,25 +2,43 @@ package com.discordBot.demo.service.impl;
 
 import com.discordBot.demo.domain.dto.MatchRegistrationDto;
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.PreprocessedImageDto;
 import com.discordBot.demo.domain.entity.LolAccount;
-import com.discordBot.demo.domain.entity.Line;
-import com.discordBot.demo.domain.repository.LineRepository;
+import com.discordBot.demo.domain.repository.MatchRecordRepository;
+import com.discordBot.demo.service.AnalysisResultCacheService;
 import com.discordBot.demo.service.ChampionService;
+import com.discordBot.demo.service.GeminiApiService;
+import com.discordBot.demo.service.GuildPromptHintService;
 import com.discordBot.demo.service.ImageAnalysisService;
-import com.discordBot.demo.service.RiotApiService;
+import com.discordBot.demo.service.ImagePreprocessingService;
+import com.discordBot.demo.service.LaneAssignmentService;
+import com.discordBot.demo.service.ScoreboardIconService;
+import com.discordBot.demo.service.ScoreboardOcrService;
+import com.discordBot.demo.support.AccountNameMatcher;
+import com.discordBot.demo.support.ContentHash;
+import com.discordBot.demo.support.MatchStructureValidator;
+import com.discordBot.demo.support.PerceptualHash;
+import com.discordBot.demo.support.ScoreboardDigitReader;
+import com.discordBot.demo.support.ScoreboardIconReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
-import com.google.genai.Client;
 import com.google.genai.types.Content;
 import com.google.genai.types.Part;
 import com.google.genai.types.GenerateContentResponse;
 import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.Schema;
+import com.google.genai.types.Type;
 
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -32,20 +50,45 @@ import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class ImageAnalysisServiceImpl implements ImageAnalysisService {
 
-    private final Client geminiClient;
-    private final String modelName = "gemini-2.5-flash";
+    private final GeminiApiService geminiApiService;
+
+    // 모델 라우팅: 빠른 모델 결과가 로컬 검사를 통과하지 못할 때만 강한 모델로 다시 분석 (빠른 모델이 비어 있으면 강한 모델만 사용)
+    private final String fastModelName;
+    private final String strongModelName;
+
+    // Gemini 응답을 이 스키마의 JSON으로 강제합니다. (코드 펜스/설명문 없이 바로 파싱 가능)
+    private static final Schema RESPONSE_SCHEMA = buildResponseSchema();
 
     private final ObjectMapper objectMapper;
     private final OkHttpClient httpClient;
     private final ChampionService championService;
-    private final RiotApiService riotApiService;
-    private final LineRepository lineRepository;
+    private final LaneAssignmentService laneAssignmentService;
+    private final AnalysisResultCacheService analysisResultCacheService;
+    private final MatchRecordRepository matchRecordRepository;
+    private final ImagePreprocessingService imagePreprocessingService;
+    private final GuildPromptHintService guildPromptHintService;
+    private final ScoreboardOcrService scoreboardOcrService;
+    private final ScoreboardIconService scoreboardIconService;
+
+    // OCR로 읽은 Riot ID를 등록 계정으로 보정할 최소 유사도 (트라이그램 Dice 계수)
+    private static final double ACCOUNT_MIN_SIMILARITY = 0.6;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter fastAcceptedCounter;
+
+    // 이 해밍 거리 이하의 스크린샷은 이미 등록된 경기의 재캡처로 봅니다. (64비트 중, 음수면 검사 안 함)
+    private final int nearDuplicateMaxDistance;
 
     @Value("classpath:prompts/match_data_prompt.txt")
     private Resource matchDataPromptResource;
@@ -55,21 +98,42 @@ public class ImageAnalysisServiceImpl implements ImageAnalysisService {
 
     private String matchDataPromptTemplate;
     private String systemInstruction;
-    private List<Line> allLines;
 
 
     public ImageAnalysisServiceImpl(
-            @Value("${spring.gemini.api.key}") String apiKey,
+            GeminiApiService geminiApiService,
             ChampionService championService,
-            RiotApiService riotApiService,
-            LineRepository lineRepository
+            LaneAssignmentService laneAssignmentService,
+            AnalysisResultCacheService analysisResultCacheService,
+            MatchRecordRepository matchRecordRepository,
+            ImagePreprocessingService imagePreprocessingService,
+            GuildPromptHintService guildPromptHintService,
+            ScoreboardOcrService scoreboardOcrService,
+            ScoreboardIconService scoreboardIconService,
+            MeterRegistry meterRegistry,
+            @Value("${spring.analysis.near-duplicate.max-distance:5}") int nearDuplicateMaxDistance,
+            @Value("${spring.gemini.routing.fast-model:gemini-2.5-flash-lite}") String fastModelName,
+            @Value("${spring.gemini.routing.strong-model:gemini-2.5-flash}") String strongModelName
     ) {
-        this.geminiClient = Client.builder().apiKey(apiKey).build();
+        this.geminiApiService = geminiApiService;
         this.objectMapper = new ObjectMapper();
         this.httpClient = new OkHttpClient();
         this.championService = championService;
-        this.riotApiService = riotApiService;
-        this.lineRepository = lineRepository;
+        this.laneAssignmentService = laneAssignmentService;
+        this.analysisResultCacheService = analysisResultCacheService;
+        this.matchRecordRepository = matchRecordRepository;
+        this.nearDuplicateMaxDistance = nearDuplicateMaxDistance;
+        this.imagePreprocessingService = imagePreprocessingService;
+        this.guildPromptHintService = guildPromptHintService;
+        this.scoreboardOcrService = scoreboardOcrService;
+        this.scoreboardIconService = scoreboardIconService;
+        this.meterRegistry = meterRegistry;
+        this.fastModelName = StringUtils.hasText(fastModelName) && !fastModelName.equals(strongModelName) ? fastModelName : null;
+        this.strongModelName = strongModelName;
+        this.fastAcceptedCounter = Counter.builder("image.analysis.routing")
+                .description("빠른 모델 결과를 그대로 사용한 분석 수")
+                .tag("outcome", "fast")
+                .register(meterRegistry);
     }
 
     @PostConstruct
@@ -85,15 +149,23 @@ public class ImageAnalysisServiceImpl implements ImageAnalysisService {
                     StandardCharsets.UTF_8
             );
 
-            this.allLines = lineRepository.findAll();
-
-            log.info("✅ 프롬프트 템플릿 및 라인 데이터 로드 완료.");
+            log.info("✅ 프롬프트 템플릿 로드 완료.");
         } catch (IOException e) {
             log.error("❌ 리소스 파일 로드 실패: {}", e.getMessage(), e);
             throw new RuntimeException("프롬프트 파일 초기화 실패", e);
         }
     }
 
+    /**
+     * Gemini 응답은 받았지만 결과를 쓸 수 없는 경우 (승패 문구 / 필수 값 / 선수 목록 누락)
+     * 사용자에게는 다른 IllegalArgumentException처럼 메시지를 그대로 보여 주고, 모델 라우팅에서는 이 경우만 강한 모델로 다시 분석합니다.
+     */
+    static final class AnalysisResultRejectedException extends IllegalArgumentException {
+        AnalysisResultRejectedException(String message) {
+            super(message);
+        }
+    }
+
     // JSON 응답 구조
     @JsonIgnoreProperties(ignoreUnknown = true)
     private static class JsonExtractionResult {
@@ -105,101 +177,219 @@ public class ImageAnalysisServiceImpl implements ImageAnalysisService {
     }
 
     @Override
-    public MatchRegistrationDto analyzeAndStructureData(String imageUrl, Long serverId, List<LolAccount> registeredAccounts) throws Exception {
-
-        byte[] imageBytes = downloadImageBytes(imageUrl);
-
-        // 1. 힌트 목록 생성
-        String userHintList = registeredAccounts.stream()
-                .map(LolAccount::getFullAccountName)
-                .collect(Collectors.joining(", "));
-        String championHintList = String.join(", ", championService.getAllChampionNamesForHint());
-
-        String preferredLaneHintList = registeredAccounts.stream()
-                .map(acc -> {
-                    // 해당 계정의 모든 선호 라인 이름을 쉼표로 연결
-                    String preferredLanesCsv = acc.getPreferredLines().stream()
-                            .map(line -> line.getName().toUpperCase())
-                            .collect(Collectors.joining(","));
+    public MatchRegistrationDto analyzeAndStructureData(String imageUrl, Long serverId, List<LolAccount> registeredAccounts,
+                                                        boolean allowNearDuplicate) throws Exception {
+        return analyzeAndStructureData(downloadImageBytes(imageUrl), serverId, registeredAccounts, allowNearDuplicate);
+    }
 
-                    String displayLanes = StringUtils.hasText(preferredLanesCsv) ? preferredLanesCsv : "UNKNOWN";
+    @Override
+    public MatchRegistrationDto analyzeAndStructureData(byte[] originalBytes, Long serverId, List<LolAccount> registeredAccounts,
+                                                        boolean allowNearDuplicate) throws Exception {
 
-                    // Riot ID#TagLine:PREF_LANE_1,PREF_LANE_2 형식으로 문자열 생성
-                    return String.format("%s#%s:%s", acc.getGameName(), acc.getTagLine(), displayLanes);
-                })
-                .collect(Collectors.joining(", "));
+        // 0. 전처리 (형식 감지 → 여백 자르기 → 축소 → JPEG 재인코딩)
+        PreprocessedImageDto image = imagePreprocessingService.preprocess(originalBytes);
+        byte[] imageBytes = image.getBytes();
 
+        // 재압축/해상도만 다른 같은 화면이면 Gemini 호출 전에 중단 (등록 단계의 시간/골드 중복 검사보다 먼저 걸러 API 비용 절약)
+        Long screenshotHash = computeScreenshotHash(imageBytes);
+        if (screenshotHash != null && !allowNearDuplicate) {
+            rejectNearDuplicate(serverId, screenshotHash);
+        }
 
-        // ⭐⭐ 2. 라인 추정을 위한 시각적 힌트 URL 획득 ⭐⭐
-        String smiteUrl = riotApiService.getSmiteIconUrl();
-        List<String> supportItemUrls = riotApiService.getSupportItemIconUrls();
-        String supportItemUrlsString = String.join(", ", supportItemUrls); // 리스트를 단일 문자열로 변환
+        // 점수판 숫자/아이콘 로컬 인식은 Gemini 호출과 병렬로 진행 (축소 전 원본 해상도로 읽음)
+        CompletableFuture<List<ScoreboardDigitReader.Row>> digitRows = scoreboardOcrService.readAsync(originalBytes);
+        CompletableFuture<List<ScoreboardIconReader.Row>> iconRows = scoreboardIconService.readAsync(originalBytes);
 
-        // 3. 최종 프롬프트 결합 (6개 인자 순서에 맞춰 재구성)
-        // 가정된 %s 순서: [Champion List 1], [Champion List 2], [Smite URL], [Support URLs], [User Hint List], [NEW: Preferred Lane List]
+        // 1. 힌트 목록 생성
+        // 챔피언 목록/Riot ID 목록은 더 이상 프롬프트로 보내지 않고, 응답을 받은 뒤 로컬 색인으로 보정합니다.
+        // 선호 라인 힌트는 서버별로 캐시해 두고 계정이 바뀔 때만 다시 만듭니다.
+        String preferredLaneHintList = guildPromptHintService.getPreferredLaneHint(serverId, registeredAccounts);
 
+        // 2. 최종 프롬프트 결합
+        // 강타/서포터 아이템 참고 이미지 URL은 모델이 열어 볼 수 없으므로 보내지 않고, 아이콘은 로컬에서 따로 확인합니다.
         String combinedPrompt = String.format(
                 matchDataPromptTemplate,
-                championHintList,      // 1. Champion 힌트 (OCR 보정)
-                championHintList,      // 2. Champion 힌트 (Final Validation)
-                smiteUrl,              // 3. Smite Icon URL
-                supportItemUrlsString, // 4. Support Item URLs String
-                userHintList,          // 5. Riot ID 힌트
-                preferredLaneHintList  // 6. NEW: 선호 라인 힌트 (프롬프트에 직접 전달)
+                preferredLaneHintList  // 선호 라인 힌트 (프롬프트에 직접 전달)
         );
 
-        // Gemini API 호출
-        GenerateContentResponse response = callGeminiApi(combinedPrompt, imageBytes);
-        String rawJsonString = extractRawJsonText(response);
-        JsonExtractionResult extractionResult = parseAndValidateJson(rawJsonString);
-
-        // ⭐⭐ 4. 라인 추정 후처리 (Gemini가 UNKNOWN으로 반환한 경우 - 최종 안전망) ⭐⭐
-        for (PlayerStatsDto playerDto : extractionResult.players) {
-
-            String geminiLane = playerDto.getLaneName();
-
-            // Gemini가 라인을 추정하지 못했거나, 지원하지 않는 라인 코드를 반환한 경우
-            if (!StringUtils.hasText(geminiLane) || geminiLane.equalsIgnoreCase("UNKNOWN") || !isValidLine(geminiLane)) {
-
-                // 등록된 LolAccount를 찾아 선호 라인 정보를 확인
-                LolAccount account = registeredAccounts.stream()
-                        .filter(a -> a.getGameName().equalsIgnoreCase(playerDto.getLolGameName()))
-                        .findFirst()
-                        .orElse(null);
-
-                if (account != null && account.getPreferredLines() != null && !account.getPreferredLines().isEmpty()) {
-                    // 선호 라인 중 첫 번째 라인을 라인으로 설정 (여전히 UNKNOWN인 경우)
-                    String assumedLane = account.getPreferredLines().iterator().next().getName();
-                    playerDto.setLaneName(assumedLane);
-                    // 로그 메시지 수정: 이제 Gemini는 이 정보를 '힌트'로 받았지만, 최종적으로 'UNKNOWN'을 반환하여 후처리 로직이 실행되었음을 알림.
-                    log.info("⚠️ Gemini returned UNKNOWN. Overriding with preferred lane '{}' for player {}.", assumedLane, playerDto.getLolGameName());
-                } else {
-                    // 최종적으로도 추정 불가
-                    playerDto.setLaneName("UNKNOWN");
-                    log.info("❌ No preferred lane found or assigned for player {}. Final lane: UNKNOWN.", playerDto.getLolGameName());
+        // Gemini API 호출 (같은 이미지 + 챔피언 데이터 버전 + 프롬프트면 캐시된 JSON 재사용, 동시 요청은 한 번만 호출)
+        // 검증을 통과한 JSON만 캐시되므로, 실패한 분석은 다음 업로드에서 다시 시도됩니다.
+        String cacheKey = championService.getChampionDataVersion() + ":" + ContentHash.sha256Hex(imageBytes)
+                + ":" + ContentHash.sha256Hex(combinedPrompt).substring(0, 16);
+        // 캐시 미스로 직접 호출한 경우엔 로더에서 파싱한 결과를 그대로 쓰고, 캐시 적중/합류한 경우에만 한 번 파싱합니다.
+        AtomicReference<JsonExtractionResult> loadedResult = new AtomicReference<>();
+        String rawJsonString = analysisResultCacheService.getOrLoad(cacheKey,
+                () -> analyzeWithRouting(combinedPrompt, imageBytes, image.getMimeType(), registeredAccounts, loadedResult));
+        JsonExtractionResult extractionResult = loadedResult.get() != null
+                ? loadedResult.get()
+                : parseAndValidateJson(rawJsonString);
+
+        // 4. OCR 이름 보정: 챔피언 이름과 Riot ID를 유효한 값으로 맞춤 (수정 모달까지 가는 일을 줄임)
+        correctExtractedNames(extractionResult.players, registeredAccounts);
+
+        // 4-1. 숫자 교차 검증: KDA/피해량/골드가 로컬 인식 값과 다르면 확인 화면에 경고 (fill 모드면 로컬 값으로 교체)
+        scoreboardOcrService.crossCheck(extractionResult.players, digitRows.join());
+
+        // 4-2. 아이콘 근거: 초상화로 선수를 찾아 화면에서 확인한 강타/서포터 아이템 여부로 채움 (Gemini 판단보다 우선)
+        scoreboardIconService.applyIconEvidence(extractionResult.players, iconRows.join());
+
+        // 5. 라인 배정: 팀별로 5개 라인을 중복 없이 배정 (Gemini 추정 + 강타/서포터 아이템 + 선호 라인 + 플레이 기록)
+        laneAssignmentService.assignLanes(extractionResult.players, registeredAccounts);
+
+        // 6. 최종 DTO 조립 및 반환
+        MatchRegistrationDto finalDto = buildFinalMatchDto(extractionResult, serverId);
+        finalDto.setScreenshotHash(screenshotHash);
+        return finalDto;
+    }
+
+    /**
+     * 빠른 모델로 먼저 분석하고, 결과가 로컬 검사(인원/팀 구성/경기 시간 대비 골드/이름 보정 가능 여부)를 통과하지 못하면 강한 모델로 다시 분석합니다.
+     * 강한 모델의 결과는 검사에 걸려도 그대로 사용합니다. (확인 화면에서 수정)
+     */
+    private String analyzeWithRouting(String prompt, byte[] imageBytes, String mimeType, List<LolAccount> registeredAccounts,
+                                      AtomicReference<JsonExtractionResult> loadedResult) throws Exception {
+        // 분석 1건이 쓴 토큰 합계 (다시 분석하면 빠른 모델 + 강한 모델 호출을 합산)
+        AtomicInteger analysisTokens = new AtomicInteger();
+        String route = "strong";
+        try {
+            if (fastModelName != null) {
+                route = "fast";
+                String escalationReason;
+                try {
+                    String json = analyzeWithModel("fast", fastModelName, prompt, imageBytes, mimeType, analysisTokens);
+                    JsonExtractionResult fastResult = parseAndValidateJson(json);
+                    List<String> problems = findStructuralProblems(fastResult, registeredAccounts);
+                    if (problems.isEmpty()) {
+                        fastAcceptedCounter.increment();
+                        loadedResult.set(fastResult);
+                        return json;
+                    }
+                    escalationReason = "validation";
+                    log.info("⤴️ 빠른 모델 결과가 검사를 통과하지 못해 {}로 다시 분석합니다: {}", strongModelName, problems);
+                } catch (AnalysisResultRejectedException | JsonProcessingException e) {
+                    // 승패 문구/필수 값 누락, JSON 파싱 실패도 빠른 모델의 한계일 수 있으므로 강한 모델에 한 번 더 맡깁니다.
+                    // 호출 자체의 실패(회로 열림, 동시 실행 한도, 재시도 소진, 시간 초과)는 강한 모델도 같은 창구를 쓰므로 그대로 전달합니다.
+                    escalationReason = "error";
+                    log.info("⤴️ 빠른 모델 분석 실패로 {}로 다시 분석합니다: {}", strongModelName, e.getMessage());
                 }
+                route = "escalated";
+                Counter.builder("image.analysis.routing")
+                        .description("강한 모델로 다시 분석한 분석 수")
+                        .tag("outcome", "escalated")
+                        .tag("reason", escalationReason)
+                        .register(meterRegistry)
+                        .increment();
             }
 
-            // DB에 저장될 라인 이름이 Line 엔티티의 NAME 필드와 일치하도록 대문자화 (UNKNOWN은 그대로 유지)
-            if (!playerDto.getLaneName().equals("UNKNOWN")) {
-                playerDto.setLaneName(playerDto.getLaneName().toUpperCase());
+            String json = analyzeWithModel("strong", strongModelName, prompt, imageBytes, mimeType, analysisTokens);
+            loadedResult.set(parseAndValidateJson(json));
+            return json;
+        } finally {
+            recordAnalysisTokens(route, analysisTokens.get());
+        }
+    }
+
+    private String analyzeWithModel(String tier, String modelName, String prompt, byte[] imageBytes, String mimeType,
+                                    AtomicInteger analysisTokens) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            GenerateContentResponse response = callGeminiApi(modelName, prompt, imageBytes, mimeType);
+            if (response != null) {
+                response.usageMetadata()
+                        .flatMap(usage -> usage.totalTokenCount())
+                        .ifPresent(analysisTokens::addAndGet);
             }
+            return extractResponseText(response);
+        } finally {
+            sample.stop(Timer.builder("image.analysis.tier")
+                    .description("모델 단계별 분석 호출 소요 시간")
+                    .tag("tier", tier)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 분석 1건의 토큰 합계를 기록합니다. (gemini.tokens는 호출 1회 단위이므로, 다시 분석한 경우 두 호출이 따로 잡힘)
+     * route: fast(빠른 모델 결과 사용) / escalated(강한 모델로 다시 분석) / strong(빠른 모델 미사용)
+     */
+    private void recordAnalysisTokens(String route, int tokens) {
+        if (tokens <= 0) {
+            return;
         }
+        DistributionSummary.builder("image.analysis.tokens")
+                .description("분석 1건의 Gemini 토큰 수 (모든 모델 호출 합계)")
+                .baseUnit("tokens")
+                .tag("route", route)
+                .register(meterRegistry)
+                .record(tokens);
+    }
 
-        // 5. 최종 DTO 조립 및 반환
-        return buildFinalMatchDto(extractionResult, serverId);
+    private List<String> findStructuralProblems(JsonExtractionResult result, List<LolAccount> registeredAccounts) {
+        List<String> problems = MatchStructureValidator.validate(result.gameDurationSeconds, result.players);
+        if (!problems.isEmpty()) {
+            return problems;
+        }
+        AccountNameMatcher accountNameMatcher = new AccountNameMatcher(registeredAccounts);
+        for (PlayerStatsDto player : result.players) {
+            if (championService.correctChampionName(player.getChampionName()).isEmpty()) {
+                problems.add("챔피언 '" + player.getChampionName() + "'");
+            }
+            if (accountNameMatcher.find(player.getLolGameName(), player.getLolTagLine(), ACCOUNT_MIN_SIMILARITY).isEmpty()) {
+                problems.add("계정 '" + player.getLolGameName() + "#" + player.getLolTagLine() + "'");
+            }
+        }
+        return problems;
     }
 
     /**
-     * 라인 코드가 DB에 정의된 유효한 라인인지 확인합니다.
+     * Gemini가 읽은 챔피언 이름과 Riot ID를 챔피언 목록/등록 계정 중 가장 가까운 값으로 바꿉니다.
+     * 충분히 비슷한 후보가 없으면 그대로 두어 확인 화면에서 수정할 수 있게 합니다.
      */
-    private boolean isValidLine(String laneName) {
-        if (!StringUtils.hasText(laneName)) return false;
-        String upperCaseLane = laneName.toUpperCase();
+    private void correctExtractedNames(List<PlayerStatsDto> players, List<LolAccount> registeredAccounts) {
+        AccountNameMatcher accountNameMatcher = new AccountNameMatcher(registeredAccounts);
+        for (PlayerStatsDto player : players) {
+            championService.correctChampionName(player.getChampionName())
+                    .ifPresent(player::setChampionName);
+
+            accountNameMatcher.find(player.getLolGameName(), player.getLolTagLine(), ACCOUNT_MIN_SIMILARITY)
+                    .ifPresent(account -> {
+                        if (!account.getGameName().equals(player.getLolGameName())
+                                || !Objects.equals(account.getTagLine(), player.getLolTagLine())) {
+                            log.info("🔤 Riot ID 보정: '{}#{}' → '{}'", player.getLolGameName(), player.getLolTagLine(), account.getFullAccountName());
+                        }
+                        player.setLolGameName(account.getGameName());
+                        player.setLolTagLine(account.getTagLine());
+                    });
+        }
+    }
 
-        return allLines.stream().anyMatch(line -> line.getName().equals(upperCaseLane));
+    /**
+     * 스크린샷 dHash를 계산합니다. 읽을 수 없는 형식이면 유사도 검사 없이 진행하도록 null을 반환합니다.
+     */
+    private Long computeScreenshotHash(byte[] imageBytes) {
+        try {
+            Long hash = PerceptualHash.dHash(imageBytes);
+            if (hash == null) {
+                log.warn("⚠️ 스크린샷 형식을 읽을 수 없어 유사 스크린샷 검사를 건너뜁니다.");
+            }
+            return hash;
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ 스크린샷 해시 계산 실패, 유사 스크린샷 검사를 건너뜁니다: {}", e.getMessage());
+            return null;
+        }
     }
 
+    private void rejectNearDuplicate(Long serverId, long screenshotHash) {
+        if (nearDuplicateMaxDistance < 0) {
+            return;
+        }
+        matchRecordRepository.findNearestByScreenshotHash(serverId, screenshotHash, nearDuplicateMaxDistance)
+                .ifPresent(matchId -> {
+                    log.info("🔁 유사 스크린샷 감지: 서버 {}, 기존 경기 ID {} (Gemini 호출 생략)", serverId, matchId);
+                    throw new IllegalArgumentException("❌ 오류: 이미 등록된 경기(경기 ID: " + matchId
+                            + ")와 거의 같은 스크린샷입니다. 다른 경기라면 `force` 옵션을 켜고 다시 등록해 주세요.");
+                });
+    }
 
     private byte[] downloadImageBytes(String imageUrl) throws IOException {
         Request request = new Request.Builder().url(imageUrl).build();
@@ -212,12 +402,12 @@ public class ImageAnalysisServiceImpl implements ImageAnalysisService {
         }
     }
 
-    private GenerateContentResponse callGeminiApi(String prompt, byte[] imageBytes) {
+    private GenerateContentResponse callGeminiApi(String modelName, String prompt, byte[] imageBytes, String mimeType) {
         List<Content> contents = List.of(
                 Content.builder()
                         .parts(List.of(
                                 Part.fromText(prompt),
-                                Part.fromBytes(imageBytes, "image/jpeg")
+                                Part.fromBytes(imageBytes, mimeType)
                         ))
                         .build()
         );
@@ -228,58 +418,45 @@ public class ImageAnalysisServiceImpl implements ImageAnalysisService {
 
         GenerateContentConfig config = GenerateContentConfig.builder()
                 .systemInstruction(systemInstructionContent)
+                .responseMimeType("application/json")
+                .responseSchema(RESPONSE_SCHEMA)
                 .build();
 
-        return geminiClient.models.generateContent(modelName, contents, config);
+        return geminiApiService.generateContent(modelName, contents, config);
     }
 
-    private String extractRawJsonText(GenerateContentResponse response) throws Exception {
+    /**
+     * 응답 스키마로 JSON만 돌아오므로 펜스 제거/시작 토큰 탐색 없이 텍스트 파트만 모읍니다. (thought 파트는 제외)
+     */
+    private String extractResponseText(GenerateContentResponse response) throws Exception {
         if (response == null || !response.candidates().isPresent() || response.candidates().get().isEmpty()) {
             throw new Exception("Gemini API에서 유효한 응답을 받지 못했습니다.");
         }
 
-        String rawResponseText = response.candidates().get().stream()
-                .findFirst()
-                .flatMap(candidate -> candidate.content())
+        List<String> texts = response.candidates().get().get(0).content()
                 .flatMap(content -> content.parts())
-                .flatMap(parts -> parts.stream().findFirst())
-                .flatMap(part -> part.text())
-                .orElseThrow(() -> new Exception("Gemini API 응답에서 JSON 문자열을 찾을 수 없습니다. (응답 구조 오류)"));
-
-        log.info("--- Gemini RAW JSON Start ---");
-        log.info("{}", rawResponseText);
-        log.info("--- Gemini RAW JSON End ---");
-
-        String jsonString = rawResponseText
-                .replace("```json", "")
-                .replace("```", "")
-                .trim();
-
-        int jsonStartIndex = -1;
-        for (int i = 0; i < jsonString.length(); i++) {
-            char c = jsonString.charAt(i);
-            if (c == '{' || c == '[') {
-                jsonStartIndex = i;
-                break;
-            }
-        }
-
-        if (jsonStartIndex != -1) {
-            jsonString = jsonString.substring(jsonStartIndex);
-        } else {
-            throw new Exception("Gemini 응답에서 유효한 JSON 시작 토큰('{', '[')을 찾을 수 없습니다.");
+                .orElse(List.of())
+                .stream()
+                .filter(part -> !part.thought().orElse(false))
+                .map(part -> part.text().orElse(""))
+                .filter(StringUtils::hasText)
+                .toList();
+        if (texts.isEmpty()) {
+            throw new Exception("Gemini API 응답에서 JSON 문자열을 찾을 수 없습니다. (응답 구조 오류)");
         }
 
+        String jsonString = texts.size() == 1 ? texts.get(0) : String.join("", texts);
+        log.debug("Gemini 응답 JSON ({}자): {}", jsonString.length(), jsonString);
         return jsonString;
     }
 
-    private JsonExtractionResult parseAndValidateJson(String jsonString) throws IOException, IllegalArgumentException {
-        // JSON 파싱
+    private JsonExtractionResult parseAndValidateJson(String jsonString) throws JsonProcessingException {
+        // JSON 파싱 (한 번의 Jackson 스트리밍 파싱으로 바로 결과 객체에 매핑)
         JsonExtractionResult extractionResult = objectMapper.readValue(jsonString, JsonExtractionResult.class);
 
         // 1. 승패 텍스트 누락 검증 (재캡처 요청 로직)
         if ("FAILURE_NO_VICTORY_TEXT".equals(extractionResult.analysisStatus)) {
-            throw new IllegalArgumentException(
+            throw new AnalysisResultRejectedException(
                     "❌ 오류: 경기 결과 이미지에서 승패 여부를 확인할 수 없습니다. '승리' 또는 '패배' 문구가 보이도록 다시 캡처해주세요."
             );
         }
@@ -289,10 +466,15 @@ public class ImageAnalysisServiceImpl implements ImageAnalysisService {
         if (finalWinnerTeam == null || (!finalWinnerTeam.equals("BLUE") && !finalWinnerTeam.equals("RED")) ||
                 extractionResult.gameDurationSeconds <= 0)
         {
-            throw new IllegalArgumentException(
+            throw new AnalysisResultRejectedException(
                     "❌ 오류: 필수 데이터(승리팀, 경기 시간) 추출에 실패했습니다. 이미지 분석 상태: " + extractionResult.analysisStatus
             );
         }
+
+        // 3. 선수 목록 누락 검증
+        if (extractionResult.players == null || extractionResult.players.isEmpty()) {
+            throw new AnalysisResultRejectedException("❌ 오류: 이미지에서 선수 정보를 추출하지 못했습니다. 점수판 전체가 보이도록 다시 캡처해주세요.");
+        }
         return extractionResult;
     }
 
@@ -327,4 +509,58 @@ public class ImageAnalysisServiceImpl implements ImageAnalysisService {
     private PlayerStatsDto mapToPlayerStatsDto(PlayerStatsDto extracted) {
         return extracted;
     }
-}
\ No newline at end of file
+
+    /**
+     * system_instruction.txt에서 문장으로 설명하던 JSON 구조를 응답 스키마로 옮긴 것입니다.
+     */
+    private static Schema buildResponseSchema() {
+        Schema team = Schema.builder().type(Type.Known.STRING).enum_(List.of("BLUE", "RED")).build();
+        Schema nullableTeam = Schema.builder().type(Type.Known.STRING).enum_(List.of("BLUE", "RED")).nullable(true).build();
+        Schema string = Schema.builder().type(Type.Known.STRING).build();
+        Schema integer = Schema.builder().type(Type.Known.INTEGER).build();
+        Schema nullableBoolean = Schema.builder().type(Type.Known.BOOLEAN).nullable(true).build();
+
+        List<String> playerFields = List.of("gameName", "tagLine", "team", "championName", "laneName",
+                "smiteDetected", "supportItemDetected", "kills", "deaths", "assists", "totalGold", "totalDamage");
+        Schema player = Schema.builder()
+                .type(Type.Known.OBJECT)
+                .properties(Map.ofEntries(
+                        Map.entry("gameName", string),
+                        Map.entry("tagLine", string),
+                        Map.entry("team", team),
+                        Map.entry("championName", string),
+                        Map.entry("laneName", Schema.builder().type(Type.Known.STRING)
+                                .enum_(List.of("TOP", "JUNGLE", "MID", "ADC", "SUPPORT", "UNKNOWN")).build()),
+                        // 라인 배정 근거 (판단할 수 없으면 null)
+                        Map.entry("smiteDetected", nullableBoolean),
+                        Map.entry("supportItemDetected", nullableBoolean),
+                        Map.entry("kills", integer),
+                        Map.entry("deaths", integer),
+                        Map.entry("assists", integer),
+                        Map.entry("totalGold", integer),
+                        Map.entry("totalDamage", integer)
+                ))
+                .required(playerFields)
+                .propertyOrdering(playerFields)
+                .build();
+
+        return Schema.builder()
+                .type(Type.Known.OBJECT)
+                .properties(Map.of(
+                        "analysisStatus", Schema.builder().type(Type.Known.STRING)
+                                .enum_(List.of("SUCCESS", "FAILURE_NO_VICTORY_TEXT")).build(),
+                        "finalWinnerTeam", nullableTeam,
+                        "team1Side", nullableTeam,
+                        "gameDurationSeconds", Schema.builder().type(Type.Known.INTEGER).nullable(true).build(),
+                        "players", Schema.builder()
+                                .type(Type.Known.ARRAY)
+                                .items(player)
+                                .minItems(10L)
+                                .maxItems(10L)
+                                .build()
+                ))
+                .required(List.of("analysisStatus", "players"))
+                .propertyOrdering(List.of("analysisStatus", "finalWinnerTeam", "team1Side", "gameDurationSeconds", "players"))
+                .build();
+    }
+}
@@ -0,0 +1,326 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.PreprocessedImageDto;
+import com.discordBot.demo.service.ImagePreprocessingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class ImagePreprocessingServiceImpl implements ImagePreprocessingService {
+
+    static final String MIME_JPEG = "image/jpeg";
+    static final String MIME_PNG = "image/png";
+    static final String MIME_GIF = "image/gif";
+    static final String MIME_WEBP = "image/webp";
+
+    // 여백 판정 시 테두리 색과의 채널별 허용 오차 (JPEG 잡음 흡수)
+    private static final int BORDER_TOLERANCE = 16;
+
+    // 행/열 하나를 검사할 때 확인할 최대 픽셀 수 (4K 이미지도 전 픽셀을 보지 않도록 표본 추출)
+    private static final int BORDER_SAMPLES = 256;
+
+    // 긴 변 기준 최대 해상도 (점수판 글자를 읽을 수 있는 최소 수준)
+    private final int maxLongEdge;
+    private final float jpegQuality;
+    private final boolean cropBorders;
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary originalBytesSummary;
+    private final DistributionSummary sentBytesSummary;
+    private final Counter bytesSavedCounter;
+
+    public ImagePreprocessingServiceImpl(MeterRegistry meterRegistry,
+                                         @Value("${spring.analysis.preprocess.max-long-edge:1600}") int maxLongEdge,
+                                         @Value("${spring.analysis.preprocess.jpeg-quality:0.85}") float jpegQuality,
+                                         @Value("${spring.analysis.preprocess.crop-borders:true}") boolean cropBorders) {
+        this.meterRegistry = meterRegistry;
+        this.maxLongEdge = maxLongEdge;
+        this.jpegQuality = jpegQuality;
+        this.cropBorders = cropBorders;
+        this.originalBytesSummary = bytesSummary(meterRegistry, "original");
+        this.sentBytesSummary = bytesSummary(meterRegistry, "sent");
+        this.bytesSavedCounter = Counter.builder("image.preprocess.bytes.saved")
+                .description("전처리로 줄인 업로드 바이트 누계")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary bytesSummary(MeterRegistry meterRegistry, String kind) {
+        return DistributionSummary.builder("image.preprocess.bytes")
+                .description("Gemini 전송 전/후 이미지 크기")
+                .baseUnit("bytes")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PreprocessedImageDto preprocess(byte[] imageBytes) {
+        long startedAt = System.nanoTime();
+
+        // 1. 실제 형식 감지 (Discord 첨부의 확장자/Content-Type 대신 파일 시그니처 사용)
+        String mimeType = timed("detect", () -> detectMimeType(imageBytes));
+        if (mimeType == null) {
+            throw new IllegalArgumentException("❌ 오류: 지원하지 않는 이미지 형식입니다. PNG 또는 JPEG 스크린샷을 올려주세요.");
+        }
+
+        // 2. 디코딩 (JDK ImageIO가 읽지 못하는 WebP 등은 원본을 그대로 전송)
+        BufferedImage original = timed("decode", () -> decode(imageBytes));
+        if (original == null) {
+            log.info("🖼️ {} 형식은 디코딩할 수 없어 원본을 그대로 전송합니다. ({} bytes)", mimeType, imageBytes.length);
+            return record(passThrough(imageBytes, mimeType, 0, 0, startedAt));
+        }
+
+        // 3. 점수판 영역 자르기 (창 캡처/레터박스 등 단색 여백 제거)
+        BufferedImage cropped = cropBorders
+                ? timed("crop", () -> cropToContent(original))
+                : original;
+
+        // 4. 긴 변을 maxLongEdge 이하로 축소 (알파 채널 제거 포함)
+        BufferedImage scaled = timed("scale", () -> scaleDown(cropped, maxLongEdge));
+
+        // 5. JPEG 재인코딩
+        byte[] encoded = timed("encode", () -> encodeJpeg(scaled, jpegQuality));
+
+        boolean unchangedGeometry = scaled.getWidth() == original.getWidth() && scaled.getHeight() == original.getHeight();
+        if (encoded.length >= imageBytes.length && unchangedGeometry) {
+            // 이미 충분히 작은 이미지: 재인코딩 화질 손실만 생기므로 원본 사용
+            return record(passThrough(imageBytes, mimeType, original.getWidth(), original.getHeight(), startedAt));
+        }
+
+        PreprocessedImageDto result = PreprocessedImageDto.builder()
+                .bytes(encoded)
+                .mimeType(MIME_JPEG)
+                .originalMimeType(mimeType)
+                .originalBytes(imageBytes.length)
+                .width(scaled.getWidth())
+                .height(scaled.getHeight())
+                .originalWidth(original.getWidth())
+                .originalHeight(original.getHeight())
+                .elapsedMillis((System.nanoTime() - startedAt) / 1_000_000)
+                .build();
+
+        log.info("🖼️ 스크린샷 전처리: {} {}x{} {} bytes → JPEG {}x{} {} bytes ({}ms)",
+                mimeType, original.getWidth(), original.getHeight(), imageBytes.length,
+                scaled.getWidth(), scaled.getHeight(), encoded.length, result.getElapsedMillis());
+        return record(result);
+    }
+
+    private PreprocessedImageDto passThrough(byte[] imageBytes, String mimeType, int width, int height, long startedAt) {
+        return PreprocessedImageDto.builder()
+                .bytes(imageBytes)
+                .mimeType(mimeType)
+                .originalMimeType(mimeType)
+                .originalBytes(imageBytes.length)
+                .width(width)
+                .height(height)
+                .originalWidth(width)
+                .originalHeight(height)
+                .elapsedMillis((System.nanoTime() - startedAt) / 1_000_000)
+                .build();
+    }
+
+    private PreprocessedImageDto record(PreprocessedImageDto result) {
+        originalBytesSummary.record(result.getOriginalBytes());
+        sentBytesSummary.record(result.getBytes().length);
+        if (result.getBytesSaved() > 0) {
+            bytesSavedCounter.increment(result.getBytesSaved());
+        }
+        return result;
+    }
+
+    private <T> T timed(String stage, Supplier<T> work) {
+        return Timer.builder("image.preprocess.stage")
+                .description("스크린샷 전처리 단계별 소요 시간")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(work);
+    }
+
+    // =========================================================================
+    // 단계별 처리
+    // =========================================================================
+
+    /**
+     * 파일 시그니처(매직 넘버)로 형식을 판별합니다. 알 수 없으면 null을 반환합니다.
+     */
+    static String detectMimeType(byte[] bytes) {
+        if (bytes == null || bytes.length < 12) {
+            return null;
+        }
+        if ((bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xD8 && (bytes[2] & 0xFF) == 0xFF) {
+            return MIME_JPEG;
+        }
+        if ((bytes[0] & 0xFF) == 0x89 && bytes[1] == 'P' && bytes[2] == 'N' && bytes[3] == 'G') {
+            return MIME_PNG;
+        }
+        if (bytes[0] == 'G' && bytes[1] == 'I' && bytes[2] == 'F') {
+            return MIME_GIF;
+        }
+        if (bytes[0] == 'R' && bytes[1] == 'I' && bytes[2] == 'F' && bytes[3] == 'F'
+                && bytes[8] == 'W' && bytes[9] == 'E' && bytes[10] == 'B' && bytes[11] == 'P') {
+            return MIME_WEBP;
+        }
+        return null;
+    }
+
+    private static BufferedImage decode(byte[] bytes) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            log.warn("⚠️ 스크린샷 디코딩 실패, 원본을 그대로 전송합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 가장자리에서 안쪽으로 테두리 색과 같은 단색 행/열을 걷어냅니다.
+     * 잘라낸 결과가 원본의 절반보다 작아지면 점수판이 아닌 단색 화면으로 보고 자르지 않습니다.
+     */
+    static BufferedImage cropToContent(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        int top = 0;
+        int topColor = image.getRGB(0, 0);
+        while (top < height - 1 && isUniformRow(image, top, 0, width, topColor)) {
+            top++;
+        }
+        int bottom = height - 1;
+        int bottomColor = image.getRGB(width - 1, height - 1);
+        while (bottom > top && isUniformRow(image, bottom, 0, width, bottomColor)) {
+            bottom--;
+        }
+        int left = 0;
+        int leftColor = image.getRGB(0, top);
+        while (left < width - 1 && isUniformColumn(image, left, top, bottom + 1, leftColor)) {
+            left++;
+        }
+        int right = width - 1;
+        int rightColor = image.getRGB(width - 1, bottom);
+        while (right > left && isUniformColumn(image, right, top, bottom + 1, rightColor)) {
+            right--;
+        }
+
+        Rectangle bounds = new Rectangle(left, top, right - left + 1, bottom - top + 1);
+        if (bounds.width == width && bounds.height == height) {
+            return image;
+        }
+        if (bounds.width < width / 2 || bounds.height < height / 2) {
+            return image;
+        }
+        return image.getSubimage(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    private static boolean isUniformRow(BufferedImage image, int y, int fromX, int toX, int color) {
+        int step = Math.max(1, (toX - fromX) / BORDER_SAMPLES);
+        for (int x = fromX; x < toX; x += step) {
+            if (!isSimilar(image.getRGB(x, y), color)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUniformColumn(BufferedImage image, int x, int fromY, int toY, int color) {
+        int step = Math.max(1, (toY - fromY) / BORDER_SAMPLES);
+        for (int y = fromY; y < toY; y += step) {
+            if (!isSimilar(image.getRGB(x, y), color)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSimilar(int first, int second) {
+        return Math.abs(((first >> 16) & 0xFF) - ((second >> 16) & 0xFF)) <= BORDER_TOLERANCE
+                && Math.abs(((first >> 8) & 0xFF) - ((second >> 8) & 0xFF)) <= BORDER_TOLERANCE
+                && Math.abs((first & 0xFF) - (second & 0xFF)) <= BORDER_TOLERANCE;
+    }
+
+    /**
+     * 긴 변이 maxLongEdge 이하가 되도록 축소합니다.
+     * 한 번에 크게 줄이면 글자가 깨지므로 절반씩 단계적으로 줄이고, 결과는 항상 RGB(알파 없음)입니다.
+     */
+    static BufferedImage scaleDown(BufferedImage image, int maxLongEdge) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int longEdge = Math.max(width, height);
+
+        int targetWidth = width;
+        int targetHeight = height;
+        if (maxLongEdge > 0 && longEdge > maxLongEdge) {
+            double ratio = (double) maxLongEdge / longEdge;
+            targetWidth = Math.max(1, (int) Math.round(width * ratio));
+            targetHeight = Math.max(1, (int) Math.round(height * ratio));
+        }
+
+        if (targetWidth == width && targetHeight == height && image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+
+        BufferedImage current = image;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            int nextWidth = Math.max(targetWidth, currentWidth / 2);
+            int nextHeight = Math.max(targetHeight, currentHeight / 2);
+            current = draw(current, nextWidth, nextHeight);
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(output)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JPEG 인코딩 실패", e);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
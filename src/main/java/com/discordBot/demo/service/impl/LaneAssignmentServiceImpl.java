@@ -0,0 +1,171 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.LineFrequencyDto;
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.entity.Line;
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.repository.LineStatsRepository;
+import com.discordBot.demo.service.LaneAssignmentService;
+import com.discordBot.demo.support.HungarianAlgorithm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LaneAssignmentServiceImpl implements LaneAssignmentService {
+
+    // Line 엔티티의 NAME과 같은 순서/값 (비용 행렬의 열 순서)
+    static final List<String> LANES = List.of("TOP", "JUNGLE", "MID", "ADC", "SUPPORT");
+    private static final int JUNGLE = 1;
+    private static final int SUPPORT = 4;
+
+    // 비용 가중치 (낮을수록 그 라인일 가능성이 높음)
+    // 강타/서포터 아이템은 화면에서 확인된 근거이므로 가장 강하게, 기록은 경기 수 비율만큼만 반영합니다.
+    private static final double GEMINI_GUESS_BONUS = 3.0;
+    private static final double SMITE_BONUS = 6.0;
+    private static final double NO_SMITE_JUNGLE_PENALTY = 3.0;
+    private static final double SUPPORT_ITEM_BONUS = 6.0;
+    private static final double NO_SUPPORT_ITEM_PENALTY = 2.0;
+    private static final double PREFERRED_LANE_BONUS = 1.5;
+    private static final double HISTORY_WEIGHT = 2.0;
+
+    private final LineStatsRepository lineStatsRepository;
+
+    @Override
+    public void assignLanes(List<PlayerStatsDto> players, List<LolAccount> registeredAccounts) {
+        // PlayerStatsDto는 @Data(필드 기반 equals)라 라인을 바꾸면 해시가 달라지므로 객체 동일성으로 매핑합니다.
+        Map<PlayerStatsDto, LolAccount> accounts = new IdentityHashMap<>();
+        for (PlayerStatsDto player : players) {
+            findAccount(player, registeredAccounts).ifPresent(account -> accounts.put(player, account));
+        }
+        Map<Long, double[]> laneShares = loadLaneShares(accounts.values());
+
+        for (String team : List.of("BLUE", "RED")) {
+            List<PlayerStatsDto> teamPlayers = players.stream()
+                    .filter(p -> team.equalsIgnoreCase(p.getTeam()))
+                    .collect(Collectors.toList());
+            if (teamPlayers.isEmpty()) {
+                continue;
+            }
+
+            double[][] cost = new double[teamPlayers.size()][];
+            for (int i = 0; i < teamPlayers.size(); i++) {
+                PlayerStatsDto player = teamPlayers.get(i);
+                LolAccount account = accounts.get(player);
+                cost[i] = laneCosts(player, account, account != null ? laneShares.get(account.getLolId()) : null);
+            }
+
+            int[] assignment = HungarianAlgorithm.solve(cost);
+            for (int i = 0; i < teamPlayers.size(); i++) {
+                PlayerStatsDto player = teamPlayers.get(i);
+                String assigned = assignment[i] >= 0 ? LANES.get(assignment[i]) : "UNKNOWN";
+                if (!assigned.equalsIgnoreCase(Objects.toString(player.getLaneName(), ""))) {
+                    log.info("🧭 라인 재배정: {} ({}) {} → {}", player.getLolGameName(), team, player.getLaneName(), assigned);
+                }
+                player.setLaneName(assigned);
+            }
+        }
+    }
+
+    /**
+     * 한 선수의 라인별 비용. (Gemini 추정 일치, 강타/서포터 아이템, 선호 라인, 기록 비율의 합을 뺀 값)
+     */
+    double[] laneCosts(PlayerStatsDto player, LolAccount account, double[] laneShare) {
+        double[] cost = new double[LANES.size()];
+        int geminiLane = LANES.indexOf(Objects.toString(player.getLaneName(), "").toUpperCase());
+        if (geminiLane >= 0) {
+            cost[geminiLane] -= GEMINI_GUESS_BONUS;
+        }
+
+        if (Boolean.TRUE.equals(player.getSmiteDetected())) {
+            cost[JUNGLE] -= SMITE_BONUS;
+        } else if (Boolean.FALSE.equals(player.getSmiteDetected())) {
+            cost[JUNGLE] += NO_SMITE_JUNGLE_PENALTY;
+        }
+        if (Boolean.TRUE.equals(player.getSupportItemDetected())) {
+            cost[SUPPORT] -= SUPPORT_ITEM_BONUS;
+        } else if (Boolean.FALSE.equals(player.getSupportItemDetected())) {
+            cost[SUPPORT] += NO_SUPPORT_ITEM_PENALTY;
+        }
+
+        if (account != null && account.getPreferredLines() != null) {
+            Set<String> preferred = account.getPreferredLines().stream()
+                    .map(Line::getName)
+                    .collect(Collectors.toSet());
+            for (int lane = 0; lane < LANES.size(); lane++) {
+                if (preferred.contains(LANES.get(lane))) {
+                    cost[lane] -= PREFERRED_LANE_BONUS;
+                }
+            }
+        }
+
+        if (laneShare != null) {
+            for (int lane = 0; lane < LANES.size(); lane++) {
+                cost[lane] -= HISTORY_WEIGHT * laneShare[lane];
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * 계정별 라인 플레이 비율 (LANES 순서, 합계 1). 기록이 없는 계정은 포함되지 않습니다.
+     */
+    private Map<Long, double[]> loadLaneShares(Collection<LolAccount> accounts) {
+        Map<Long, double[]> shares = new HashMap<>();
+        if (accounts.isEmpty()) {
+            return shares;
+        }
+        List<Long> lolIds = accounts.stream().map(LolAccount::getLolId).distinct().collect(Collectors.toList());
+
+        Map<Long, double[]> games = new HashMap<>();
+        for (LineFrequencyDto frequency : lineStatsRepository.findLineFrequenciesByLolAccountIds(lolIds)) {
+            int lane = LANES.indexOf(frequency.getLineName());
+            if (lane >= 0) {
+                games.computeIfAbsent(frequency.getLolAccountId(), id -> new double[LANES.size()])[lane] += frequency.getTotalGames();
+            }
+        }
+        games.forEach((lolId, counts) -> {
+            double total = 0;
+            for (double count : counts) {
+                total += count;
+            }
+            if (total > 0) {
+                double[] share = new double[counts.length];
+                for (int lane = 0; lane < counts.length; lane++) {
+                    share[lane] = counts[lane] / total;
+                }
+                shares.put(lolId, share);
+            }
+        });
+        return shares;
+    }
+
+    private Optional<LolAccount> findAccount(PlayerStatsDto player, List<LolAccount> registeredAccounts) {
+        if (player.getLolGameName() == null) {
+            return Optional.empty();
+        }
+        List<LolAccount> sameName = new ArrayList<>();
+        for (LolAccount account : registeredAccounts) {
+            if (account.getGameName().equalsIgnoreCase(player.getLolGameName())) {
+                sameName.add(account);
+            }
+        }
+        // 같은 이름이 여럿이면 태그로 구분
+        return sameName.size() == 1
+                ? Optional.of(sameName.get(0))
+                : sameName.stream().filter(a -> a.getTagLine() != null && a.getTagLine().equalsIgnoreCase(player.getLolTagLine())).findFirst();
+    }
+}
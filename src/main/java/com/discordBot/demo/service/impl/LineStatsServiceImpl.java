@@ -1,17 +1,23 @@
 package com.discordBot.demo.service.impl;
 
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
 import com.discordBot.demo.domain.entity.*;
 import com.discordBot.demo.domain.repository.LineRepository;
 import com.discordBot.demo.domain.repository.LineStatsRepository;
 import com.discordBot.demo.domain.repository.UserRepository;
 import com.discordBot.demo.service.LineStatsService;
 import com.discordBot.demo.service.ServerManagementService;
+import com.discordBot.demo.service.StatsUpsertService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,6 +28,7 @@ public class LineStatsServiceImpl implements LineStatsService {
     private final LineStatsRepository lineStatsRepository;
     private final UserRepository userRepository;
     private final ServerManagementService serverManagementService;
+    private final StatsUpsertService statsUpsertService;
 
 
     @Override
@@ -68,6 +75,17 @@ public class LineStatsServiceImpl implements LineStatsService {
         lineStatsRepository.save(stats);
     }
 
+    @Override
+    public void applyMatch(ResolvedMatchDto resolvedMatch) {
+        // (서버, 유저, 라인) 행에 증감분을 upsert로 바로 더합니다.
+        List<StatsDeltaDto> deltas = resolvedMatch.getPlayers().stream()
+                .filter(p -> p.getUser() != null)
+                .map(p -> StatsDeltaDto.from(resolvedMatch, p))
+                .collect(Collectors.toList());
+
+        statsUpsertService.upsertLineStats(deltas);
+    }
+
     /**
      * 새로운 LineStats 레코드를 생성하고 복합 키를 설정합니다.
      */
@@ -0,0 +1,215 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.MatchBatchResultDto;
+import com.discordBot.demo.domain.dto.MatchImportCheckpointDto;
+import com.discordBot.demo.domain.dto.MatchImportResultDto;
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.MatchResolutionCacheDto;
+import com.discordBot.demo.service.GuildWriteLaneService;
+import com.discordBot.demo.service.MatchImportService;
+import com.discordBot.demo.service.MatchRecordService;
+import com.discordBot.demo.service.MatchResolutionService;
+import com.discordBot.demo.support.MatchImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class MatchImportServiceImpl implements MatchImportService {
+
+    private static final String CHECKPOINT_PREFIX = "import:checkpoint:";
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(7);
+
+    // 결과 메시지와 체크포인트에 남길 최대 오류 수 (나머지는 개수만 집계)
+    static final int MAX_REPORTED_ERRORS = 200;
+
+    private final MatchResolutionService matchResolutionService;
+    private final MatchRecordService matchRecordService;
+    private final GuildWriteLaneService guildWriteLaneService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 한 트랜잭션으로 커밋할 경기 수
+    private final int batchSize;
+
+    // 이번 실행에서 실패한 경기가 이 수에 도달하면 가져오기를 멈춥니다. (형식이 맞지 않는 파일을 끝까지 읽지 않도록)
+    private final int maxErrors;
+
+    public MatchImportServiceImpl(MatchResolutionService matchResolutionService,
+                                  MatchRecordService matchRecordService,
+                                  GuildWriteLaneService guildWriteLaneService,
+                                  RedisTemplate<String, Object> redisTemplate,
+                                  @Value("${spring.import.batch-size:50}") int batchSize,
+                                  @Value("${spring.import.max-errors:200}") int maxErrors) {
+        this.matchResolutionService = matchResolutionService;
+        this.matchRecordService = matchRecordService;
+        this.guildWriteLaneService = guildWriteLaneService;
+        this.redisTemplate = redisTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxErrors = Math.max(1, maxErrors);
+    }
+
+    @Override
+    public MatchImportResultDto importMatches(Long discordServerId, String fileName, long fileSize, InputStream input,
+                                              Consumer<MatchImportResultDto> progressListener) throws IOException {
+
+        String checkpointKey = CHECKPOINT_PREFIX + discordServerId + ":" + fileName + ":" + fileSize;
+        MatchImportCheckpointDto checkpoint = loadCheckpoint(checkpointKey);
+        int resumedFrom = checkpoint.getLastOrdinal();
+        if (resumedFrom > 0) {
+            log.info("📥 경기 가져오기 재개: 서버 {}, 파일 {}, {}번째 경기 이후부터", discordServerId, fileName, resumedFrom);
+        }
+
+        // 1. 계정 / 챔피언 / 라인은 파일당 한 번만 조회
+        MatchResolutionCacheDto cache = matchResolutionService.preload(discordServerId);
+
+        long startedAt = System.currentTimeMillis();
+        long matchesRead = 0;
+        long failedBefore = checkpoint.getFailed();
+
+        // 2. 한 경기씩 읽어 batchSize마다 커밋 (파일 전체를 메모리에 올리지 않음)
+        try (MatchImportReader reader = new MatchImportReader(
+                new InputStreamReader(input, StandardCharsets.UTF_8), MatchImportReader.detectFormat(fileName), objectMapper)) {
+
+            List<MatchImportReader.Entry> batch = new ArrayList<>(batchSize);
+            MatchImportReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                if (entry.getOrdinal() <= resumedFrom) {
+                    continue;
+                }
+                matchesRead++;
+                if (entry.isValid()) {
+                    entry.getMatch().setServerId(discordServerId);
+                }
+                batch.add(entry);
+
+                if (batch.size() >= batchSize) {
+                    commitBatch(discordServerId, cache, batch, checkpoint, checkpointKey);
+                    batch.clear();
+                    if (checkpoint.getFailed() - failedBefore >= maxErrors) {
+                        return stopOnErrors(discordServerId, fileName, checkpoint, matchesRead, resumedFrom, startedAt);
+                    }
+                    progressListener.accept(toResult(checkpoint, matchesRead, resumedFrom, startedAt, false));
+                }
+            }
+            if (!batch.isEmpty()) {
+                commitBatch(discordServerId, cache, batch, checkpoint, checkpointKey);
+            }
+        }
+
+        // 3. 끝까지 처리했으면 재개 지점 삭제 (같은 파일을 다시 올리면 처음부터 중복 검사로 걸러짐)
+        redisTemplate.delete(checkpointKey);
+
+        MatchImportResultDto result = toResult(checkpoint, matchesRead, resumedFrom, startedAt, true);
+        log.info("📥 경기 가져오기 완료: 서버 {}, 파일 {}, 등록 {}건, 실패 {}건, {} matches/s",
+                discordServerId, fileName, result.getImported(), result.getFailed(), result.getMatchesPerSecond());
+        return result;
+    }
+
+    /**
+     * 실패가 한도에 도달해 가져오기를 멈춥니다. 재개 지점은 남겨 두므로 같은 파일을 다시 올리면 커밋된 배치 다음부터 이어서 가져옵니다.
+     */
+    private MatchImportResultDto stopOnErrors(Long discordServerId, String fileName, MatchImportCheckpointDto checkpoint,
+                                              long matchesRead, int resumedFrom, long startedAt) {
+        log.warn("📥 경기 가져오기 중단: 서버 {}, 파일 {}, 실패 {}건으로 한도({}건) 도달 ({}번째 경기까지 처리)",
+                discordServerId, fileName, checkpoint.getFailed(), maxErrors, checkpoint.getLastOrdinal());
+        return toResult(checkpoint, matchesRead, resumedFrom, startedAt, false);
+    }
+
+    /**
+     * 배치를 서버별 쓰기 대기열에서 한 트랜잭션으로 등록하고, 커밋 후 재개 지점을 갱신합니다.
+     * 배치 트랜잭션이 DB 오류로 실패하면 어느 경기가 원인인지 알 수 없으므로 한 경기씩 다시 등록합니다.
+     */
+    private void commitBatch(Long discordServerId, MatchResolutionCacheDto cache, List<MatchImportReader.Entry> batch,
+                             MatchImportCheckpointDto checkpoint, String checkpointKey) {
+
+        List<MatchImportReader.Entry> validEntries = new ArrayList<>(batch.size());
+        for (MatchImportReader.Entry entry : batch) {
+            if (entry.isValid()) {
+                validEntries.add(entry);
+            } else {
+                recordError(checkpoint, entry, entry.getError());
+            }
+        }
+
+        if (!validEntries.isEmpty()) {
+            List<MatchRegistrationDto> matches = validEntries.stream().map(MatchImportReader.Entry::getMatch).toList();
+            try {
+                applyResult(checkpoint, validEntries, register(discordServerId, matches, cache));
+            } catch (IllegalArgumentException e) {
+                // 서버 대기열이 가득 찬 경우: 중단하고 마지막 커밋 지점부터 다시 가져오도록 합니다.
+                throw e;
+            } catch (RuntimeException e) {
+                log.warn("경기 가져오기 배치 실패, 한 경기씩 다시 시도합니다 (서버 ID: {}): {}", discordServerId, e.getMessage());
+                for (MatchImportReader.Entry entry : validEntries) {
+                    try {
+                        applyResult(checkpoint, List.of(entry), register(discordServerId, List.of(entry.getMatch()), cache));
+                    } catch (RuntimeException single) {
+                        recordError(checkpoint, entry, "저장 실패: " + single.getMessage());
+                    }
+                }
+            }
+        }
+
+        checkpoint.setLastOrdinal(batch.get(batch.size() - 1).getOrdinal());
+        redisTemplate.opsForValue().set(checkpointKey, checkpoint, CHECKPOINT_TTL);
+    }
+
+    private MatchBatchResultDto register(Long discordServerId, List<MatchRegistrationDto> matches, MatchResolutionCacheDto cache) {
+        try {
+            // 이미지 등록 / 경기 삭제와 같은 서버별 대기열에서 실행해 같은 통계 행을 동시에 건드리지 않도록 합니다.
+            return guildWriteLaneService.submit(discordServerId, () -> matchRecordService.registerMatches(matches, cache)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void applyResult(MatchImportCheckpointDto checkpoint, List<MatchImportReader.Entry> entries, MatchBatchResultDto result) {
+        checkpoint.setImported(checkpoint.getImported() + result.getRegisteredMatchIds().size());
+        for (Map.Entry<Integer, String> error : result.getErrors().entrySet()) {
+            recordError(checkpoint, entries.get(error.getKey()), error.getValue());
+        }
+    }
+
+    private void recordError(MatchImportCheckpointDto checkpoint, MatchImportReader.Entry entry, String message) {
+        checkpoint.setFailed(checkpoint.getFailed() + 1);
+        if (checkpoint.getErrors().size() < MAX_REPORTED_ERRORS) {
+            checkpoint.getErrors().add("경기 #" + entry.getOrdinal() + " (" + entry.getLineNumber() + "번째 줄): " + message);
+        }
+    }
+
+    private MatchImportCheckpointDto loadCheckpoint(String checkpointKey) {
+        Object saved = redisTemplate.opsForValue().get(checkpointKey);
+        return saved instanceof MatchImportCheckpointDto checkpoint ? checkpoint : new MatchImportCheckpointDto();
+    }
+
+    private MatchImportResultDto toResult(MatchImportCheckpointDto checkpoint, long matchesRead, int resumedFrom,
+                                          long startedAt, boolean completed) {
+        return MatchImportResultDto.builder()
+                .matchesRead(matchesRead)
+                .resumedFrom(resumedFrom)
+                .imported(checkpoint.getImported())
+                .failed(checkpoint.getFailed())
+                .errors(List.copyOf(checkpoint.getErrors()))
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .completed(completed)
+                .build();
+    }
+}
@@ -1,27 +1,34 @@
 package com.discordBot.demo.service.impl;
 
+import com.discordBot.demo.domain.dto.MatchBatchResultDto;
 import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.MatchResolutionCacheDto;
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
+import com.discordBot.demo.domain.dto.ResolvedPlayerDto;
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
 import com.discordBot.demo.domain.entity.*;
-import com.discordBot.demo.domain.repository.LolAccountRepository;
+import com.discordBot.demo.domain.repository.MatchOutboxEventRepository;
 import com.discordBot.demo.domain.repository.MatchRecordRepository;
-import com.discordBot.demo.domain.repository.LineRepository;
+import com.discordBot.demo.domain.repository.PlayerStatsRepository;
+import com.discordBot.demo.service.GuildStatsLockService;
 import com.discordBot.demo.service.MatchRecordService;
-import com.discordBot.demo.service.ServerManagementService;
+import com.discordBot.demo.service.MatchResolutionService;
 import com.discordBot.demo.service.UserServerStatsService;
 import com.discordBot.demo.service.ChampionStatsService;
 import com.discordBot.demo.service.LineStatsService;
-import com.discordBot.demo.service.ChampionService;
+import com.discordBot.demo.service.StatsUpsertService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
-import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 
 @Service
@@ -31,101 +38,181 @@ import java.util.Optional;
 public class MatchRecordServiceImpl implements MatchRecordService {
 
     private final MatchRecordRepository matchRecordRepository;
-    private final ServerManagementService serverManagementService;
-    private final LolAccountRepository lolAccountRepository;
+    private final MatchResolutionService matchResolutionService;
     private final UserServerStatsService userServerStatsService;
     private final ChampionStatsService championStatsService;
     private final LineStatsService lineStatsService;
-    private final ChampionService championService;
-    private final LineRepository lineRepository;
-    private final EntityManager em;
+    private final MatchOutboxEventRepository matchOutboxEventRepository;
+    private final GuildStatsLockService guildStatsLockService;
+    private final PlayerStatsRepository playerStatsRepository;
+    private final StatsUpsertService statsUpsertService;
 
+    // true: 통계는 아웃박스 이벤트로 남기고 StatsProjectionScheduler가 비동기로 반영
+    @Value("${spring.stats.projection.async:false}")
+    private boolean asyncStatsProjection;
+
+    private static final String DUPLICATE_MATCH_MESSAGE =
+            "❌ 오류: 이 기록은 이미 등록된 것으로 보입니다. (동일 서버에서 동일 경기 시간, 동일 팀별 골드로 등록된 기록 존재)";
 
     @Override
     public MatchRecord registerMatch(MatchRegistrationDto matchDto) {
 
-        Long discordServerId = matchDto.getServerId();
+        // 1. 중복 검증 단계 (로직 유지)
+        validateNotDuplicate(matchDto);
 
-        // 중복 검사에 필요한 필드 추출
-        int duration = matchDto.getGameDurationSeconds();
-        int blueGold = matchDto.getBlueTotalGold();
-        int redGold = matchDto.getRedTotalGold();
+        // 2. 서버/계정/유저/챔피언/라인 일괄 조회 및 미등록 계정 검증
+        ResolvedMatchDto resolvedMatch = matchResolutionService.resolve(matchDto);
 
-        // 1. 서버 존재 확인 및 중복 검증 단계 (로직 유지)
-        serverManagementService.findOrCreateGuildServer(discordServerId);
+        // 통계 재계산의 교체 단계와 겹치지 않도록 서버 공유 잠금 획득 (등록끼리는 서로 막지 않음)
+        guildStatsLockService.lockShared(resolvedMatch.getServerId());
 
-        Optional<MatchRecord> existingMatch = matchRecordRepository
-                .findByGameDurationSecondsAndBlueTotalGoldAndRedTotalGoldAndGuildServer_DiscordServerId(
-                        duration, blueGold, redGold, discordServerId
-                );
+        // 3. MatchRecord + PlayerStats 생성 (조회가 끝난 엔티티만 사용하므로 추가 SELECT 없음)
+        MatchRecord matchRecord = createMatchRecord(matchDto, resolvedMatch);
 
-        if (existingMatch.isPresent()) {
-            throw new IllegalArgumentException(
-                    "❌ 오류: 이 기록은 이미 등록된 것으로 보입니다. (동일 서버에서 동일 경기 시간, 동일 팀별 골드로 등록된 기록 존재)"
-            );
+        if (asyncStatsProjection) {
+            // 4. MatchRecord 저장 후, 같은 트랜잭션에서 아웃박스 이벤트만 기록 (통계 반영은 프로젝터가 수행)
+            MatchRecord savedMatch = matchRecordRepository.save(matchRecord);
+            matchOutboxEventRepository.save(
+                    MatchOutboxEvent.matchRegistered(savedMatch.getId(), resolvedMatch.getServerId()));
+            return savedMatch;
         }
 
-        // 1-2. KP 계산을 위한 팀 총 킬 수 사전 계산 (로직 유지)
-        int blueTeamKills = matchDto.getPlayerStatsList().stream()
-                .filter(p -> "BLUE".equalsIgnoreCase(p.getTeam()))
-                .mapToInt(PlayerStatsDto::getKills)
-                .sum();
-
-        int redTeamKills = matchDto.getPlayerStatsList().stream()
-                .filter(p -> "RED".equalsIgnoreCase(p.getTeam()))
-                .mapToInt(PlayerStatsDto::getKills)
-                .sum();
-
-        // 2. 미등록 계정 검증 단계 (로직 유지)
-        List<String> unregisteredAccounts = new ArrayList<>();
-        for (PlayerStatsDto playerDto : matchDto.getPlayerStatsList()) {
-            String gameName = playerDto.getLolGameName();
-            String tagLine = StringUtils.hasText(playerDto.getLolTagLine()) ? playerDto.getLolTagLine() : "";
-
-            Optional<LolAccount> lolAccountOpt = lolAccountRepository.findByGameNameAndTagLineAndGuildServer_DiscordServerId(
-                    gameName, tagLine, discordServerId
-            );
-
-            if (lolAccountOpt.isEmpty()) {
-                unregisteredAccounts.add(gameName + "#" + tagLine);
+        // 4. 누적 통계 일괄 업데이트 (전체 / 챔피언별 / 라인별)
+        userServerStatsService.applyMatch(resolvedMatch);
+        championStatsService.applyMatch(resolvedMatch);
+        lineStatsService.applyMatch(resolvedMatch);
+
+        // 5. MatchRecord 저장
+        return matchRecordRepository.save(matchRecord);
+    }
+
+    @Override
+    public MatchBatchResultDto registerMatches(List<MatchRegistrationDto> matchDtos, MatchResolutionCacheDto cache) {
+
+        MatchBatchResultDto result = new MatchBatchResultDto();
+        guildStatsLockService.lockShared(cache.getServerId());
+
+        // 1. 경기별 검증 (DB 중복 + 같은 배치 안의 중복) 및 캐시 기반 연결
+        Set<String> batchKeys = new HashSet<>();
+        List<MatchRecord> matchRecords = new ArrayList<>(matchDtos.size());
+        List<StatsDeltaDto> deltas = new ArrayList<>();
+
+        for (int i = 0; i < matchDtos.size(); i++) {
+            MatchRegistrationDto matchDto = matchDtos.get(i);
+            try {
+                if (!batchKeys.add(duplicateKey(matchDto))) {
+                    throw new IllegalArgumentException(DUPLICATE_MATCH_MESSAGE);
+                }
+                validateNotDuplicate(matchDto);
+
+                ResolvedMatchDto resolvedMatch = matchResolutionService.resolve(matchDto, cache);
+                matchRecords.add(createMatchRecord(matchDto, resolvedMatch));
+                resolvedMatch.getPlayers().stream()
+                        .filter(p -> p.getUser() != null)
+                        .forEach(p -> deltas.add(StatsDeltaDto.from(resolvedMatch, p)));
+            } catch (IllegalArgumentException e) {
+                result.addError(i, e.getMessage());
             }
         }
 
-        if (!unregisteredAccounts.isEmpty()) {
-            String missingList = String.join(", ", unregisteredAccounts);
-            throw new IllegalArgumentException(
-                    "❌ 오류: 이 서버에 등록되지 않은 롤 계정이 포함되어 있습니다. 먼저 `/register` 명령어로 해당 계정을 등록해 주세요.\n\n" +
-                            "**[미등록 계정 목록]**\n" + missingList
-            );
+        if (matchRecords.isEmpty()) {
+            return result;
         }
 
-        // 3. MatchRecord 엔티티 생성 및 필드 설정 (로직 유지)
-        MatchRecord matchRecord = new MatchRecord();
-        GuildServer proxyGuildServer = em.getReference(GuildServer.class, discordServerId);
+        // 2. MatchRecord 일괄 저장 (JDBC 배치 INSERT)
+        List<MatchRecord> savedMatches = matchRecordRepository.saveAll(matchRecords);
+        savedMatches.forEach(match -> result.addRegistered(match.getId()));
+
+        // 3. 누적 통계는 배치 전체 증감분을 합쳐 테이블당 한 번만 반영
+        if (asyncStatsProjection) {
+            matchOutboxEventRepository.saveAll(savedMatches.stream()
+                    .map(match -> MatchOutboxEvent.matchRegistered(match.getId(), cache.getServerId()))
+                    .toList());
+        } else {
+            statsUpsertService.upsertAll(deltas);
+        }
 
-        matchRecord.setGuildServer(proxyGuildServer);
-        matchRecord.setWinnerTeam(matchDto.getWinnerTeam());
-        matchRecord.setMatchDate(LocalDateTime.now());
-        matchRecord.setGameDurationSeconds(duration);
-        matchRecord.setBlueTotalGold(blueGold);
-        matchRecord.setRedTotalGold(redGold);
+        log.info("📥 경기 일괄 등록: 서버 {}, 등록 {}건, 건너뜀 {}건",
+                cache.getServerId(), savedMatches.size(), result.getErrors().size());
+        return result;
+    }
+
+    @Override
+    public int deleteMatch(Long discordServerId, Long matchId) {
+
+        MatchRecord matchRecord = matchRecordRepository.findByIdAndGuildServer_DiscordServerId(matchId, discordServerId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "❌ 오류: 이 서버에 해당 경기 기록이 없습니다. (경기 ID: " + matchId + ")"));
+
+        guildStatsLockService.lockShared(discordServerId);
+
+        // 1. 아직 통계에 반영되지 않은 경기(비동기 모드)는 이벤트만 지우면 되돌릴 통계가 없습니다.
+        //    프로젝터가 이 이벤트를 처리 중이면 잠금에서 대기한 뒤, 반영된 상태를 보고 되돌립니다.
+        boolean projected = matchOutboxEventRepository.findByMatchId(matchId)
+                .map(event -> {
+                    if (event.getProcessedAt() != null) {
+                        return true;
+                    }
+                    matchOutboxEventRepository.delete(event);
+                    return false;
+                })
+                .orElse(true);
+
+        // 2. 경기의 선수 기록으로 음수 증감분을 만들어 누적 통계에서 빼고, 0경기가 된 행은 삭제
+        List<PlayerStats> players = playerStatsRepository.findAllWithMatchByMatchIdIn(List.of(matchId));
+        if (projected) {
+            List<StatsDeltaDto> reversals = StatsDeltaDto.fromPlayerStats(players).stream()
+                    .map(StatsDeltaDto::negate)
+                    .toList();
+            statsUpsertService.upsertAll(reversals);
+            statsUpsertService.deleteEmptyRows(reversals);
+        }
+
+        // 3. MatchRecord 삭제 (PlayerStats는 cascade로 함께 삭제)
+        matchRecordRepository.delete(matchRecord);
+
+        log.info("🗑️ 경기 삭제 완료: 서버 {}, 경기 ID {}, 선수 기록 {}건 (통계 되돌림: {})",
+                discordServerId, matchId, players.size(), projected);
+        return players.size();
+    }
+
+    // =========================================================================
+    // 헬퍼 메서드
+    // =========================================================================
+
+    private void validateNotDuplicate(MatchRegistrationDto matchDto) {
+        Optional<MatchRecord> existingMatch = matchRecordRepository
+                .findByGameDurationSecondsAndBlueTotalGoldAndRedTotalGoldAndGuildServer_DiscordServerId(
+                        matchDto.getGameDurationSeconds(), matchDto.getBlueTotalGold(), matchDto.getRedTotalGold(),
+                        matchDto.getServerId()
+                );
+
+        if (existingMatch.isPresent()) {
+            throw new IllegalArgumentException(DUPLICATE_MATCH_MESSAGE);
+        }
+    }
 
-        // 4. PlayerStats 및 통계 저장
-        matchDto.getPlayerStatsList().forEach(playerDto -> {
+    private String duplicateKey(MatchRegistrationDto matchDto) {
+        return matchDto.getGameDurationSeconds() + ":" + matchDto.getBlueTotalGold() + ":" + matchDto.getRedTotalGold();
+    }
 
-            String gameName = playerDto.getLolGameName();
-            String tagLine = StringUtils.hasText(playerDto.getLolTagLine()) ? playerDto.getLolTagLine() : "";
+    private MatchRecord createMatchRecord(MatchRegistrationDto matchDto, ResolvedMatchDto resolvedMatch) {
+        MatchRecord matchRecord = new MatchRecord();
 
-            LolAccount lolAccount = lolAccountRepository.findByGameNameAndTagLineAndGuildServer_DiscordServerId(
-                    gameName, tagLine, discordServerId).get();
+        matchRecord.setGuildServer(resolvedMatch.getGuildServer());
+        matchRecord.setWinnerTeam(matchDto.getWinnerTeam());
+        matchRecord.setMatchDate(LocalDateTime.now());
+        matchRecord.setGameDurationSeconds(matchDto.getGameDurationSeconds());
+        matchRecord.setBlueTotalGold(matchDto.getBlueTotalGold());
+        matchRecord.setRedTotalGold(matchDto.getRedTotalGold());
+        matchRecord.setScreenshotHash(matchDto.getScreenshotHash());
 
-            User user = lolAccount.getUser();
-            int playerTeamKills = playerDto.getTeam().equalsIgnoreCase("BLUE") ? blueTeamKills : redTeamKills;
+        for (ResolvedPlayerDto player : resolvedMatch.getPlayers()) {
+            PlayerStatsDto playerDto = player.getPlayerStats();
 
-            // PlayerStats 엔티티 생성 및 설정
             PlayerStats stats = new PlayerStats();
-            stats.setUser(user);
-            stats.setLolNickname(lolAccount);
+            stats.setUser(player.getUser());
+            stats.setLolNickname(player.getLolAccount());
             stats.setTeam(playerDto.getTeam());
             stats.setKills(playerDto.getKills());
             stats.setDeaths(playerDto.getDeaths());
@@ -136,73 +223,14 @@ public class MatchRecordServiceImpl implements MatchRecordService {
             stats.setTotalDamage(playerDto.getTotalDamage());
             stats.setDurationSeconds(playerDto.getDurationSeconds());
 
-            boolean isWin = playerDto.getTeam().equalsIgnoreCase(matchDto.getWinnerTeam());
-            stats.setIsWin(isWin);
-
-            // ⭐⭐⭐ 핵심: PlayerStats에 Champion 및 Line FK 설정 ⭐⭐⭐
-            try {
-                // ChampionService를 통해 Champion 엔티티 조회
-                Champion champion = findChampion(playerDto.getChampionName());
-                // LineRepository를 통해 Line 엔티티 조회
-                Line line = findLine(playerDto.getLaneName());
+            stats.setIsWin(player.isWin());
 
-                stats.setChampion(champion); // Champion FK 설정
-                stats.setLine(line); // Line FK 설정
-            } catch (IllegalArgumentException e) {
-                log.error("챔피언 또는 라인 정보를 찾을 수 없습니다. 에러: {}", e.getMessage());
-                throw e; // 트랜잭션 롤백
-            }
+            // PlayerStats에 Champion 및 Line FK 설정
+            stats.setChampion(player.getChampion());
+            stats.setLine(player.getLine());
 
             matchRecord.addPlayerStats(stats); // PlayerStats를 MatchRecord에 연결
-
-            // ⭐ 4-1. UserServerStats 업데이트 (전체 통계)
-            if (user != null) {
-                userServerStatsService.updateStatsAfterMatch(
-                        user.getDiscordUserId(), discordServerId, playerDto, isWin,
-                        (long) duration, playerTeamKills
-                );
-
-                // ⭐⭐ 4-2. ChampionStats 업데이트 (챔피언별 통계)
-                championStatsService.updateChampionStats(
-                        playerDto.getChampionName(),
-                        user.getDiscordUserId(),
-                        discordServerId,
-                        playerDto,
-                        isWin,
-                        (long) duration,
-                        playerTeamKills
-                );
-
-                // ⭐⭐ 4-3. LineStats 업데이트 (라인별 통계)
-                lineStatsService.updateLineStats(
-                        user.getDiscordUserId(), discordServerId, playerDto, isWin,
-                        (long) duration, playerTeamKills
-                );
-            }
-        });
-
-        // 5. MatchRecord 저장
-        return matchRecordRepository.save(matchRecord);
-    }
-
-    // =========================================================================
-    // 엔티티 조회 헬퍼 메서드 (MatchRecordServiceImpl 내부에 구현)
-    // =========================================================================
-
-    /**
-     * 챔피언 이름을 통해 Champion 엔티티를 조회합니다.
-     */
-    private Champion findChampion(String championName) {
-        return championService.findChampionByIdentifier(championName)
-                .orElseThrow(() -> new IllegalArgumentException("❌ 챔피언 [" + championName + "] 정보를 찾을 수 없습니다."));
-    }
-
-    /**
-     * 라인 이름을 통해 Line 엔티티를 조회합니다.
-     */
-    private Line findLine(String laneName) {
-        // LineStatsServiceImpl과 동일하게 대문자로 변환하여 조회
-        return lineRepository.findByName(laneName.toUpperCase())
-                .orElseThrow(() -> new IllegalArgumentException("❌ 라인 [" + laneName + "] 정보를 찾을 수 없습니다."));
+        }
+        return matchRecord;
     }
-}
\ No newline at end of file
+}
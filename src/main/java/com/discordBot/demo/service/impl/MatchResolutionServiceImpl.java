@@ -0,0 +1,236 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.MatchResolutionCacheDto;
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
+import com.discordBot.demo.domain.dto.ResolvedPlayerDto;
+import com.discordBot.demo.domain.entity.Champion;
+import com.discordBot.demo.domain.entity.GuildServer;
+import com.discordBot.demo.domain.entity.Line;
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.repository.ChampionRepository;
+import com.discordBot.demo.domain.repository.LineRepository;
+import com.discordBot.demo.domain.repository.LolAccountRepository;
+import com.discordBot.demo.service.MatchResolutionService;
+import com.discordBot.demo.service.ServerManagementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class MatchResolutionServiceImpl implements MatchResolutionService {
+
+    private final ServerManagementService serverManagementService;
+    private final LolAccountRepository lolAccountRepository;
+    private final ChampionRepository championRepository;
+    private final LineRepository lineRepository;
+
+    @Override
+    public ResolvedMatchDto resolve(MatchRegistrationDto matchDto) {
+
+        Long discordServerId = matchDto.getServerId();
+        List<PlayerStatsDto> players = matchDto.getPlayerStatsList();
+
+        GuildServer guildServer = serverManagementService.findOrCreateGuildServer(discordServerId);
+
+        // 1. 계정 + 소유자 일괄 조회 (IN 쿼리 1회)
+        Map<String, LolAccount> accountsByFullName = findAccounts(discordServerId, players);
+        validateRegisteredAccounts(players, accountsByFullName);
+
+        // 2. 챔피언 / 라인 일괄 조회
+        Map<String, Champion> championsByIdentifier = findChampions(players);
+        Map<String, Line> linesByName = findLines(players);
+
+        return assemble(matchDto, guildServer, accountsByFullName, championsByIdentifier, linesByName);
+    }
+
+    @Override
+    @Transactional
+    public MatchResolutionCacheDto preload(Long discordServerId) {
+        GuildServer guildServer = serverManagementService.findOrCreateGuildServer(discordServerId);
+
+        Map<String, LolAccount> accountsByFullName = lolAccountRepository.findAllWithUserByServerId(discordServerId).stream()
+                .collect(Collectors.toMap(LolAccount::getFullAccountName, Function.identity(), (a, b) -> a));
+
+        // 이름(한글)이 영문 키보다 우선하도록 키를 먼저 넣고 이름으로 덮어씁니다.
+        Map<String, Champion> championsByIdentifier = new HashMap<>();
+        List<Champion> champions = championRepository.findAll();
+        champions.forEach(champion -> championsByIdentifier.put(champion.getChampionKey(), champion));
+        champions.forEach(champion -> championsByIdentifier.put(champion.getName(), champion));
+
+        Map<String, Line> linesByName = lineRepository.findAll().stream()
+                .collect(Collectors.toMap(Line::getName, Function.identity()));
+
+        log.info("조회 캐시 생성: 서버 {}, 계정 {}개, 챔피언 {}개, 라인 {}개",
+                discordServerId, accountsByFullName.size(), champions.size(), linesByName.size());
+
+        return MatchResolutionCacheDto.builder()
+                .serverId(discordServerId)
+                .guildServer(guildServer)
+                .accountsByFullName(accountsByFullName)
+                .championsByIdentifier(championsByIdentifier)
+                .linesByName(linesByName)
+                .build();
+    }
+
+    /**
+     * 배치 등록 트랜잭션 안에서 경기마다 호출되며, 검증 실패(IllegalArgumentException)는 호출자가 그 경기만 건너뜁니다.
+     * 기본 규칙대로라면 이 프록시 경계에서 예외가 나가는 순간 배치 트랜잭션 전체가 rollback-only로 표시되므로 제외합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, noRollbackFor = IllegalArgumentException.class)
+    public ResolvedMatchDto resolve(MatchRegistrationDto matchDto, MatchResolutionCacheDto cache) {
+        List<PlayerStatsDto> players = matchDto.getPlayerStatsList();
+        validateRegisteredAccounts(players, cache.getAccountsByFullName());
+
+        return assemble(matchDto, cache.getGuildServer(), cache.getAccountsByFullName(),
+                cache.getChampionsByIdentifier(), cache.getLinesByName());
+    }
+
+    private void validateRegisteredAccounts(List<PlayerStatsDto> players, Map<String, LolAccount> accountsByFullName) {
+        List<String> unregisteredAccounts = players.stream()
+                .map(this::toFullAccountName)
+                .filter(fullName -> !accountsByFullName.containsKey(fullName))
+                .collect(Collectors.toList());
+
+        if (!unregisteredAccounts.isEmpty()) {
+            String missingList = String.join(", ", unregisteredAccounts);
+            throw new IllegalArgumentException(
+                    "❌ 오류: 이 서버에 등록되지 않은 롤 계정이 포함되어 있습니다. 먼저 `/register` 명령어로 해당 계정을 등록해 주세요.\n\n" +
+                            "**[미등록 계정 목록]**\n" + missingList
+            );
+        }
+    }
+
+    /**
+     * 조회가 끝난 엔티티를 선수별로 연결하고 팀 총 킬 수를 계산합니다.
+     */
+    private ResolvedMatchDto assemble(MatchRegistrationDto matchDto, GuildServer guildServer,
+                                      Map<String, LolAccount> accountsByFullName,
+                                      Map<String, Champion> championsByIdentifier,
+                                      Map<String, Line> linesByName) {
+        List<PlayerStatsDto> players = matchDto.getPlayerStatsList();
+
+        // KP 계산을 위한 팀 총 킬 수 사전 계산
+        int blueTeamKills = sumTeamKills(players, "BLUE");
+        int redTeamKills = sumTeamKills(players, "RED");
+
+        List<ResolvedPlayerDto> resolvedPlayers = new ArrayList<>();
+        for (PlayerStatsDto playerDto : players) {
+            String championName = playerDto.getChampionName();
+            Champion champion = championName != null ? championsByIdentifier.get(championName) : null;
+            if (champion == null) {
+                throw new IllegalArgumentException("❌ 챔피언 [" + championName + "] 정보를 찾을 수 없습니다.");
+            }
+
+            Line line = linesByName.get(toLineName(playerDto.getLaneName()));
+            if (line == null) {
+                throw new IllegalArgumentException("❌ 라인 [" + playerDto.getLaneName() + "] 정보를 찾을 수 없습니다.");
+            }
+
+            LolAccount lolAccount = accountsByFullName.get(toFullAccountName(playerDto));
+            boolean isBlue = "BLUE".equalsIgnoreCase(playerDto.getTeam());
+
+            resolvedPlayers.add(ResolvedPlayerDto.builder()
+                    .playerStats(playerDto)
+                    .lolAccount(lolAccount)
+                    .user(lolAccount.getUser())
+                    .champion(champion)
+                    .line(line)
+                    .win(playerDto.getTeam().equalsIgnoreCase(matchDto.getWinnerTeam()))
+                    .teamTotalKills(isBlue ? blueTeamKills : redTeamKills)
+                    .build());
+        }
+
+        return ResolvedMatchDto.builder()
+                .serverId(guildServer.getDiscordServerId())
+                .guildServer(guildServer)
+                .gameDurationSeconds(matchDto.getGameDurationSeconds())
+                .players(resolvedPlayers)
+                .build();
+    }
+
+    // =========================================================================
+    // 일괄 조회 헬퍼 메서드
+    // =========================================================================
+
+    private Map<String, LolAccount> findAccounts(Long discordServerId, List<PlayerStatsDto> players) {
+        Set<String> gameNames = players.stream()
+                .map(PlayerStatsDto::getLolGameName)
+                .collect(Collectors.toSet());
+
+        // 같은 gameName의 다른 태그 계정도 함께 조회되므로 gameName#tagLine 키로 대조합니다.
+        return lolAccountRepository.findAllWithUserByServerIdAndGameNameIn(discordServerId, gameNames).stream()
+                .collect(Collectors.toMap(LolAccount::getFullAccountName, Function.identity(), (a, b) -> a));
+    }
+
+    /**
+     * ChampionService.findChampionByIdentifier와 동일하게 이름(한글)을 먼저, 영문 키를 나중에 확인합니다.
+     */
+    private Map<String, Champion> findChampions(List<PlayerStatsDto> players) {
+        Set<String> identifiers = players.stream()
+                .map(PlayerStatsDto::getChampionName)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, Champion> result = new HashMap<>();
+        if (identifiers.isEmpty()) {
+            return result;
+        }
+
+        championRepository.findAllByNameIn(identifiers)
+                .forEach(champion -> result.put(champion.getName(), champion));
+
+        Set<String> remaining = identifiers.stream()
+                .filter(identifier -> !result.containsKey(identifier))
+                .collect(Collectors.toSet());
+
+        if (!remaining.isEmpty()) {
+            championRepository.findAllByChampionKeyIn(remaining)
+                    .forEach(champion -> result.put(champion.getChampionKey(), champion));
+        }
+        return result;
+    }
+
+    private Map<String, Line> findLines(List<PlayerStatsDto> players) {
+        Set<String> lineNames = players.stream()
+                .map(p -> toLineName(p.getLaneName()))
+                .collect(Collectors.toSet());
+
+        return lineRepository.findAllByNameIn(lineNames).stream()
+                .collect(Collectors.toMap(Line::getName, Function.identity()));
+    }
+
+    private int sumTeamKills(List<PlayerStatsDto> players, String team) {
+        return players.stream()
+                .filter(p -> team.equalsIgnoreCase(p.getTeam()))
+                .mapToInt(PlayerStatsDto::getKills)
+                .sum();
+    }
+
+    private String toFullAccountName(PlayerStatsDto playerDto) {
+        String tagLine = StringUtils.hasText(playerDto.getLolTagLine()) ? playerDto.getLolTagLine() : "";
+        return playerDto.getLolGameName() + "#" + tagLine;
+    }
+
+    private String toLineName(String laneName) {
+        // Line 엔티티의 NAME 필드와 동일하게 대문자로 변환하여 조회
+        return StringUtils.hasText(laneName) ? laneName.toUpperCase() : "UNKNOWN";
+    }
+}
@@ -13,11 +13,11 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors; // Collectors import
 
 @Service
 @Slf4j
@@ -40,6 +40,7 @@ public class RiotApiServiceImpl implements RiotApiService {
     );
     // URL 형식: base/cdn/version/img/type/file.png
     private static final String ICON_PATH_FORMAT = "/cdn/%s/img/%s/%s.png";
+    private static final Duration ICON_TIMEOUT = Duration.ofSeconds(10);
 
 
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -47,6 +48,11 @@ public class RiotApiServiceImpl implements RiotApiService {
         public Map<String, Champion> data;
     }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class DataDragonSpellResponse {
+        public Map<String, Object> data;
+    }
+
     public RiotApiServiceImpl() {
         this.webClient = WebClient.builder()
                 .baseUrl(RIOT_API_BASE_URL)
@@ -141,26 +147,53 @@ public class RiotApiServiceImpl implements RiotApiService {
     }
 
     // ⭐ --------------------------------------------------------------------------------
-    // 3. Line/Position 추정용 Data Dragon URL 제공
+    // 3. 점수판 아이콘 인식용 Data Dragon 아이콘 제공
     // ⭐ --------------------------------------------------------------------------------
 
     @Override
-    public String getSmiteIconUrl() {
-        String version = getLatestGameVersion();
-        if (version == null) return null;
+    public List<String> getSummonerSpellKeys(String version) {
+        try {
+            DataDragonSpellResponse response = this.dataDragonWebClient.get()
+                    .uri(String.format("/cdn/%s/data/ko_KR/summoner.json", version))
+                    .retrieve()
+                    .onStatus(status -> status.isError(), resp -> resp.createException().flatMap(Mono::error))
+                    .bodyToMono(DataDragonSpellResponse.class)
+                    .block(ICON_TIMEOUT);
 
-        // URL 형식: base/cdn/version/img/spell/SummonerSmite.png
-        return String.format(DDRAGON_BASE_URL + ICON_PATH_FORMAT, version, "spell", SMITE_SPELL_KEY);
+            if (response == null || response.data == null) {
+                return Collections.emptyList();
+            }
+            return List.copyOf(response.data.keySet());
+        } catch (Exception e) {
+            log.error("소환사 주문 목록을 가져오는 데 실패했습니다. (버전 {})", version, e);
+            return Collections.emptyList();
+        }
     }
 
     @Override
-    public List<String> getSupportItemIconUrls() {
-        String version = getLatestGameVersion();
-        if (version == null) return Collections.emptyList();
-
-        // 서폿 아이템 URL 목록 생성: base/cdn/version/img/item/itemId.png
-        return SUPPORT_ITEM_IDS.stream()
-                .map(itemId -> String.format(DDRAGON_BASE_URL + ICON_PATH_FORMAT, version, "item", itemId))
-                .collect(Collectors.toList());
+    public String getSmiteSpellKey() {
+        return SMITE_SPELL_KEY;
+    }
+
+    @Override
+    public List<String> getSupportItemIds() {
+        return SUPPORT_ITEM_IDS;
+    }
+
+    @Override
+    public Optional<byte[]> downloadIcon(String version, String type, String fileName) {
+        try {
+            // URL 형식: base/cdn/version/img/type/file.png
+            byte[] bytes = this.dataDragonWebClient.get()
+                    .uri(String.format(ICON_PATH_FORMAT, version, type, fileName))
+                    .retrieve()
+                    .onStatus(status -> status.isError(), resp -> resp.createException().flatMap(Mono::error))
+                    .bodyToMono(byte[].class)
+                    .block(ICON_TIMEOUT);
+            return Optional.ofNullable(bytes);
+        } catch (Exception e) {
+            log.warn("Data Dragon 아이콘 다운로드 실패: {}/{}/{} ({})", version, type, fileName, e.getMessage());
+            return Optional.empty();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,318 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.entity.Champion;
+import com.discordBot.demo.domain.repository.ChampionRepository;
+import com.discordBot.demo.service.ChampionService;
+import com.discordBot.demo.service.RiotApiService;
+import com.discordBot.demo.service.ScoreboardIconService;
+import com.discordBot.demo.support.ScoreboardIconReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 점수판 아이콘 로컬 인식
+ *
+ * 스냅샷: {snapshot-dir}/{챔피언 데이터 버전}/{champion|spell|item}/{키}.png
+ * 한 번 받은 아이콘은 디스크에서 다시 읽으므로, 버전이 바뀔 때만 Data Dragon에서 내려받습니다.
+ * 기본값은 꺼짐 (spring.analysis.icon-match.enabled): 합성 아이콘으로만 검증했으므로 실제 점수판 캡처로 확인한 뒤 켭니다.
+ */
+@Slf4j
+@Service
+public class ScoreboardIconServiceImpl implements ScoreboardIconService {
+
+    private static final String UNKNOWN_VERSION = "unknown";
+    private static final String ICON_EXTENSION = ".png";
+
+    // 스냅샷 준비에 실패하면 이 시간 동안은 다시 내려받지 않습니다. (Data Dragon 장애 중 분석마다 재시도 방지)
+    private static final long RETRY_AFTER_FAILURE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    // 남은 초상화 하나로 Gemini가 읽은 챔피언 이름을 바꿀 때 필요한 최소 유사도 (행 인식 기준보다 엄격하게)
+    private static final double CHAMPION_CORRECTION_MIN_SIMILARITY = 0.9;
+
+    private record Snapshot(String version, ScoreboardIconReader reader, Map<String, String> championNames) {
+    }
+
+    private final RiotApiService riotApiService;
+    private final ChampionService championService;
+    private final ChampionRepository championRepository;
+    private final MeterRegistry meterRegistry;
+    private final Timer readTimer;
+
+    private final boolean enabled;
+    private final Path snapshotDir;
+    private final double minSimilarity;
+
+    private final ThreadPoolExecutor iconExecutor;
+    // 처음에는 아이콘을 수백 개 내려받으므로 분석용 스레드와 따로 한 번에 하나씩 준비합니다.
+    private final ThreadPoolExecutor snapshotExecutor;
+    private CompletableFuture<Void> preparation = CompletableFuture.completedFuture(null);
+    private volatile Snapshot snapshot;
+    private volatile long retryAfterMillis;
+
+    public ScoreboardIconServiceImpl(RiotApiService riotApiService,
+                                     ChampionService championService,
+                                     ChampionRepository championRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${spring.analysis.icon-match.enabled:false}") boolean enabled,
+                                     @Value("${spring.analysis.icon-match.snapshot-dir:./ddragon-snapshot}") String snapshotDir,
+                                     @Value("${spring.analysis.icon-match.min-similarity:0.8}") double minSimilarity) {
+        this.riotApiService = riotApiService;
+        this.championService = championService;
+        this.championRepository = championRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.snapshotDir = Path.of(snapshotDir);
+        this.minSimilarity = minSimilarity;
+        this.readTimer = Timer.builder("image.analysis.icon-match")
+                .description("점수판 아이콘 로컬 인식 소요 시간")
+                .register(meterRegistry);
+
+        this.iconExecutor = newExecutor("icon-match", Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        this.snapshotExecutor = newExecutor("icon-snapshot", 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshotExecutor.shutdownNow();
+        iconExecutor.shutdownNow();
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> prepareSnapshot() {
+        if (!enabled || !preparation.isDone()) {
+            return preparation;
+        }
+        try {
+            preparation = CompletableFuture.runAsync(this::refreshSnapshot, snapshotExecutor);
+        } catch (RejectedExecutionException e) {
+            // 종료 중: 이번 분석은 아이콘 근거 없이 진행
+            return CompletableFuture.completedFuture(null);
+        }
+        return preparation;
+    }
+
+    @Override
+    public CompletableFuture<List<ScoreboardIconReader.Row>> readAsync(byte[] imageBytes) {
+        if (!enabled || imageBytes == null) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 시작할 때 준비하지 못했으면 다시 시도해 두고, 이번 분석은 아이콘 근거 없이 진행
+            prepareSnapshot();
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return CompletableFuture.supplyAsync(() -> readTimer.record(() -> read(current, imageBytes)), iconExecutor);
+    }
+
+    private List<ScoreboardIconReader.Row> read(Snapshot current, byte[] imageBytes) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+            if (image == null) {
+                return List.of();
+            }
+            List<ScoreboardIconReader.Row> rows = current.reader().read(image);
+            log.debug("🖼️ 점수판 아이콘 행 {}개 인식", rows.size());
+            return rows;
+        } catch (Exception e) {
+            // 보조 근거이므로 실패해도 분석은 그대로 진행
+            log.warn("⚠️ 점수판 아이콘 로컬 인식 실패, 아이콘 근거 없이 진행합니다: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public int applyIconEvidence(List<PlayerStatsDto> players, List<ScoreboardIconReader.Row> rows) {
+        Snapshot current = snapshot;
+        if (current == null || players == null || players.isEmpty() || rows == null || rows.isEmpty()) {
+            return 0;
+        }
+
+        // PlayerStatsDto는 @Data(필드 기반 equals)라 값을 바꾸면 해시가 달라지므로 객체 동일성으로 매핑합니다.
+        Map<PlayerStatsDto, ScoreboardIconReader.Row> pairs = new IdentityHashMap<>();
+        List<ScoreboardIconReader.Row> unmatchedRows = new ArrayList<>();
+        for (ScoreboardIconReader.Row row : rows) {
+            String championName = current.championNames().get(row.championKey());
+            List<PlayerStatsDto> sameChampion = players.stream()
+                    .filter(player -> !pairs.containsKey(player) && Objects.equals(player.getChampionName(), championName))
+                    .toList();
+            if (sameChampion.size() == 1) {
+                pairs.put(sameChampion.get(0), row);
+            } else {
+                unmatchedRows.add(row);
+            }
+        }
+
+        // 챔피언 이름을 잘못 읽은 선수가 하나뿐이면, 남은 초상화가 그 선수의 챔피언입니다.
+        List<PlayerStatsDto> unmatchedPlayers = players.stream().filter(player -> !pairs.containsKey(player)).toList();
+        if (unmatchedRows.size() == 1 && unmatchedPlayers.size() == 1
+                && unmatchedRows.get(0).championSimilarity() >= CHAMPION_CORRECTION_MIN_SIMILARITY) {
+            PlayerStatsDto player = unmatchedPlayers.get(0);
+            String championName = current.championNames().get(unmatchedRows.get(0).championKey());
+            log.info("🖼️ 챔피언 보정 (아이콘): {} '{}' → '{}'", player.getLolGameName(), player.getChampionName(), championName);
+            player.setChampionName(championName);
+            pairs.put(player, unmatchedRows.get(0));
+        }
+
+        int updated = 0;
+        for (PlayerStatsDto player : players) {
+            ScoreboardIconReader.Row row = pairs.get(player);
+            if (row == null) {
+                continue;
+            }
+            boolean changed = false;
+            if (row.smite() != null) {
+                if (player.getSmiteDetected() != null && !row.smite().equals(player.getSmiteDetected())) {
+                    log.info("🖼️ {} 강타 {} → {} (아이콘)", player.getLolGameName(), player.getSmiteDetected(), row.smite());
+                }
+                player.setSmiteDetected(row.smite());
+                changed = true;
+            }
+            if (row.supportItem() != null) {
+                if (player.getSupportItemDetected() != null && !row.supportItem().equals(player.getSupportItemDetected())) {
+                    log.info("🖼️ {} 서포터 아이템 {} → {} (아이콘)", player.getLolGameName(), player.getSupportItemDetected(), row.supportItem());
+                }
+                player.setSupportItemDetected(row.supportItem());
+                changed = true;
+            }
+            if (changed) {
+                updated++;
+            }
+        }
+
+        count("matched", pairs.size());
+        count("unmatched", players.size() - pairs.size());
+        return updated;
+    }
+
+    private void count(String result, int amount) {
+        if (amount > 0) {
+            Counter.builder("image.analysis.icon-match.rows").tag("result", result).register(meterRegistry).increment(amount);
+        }
+    }
+
+    // --------------------------------------------------------------------------------
+    // 스냅샷
+    // --------------------------------------------------------------------------------
+
+    private void refreshSnapshot() {
+        String version = championService.getChampionDataVersion();
+        Snapshot current = snapshot;
+        if (UNKNOWN_VERSION.equals(version) || (current != null && current.version().equals(version))
+                || System.currentTimeMillis() < retryAfterMillis) {
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<String, BufferedImage> championIcons = new HashMap<>();
+            Map<String, String> championNames = new HashMap<>();
+            for (Champion champion : championRepository.findAll()) {
+                loadIcon(version, "champion", champion.getChampionKey()).ifPresent(icon -> {
+                    championIcons.put(champion.getChampionKey(), icon);
+                    championNames.put(champion.getChampionKey(), champion.getName());
+                });
+            }
+            if (championIcons.isEmpty()) {
+                throw new IOException("챔피언 아이콘을 하나도 준비하지 못했습니다.");
+            }
+
+            List<String> spellKeys = riotApiService.getSummonerSpellKeys(version);
+            if (spellKeys.isEmpty()) {
+                // Data Dragon에 연결할 수 없으면 이전에 받아 둔 주문 아이콘만 사용
+                spellKeys = cachedIconNames(version, "spell");
+            }
+            Map<String, BufferedImage> spellIcons = new HashMap<>();
+            for (String spellKey : spellKeys) {
+                loadIcon(version, "spell", spellKey).ifPresent(icon -> spellIcons.put(spellKey, icon));
+            }
+            Map<String, BufferedImage> supportItemIcons = new HashMap<>();
+            for (String itemId : riotApiService.getSupportItemIds()) {
+                loadIcon(version, "item", itemId).ifPresent(icon -> supportItemIcons.put(itemId, icon));
+            }
+
+            ScoreboardIconReader reader = new ScoreboardIconReader(championIcons, spellIcons, supportItemIcons,
+                    riotApiService.getSmiteSpellKey(), minSimilarity);
+            snapshot = new Snapshot(version, reader, Map.copyOf(championNames));
+            log.info("🖼️ 아이콘 스냅샷 준비 완료: 버전 {}, 챔피언 {} / 주문 {} / 서포터 아이템 {} ({}ms)",
+                    version, championIcons.size(), spellIcons.size(), supportItemIcons.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            retryAfterMillis = System.currentTimeMillis() + RETRY_AFTER_FAILURE_MILLIS;
+            log.warn("⚠️ 아이콘 스냅샷 준비 실패 (버전 {}), 아이콘 근거 없이 분석합니다: {}", version, e.getMessage());
+        }
+    }
+
+    private Optional<BufferedImage> loadIcon(String version, String type, String name) {
+        Path file = snapshotDir.resolve(version).resolve(type).resolve(name + ICON_EXTENSION);
+        try {
+            if (!Files.exists(file)) {
+                Optional<byte[]> downloaded = riotApiService.downloadIcon(version, type, name);
+                if (downloaded.isEmpty()) {
+                    return Optional.empty();
+                }
+                // 내려받는 중에 중단돼도 깨진 파일이 남지 않도록 임시 파일에 쓰고 옮깁니다.
+                Files.createDirectories(file.getParent());
+                Path temp = Files.createTempFile(file.getParent(), name, ".tmp");
+                Files.write(temp, downloaded.get());
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return Optional.ofNullable(ImageIO.read(file.toFile()));
+        } catch (IOException e) {
+            log.warn("⚠️ 아이콘 로드 실패: {} ({})", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(String name, int threads) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private List<String> cachedIconNames(String version, String type) throws IOException {
+        Path dir = snapshotDir.resolve(version).resolve(type);
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(ICON_EXTENSION))
+                    .map(fileName -> fileName.substring(0, fileName.length() - ICON_EXTENSION.length()))
+                    .toList();
+        }
+    }
+}
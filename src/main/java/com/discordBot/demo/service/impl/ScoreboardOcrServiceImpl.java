@@ -0,0 +1,200 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.service.ScoreboardOcrService;
+import com.discordBot.demo.support.HungarianAlgorithm;
+import com.discordBot.demo.support.ScoreboardDigitReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 점수판 숫자 열 로컬 인식 (템플릿 매칭)
+ *
+ * 모드 (spring.analysis.digit-ocr.mode)
+ * - off: 읽지 않음 (기본, 실제 점수판 캡처로 인식률을 확인한 뒤 켭니다)
+ * - check: Gemini 값과 다른 항목을 확인 화면에 경고로만 표시
+ * - fill: 행이 맞춰진 선수는 다른 항목을 로컬 인식 값으로 바꾸고 경고로 표시
+ */
+@Slf4j
+@Service
+public class ScoreboardOcrServiceImpl implements ScoreboardOcrService {
+
+    // 한 행에서 이보다 많은 항목이 다르면 같은 선수의 행으로 보지 않습니다. (행 5개 항목 중)
+    private static final int MAX_MISMATCHES_PER_ROW = 2;
+
+    private static final List<Field> FIELDS = List.of(
+            new Field("K", PlayerStatsDto::getKills, PlayerStatsDto::setKills, ScoreboardDigitReader.Row::kills),
+            new Field("D", PlayerStatsDto::getDeaths, PlayerStatsDto::setDeaths, ScoreboardDigitReader.Row::deaths),
+            new Field("A", PlayerStatsDto::getAssists, PlayerStatsDto::setAssists, ScoreboardDigitReader.Row::assists),
+            new Field("피해량", PlayerStatsDto::getTotalDamage, PlayerStatsDto::setTotalDamage, ScoreboardDigitReader.Row::totalDamage),
+            new Field("골드", PlayerStatsDto::getTotalGold, PlayerStatsDto::setTotalGold, ScoreboardDigitReader.Row::totalGold)
+    );
+
+    private final String mode;
+    private final ScoreboardDigitReader reader;
+    private final ExecutorService ocrExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Timer readTimer;
+
+    public ScoreboardOcrServiceImpl(MeterRegistry meterRegistry,
+                                    @Value("${spring.analysis.digit-ocr.mode:off}") String mode,
+                                    @Value("${spring.analysis.digit-ocr.min-similarity:0.5}") double minSimilarity) {
+        this.mode = normalizeMode(mode);
+        this.reader = "off".equals(this.mode) ? null : new ScoreboardDigitReader(minSimilarity);
+        this.meterRegistry = meterRegistry;
+        this.readTimer = Timer.builder("image.analysis.digit-ocr")
+                .description("점수판 숫자 로컬 인식 소요 시간")
+                .register(meterRegistry);
+
+        // CPU 작업이므로 코어 수만큼만 (Gemini 응답을 기다리는 동안 끝나면 충분)
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "digit-ocr-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        this.ocrExecutor = executor;
+        log.info("🔢 점수판 숫자 로컬 인식 모드: {}", this.mode);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ocrExecutor.shutdownNow();
+    }
+
+    private static String normalizeMode(String mode) {
+        String normalized = mode.trim().toLowerCase();
+        // YAML 1.1은 따옴표 없는 off를 false로 읽으므로 같은 뜻으로 취급합니다.
+        if ("false".equals(normalized)) {
+            return "off";
+        }
+        if (!List.of("off", "check", "fill").contains(normalized)) {
+            throw new IllegalArgumentException("알 수 없는 점수판 숫자 로컬 인식 모드입니다: " + mode + " (off, check, fill)");
+        }
+        return normalized;
+    }
+
+    @Override
+    public CompletableFuture<List<ScoreboardDigitReader.Row>> readAsync(byte[] imageBytes) {
+        if (reader == null || imageBytes == null) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return CompletableFuture.supplyAsync(() -> readTimer.record(() -> read(imageBytes)), ocrExecutor);
+    }
+
+    private List<ScoreboardDigitReader.Row> read(byte[] imageBytes) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+            if (image == null) {
+                return List.of();
+            }
+            List<ScoreboardDigitReader.Row> rows = reader.read(image);
+            log.debug("🔢 점수판 숫자 행 {}개 인식", rows.size());
+            return rows;
+        } catch (Exception e) {
+            // 보조 검사이므로 실패해도 분석은 그대로 진행
+            log.warn("⚠️ 점수판 숫자 로컬 인식 실패, 교차 검증을 건너뜁니다: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public int crossCheck(List<PlayerStatsDto> players, List<ScoreboardDigitReader.Row> rows) {
+        if (reader == null || players == null || players.isEmpty() || rows == null || rows.size() * 2 < players.size()) {
+            // 행을 절반도 못 읽었으면 화면 구성이 다른 것으로 보고 비교하지 않습니다.
+            return 0;
+        }
+
+        double[][] cost = new double[players.size()][rows.size()];
+        for (int i = 0; i < players.size(); i++) {
+            for (int j = 0; j < rows.size(); j++) {
+                cost[i][j] = compare(players.get(i), rows.get(j)).size();
+            }
+        }
+        int[] assignment = HungarianAlgorithm.solve(cost);
+
+        boolean fill = "fill".equals(mode);
+        int mismatches = 0;
+        int matchedRows = 0;
+        int agreedFields = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (assignment[i] < 0 || cost[i][assignment[i]] > MAX_MISMATCHES_PER_ROW) {
+                continue;
+            }
+            PlayerStatsDto player = players.get(i);
+            List<FieldCheck> differences = compare(player, rows.get(assignment[i]));
+            matchedRows++;
+            agreedFields += FIELDS.size() - differences.size();
+            if (differences.isEmpty()) {
+                continue;
+            }
+
+            mismatches += differences.size();
+            List<String> warnings = new ArrayList<>();
+            for (FieldCheck difference : differences) {
+                warnings.add(difference.field().label() + " " + difference.geminiValue() + "≠" + difference.ocrValue());
+                if (fill) {
+                    difference.field().setter().accept(player, difference.ocrValue());
+                }
+            }
+            player.setOcrWarning(String.join(", ", warnings));
+            log.info("🔢 {} 숫자 인식 불일치{}: {}", player.getLolGameName(), fill ? " (로컬 값으로 교체)" : "", player.getOcrWarning());
+        }
+
+        count("image.analysis.digit-ocr.fields", "result", "agree", agreedFields);
+        count("image.analysis.digit-ocr.fields", "result", "mismatch", mismatches);
+        count("image.analysis.digit-ocr.rows", "result", "matched", matchedRows);
+        count("image.analysis.digit-ocr.rows", "result", "unmatched", players.size() - matchedRows);
+        return mismatches;
+    }
+
+    private static List<FieldCheck> compare(PlayerStatsDto player, ScoreboardDigitReader.Row row) {
+        List<FieldCheck> differences = new ArrayList<>();
+        for (Field field : FIELDS) {
+            Integer ocrValue = field.ocrGetter().apply(row);
+            int geminiValue = field.getter().applyAsInt(player);
+            // 인식하지 못한 열은 비교하지 않음
+            if (ocrValue != null && !Objects.equals(ocrValue, geminiValue)) {
+                differences.add(new FieldCheck(field, geminiValue, ocrValue));
+            }
+        }
+        return differences;
+    }
+
+    private void count(String name, String tag, String value, int amount) {
+        if (amount > 0) {
+            Counter.builder(name).tag(tag, value).register(meterRegistry).increment(amount);
+        }
+    }
+
+    private record Field(String label, ToIntFunction<PlayerStatsDto> getter, ObjIntConsumer<PlayerStatsDto> setter,
+                         Function<ScoreboardDigitReader.Row, Integer> ocrGetter) {
+    }
+
+    private record FieldCheck(Field field, int geminiValue, int ocrValue) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+import com.discordBot.demo.domain.entity.MatchOutboxEvent;
+import com.discordBot.demo.domain.entity.PlayerStats;
+import com.discordBot.demo.domain.repository.MatchOutboxEventRepository;
+import com.discordBot.demo.domain.repository.PlayerStatsRepository;
+import com.discordBot.demo.service.GuildStatsLockService;
+import com.discordBot.demo.service.StatsProjectionService;
+import com.discordBot.demo.service.StatsUpsertService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class StatsProjectionServiceImpl implements StatsProjectionService {
+
+    // 이 횟수 이상 실패한 이벤트는 자동 재시도 대상에서 제외됩니다. (last_error 확인 후 수동 처리)
+    static final int MAX_ATTEMPTS = 10;
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MatchOutboxEventRepository outboxRepository;
+    private final PlayerStatsRepository playerStatsRepository;
+    private final StatsUpsertService statsUpsertService;
+    private final GuildStatsLockService guildStatsLockService;
+
+    @Override
+    public int projectPending(int batchSize) {
+        return project(outboxRepository.lockPendingBatch(batchSize, MAX_ATTEMPTS));
+    }
+
+    @Override
+    public int projectEvents(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        return project(outboxRepository.lockPendingByIds(eventIds));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findPendingEventIds(int limit) {
+        return outboxRepository.findPendingIds(limit, MAX_ATTEMPTS);
+    }
+
+    @Override
+    public void recordFailure(Collection<Long> eventIds, String error) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        String message = error == null ? "unknown" : error;
+        if (message.length() > MAX_ERROR_LENGTH) {
+            message = message.substring(0, MAX_ERROR_LENGTH);
+        }
+        outboxRepository.recordFailure(eventIds, message);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return outboxRepository.countByProcessedAtIsNull();
+    }
+
+    /**
+     * 잠근 이벤트들의 선수 기록을 한 번에 읽어 증감분을 만들고, 통계 반영과 처리 완료 표시를 같은 트랜잭션에서 수행합니다.
+     */
+    private int project(List<MatchOutboxEvent> lockedEvents) {
+        List<MatchOutboxEvent> events = excludeRebuildingGuilds(lockedEvents);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> matchIds = new LinkedHashSet<>();
+        for (MatchOutboxEvent event : events) {
+            matchIds.add(event.getMatchId());
+        }
+
+        // 경기가 이미 삭제된 이벤트는 선수 기록이 없으므로 반영 없이 처리 완료로 표시됩니다.
+        List<PlayerStats> players = playerStatsRepository.findAllWithMatchByMatchIdIn(matchIds);
+        List<StatsDeltaDto> deltas = StatsDeltaDto.fromPlayerStats(players);
+
+        statsUpsertService.upsertAll(deltas);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (MatchOutboxEvent event : events) {
+            event.setProcessedAt(now);
+            event.setLastError(null);
+        }
+
+        log.info("📊 통계 프로젝션 완료: 이벤트 {}건, 선수 기록 {}건 반영", events.size(), players.size());
+        return events.size();
+    }
+
+    /**
+     * 통계 재계산이 교체 중인 서버의 이벤트는 이번 배치에서 제외합니다. (다음 주기에 다시 처리)
+     * 대기하지 않고 즉시 시도하므로, 이벤트 행을 잠근 채 재계산과 서로 기다리는 교착이 생기지 않습니다.
+     */
+    private List<MatchOutboxEvent> excludeRebuildingGuilds(List<MatchOutboxEvent> events) {
+        Set<Long> serverIds = new TreeSet<>();
+        for (MatchOutboxEvent event : events) {
+            serverIds.add(event.getServerId());
+        }
+
+        Set<Long> lockedServerIds = new HashSet<>();
+        for (Long serverId : serverIds) {
+            if (guildStatsLockService.tryLockShared(serverId)) {
+                lockedServerIds.add(serverId);
+            } else {
+                log.info("⏳ 서버 {} 통계 재계산 중: 해당 서버 이벤트는 다음 주기에 반영합니다.", serverId);
+            }
+        }
+
+        if (lockedServerIds.size() == serverIds.size()) {
+            return events;
+        }
+        List<MatchOutboxEvent> filtered = new ArrayList<>();
+        for (MatchOutboxEvent event : events) {
+            if (lockedServerIds.contains(event.getServerId())) {
+                filtered.add(event);
+            }
+        }
+        return filtered;
+    }
+}
@@ -0,0 +1,104 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.entity.MatchOutboxEvent;
+import com.discordBot.demo.domain.entity.PlayerStats;
+import com.discordBot.demo.domain.entity.User;
+import com.discordBot.demo.domain.repository.MatchOutboxEventRepository;
+import com.discordBot.demo.domain.repository.PlayerStatsRepository;
+import com.discordBot.demo.service.GuildStatsLockService;
+import com.discordBot.demo.service.StatsRebuildService;
+import com.discordBot.demo.service.StatsReattributionService;
+import com.discordBot.demo.service.StatsUpsertService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class StatsReattributionServiceImpl implements StatsReattributionService {
+
+    private static final int IN_CLAUSE_CHUNK = 500;
+
+    private final PlayerStatsRepository playerStatsRepository;
+    private final MatchOutboxEventRepository matchOutboxEventRepository;
+    private final StatsUpsertService statsUpsertService;
+    private final GuildStatsLockService guildStatsLockService;
+    private final StatsRebuildService statsRebuildService;
+
+    @Override
+    public int reattribute(LolAccount lolAccount, User newOwner) {
+
+        Long serverId = lolAccount.getGuildServer().getDiscordServerId();
+        Long lolId = lolAccount.getLolId();
+
+        // 1. 등록/삭제와는 함께 진행하되, 재계산이 진행 중이면 교체 단계에서 덮어써지므로 거부
+        guildStatsLockService.lockShared(serverId);
+        if (statsRebuildService.isRebuilding(serverId)) {
+            throw new IllegalArgumentException(
+                    "❌ 오류: 이 서버의 통계 재계산이 진행 중이라 계정 소유자를 변경할 수 없습니다. 재계산이 끝난 뒤 다시 시도해 주세요.");
+        }
+
+        List<Long> matchIds = playerStatsRepository.findMatchIdsByLolId(lolId);
+        List<StatsDeltaDto> removals = new ArrayList<>();
+        List<StatsDeltaDto> moves = new ArrayList<>();
+
+        for (int from = 0; from < matchIds.size(); from += IN_CLAUSE_CHUNK) {
+            List<Long> chunk = matchIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK, matchIds.size()));
+
+            // 2. 아직 통계에 반영되지 않은 경기(비동기 모드)는 프로젝터가 바뀐 user_id로 반영하므로 옮길 증감분이 없습니다.
+            //    프로젝터가 처리 중인 이벤트는 잠금에서 대기한 뒤, 반영된 상태를 보고 옮깁니다.
+            Set<Long> pendingMatchIds = new HashSet<>();
+            for (MatchOutboxEvent event : matchOutboxEventRepository.findByMatchIdIn(chunk)) {
+                if (event.getProcessedAt() == null) {
+                    pendingMatchIds.add(event.getMatchId());
+                }
+            }
+
+            // 3. 팀 총 킬 계산을 위해 경기의 모든 선수 기록을 읽고, 이 계정의 기록만 증감분으로 옮깁니다.
+            List<PlayerStats> players = playerStatsRepository.findAllWithMatchByMatchIdIn(chunk);
+            List<StatsDeltaDto> deltas = StatsDeltaDto.fromPlayerStats(players);
+            for (int i = 0; i < players.size(); i++) {
+                PlayerStats stats = players.get(i);
+                if (stats.getLolNickname() == null || !lolId.equals(stats.getLolNickname().getLolId())
+                        || pendingMatchIds.contains(stats.getMatchRecord().getId())) {
+                    continue;
+                }
+                Long previousUserId = stats.getUser() != null ? stats.getUser().getId() : null;
+                if (Objects.equals(previousUserId, newOwner.getId())) {
+                    continue;
+                }
+                StatsDeltaDto delta = deltas.get(i);
+                // 소유자가 없던 기록은 누적된 적이 없으므로 새 소유자에게 더하기만 합니다.
+                if (previousUserId != null) {
+                    removals.add(delta.negate());
+                }
+                moves.add(delta.withUserId(newOwner.getId()));
+            }
+        }
+
+        // 4. 이전 소유자 차감 + 새 소유자 가산을 테이블당 배치 upsert 한 번으로 반영하고, 0경기가 된 행 정리
+        List<StatsDeltaDto> changes = new ArrayList<>(removals.size() + moves.size());
+        changes.addAll(removals);
+        changes.addAll(moves);
+        statsUpsertService.upsertAll(changes);
+        statsUpsertService.deleteEmptyRows(removals);
+
+        // 5. 원본 기록의 소유자 변경 (이후 재계산/프로젝션도 새 소유자 기준)
+        int reassigned = playerStatsRepository.reassignUserByLolId(lolId, newOwner);
+
+        log.info("🔁 통계 이전 완료: 서버 {}, 롤 계정 {}, 경기 {}건, 이동 기록 {}건 (미반영 경기 제외), 소유자 변경 기록 {}건",
+                serverId, lolAccount.getFullAccountName(), matchIds.size(), moves.size(), reassigned);
+        return reassigned;
+    }
+}
@@ -0,0 +1,389 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.StatsRebuildProgressDto;
+import com.discordBot.demo.domain.dto.StatsRebuildResultDto;
+import com.discordBot.demo.service.GuildStatsLockService;
+import com.discordBot.demo.service.StatsRebuildService;
+import com.discordBot.demo.service.StatsUpsertService;
+import com.discordBot.demo.support.StatsAccumulator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class StatsRebuildServiceImpl implements StatsRebuildService {
+
+    private static final String SCAN_SELECT =
+            "SELECT ps.match_id, ps.user_id, ps.champion_id, ps.line_id, ps.team, ps.is_win, " +
+            "ps.kills, ps.deaths, ps.assists, ps.total_gold, ps.total_damage, m.game_duration_seconds " +
+            "FROM player_stats ps JOIN match_record m ON m.id = ps.match_id ";
+
+    // 경기 ID 순으로 읽어야 팀 총 킬을 경기 단위로 바로 계산할 수 있습니다.
+    private static final String SCAN_BY_SERVER_SQL = SCAN_SELECT + "WHERE m.server_id = ? ORDER BY ps.match_id";
+
+    private static final String COUNT_BY_SERVER_SQL =
+            "SELECT count(*) FROM player_stats ps JOIN match_record m ON m.id = ps.match_id WHERE m.server_id = ?";
+
+    // 교체 단계에서 스캔 이후 추가/삭제된 경기가 있으면 최대 이 횟수만큼 다시 시도합니다.
+    private static final int MAX_SWAP_ATTEMPTS = 3;
+
+    // 진행 상황 콜백 간격 (스캔 행 수 기준)
+    private static final long PROGRESS_INTERVAL_ROWS = 10_000;
+
+    private static final int IN_CLAUSE_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate scanTransaction;
+    private final TransactionTemplate swapTransaction;
+    private final StatsUpsertService statsUpsertService;
+    private final GuildStatsLockService guildStatsLockService;
+    private final int parallelism;
+
+    // 같은 서버에 대한 재계산 중복 실행 방지
+    private final Set<Long> rebuildingServers = ConcurrentHashMap.newKeySet();
+
+    public StatsRebuildServiceImpl(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   StatsUpsertService statsUpsertService,
+                                   GuildStatsLockService guildStatsLockService,
+                                   @Value("${spring.stats.rebuild.fetch-size:5000}") int fetchSize,
+                                   @Value("${spring.stats.rebuild.parallelism:0}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.statsUpsertService = statsUpsertService;
+        this.guildStatsLockService = guildStatsLockService;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        // PostgreSQL은 트랜잭션 안에서 fetchSize가 지정되어야 서버 측 커서로 나눠 읽습니다. (전체 결과를 메모리에 올리지 않음)
+        this.streamingJdbcTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+        this.scanTransaction.setReadOnly(true);
+        this.swapTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public StatsRebuildResultDto rebuild(Collection<Long> serverIds, Consumer<StatsRebuildProgressDto> progressListener) {
+        List<Long> targets = new ArrayList<>(new LinkedHashSet<>(serverIds));
+        claim(targets);
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(parallelism, targets.size())));
+        try {
+            long rowsTotal = 0;
+            for (Long serverId : targets) {
+                Long count = jdbcTemplate.queryForObject(COUNT_BY_SERVER_SQL, Long.class, serverId);
+                rowsTotal += count == null ? 0 : count;
+            }
+
+            ProgressTracker tracker = new ProgressTracker(targets.size(), rowsTotal, progressListener);
+            log.info("🔄 누적 통계 재계산 시작: 서버 {}개, 선수 기록 {}건, 병렬도 {}", targets.size(), rowsTotal, pool.getParallelism());
+
+            List<Callable<StatsAccumulator>> tasks = new ArrayList<>(targets.size());
+            for (Long serverId : targets) {
+                tasks.add(() -> rebuildGuild(serverId, tracker));
+            }
+
+            long matches = 0;
+            long aggregateRows = 0;
+            long rows = 0;
+            for (Future<StatsAccumulator> future : pool.invokeAll(tasks)) {
+                StatsAccumulator result = getResult(future);
+                matches += result.getMatchCount();
+                aggregateRows += result.getAggregateRowCount();
+                rows += result.getRowCount();
+            }
+
+            StatsRebuildResultDto result = StatsRebuildResultDto.builder()
+                    .guildCount(targets.size())
+                    .rowsScanned(rows)
+                    .matchesScanned(matches)
+                    .aggregateRows(aggregateRows)
+                    .elapsedMillis(tracker.elapsedMillis())
+                    .build();
+
+            log.info("✅ 누적 통계 재계산 완료: 서버 {}개, 경기 {}건, 선수 기록 {}건, 집계 행 {}개, {}ms ({} rows/s)",
+                    result.getGuildCount(), result.getMatchesScanned(), result.getRowsScanned(),
+                    result.getAggregateRows(), result.getElapsedMillis(), result.getRowsPerSecond());
+            return result;
+
+        } finally {
+            pool.shutdown();
+            rebuildingServers.removeAll(targets);
+        }
+    }
+
+    @Override
+    public boolean isRebuilding(Long serverId) {
+        return rebuildingServers.contains(serverId);
+    }
+
+    private void claim(List<Long> serverIds) {
+        List<Long> claimed = new ArrayList<>();
+        for (Long serverId : serverIds) {
+            if (!rebuildingServers.add(serverId)) {
+                rebuildingServers.removeAll(claimed);
+                throw new IllegalArgumentException("❌ 오류: 이 서버의 통계 재계산이 이미 진행 중입니다.");
+            }
+            claimed.add(serverId);
+        }
+    }
+
+    private StatsAccumulator getResult(Future<StatsAccumulator> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("통계 재계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("통계 재계산 중 오류가 발생했습니다: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * 한 서버를 재계산합니다: 잠금 없는 스트리밍 스캔 → 짧은 배타 잠금 안에서 교체
+     */
+    private StatsAccumulator rebuildGuild(Long serverId, ProgressTracker tracker) {
+        // 스캔 전에 배타 잠금을 한 번 거쳐, 재계산 표시 이전에 시작된 쓰기(공유 잠금 보유)가 모두 커밋된 뒤 스캔합니다.
+        // 이후 시작되는 계정 소유자 변경은 isRebuilding()으로 거부되므로 스캔 결과가 낡지 않습니다.
+        swapTransaction.executeWithoutResult(status -> guildStatsLockService.lockExclusive(serverId));
+
+        for (int attempt = 1; attempt <= MAX_SWAP_ATTEMPTS; attempt++) {
+            StatsAccumulator accumulator = scanTransaction.execute(status -> {
+                StatsAccumulator acc = new StatsAccumulator(serverId);
+                MatchRowHandler handler = new MatchRowHandler(acc, tracker);
+                streamingJdbcTemplate.query(SCAN_BY_SERVER_SQL, handler, serverId);
+                handler.flush();
+                return acc;
+            });
+
+            Boolean swapped = swapTransaction.execute(status -> swap(serverId, accumulator, tracker));
+            if (Boolean.TRUE.equals(swapped)) {
+                tracker.guildCompleted();
+                return accumulator;
+            }
+
+            tracker.rowsDiscarded(accumulator.getRowCount());
+            log.warn("⚠️ 서버 {} 재계산 중 경기가 삭제되어 다시 스캔합니다. ({}/{})", serverId, attempt, MAX_SWAP_ATTEMPTS);
+        }
+        throw new IllegalStateException("서버 " + serverId + " 재계산 중 경기 삭제가 계속되어 교체하지 못했습니다.");
+    }
+
+    /**
+     * 배타 잠금으로 진행 중인 등록/프로젝션이 끝나기를 기다린 뒤,
+     * 스캔 이후 추가된 경기만 더 읽어 반영하고 기존 집계 행을 새 집계로 교체합니다.
+     * @return 스캔 이후 삭제된 경기가 있어 교체하지 않았으면 false
+     */
+    private boolean swap(Long serverId, StatsAccumulator accumulator, ProgressTracker tracker) {
+        guildStatsLockService.lockExclusive(serverId);
+
+        List<Long> currentMatchIds = jdbcTemplate.queryForList(
+                "SELECT id FROM match_record WHERE server_id = ?", Long.class, serverId);
+
+        long[] scannedMatchIds = accumulator.sortedMatchIds();
+        List<Long> addedMatchIds = new ArrayList<>();
+        int stillPresent = 0;
+        for (Long matchId : currentMatchIds) {
+            if (Arrays.binarySearch(scannedMatchIds, matchId) >= 0) {
+                stillPresent++;
+            } else {
+                addedMatchIds.add(matchId);
+            }
+        }
+        if (stillPresent < scannedMatchIds.length) {
+            return false;
+        }
+
+        if (!addedMatchIds.isEmpty()) {
+            addedMatchIds.sort(Comparator.naturalOrder());
+            MatchRowHandler handler = new MatchRowHandler(accumulator, tracker);
+            for (int from = 0; from < addedMatchIds.size(); from += IN_CLAUSE_CHUNK) {
+                List<Long> chunk = addedMatchIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK, addedMatchIds.size()));
+                String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                jdbcTemplate.query(SCAN_SELECT + "WHERE ps.match_id IN (" + placeholders + ") ORDER BY ps.match_id",
+                        handler, chunk.toArray());
+            }
+            handler.flush();
+            log.info("서버 {} 재계산: 스캔 이후 등록된 경기 {}건 추가 반영", serverId, addedMatchIds.size());
+        }
+
+        jdbcTemplate.update("DELETE FROM user_server_stats WHERE guild_server_id = ?", serverId);
+        jdbcTemplate.update("DELETE FROM champion_stats WHERE guild_server_id = ?", serverId);
+        jdbcTemplate.update("DELETE FROM line_stats WHERE server_id = ?", serverId);
+
+        statsUpsertService.upsertUserServerStats(accumulator.userServerStatsRows());
+        statsUpsertService.upsertChampionStats(accumulator.championStatsRows());
+        statsUpsertService.upsertLineStats(accumulator.lineStatsRows());
+
+        // 재계산 결과에 이미 포함된 경기이므로, 비동기 프로젝터가 다시 더하지 않도록 처리 완료로 표시
+        jdbcTemplate.update("UPDATE match_outbox SET processed_at = now() WHERE server_id = ? AND processed_at IS NULL", serverId);
+        return true;
+    }
+
+    /**
+     * 경기 ID 순으로 들어오는 선수 기록을 경기 단위로 모아, 팀 총 킬을 계산한 뒤 누적기에 더합니다.
+     */
+    private static final class MatchRowHandler implements RowCallbackHandler {
+
+        private final StatsAccumulator accumulator;
+        private final ProgressTracker tracker;
+
+        private long currentMatchId = -1;
+        private int size = 0;
+        private long[] userIds = new long[10];
+        private long[] championIds = new long[10];
+        private long[] lineIds = new long[10];
+        private String[] teams = new String[10];
+        private boolean[] wins = new boolean[10];
+        private int[] kills = new int[10];
+        private int[] deaths = new int[10];
+        private int[] assists = new int[10];
+        private long[] gold = new long[10];
+        private long[] damage = new long[10];
+        private long duration;
+
+        MatchRowHandler(StatsAccumulator accumulator, ProgressTracker tracker) {
+            this.accumulator = accumulator;
+            this.tracker = tracker;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long matchId = rs.getLong(1);
+            if (matchId != currentMatchId) {
+                flush();
+                currentMatchId = matchId;
+                duration = rs.getLong(12);
+            }
+            if (size == userIds.length) {
+                grow();
+            }
+
+            long userId = rs.getLong(2);
+            userIds[size] = rs.wasNull() ? -1 : userId;
+            championIds[size] = rs.getLong(3);
+            lineIds[size] = rs.getLong(4);
+            teams[size] = rs.getString(5);
+            wins[size] = rs.getBoolean(6);
+            kills[size] = rs.getInt(7);
+            deaths[size] = rs.getInt(8);
+            assists[size] = rs.getInt(9);
+            gold[size] = rs.getLong(10);
+            damage[size] = rs.getLong(11);
+            size++;
+        }
+
+        void flush() {
+            if (currentMatchId < 0) {
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                // 유저가 연결되지 않은 기록은 통계 대상이 아닙니다. (팀 총 킬에는 포함)
+                if (userIds[i] < 0) {
+                    continue;
+                }
+                int teamKills = 0;
+                for (int j = 0; j < size; j++) {
+                    // 증분 경로(MatchResolutionServiceImpl, StatsDeltaDto)와 같이 팀 이름은 대소문자를 구분하지 않습니다.
+                    if (teams[i] == null ? teams[j] == null : teams[i].equalsIgnoreCase(teams[j])) {
+                        teamKills += kills[j];
+                    }
+                }
+                accumulator.add(userIds[i], championIds[i], lineIds[i], wins[i], kills[i], deaths[i], assists[i],
+                        gold[i], damage[i], teamKills, duration);
+            }
+            accumulator.addMatchId(currentMatchId);
+            tracker.rowsScanned(size);
+
+            currentMatchId = -1;
+            size = 0;
+        }
+
+        private void grow() {
+            int capacity = userIds.length * 2;
+            userIds = Arrays.copyOf(userIds, capacity);
+            championIds = Arrays.copyOf(championIds, capacity);
+            lineIds = Arrays.copyOf(lineIds, capacity);
+            teams = Arrays.copyOf(teams, capacity);
+            wins = Arrays.copyOf(wins, capacity);
+            kills = Arrays.copyOf(kills, capacity);
+            deaths = Arrays.copyOf(deaths, capacity);
+            assists = Arrays.copyOf(assists, capacity);
+            gold = Arrays.copyOf(gold, capacity);
+            damage = Arrays.copyOf(damage, capacity);
+        }
+    }
+
+    /**
+     * 여러 작업 스레드의 스캔 진행량을 모아 일정 간격마다 콜백합니다.
+     */
+    private static final class ProgressTracker {
+
+        private final int guildsTotal;
+        private final long rowsTotal;
+        private final Consumer<StatsRebuildProgressDto> listener;
+        private final long startedAt = System.nanoTime();
+
+        private final AtomicLong rowsScanned = new AtomicLong();
+        private final AtomicInteger guildsCompleted = new AtomicInteger();
+
+        ProgressTracker(int guildsTotal, long rowsTotal, Consumer<StatsRebuildProgressDto> listener) {
+            this.guildsTotal = guildsTotal;
+            this.rowsTotal = rowsTotal;
+            this.listener = listener;
+        }
+
+        void rowsScanned(int rows) {
+            long after = rowsScanned.addAndGet(rows);
+            if (after / PROGRESS_INTERVAL_ROWS != (after - rows) / PROGRESS_INTERVAL_ROWS) {
+                report();
+            }
+        }
+
+        void rowsDiscarded(long rows) {
+            rowsScanned.addAndGet(-rows);
+        }
+
+        void guildCompleted() {
+            guildsCompleted.incrementAndGet();
+            report();
+        }
+
+        long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        }
+
+        private void report() {
+            if (listener == null) {
+                return;
+            }
+            try {
+                listener.accept(StatsRebuildProgressDto.builder()
+                        .guildsCompleted(guildsCompleted.get())
+                        .guildsTotal(guildsTotal)
+                        .rowsScanned(rowsScanned.get())
+                        .rowsTotal(rowsTotal)
+                        .elapsedMillis(elapsedMillis())
+                        .build());
+            } catch (Exception e) {
+                log.warn("통계 재계산 진행 상황 전달 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
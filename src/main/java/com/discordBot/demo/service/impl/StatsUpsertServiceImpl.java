@@ -0,0 +1,202 @@
+package com.discordBot.demo.service.impl;
+
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+import com.discordBot.demo.service.StatsUpsertService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class StatsUpsertServiceImpl implements StatsUpsertService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 세 통계 테이블 공통 누적 컬럼 (INSERT 컬럼 순서와 파라미터 순서가 일치해야 합니다)
+    private static final String STAT_COLUMNS =
+            "total_games, total_wins, total_kills, total_deaths, total_assists, " +
+            "total_gold_accumulated, total_damage_accumulated, total_team_kills_accumulated, total_duration_seconds";
+
+    private static final String STAT_PLACEHOLDERS = "?, ?, ?, ?, ?, ?, ?, ?, ?";
+
+    private static final String USER_SERVER_STATS_UPSERT =
+            "INSERT INTO user_server_stats (guild_server_id, user_id, " + STAT_COLUMNS + ") " +
+            "VALUES (?, ?, " + STAT_PLACEHOLDERS + ") " +
+            "ON CONFLICT (guild_server_id, user_id) DO UPDATE SET " + accumulateClause("user_server_stats");
+
+    // ChampionStatsId.champion 컬럼(PK)과 champion_id FK 컬럼에 같은 값을 넣습니다.
+    private static final String CHAMPION_STATS_UPSERT =
+            "INSERT INTO champion_stats (guild_server_id, user_id, champion, champion_id, " + STAT_COLUMNS + ") " +
+            "VALUES (?, ?, ?, ?, " + STAT_PLACEHOLDERS + ") " +
+            "ON CONFLICT (guild_server_id, user_id, champion) DO UPDATE SET " + accumulateClause("champion_stats");
+
+    private static final String LINE_STATS_UPSERT =
+            "INSERT INTO line_stats (server_id, user_id, line_id, " + STAT_COLUMNS + ") " +
+            "VALUES (?, ?, ?, " + STAT_PLACEHOLDERS + ") " +
+            "ON CONFLICT (server_id, user_id, line_id) DO UPDATE SET " + accumulateClause("line_stats");
+
+    private static String accumulateClause(String table) {
+        String[] columns = STAT_COLUMNS.split(",\\s*");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(columns[i]).append(" = ").append(table).append('.').append(columns[i])
+                    .append(" + excluded.").append(columns[i]);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void upsertUserServerStats(Collection<StatsDeltaDto> deltas) {
+        Map<String, StatsDeltaDto> merged = merge(deltas, d -> key(d.getServerId(), d.getUserId()));
+
+        List<Object[]> batchArgs = new ArrayList<>(merged.size());
+        for (StatsDeltaDto d : merged.values()) {
+            batchArgs.add(withStats(d, d.getServerId(), d.getUserId()));
+        }
+        execute(USER_SERVER_STATS_UPSERT, batchArgs);
+    }
+
+    @Override
+    public void upsertChampionStats(Collection<StatsDeltaDto> deltas) {
+        Map<String, StatsDeltaDto> merged = merge(deltas, d -> key(d.getServerId(), d.getUserId(), d.getChampionId()));
+
+        List<Object[]> batchArgs = new ArrayList<>(merged.size());
+        for (StatsDeltaDto d : merged.values()) {
+            batchArgs.add(withStats(d, d.getServerId(), d.getUserId(), d.getChampionId(), d.getChampionId()));
+        }
+        execute(CHAMPION_STATS_UPSERT, batchArgs);
+    }
+
+    @Override
+    public void upsertLineStats(Collection<StatsDeltaDto> deltas) {
+        Map<String, StatsDeltaDto> merged = merge(deltas, d -> key(d.getServerId(), d.getUserId(), d.getLineId()));
+
+        List<Object[]> batchArgs = new ArrayList<>(merged.size());
+        for (StatsDeltaDto d : merged.values()) {
+            batchArgs.add(withStats(d, d.getServerId(), d.getUserId(), d.getLineId()));
+        }
+        execute(LINE_STATS_UPSERT, batchArgs);
+    }
+
+    @Override
+    public void upsertAll(Collection<StatsDeltaDto> deltas) {
+        upsertUserServerStats(deltas);
+        upsertChampionStats(deltas);
+        upsertLineStats(deltas);
+    }
+
+    @Override
+    public void deleteEmptyRows(Collection<StatsDeltaDto> deltas) {
+        List<Object[]> userArgs = new ArrayList<>();
+        for (StatsDeltaDto d : merge(deltas, d -> key(d.getServerId(), d.getUserId())).values()) {
+            userArgs.add(new Object[]{d.getServerId(), d.getUserId()});
+        }
+        List<Object[]> championArgs = new ArrayList<>();
+        for (StatsDeltaDto d : merge(deltas, d -> key(d.getServerId(), d.getUserId(), d.getChampionId())).values()) {
+            championArgs.add(new Object[]{d.getServerId(), d.getUserId(), d.getChampionId()});
+        }
+        List<Object[]> lineArgs = new ArrayList<>();
+        for (StatsDeltaDto d : merge(deltas, d -> key(d.getServerId(), d.getUserId(), d.getLineId())).values()) {
+            lineArgs.add(new Object[]{d.getServerId(), d.getUserId(), d.getLineId()});
+        }
+
+        execute("DELETE FROM user_server_stats WHERE guild_server_id = ? AND user_id = ? AND total_games <= 0", userArgs);
+        execute("DELETE FROM champion_stats WHERE guild_server_id = ? AND user_id = ? AND champion = ? AND total_games <= 0", championArgs);
+        execute("DELETE FROM line_stats WHERE server_id = ? AND user_id = ? AND line_id = ? AND total_games <= 0", lineArgs);
+    }
+
+    // =========================================================================
+    // 헬퍼 메서드
+    // =========================================================================
+
+    /**
+     * 같은 행에 대한 증감분을 미리 합칩니다.
+     * - 한 INSERT 문 안에서 같은 키가 두 번 나오면 ON CONFLICT가 실패하므로 반드시 필요합니다.
+     * - TreeMap으로 키 순서를 고정해 동시 등록 간 행 잠금 순서가 같아지도록(데드락 방지) 합니다.
+     */
+    private Map<String, StatsDeltaDto> merge(Collection<StatsDeltaDto> deltas, Function<StatsDeltaDto, String> keyFn) {
+        Map<String, StatsDeltaDto> merged = new TreeMap<>();
+        for (StatsDeltaDto delta : deltas) {
+            if (delta.getUserId() == null) {
+                continue; // 소유자가 없는 계정은 누적하지 않습니다.
+            }
+            merged.merge(keyFn.apply(delta), copyOf(delta), (existing, added) -> {
+                existing.add(added);
+                return existing;
+            });
+        }
+        return merged;
+    }
+
+    private StatsDeltaDto copyOf(StatsDeltaDto d) {
+        return StatsDeltaDto.builder()
+                .serverId(d.getServerId())
+                .userId(d.getUserId())
+                .championId(d.getChampionId())
+                .lineId(d.getLineId())
+                .games(d.getGames())
+                .wins(d.getWins())
+                .kills(d.getKills())
+                .deaths(d.getDeaths())
+                .assists(d.getAssists())
+                .gold(d.getGold())
+                .damage(d.getDamage())
+                .teamKills(d.getTeamKills())
+                .durationSeconds(d.getDurationSeconds())
+                .build();
+    }
+
+    private String key(Long... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (Long part : parts) {
+            // 숫자 정렬 순서를 유지하기 위해 자리수를 맞춥니다.
+            sb.append(String.format("%020d", part)).append(':');
+        }
+        return sb.toString();
+    }
+
+    private Object[] withStats(StatsDeltaDto d, Object... keyValues) {
+        Object[] args = new Object[keyValues.length + 9];
+        System.arraycopy(keyValues, 0, args, 0, keyValues.length);
+        int i = keyValues.length;
+        args[i++] = d.getGames();
+        args[i++] = d.getWins();
+        args[i++] = d.getKills();
+        args[i++] = d.getDeaths();
+        args[i++] = d.getAssists();
+        args[i++] = d.getGold();
+        args[i++] = d.getDamage();
+        args[i++] = d.getTeamKills();
+        args[i] = d.getDurationSeconds();
+        return args;
+    }
+
+    /**
+     * JDBC 배치로 실행합니다. (reWriteBatchedInserts=true 설정 시 드라이버가 한 번의 다중 VALUES 문으로 전송)
+     */
+    private void execute(String sql, List<Object[]> batchArgs) {
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, batchArgs);
+        log.debug("통계 배치 실행 완료: {}건 ({})", batchArgs.size(), statementHead(sql));
+    }
+
+    // 로그용: "INSERT INTO line_stats" / "DELETE FROM line_stats"
+    private String statementHead(String sql) {
+        String[] words = sql.split(" ", 4);
+        return words.length >= 3 ? words[0] + " " + words[1] + " " + words[2] : sql;
+    }
+}
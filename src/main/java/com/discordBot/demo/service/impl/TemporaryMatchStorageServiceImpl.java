@@ -1,16 +1,24 @@
 package com.discordBot.demo.service.impl;
 
 import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.TemporaryMatchClaimDto;
+import com.discordBot.demo.domain.enums.TemporaryMatchClaimStatus;
 import com.discordBot.demo.service.TemporaryMatchStorageService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class TemporaryMatchStorageServiceImpl implements TemporaryMatchStorageService {
 
     private final RedisTemplate<String, Object> redisTemplate;
@@ -19,6 +27,18 @@ public class TemporaryMatchStorageServiceImpl implements TemporaryMatchStorageSe
     private static final String ID_KEY = "temp:match:id_counter";
     private static final Duration TTL = Duration.ofMinutes(30);
 
+    // 점유 기록: 점유 이후 들어온 중복 요청을 "만료"가 아닌 "이미 처리됨"으로 구분하기 위해 임시 경기와 같은 TTL로 남깁니다.
+    private static final String CLAIM_PREFIX = "temp:match:claimed:";
+
+    // GET + DEL + 점유 기록을 한 번에 실행 (Redis 단일 스레드 실행으로 원자성 보장)
+    private static final RedisScript<Object> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('GET', KEYS[1]) " +
+            "if not value then return nil end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2]) " +
+            "return value",
+            Object.class);
+
     private String createKey(Long id) {
         return MATCH_PREFIX + id;
     }
@@ -48,6 +68,36 @@ public class TemporaryMatchStorageServiceImpl implements TemporaryMatchStorageSe
         return null;
     }
 
+    @Override
+    public TemporaryMatchClaimDto claimTemporaryMatch(Long id, String claimToken) {
+        String claimKey = CLAIM_PREFIX + id;
+        // 인자는 문자열 그대로(PX 밀리초 포함), 결과는 저장 시와 같은 JSON 직렬화기로 복원
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        Object matchObj = redisTemplate.execute(CLAIM_SCRIPT, RedisSerializer.string(), valueSerializer,
+                List.of(createKey(id), claimKey), claimToken, String.valueOf(TTL.toMillis()));
+
+        if (matchObj instanceof MatchRegistrationDto dto) {
+            return TemporaryMatchClaimDto.builder()
+                    .status(TemporaryMatchClaimStatus.CLAIMED)
+                    .match(dto)
+                    .build();
+        }
+
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(claimKey))) {
+            log.info("임시 경기 {} 중복 확정 요청 무시 (요청: {})", id, claimToken);
+            return TemporaryMatchClaimDto.builder().status(TemporaryMatchClaimStatus.ALREADY_CLAIMED).build();
+        }
+        return TemporaryMatchClaimDto.builder().status(TemporaryMatchClaimStatus.EXPIRED).build();
+    }
+
+    @Override
+    public void restoreTemporaryMatch(Long id, MatchRegistrationDto dto) {
+        // 경기를 먼저 되돌린 뒤 점유 기록을 지워, 그 사이 들어온 요청이 "만료"로 보지 않게 합니다.
+        redisTemplate.opsForValue().set(createKey(id), dto, TTL);
+        redisTemplate.delete(CLAIM_PREFIX + id);
+    }
+
     @Override
     public void removeTemporaryMatch(Long id) {
         redisTemplate.delete(createKey(id));
@@ -55,12 +105,7 @@ public class TemporaryMatchStorageServiceImpl implements TemporaryMatchStorageSe
 
     @Override
     public void updateTemporaryMatch(Long id, MatchRegistrationDto updatedDto) {
-        String key = createKey(id);
-        Boolean exists = redisTemplate.hasKey(key);
-
-        if (Boolean.TRUE.equals(exists)) {
-            // 객체 업데이트 및 TTL 재설정
-            redisTemplate.opsForValue().set(key, updatedDto, TTL);
-        }
+        // 키가 남아 있을 때만 객체 업데이트 및 TTL 재설정 (SET XX: 이미 확정/취소된 경기를 되살리지 않음)
+        redisTemplate.opsForValue().setIfPresent(createKey(id), updatedDto, TTL);
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.discordBot.demo.service.impl;
 
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
 import com.discordBot.demo.domain.entity.GuildServer;
 import com.discordBot.demo.domain.entity.User;
 import com.discordBot.demo.domain.entity.UserServerStats;
@@ -8,12 +10,16 @@ import com.discordBot.demo.domain.entity.UserServerStatsId;
 import com.discordBot.demo.domain.repository.UserRepository;
 import com.discordBot.demo.domain.repository.UserServerStatsRepository;
 import com.discordBot.demo.service.ServerManagementService;
+import com.discordBot.demo.service.StatsUpsertService;
 import com.discordBot.demo.service.UserServerStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -23,6 +29,7 @@ public class UserServerStatsServiceImpl implements UserServerStatsService {
     private final UserServerStatsRepository userServerStatsRepository;
     private final UserRepository userRepository;
     private final ServerManagementService serverManagementService;
+    private final StatsUpsertService statsUpsertService;
 
     @Override
     public UserServerStats updateStatsAfterMatch(
@@ -59,6 +66,17 @@ public class UserServerStatsServiceImpl implements UserServerStatsService {
         return userServerStatsRepository.save(stats);
     }
 
+    @Override
+    public void applyMatch(ResolvedMatchDto resolvedMatch) {
+        // 소유자가 없는 계정은 통계를 누적하지 않으며, 기존 행 조회 없이 DB에서 직접 더합니다.
+        List<StatsDeltaDto> deltas = resolvedMatch.getPlayers().stream()
+                .filter(p -> p.getUser() != null)
+                .map(p -> StatsDeltaDto.from(resolvedMatch, p))
+                .collect(Collectors.toList());
+
+        statsUpsertService.upsertUserServerStats(deltas);
+    }
+
     /**
      * UserServerStats 레코드가 없는 경우 새로 생성하고 연관관계를 설정합니다.
      */
@@ -8,8 +8,10 @@ import com.discordBot.demo.domain.entity.User;
 import com.discordBot.demo.domain.repository.LineRepository;
 import com.discordBot.demo.domain.repository.LolAccountRepository;
 import com.discordBot.demo.domain.repository.UserRepository;
+import com.discordBot.demo.service.GuildPromptHintService;
 import com.discordBot.demo.service.RiotApiService;
 import com.discordBot.demo.service.ServerManagementService;
+import com.discordBot.demo.service.StatsReattributionService;
 import com.discordBot.demo.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +32,8 @@ public class UserServiceImpl implements UserService {
     private final RiotApiService riotApiService;
     private final ServerManagementService serverManagementService;
     private final LineRepository lineRepository; // ⭐ LineRepository 주입
+    private final StatsReattributionService statsReattributionService;
+    private final GuildPromptHintService guildPromptHintService;
 
     // UserService 인터페이스 메서드 서명도 아래와 같이 변경되어야 합니다.
     @Override
@@ -98,6 +102,7 @@ public class UserServiceImpl implements UserService {
         accountToSave.setPreferredLines(preferredLines); // ⭐ 복수 선호 라인 설정
 
         lolAccountRepository.save(accountToSave);
+        guildPromptHintService.invalidate(discordServerId);
 
         return "🎉 관리자 등록 완료: 롤 계정 **" + accountToSave.getFullAccountName() +
                 "**가 연결되었습니다! (선호 라인: " + displayLines + ")";
@@ -123,18 +128,30 @@ public class UserServiceImpl implements UserService {
 
         // 3. 소유권 확인 및 업데이트
         User existingOwner = lolAccount.getUser();
+        boolean ownerChanged = existingOwner == null || !Objects.equals(existingOwner.getId(), targetUser.getId());
 
-        if (existingOwner != null && !existingOwner.equals(targetUser)) {
-            // 이미 다른 유저가 소유한 경우
-            throw new IllegalArgumentException("❌ 오류: 롤 계정 **" + lolAccount.getFullAccountName() +
-                    "**는 이미 다른 사용자에게 연결되어 있어 소유권을 변경할 수 없습니다.");
-        }
+        // 다른 유저가 소유하던 계정이면 과거 기록과 누적 통계를 같은 트랜잭션에서 새 소유자에게 옮깁니다.
+        int movedRecords = ownerChanged ? statsReattributionService.reattribute(lolAccount, targetUser) : 0;
 
         // 연결 업데이트 (Puuid는 이미 해당 계정에 있을 것으로 가정)
         lolAccount.setUser(targetUser);
         lolAccountRepository.save(lolAccount);
+        if (ownerChanged) {
+            // 프롬프트 힌트에 남은 이전 소유자 정보를 커밋 후 비웁니다.
+            guildPromptHintService.invalidate(lolAccount.getGuildServer().getDiscordServerId());
+        }
 
         return "✅ 롤 계정 **" + lolAccount.getFullAccountName() +
-                "**가 대상 유저(" + targetDiscordUserId + ")에게 성공적으로 연결되었습니다!";
+                "**가 대상 유저(" + targetDiscordUserId + ")에게 성공적으로 연결되었습니다!" +
+                (movedRecords > 0 ? " (경기 기록 " + movedRecords + "건의 통계를 함께 옮겼습니다)" : "");
+    }
+
+    @Override
+    @Transactional
+    public String transferLolAccount(Long targetDiscordUserId, String gameName, String tagLine, Long discordServerId) {
+        LolAccount lolAccount = lolAccountRepository.findByGameNameAndTagLineAndGuildServer_DiscordServerId(gameName, tagLine, discordServerId)
+                .orElseThrow(() -> new IllegalArgumentException("❌ 오류: 롤 계정 **" + gameName + "#" + tagLine + "**는 이 서버에 등록되어 있지 않습니다."));
+
+        return linkExistingAccount(targetDiscordUserId, lolAccount.getLolId());
     }
 }
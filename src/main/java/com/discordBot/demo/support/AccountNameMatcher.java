@@ -0,0 +1,45 @@
+package com.discordBot.demo.support;
+
+import com.discordBot.demo.domain.entity.LolAccount;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * OCR로 읽은 Riot ID를 서버에 등록된 계정 중 가장 가까운 계정으로 맞춥니다.
+ *
+ * 태그가 읽혔으면 "이름#태그" 전체로 먼저 비교하고, 태그가 없거나 전체 비교로 찾지 못하면 이름만으로 비교합니다.
+ * 같은 이름의 계정이 여러 개(태그만 다름)라 이름만으로 구분되지 않으면 보정하지 않습니다.
+ */
+public class AccountNameMatcher {
+
+    private final FuzzyNameIndex<LolAccount> byFullName;
+    private final FuzzyNameIndex<LolAccount> byGameName;
+
+    public AccountNameMatcher(List<LolAccount> accounts) {
+        List<Map.Entry<String, LolAccount>> fullNames = new ArrayList<>();
+        List<Map.Entry<String, LolAccount>> gameNames = new ArrayList<>();
+        for (LolAccount account : accounts) {
+            fullNames.add(Map.entry(account.getFullAccountName(), account));
+            gameNames.add(Map.entry(account.getGameName(), account));
+        }
+        this.byFullName = new FuzzyNameIndex<>(fullNames);
+        this.byGameName = new FuzzyNameIndex<>(gameNames);
+    }
+
+    public Optional<LolAccount> find(String gameName, String tagLine, double minSimilarity) {
+        if (!StringUtils.hasText(gameName)) {
+            return Optional.empty();
+        }
+        Optional<FuzzyNameIndex.Match<LolAccount>> match = StringUtils.hasText(tagLine)
+                ? byFullName.findBest(gameName + "#" + tagLine, minSimilarity)
+                : Optional.empty();
+        if (match.isEmpty()) {
+            match = byGameName.findBest(gameName, minSimilarity);
+        }
+        return match.map(FuzzyNameIndex.Match::value);
+    }
+}
@@ -0,0 +1,110 @@
+package com.discordBot.demo.support;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMD(가산 증가 / 곱셈 감소) 방식의 동시 실행 수 제한기
+ *
+ * <ul>
+ *     <li>응답 지연이 평소(기준 지연의 latencyTolerance배 이내)와 같으면 한도를 호출 1건당 1/한도씩 늘립니다. (한도만큼 성공하면 +1)</li>
+ *     <li>429(쿼터 초과)나 지연 급증이 오면 한도를 backoffRatio배로 줄입니다.
+ *         동시에 실패한 여러 호출이 한도를 연달아 깎지 않도록, 감소 후 기준 지연 한 번 동안은 다시 줄이지 않습니다.</li>
+ * </ul>
+ * 호출 측은 tryAcquire 성공 후 반드시 onSuccess / onDropped / onIgnore 중 하나로 슬롯을 반납해야 합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // 기준 지연(평소 응답 시간) 지수 이동 평균 가중치
+    private static final double BASELINE_ALPHA = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+
+    private double limit;
+    private int inFlight;
+    private double baselineLatencyNanos;
+    private long lastDecreaseAt;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, double latencyTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("한도 범위가 올바르지 않습니다: " + minLimit + " ~ " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 슬롯이 날 때까지 최대 timeout 동안 기다립니다. 시간 안에 얻지 못하면 false를 반환합니다.
+     */
+    public synchronized boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (inFlight >= getLimit()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 정상 응답: 지연이 기준 이내면 한도를 늘리고, 급증했으면 줄입니다.
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        release();
+        if (baselineLatencyNanos == 0) {
+            baselineLatencyNanos = latencyNanos;
+            return;
+        }
+        if (latencyNanos > baselineLatencyNanos * latencyTolerance) {
+            decrease();
+            return;
+        }
+        baselineLatencyNanos += (latencyNanos - baselineLatencyNanos) * BASELINE_ALPHA;
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+
+    /**
+     * 쿼터 초과(429) 등 과부하 신호: 한도를 줄입니다.
+     */
+    public synchronized void onDropped() {
+        release();
+        decrease();
+    }
+
+    /**
+     * 부하와 무관한 실패(잘못된 요청 등): 한도는 그대로 두고 슬롯만 반납합니다.
+     */
+    public synchronized void onIgnore() {
+        release();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void release() {
+        inFlight = Math.max(0, inFlight - 1);
+        notifyAll();
+    }
+
+    private void decrease() {
+        long now = System.nanoTime();
+        if (lastDecreaseAt != 0 && now - lastDecreaseAt < baselineLatencyNanos) {
+            return;
+        }
+        lastDecreaseAt = now;
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+}
@@ -0,0 +1,82 @@
+package com.discordBot.demo.support;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커
+ *
+ * <ul>
+ *     <li>CLOSED: 정상. 연속 실패가 failureThreshold번 쌓이면 OPEN</li>
+ *     <li>OPEN: openDurationNanos 동안 호출을 즉시 거절</li>
+ *     <li>HALF_OPEN: 시간이 지나면 시험 호출 1건만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN</li>
+ * </ul>
+ * tryAcquirePermission이 true를 돌려준 호출은 onSuccess / onFailure / onIgnored 중 하나로 결과를 알려야 합니다.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, long openDurationNanos) {
+        this(failureThreshold, openDurationNanos, System::nanoTime);
+    }
+
+    public CircuitBreaker(int failureThreshold, long openDurationNanos, LongSupplier nanoClock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDurationNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    /**
+     * 상대 서비스 상태와 무관한 실패(잘못된 요청 등): 상태를 바꾸지 않고 시험 호출 자리만 비웁니다.
+     */
+    public synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
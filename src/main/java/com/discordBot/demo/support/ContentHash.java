@@ -0,0 +1,28 @@
+package com.discordBot.demo.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 캐시 키용 콘텐츠 해시 (SHA-256, 소문자 16진수)
+ */
+public final class ContentHash {
+
+    private ContentHash() {
+    }
+
+    public static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현이 SHA-256을 지원해야 하므로 발생하지 않습니다.
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public static String sha256Hex(String text) {
+        return sha256Hex(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,163 @@
+package com.discordBot.demo.support;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * OCR로 읽은 이름을 등록된 이름 중 가장 가까운 것으로 보정하는 트라이그램 색인
+ *
+ * <ul>
+ *     <li>한글 음절은 자모(초성/중성/종성)로 분해한 뒤 비교하므로 "블라디머르" → "블라디미르"처럼 모음 하나만 틀린 경우도 가깝게 나옵니다.</li>
+ *     <li>대소문자, 공백/기호, OCR에서 자주 헷갈리는 글자(0↔O, 1↔l↔I)는 같은 글자로 봅니다.</li>
+ *     <li>유사도는 트라이그램 집합의 Dice 계수(0~1)이며, 최고점이 서로 다른 값에 동점이면 모호하므로 결과를 내지 않습니다.</li>
+ * </ul>
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 함께 사용해도 안전합니다.
+ */
+public class FuzzyNameIndex<T> {
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+    private static final char BOUNDARY = '\u0002';
+    private static final int AMBIGUOUS = -1;
+
+    public record Match<T>(T value, String key, double similarity) {
+    }
+
+    private record Entry<T>(T value, String key, String normalized, int gramCount) {
+    }
+
+    private final List<Entry<T>> entries = new ArrayList<>();
+    // 정규화한 이름 → 항목 번호 (서로 다른 값이 같은 이름을 가지면 AMBIGUOUS)
+    private final Map<String, Integer> exactIndex = new HashMap<>();
+    private final Map<String, List<Integer>> postings = new HashMap<>();
+
+    /**
+     * @param keyedValues (비교할 이름, 보정 결과로 돌려줄 값) 목록
+     *                    여러 이름이 같은 값을 가리켜도 됩니다. (예: 한글 이름과 영문 키)
+     */
+    public FuzzyNameIndex(Collection<? extends Map.Entry<String, T>> keyedValues) {
+        for (Map.Entry<String, T> keyedValue : keyedValues) {
+            String key = keyedValue.getKey();
+            T value = keyedValue.getValue();
+            String normalized = key == null ? "" : normalize(key);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            Set<String> grams = trigrams(normalized);
+            int id = entries.size();
+            entries.add(new Entry<>(value, key, normalized, grams.size()));
+            exactIndex.merge(normalized, id,
+                    (existing, added) -> existing != AMBIGUOUS && entries.get(existing).value().equals(value) ? existing : AMBIGUOUS);
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, g -> new ArrayList<>()).add(id);
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * query와 가장 비슷한 이름을 찾습니다. 유사도가 minSimilarity 미만이거나 동점으로 모호하면 비어 있는 결과를 반환합니다.
+     */
+    public Optional<Match<T>> findBest(String query, double minSimilarity) {
+        if (query == null) {
+            return Optional.empty();
+        }
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Integer exact = exactIndex.get(normalized);
+        if (exact != null && exact == AMBIGUOUS) {
+            return Optional.empty();
+        }
+        if (exact != null) {
+            Entry<T> entry = entries.get(exact);
+            return Optional.of(new Match<>(entry.value(), entry.key(), 1.0));
+        }
+
+        // 공유하는 트라이그램 수만 세면 되므로 색인에 걸린 후보만 살펴봅니다.
+        Set<String> queryGrams = trigrams(normalized);
+        int[] shared = new int[entries.size()];
+        for (String gram : queryGrams) {
+            List<Integer> ids = postings.get(gram);
+            if (ids != null) {
+                for (int id : ids) {
+                    shared[id]++;
+                }
+            }
+        }
+
+        Entry<T> best = null;
+        double bestScore = 0;
+        boolean ambiguous = false;
+        for (int id = 0; id < shared.length; id++) {
+            if (shared[id] == 0) {
+                continue;
+            }
+            Entry<T> entry = entries.get(id);
+            double score = 2.0 * shared[id] / (queryGrams.size() + entry.gramCount());
+            if (score > bestScore) {
+                best = entry;
+                bestScore = score;
+                ambiguous = false;
+            } else if (score == bestScore && !entry.value().equals(best.value())) {
+                ambiguous = true;
+            }
+        }
+
+        if (best == null || ambiguous || bestScore < minSimilarity) {
+            return Optional.empty();
+        }
+        return Optional.of(new Match<>(best.value(), best.key(), bestScore));
+    }
+
+    /**
+     * 비교용 정규화: 소문자화, 글자/숫자 외 제거, OCR 혼동 글자 통일, 한글 음절의 자모 분해
+     */
+    static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(composed.length() * 3);
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                int offset = c - HANGUL_BASE;
+                builder.append(CHOSEONG.charAt(offset / (21 * 28)));
+                builder.append(JUNGSEONG.charAt((offset / 28) % 21));
+                if (offset % 28 != 0) {
+                    builder.append(JONGSEONG.charAt(offset % 28));
+                }
+            } else if (c == '0') {
+                builder.append('o');
+            } else if (c == '1' || c == 'i') {
+                builder.append('l');
+            } else if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static Set<String> trigrams(String normalized) {
+        String padded = "" + BOUNDARY + BOUNDARY + normalized + BOUNDARY;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,112 @@
+package com.discordBot.demo.support;
+
+import com.google.genai.types.Blob;
+import com.google.genai.types.Content;
+import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.Part;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 녹화된 Gemini 응답 모음 (오프라인 부하 테스트용)
+ *
+ * 요청에 담긴 이미지(전처리 후 바이트)의 SHA-256을 파일 이름으로 응답 전체 JSON을 저장합니다. ({corpusDir}/{hash}.json)
+ * 사용량 정보까지 그대로 남으므로 재생한 응답도 실제 호출과 같은 경로로 처리됩니다.
+ */
+public class GeminiCorpus {
+
+    private static final String EXTENSION = ".json";
+
+    private final Path corpusDir;
+
+    // key: 이미지 해시, value: 응답 JSON
+    private final Map<String, String> responses = new ConcurrentHashMap<>();
+
+    // pick()용 정렬된 해시 목록. 로드할 때 한 번 만들고, 새 해시가 녹화될 때만 다시 만듭니다.
+    private volatile List<String> sortedHashes = List.of();
+
+    public GeminiCorpus(Path corpusDir) throws IOException {
+        this.corpusDir = corpusDir;
+        Files.createDirectories(corpusDir);
+        try (Stream<Path> files = Files.list(corpusDir)) {
+            for (Path file : files.filter(path -> path.getFileName().toString().endsWith(EXTENSION)).toList()) {
+                String fileName = file.getFileName().toString();
+                responses.put(fileName.substring(0, fileName.length() - EXTENSION.length()),
+                        Files.readString(file, StandardCharsets.UTF_8));
+            }
+        }
+        sortedHashes = sortedKeys();
+    }
+
+    /**
+     * 요청에서 첫 번째 인라인 이미지의 해시를 구합니다.
+     */
+    public static Optional<String> imageHash(List<Content> contents) {
+        return contents.stream()
+                .flatMap(content -> content.parts().orElse(List.of()).stream())
+                .map(Part::inlineData)
+                .flatMap(Optional::stream)
+                .map(Blob::data)
+                .flatMap(Optional::stream)
+                .findFirst()
+                .map(ContentHash::sha256Hex);
+    }
+
+    public Optional<GenerateContentResponse> find(String imageHash) {
+        return Optional.ofNullable(responses.get(imageHash)).map(GenerateContentResponse::fromJson);
+    }
+
+    /**
+     * 녹화에 없는 이미지에도 응답이 필요할 때(합성 이미지 부하 테스트) 해시로 녹화 하나를 고릅니다. 같은 이미지는 항상 같은 응답을 받습니다.
+     */
+    public Optional<GenerateContentResponse> pick(String imageHash) {
+        List<String> hashes = sortedHashes;
+        if (hashes.isEmpty()) {
+            return Optional.empty();
+        }
+        int index = Math.floorMod(imageHash.hashCode(), hashes.size());
+        return find(hashes.get(index));
+    }
+
+    /**
+     * 응답을 녹화합니다. 임시 파일에 쓴 뒤 이름을 바꿔, 재생 중인 다른 프로세스가 반쯤 쓰인 파일을 읽지 않도록 합니다.
+     */
+    public void save(String imageHash, GenerateContentResponse response) {
+        String json = response.toJson();
+        try {
+            Path temp = Files.createTempFile(corpusDir, imageHash, ".tmp");
+            Files.writeString(temp, json, StandardCharsets.UTF_8);
+            Files.move(temp, corpusDir.resolve(imageHash + EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Gemini 응답 녹화 실패: " + imageHash, e);
+        }
+        if (responses.put(imageHash, json) == null) {
+            synchronized (this) {
+                sortedHashes = sortedKeys();
+            }
+        }
+    }
+
+    private List<String> sortedKeys() {
+        List<String> hashes = new ArrayList<>(responses.keySet());
+        Collections.sort(hashes);
+        return List.copyOf(hashes);
+    }
+
+    public Collection<String> getImageHashes() {
+        return Collections.unmodifiableSet(responses.keySet());
+    }
+}
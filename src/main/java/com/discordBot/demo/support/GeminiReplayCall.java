@@ -0,0 +1,87 @@
+package com.discordBot.demo.support;
+
+import com.discordBot.demo.service.impl.GeminiApiServiceImpl;
+import com.google.genai.errors.ApiException;
+import com.google.genai.types.Content;
+import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.GenerateContentResponse;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 네트워크 없이 녹화된 응답을 돌려주는 Gemini 호출 (gemini-replay 프로필)
+ *
+ * 응답 시간은 중앙값과 p99로 정한 로그 정규 분포를 따르고, 정해진 비율로 429 / 503 오류를 섞어
+ * 동시 실행 한도, 재시도, 서킷 브레이커까지 실제 호출과 같은 경로로 부하 테스트할 수 있게 합니다.
+ */
+public class GeminiReplayCall implements GeminiApiServiceImpl.GeminiCall {
+
+    // 표준 정규 분포의 99 백분위 z 값
+    private static final double Z_99 = 2.3263;
+
+    private final GeminiCorpus corpus;
+    private final boolean pickOnMiss;
+    private final double medianMillis;
+    private final double sigma;
+    private final double throttleRate;
+    private final double errorRate;
+
+    /**
+     * @param pickOnMiss 녹화에 없는 이미지도 녹화 중 하나로 응답할지 여부 (false면 오류)
+     * @param throttleRate 429(쿼터 초과)로 실패시킬 비율 (0~1)
+     * @param errorRate 503(일시적 서버 오류)로 실패시킬 비율 (0~1)
+     */
+    public GeminiReplayCall(GeminiCorpus corpus, boolean pickOnMiss, long medianMillis, long p99Millis,
+                            double throttleRate, double errorRate) {
+        this.corpus = corpus;
+        this.pickOnMiss = pickOnMiss;
+        this.medianMillis = Math.max(0, medianMillis);
+        this.sigma = medianMillis > 0 && p99Millis > medianMillis ? Math.log((double) p99Millis / medianMillis) / Z_99 : 0.0;
+        this.throttleRate = throttleRate;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public GenerateContentResponse generate(String modelName, List<Content> contents, GenerateContentConfig config) {
+        String imageHash = GeminiCorpus.imageHash(contents)
+                .orElseThrow(() -> new IllegalStateException("재생할 요청에 이미지가 없습니다."));
+
+        sleep(sampleLatencyMillis());
+
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < throttleRate) {
+            throw new ApiException(429, "RESOURCE_EXHAUSTED", "재생 모드에서 주입한 쿼터 초과 오류");
+        }
+        if (roll < throttleRate + errorRate) {
+            throw new ApiException(503, "UNAVAILABLE", "재생 모드에서 주입한 서버 오류");
+        }
+
+        Optional<GenerateContentResponse> response = corpus.find(imageHash);
+        if (response.isEmpty() && pickOnMiss) {
+            response = corpus.pick(imageHash);
+        }
+        return response.orElseThrow(() -> new IllegalArgumentException("❌ 오류: 녹화된 Gemini 응답이 없는 이미지입니다. (" + imageHash + ")"));
+    }
+
+    long sampleLatencyMillis() {
+        if (medianMillis <= 0) {
+            return 0;
+        }
+        return Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // 마감 시간 초과로 호출이 취소된 경우
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재생 응답 대기 중 취소되었습니다.", e);
+        }
+    }
+}
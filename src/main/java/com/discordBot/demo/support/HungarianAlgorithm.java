@@ -0,0 +1,95 @@
+package com.discordBot.demo.support;
+
+import java.util.Arrays;
+
+/**
+ * 최소 비용 할당 문제(헝가리안 알고리즘, O(n³))
+ *
+ * 행(예: 선수)마다 열(예: 라인) 하나씩, 서로 겹치지 않게 배정하면서 비용 합이 가장 작은 배정을 찾습니다.
+ * 행과 열 수가 다르면 비용 0의 가상 행/열을 채워 정사각 행렬로 풉니다.
+ */
+public final class HungarianAlgorithm {
+
+    private HungarianAlgorithm() {
+    }
+
+    /**
+     * @param cost cost[행][열] (모든 행의 길이가 같아야 함)
+     * @return 행 번호 → 배정된 열 번호. 열이 모자라 가상 열에 배정된 행은 -1
+     */
+    public static int[] solve(double[][] cost) {
+        int rows = cost.length;
+        if (rows == 0) {
+            return new int[0];
+        }
+        int columns = cost[0].length;
+        int n = Math.max(rows, columns);
+
+        // 1-based 인덱스 (0번은 아직 배정되지 않음을 뜻하는 가상 행/열)
+        double[] rowPotential = new double[n + 1];
+        double[] columnPotential = new double[n + 1];
+        int[] columnOwner = new int[n + 1];
+        int[] way = new int[n + 1];
+        double[] minSlack = new double[n + 1];
+        boolean[] used = new boolean[n + 1];
+
+        for (int row = 1; row <= n; row++) {
+            columnOwner[0] = row;
+            int column = 0;
+            Arrays.fill(minSlack, Double.POSITIVE_INFINITY);
+            Arrays.fill(used, false);
+
+            // 현재 행을 배정할 수 있을 때까지 증가 경로를 넓혀 갑니다.
+            do {
+                used[column] = true;
+                int owner = columnOwner[column];
+                double delta = Double.POSITIVE_INFINITY;
+                int nextColumn = 0;
+                for (int j = 1; j <= n; j++) {
+                    if (used[j]) {
+                        continue;
+                    }
+                    double slack = costAt(cost, owner - 1, j - 1) - rowPotential[owner] - columnPotential[j];
+                    if (slack < minSlack[j]) {
+                        minSlack[j] = slack;
+                        way[j] = column;
+                    }
+                    if (minSlack[j] < delta) {
+                        delta = minSlack[j];
+                        nextColumn = j;
+                    }
+                }
+                for (int j = 0; j <= n; j++) {
+                    if (used[j]) {
+                        rowPotential[columnOwner[j]] += delta;
+                        columnPotential[j] -= delta;
+                    } else {
+                        minSlack[j] -= delta;
+                    }
+                }
+                column = nextColumn;
+            } while (columnOwner[column] != 0);
+
+            // 증가 경로를 따라 배정을 뒤집습니다.
+            do {
+                int previous = way[column];
+                columnOwner[column] = columnOwner[previous];
+                column = previous;
+            } while (column != 0);
+        }
+
+        int[] assignment = new int[rows];
+        Arrays.fill(assignment, -1);
+        for (int j = 1; j <= n; j++) {
+            int row = columnOwner[j] - 1;
+            if (row < rows && j - 1 < columns) {
+                assignment[row] = j - 1;
+            }
+        }
+        return assignment;
+    }
+
+    private static double costAt(double[][] cost, int row, int column) {
+        return row < cost.length && column < cost[row].length ? cost[row][column] : 0.0;
+    }
+}
@@ -0,0 +1,132 @@
+package com.discordBot.demo.support;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 작은 정사각형 아이콘(챔피언 초상화, 소환사 주문, 아이템)용 색상 지문
+ *
+ * 아이콘 안쪽 영역을 10x10 격자의 RGB 평균으로 줄인 뒤 평균 0 / 분산 1로 정규화합니다.
+ * 두 지문의 상관 계수(-1~1)를 유사도로 쓰므로 크기, 재압축, 화면 전체의 밝기/대비 차이에는 거의 영향을 받지 않습니다.
+ * dHash(PerceptualHash)는 밝기만 보므로 색이 다른 비슷한 모양의 아이콘을 구분하지 못해 따로 둡니다.
+ */
+public final class IconFingerprint {
+
+    private static final int GRID = 10;
+
+    // 테두리, 모서리의 레벨 표시, 둥근 모서리를 피해 안쪽만 봅니다. (한 변 대비 비율)
+    private static final double INSET_RATIO = 0.12;
+
+    private IconFingerprint() {
+    }
+
+    public static float[] of(BufferedImage icon) {
+        return of(icon, 0, 0, icon.getWidth(), icon.getHeight());
+    }
+
+    /**
+     * 이미지의 (x, y, width, height) 영역 지문. 영역이 단색이면 null을 반환합니다. (비교할 모양이 없음)
+     */
+    public static float[] of(BufferedImage image, int x, int y, int width, int height) {
+        int insetX = (int) Math.round(width * INSET_RATIO);
+        int insetY = (int) Math.round(height * INSET_RATIO);
+        int left = Math.max(0, x + insetX);
+        int top = Math.max(0, y + insetY);
+        int right = Math.min(image.getWidth(), x + width - insetX);
+        int bottom = Math.min(image.getHeight(), y + height - insetY);
+        int regionWidth = right - left;
+        int regionHeight = bottom - top;
+        if (regionWidth < 2 || regionHeight < 2) {
+            return null;
+        }
+
+        double[] sums = new double[GRID * GRID * 3];
+        int[] counts = new int[GRID * GRID];
+        int[] pixels = image.getRGB(left, top, regionWidth, regionHeight, null, 0, regionWidth);
+        for (int row = 0; row < regionHeight; row++) {
+            int cellY = row * GRID / regionHeight;
+            for (int column = 0; column < regionWidth; column++) {
+                int cell = cellY * GRID + column * GRID / regionWidth;
+                int rgb = pixels[row * regionWidth + column];
+                sums[cell * 3] += (rgb >> 16) & 0xFF;
+                sums[cell * 3 + 1] += (rgb >> 8) & 0xFF;
+                sums[cell * 3 + 2] += rgb & 0xFF;
+                counts[cell]++;
+            }
+        }
+
+        double mean = 0;
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] = counts[i / 3] == 0 ? 0 : sums[i] / counts[i / 3];
+            mean += sums[i];
+        }
+        mean /= sums.length;
+        double variance = 0;
+        for (double value : sums) {
+            variance += (value - mean) * (value - mean);
+        }
+        double deviation = Math.sqrt(variance / sums.length);
+        if (deviation < 1.0) {
+            return null;
+        }
+
+        float[] fingerprint = new float[sums.length];
+        for (int i = 0; i < sums.length; i++) {
+            fingerprint[i] = (float) ((sums[i] - mean) / deviation);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 두 지문의 상관 계수 (1이면 같은 아이콘)
+     */
+    public static double similarity(float[] first, float[] second) {
+        double dot = 0;
+        for (int i = 0; i < first.length; i++) {
+            dot += first[i] * second[i];
+        }
+        return dot / first.length;
+    }
+
+    /**
+     * 이름 붙은 지문 목록에서 가장 비슷한 것을 찾습니다. (수백 개 수준이므로 전수 비교)
+     */
+    public static final class Index {
+
+        public record Match(String key, double similarity) {
+        }
+
+        private final List<String> keys = new ArrayList<>();
+        private final List<float[]> fingerprints = new ArrayList<>();
+
+        public Index(Map<String, BufferedImage> icons) {
+            icons.forEach((key, icon) -> {
+                float[] fingerprint = of(icon);
+                if (fingerprint != null) {
+                    keys.add(key);
+                    fingerprints.add(fingerprint);
+                }
+            });
+        }
+
+        public Optional<Match> nearest(float[] fingerprint, double minSimilarity) {
+            String bestKey = null;
+            double bestSimilarity = minSimilarity;
+            for (int i = 0; i < fingerprints.size(); i++) {
+                double similarity = similarity(fingerprint, fingerprints.get(i));
+                if (similarity >= bestSimilarity) {
+                    bestSimilarity = similarity;
+                    bestKey = keys.get(i);
+                }
+            }
+            return bestKey == null ? Optional.empty() : Optional.of(new Match(bestKey, bestSimilarity));
+        }
+
+        public int size() {
+            return keys.size();
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.discordBot.demo.support;
+
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 경기 가져오기 파일(JSON Lines / CSV)을 한 줄씩 읽어 경기 단위로 돌려줍니다.
+ * 파일 전체를 메모리에 올리지 않으며, 한 번에 경기 1건(CSV는 같은 match_key의 연속된 행)만 보관합니다. (스레드 안전하지 않음)
+ *
+ * <ul>
+ *     <li>JSON Lines: 한 줄에 MatchRegistrationDto 형태의 JSON 객체 1개</li>
+ *     <li>CSV: 헤더 1줄 + 선수 1명당 1행. 같은 경기의 행은 match_key가 같고 연속되어야 합니다.</li>
+ * </ul>
+ */
+public class MatchImportReader implements Closeable {
+
+    public enum Format { JSON_LINES, CSV }
+
+    // CSV 필수 / 선택 열 (헤더 이름은 대소문자 구분 없음)
+    private static final List<String> CSV_REQUIRED_COLUMNS = List.of(
+            "match_key", "winner_team", "game_name", "tag_line", "team",
+            "champion_name", "lane_name", "kills", "deaths", "assists");
+    private static final List<String> CSV_OPTIONAL_COLUMNS = List.of(
+            "game_duration_seconds", "blue_total_gold", "red_total_gold", "total_gold", "total_damage");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+
+    private long lineNumber = 0;
+    private int ordinal = 0;
+
+    // CSV 전용: 헤더 열 위치와, 다음 경기의 첫 행(미리 읽은 행)
+    private Map<String, Integer> csvColumns;
+    private String[] pendingRow;
+    private long pendingLineNumber;
+
+    public MatchImportReader(Reader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper.copy()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    public static Format detectFormat(String fileName) {
+        return fileName != null && fileName.toLowerCase(Locale.ROOT).endsWith(".csv") ? Format.CSV : Format.JSON_LINES;
+    }
+
+    /**
+     * 다음 경기 1건을 읽습니다. 파일 끝이면 null을 반환합니다.
+     * 형식 오류는 예외 대신 오류가 담긴 Entry로 돌려주므로, 호출 측은 해당 경기만 건너뛰고 계속 읽을 수 있습니다.
+     */
+    public Entry next() throws IOException {
+        return format == Format.CSV ? nextCsv() : nextJsonLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // =========================================================================
+    // JSON Lines
+    // =========================================================================
+
+    private Entry nextJsonLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        ordinal++;
+        try {
+            MatchRegistrationDto match = objectMapper.readValue(line, MatchRegistrationDto.class);
+            return toEntry(match, lineNumber);
+        } catch (JsonProcessingException e) {
+            return Entry.failed(ordinal, lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+
+    // =========================================================================
+    // CSV
+    // =========================================================================
+
+    private Entry nextCsv() throws IOException {
+        if (csvColumns == null) {
+            readCsvHeader();
+        }
+        if (pendingRow == null && !readPendingRow()) {
+            return null;
+        }
+
+        ordinal++;
+        long firstLine = pendingLineNumber;
+        String matchKey = column(pendingRow, "match_key");
+
+        MatchRegistrationDto match = new MatchRegistrationDto();
+        match.setPlayerStatsList(new ArrayList<>());
+        String error = null;
+
+        // 같은 match_key가 이어지는 동안 선수 행을 모읍니다. (오류가 있어도 해당 경기의 행은 끝까지 소비)
+        do {
+            if (error == null) {
+                try {
+                    appendCsvRow(match, pendingRow);
+                } catch (IllegalArgumentException e) {
+                    error = pendingLineNumber + "번째 줄: " + e.getMessage();
+                }
+            }
+            pendingRow = null;
+        } while (readPendingRow() && matchKey.equals(column(pendingRow, "match_key")));
+
+        if (error != null) {
+            return Entry.failed(ordinal, firstLine, "CSV 형식 오류 (match_key " + matchKey + ") " + error);
+        }
+        return toEntry(match, firstLine);
+    }
+
+    private void readCsvHeader() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                throw new IllegalArgumentException("❌ 오류: CSV 파일이 비어 있습니다.");
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        String[] header = splitCsvLine(stripBom(line));
+        csvColumns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            csvColumns.put(header[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        List<String> missing = CSV_REQUIRED_COLUMNS.stream()
+                .filter(column -> !csvColumns.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("❌ 오류: CSV 헤더에 필수 열이 없습니다: " + String.join(", ", missing));
+        }
+    }
+
+    private boolean readPendingRow() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                pendingRow = null;
+                return false;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        pendingRow = splitCsvLine(line);
+        pendingLineNumber = lineNumber;
+        return true;
+    }
+
+    private void appendCsvRow(MatchRegistrationDto match, String[] row) {
+        // 경기 단위 값은 첫 행 기준 (이후 행의 값은 무시)
+        if (match.getPlayerStatsList().isEmpty()) {
+            match.setWinnerTeam(column(row, "winner_team"));
+            match.setGameDurationSeconds(intColumn(row, "game_duration_seconds"));
+            match.setBlueTotalGold(intColumn(row, "blue_total_gold"));
+            match.setRedTotalGold(intColumn(row, "red_total_gold"));
+        }
+
+        PlayerStatsDto player = new PlayerStatsDto();
+        player.setLolGameName(column(row, "game_name"));
+        player.setLolTagLine(column(row, "tag_line"));
+        player.setTeam(column(row, "team"));
+        player.setChampionName(column(row, "champion_name"));
+        player.setLaneName(column(row, "lane_name"));
+        player.setKills(intColumn(row, "kills"));
+        player.setDeaths(intColumn(row, "deaths"));
+        player.setAssists(intColumn(row, "assists"));
+        player.setTotalGold(intColumn(row, "total_gold"));
+        player.setTotalDamage(intColumn(row, "total_damage"));
+        match.getPlayerStatsList().add(player);
+    }
+
+    private String column(String[] row, String name) {
+        Integer index = csvColumns.get(name);
+        if (index == null || index >= row.length) {
+            return "";
+        }
+        return row[index].trim();
+    }
+
+    private int intColumn(String[] row, String name) {
+        String value = column(row, name);
+        if (value.isEmpty()) {
+            if (CSV_OPTIONAL_COLUMNS.contains(name)) {
+                return 0;
+            }
+            throw new IllegalArgumentException(name + " 값이 비어 있습니다.");
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    /**
+     * 쉼표로 구분하되, 큰따옴표로 감싼 필드 안의 쉼표와 이스케이프된 큰따옴표("")를 처리합니다.
+     * 필드 안의 줄바꿈은 지원하지 않습니다.
+     */
+    static String[] splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    // =========================================================================
+    // 공통 정규화
+    // =========================================================================
+
+    /**
+     * 이미지 분석 결과와 같은 형태가 되도록 값을 보정하고, 등록 전에 확인 가능한 형식 오류를 걸러냅니다.
+     */
+    private Entry toEntry(MatchRegistrationDto match, long line) {
+        List<PlayerStatsDto> players = match.getPlayerStatsList();
+        if (players == null || players.isEmpty()) {
+            return Entry.failed(ordinal, line, "선수 기록이 없습니다.");
+        }
+        String winnerTeam = match.getWinnerTeam() == null ? "" : match.getWinnerTeam().trim().toUpperCase(Locale.ROOT);
+        if (!"BLUE".equals(winnerTeam) && !"RED".equals(winnerTeam)) {
+            return Entry.failed(ordinal, line, "승리 팀은 BLUE 또는 RED여야 합니다: " + match.getWinnerTeam());
+        }
+        match.setWinnerTeam(winnerTeam);
+
+        int blueGold = 0;
+        int redGold = 0;
+        for (PlayerStatsDto player : players) {
+            String team = player.getTeam() == null ? "" : player.getTeam().trim().toUpperCase(Locale.ROOT);
+            if (!"BLUE".equals(team) && !"RED".equals(team)) {
+                return Entry.failed(ordinal, line, player.getLolGameName() + "의 팀은 BLUE 또는 RED여야 합니다: " + player.getTeam());
+            }
+            player.setTeam(team);
+            if (player.getDurationSeconds() <= 0) {
+                player.setDurationSeconds(match.getGameDurationSeconds());
+            }
+            if ("BLUE".equals(team)) {
+                blueGold += player.getTotalGold();
+            } else {
+                redGold += player.getTotalGold();
+            }
+        }
+
+        // 팀 골드 합계가 없으면 선수 골드 합으로 채웁니다. (중복 검사 키로 사용)
+        if (match.getBlueTotalGold() <= 0 && match.getRedTotalGold() <= 0) {
+            match.setBlueTotalGold(blueGold);
+            match.setRedTotalGold(redGold);
+        }
+        return new Entry(ordinal, line, match, null);
+    }
+
+    /**
+     * 파일에서 읽은 경기 1건. ordinal은 파일 내 경기 순번(1부터)으로 체크포인트에 사용합니다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+
+        private final int ordinal;
+
+        // 경기가 시작되는 줄 번호 (오류 안내용)
+        private final long lineNumber;
+
+        private final MatchRegistrationDto match;
+
+        // 형식 오류 메시지 (정상이면 null)
+        private final String error;
+
+        static Entry failed(int ordinal, long lineNumber, String error) {
+            return new Entry(ordinal, lineNumber, null, error);
+        }
+
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+}
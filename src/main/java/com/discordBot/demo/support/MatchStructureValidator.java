@@ -0,0 +1,60 @@
+package com.discordBot.demo.support;
+
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분석 결과의 구조 검사 (모델 라우팅용)
+ *
+ * 빠른 모델의 결과를 그대로 써도 되는지 Gemini 호출 없이 판단합니다.
+ * 라인은 분석 후 로컬 배정(LaneAssignmentService)에서 팀별로 중복 없이 다시 정하므로 여기서는 보지 않습니다.
+ */
+public final class MatchStructureValidator {
+
+    private static final int PLAYERS_PER_TEAM = 5;
+
+    // 선수 1명의 분당 골드 허용 범위 (패시브 골드만으로도 분당 약 120, 프로 경기 최상위도 분당 700 안팎)
+    private static final double MIN_GOLD_PER_MINUTE = 80;
+    private static final double MAX_GOLD_PER_MINUTE = 1_500;
+
+    // 다시하기(3분 전)부터 아주 긴 경기까지
+    private static final int MIN_DURATION_SECONDS = 60;
+    private static final int MAX_DURATION_SECONDS = 2 * 60 * 60;
+
+    private MatchStructureValidator() {
+    }
+
+    /**
+     * @return 발견한 문제 목록 (비어 있으면 통과)
+     */
+    public static List<String> validate(int gameDurationSeconds, List<PlayerStatsDto> players) {
+        List<String> problems = new ArrayList<>();
+        if (gameDurationSeconds < MIN_DURATION_SECONDS || gameDurationSeconds > MAX_DURATION_SECONDS) {
+            problems.add("경기 시간 " + gameDurationSeconds + "초");
+        }
+        if (players == null || players.size() != PLAYERS_PER_TEAM * 2) {
+            problems.add("선수 " + (players == null ? 0 : players.size()) + "명");
+            return problems;
+        }
+
+        long blue = players.stream().filter(player -> "BLUE".equals(player.getTeam())).count();
+        long red = players.stream().filter(player -> "RED".equals(player.getTeam())).count();
+        if (blue != PLAYERS_PER_TEAM || red != PLAYERS_PER_TEAM) {
+            problems.add("팀 구성 BLUE " + blue + "명 / RED " + red + "명");
+        }
+
+        double minutes = Math.max(1, gameDurationSeconds) / 60.0;
+        for (PlayerStatsDto player : players) {
+            if (player.getKills() < 0 || player.getDeaths() < 0 || player.getAssists() < 0 || player.getTotalDamage() < 0) {
+                problems.add(player.getLolGameName() + ": 음수 KDA/피해량");
+            }
+            double goldPerMinute = player.getTotalGold() / minutes;
+            if (goldPerMinute < MIN_GOLD_PER_MINUTE || goldPerMinute > MAX_GOLD_PER_MINUTE) {
+                problems.add(player.getLolGameName() + ": 골드 " + player.getTotalGold() + " (분당 " + Math.round(goldPerMinute) + ")");
+            }
+        }
+        return problems;
+    }
+}
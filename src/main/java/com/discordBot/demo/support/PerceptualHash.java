@@ -0,0 +1,79 @@
+package com.discordBot.demo.support;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * 스크린샷 유사도 비교용 64비트 dHash (difference hash)
+ *
+ * 이미지를 9x8 격자의 회색조 평균 밝기로 줄인 뒤, 각 행에서 왼쪽 칸이 오른쪽 칸보다 밝으면 1로 기록합니다.
+ * 해상도 변경, 재압축(JPEG 품질), 약간의 밝기 변화에는 해시가 거의 변하지 않으므로
+ * 두 해시의 해밍 거리(다른 비트 수)가 작으면 같은 화면을 다시 캡처한 것으로 볼 수 있습니다.
+ */
+public final class PerceptualHash {
+
+    private static final int COLUMNS = 9;
+    private static final int ROWS = 8;
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * 이미지 바이트의 dHash를 계산합니다. ImageIO가 읽을 수 없는 형식이면 null을 반환합니다.
+     */
+    public static Long dHash(byte[] imageBytes) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+        return image == null ? null : dHash(image);
+    }
+
+    public static long dHash(BufferedImage image) {
+        double[][] cells = averageLuminance(image);
+
+        long hash = 0L;
+        for (int y = 0; y < ROWS; y++) {
+            for (int x = 0; x < COLUMNS - 1; x++) {
+                hash <<= 1;
+                if (cells[y][x] > cells[y][x + 1]) {
+                    hash |= 1L;
+                }
+            }
+        }
+        return hash;
+    }
+
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * 원본 픽셀을 격자 칸별로 평균냅니다. (축소 보간 대신 칸 평균을 써서 해상도가 달라도 같은 값이 나오도록 함)
+     */
+    private static double[][] averageLuminance(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[][] sums = new double[ROWS][COLUMNS];
+        int[][] counts = new int[ROWS][COLUMNS];
+        int[] row = new int[width];
+
+        for (int y = 0; y < height; y++) {
+            int cellY = y * ROWS / height;
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                int cellX = x * COLUMNS / width;
+                int rgb = row[x];
+                // ITU-R BT.601 가중치
+                sums[cellY][cellX] += 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+                counts[cellY][cellX]++;
+            }
+        }
+
+        for (int y = 0; y < ROWS; y++) {
+            for (int x = 0; x < COLUMNS; x++) {
+                sums[y][x] = counts[y][x] == 0 ? 0 : sums[y][x] / counts[y][x];
+            }
+        }
+        return sums;
+    }
+}
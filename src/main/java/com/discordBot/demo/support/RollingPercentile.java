@@ -0,0 +1,40 @@
+package com.discordBot.demo.support;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N개 표본의 백분위수 (고정 크기 링 버퍼, 조회 시 정렬)
+ * 표본이 minSamples보다 적으면 추정이 불안정하므로 -1을 반환합니다.
+ */
+public class RollingPercentile {
+
+    private final long[] samples;
+    private final int minSamples;
+
+    private int next;
+    private int count;
+
+    public RollingPercentile(int capacity, int minSamples) {
+        this.samples = new long[capacity];
+        this.minSamples = minSamples;
+    }
+
+    public synchronized void record(long value) {
+        samples[next] = value;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * @param quantile 0 ~ 1 (예: 0.95)
+     */
+    public synchronized long percentile(double quantile) {
+        if (count < minSamples) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+}
@@ -0,0 +1,424 @@
+package com.discordBot.demo.support;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 점수판 숫자 열(KDA / 피해량 / 골드) 로컬 인식기
+ *
+ * 네이티브 라이브러리 없이 Java2D만으로 동작합니다.
+ * 1. 밝기 이진화(Otsu) 후 연결 요소(8방향)로 글자를 나눕니다.
+ * 2. 높이가 비슷한 글자를 줄로 묶고, 글자 높이에 비해 넓은 간격에서 토큰을 나눕니다.
+ * 3. 각 글자를 고정 격자로 정규화해, 시스템 글꼴로 그린 숫자/슬래시 템플릿 중 가장 비슷한 것으로 읽습니다.
+ * 4. "K/D/A" 토큰이 있는 줄을 선수 행으로 보고, 그 오른쪽 마지막 두 숫자를 피해량, 골드로 읽습니다. (점수판 오른쪽 끝 두 열)
+ */
+public class ScoreboardDigitReader {
+
+    /** 선수 한 행에서 읽은 값 (y: 화면 위에서부터의 위치) */
+    public record Row(int y, int kills, int deaths, int assists, Integer totalDamage, Integer totalGold) {
+    }
+
+    private static final String GLYPHS = "0123456789/";
+    private static final int GRID_WIDTH = 12;
+    private static final int GRID_HEIGHT = 16;
+    private static final int[] TEMPLATE_SIZES = {15, 48};
+
+    // 글자로 볼 연결 요소 높이 범위 (px)
+    private static final int MIN_GLYPH_HEIGHT = 6;
+    private static final int MAX_GLYPH_HEIGHT = 80;
+
+    // 줄 높이보다 이만큼 작은 요소는 천 단위 쉼표/마침표로 보고 건너뜁니다.
+    private static final double SEPARATOR_HEIGHT_RATIO = 0.45;
+
+    // 글자 높이 대비 이보다 넓은 간격이면 다른 토큰 ("5 / 2 / 10"의 띄어쓰기는 같은 토큰, 열 사이 간격은 다른 토큰)
+    private static final double TOKEN_GAP_RATIO = 1.0;
+
+    private static final Pattern KDA_PATTERN = Pattern.compile("(\\d{1,2})/(\\d{1,2})/(\\d{1,2})");
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d{2,6}");
+
+    private final List<Template> templates = new ArrayList<>();
+    private final double minSimilarity;
+
+    /**
+     * @param minSimilarity 글자를 인식했다고 볼 최소 유사도 (0~1, 격자 칸별 min/max 합의 비율)
+     */
+    public ScoreboardDigitReader(double minSimilarity) {
+        this.minSimilarity = minSimilarity;
+        // 게임 글꼴과 모양이 조금씩 달라도 맞도록 여러 글꼴/굵기로, 작은 글자의 힌팅 모양도 반영해 두 크기로 템플릿을 만듭니다.
+        for (String family : List.of(Font.SANS_SERIF, Font.SERIF, Font.DIALOG, Font.MONOSPACED)) {
+            for (int style : new int[]{Font.PLAIN, Font.BOLD}) {
+                for (int size : TEMPLATE_SIZES) {
+                    Font font = new Font(family, style, size);
+                    for (char glyph : GLYPHS.toCharArray()) {
+                        float[] cells = renderTemplate(font, glyph);
+                        if (cells != null) {
+                            templates.add(new Template(glyph, cells));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 선수 행을 위에서부터 순서대로 읽습니다. 행으로 인식한 줄이 없으면 빈 목록입니다.
+     */
+    public List<Row> read(BufferedImage image) {
+        boolean[][] foreground = binarize(image);
+        List<Component> components = findComponents(foreground);
+
+        List<Row> rows = new ArrayList<>();
+        for (List<Component> line : groupLines(components)) {
+            List<String> tokens = readTokens(line);
+            parseRow(line, tokens).ifPresent(rows::add);
+        }
+        rows.sort(Comparator.comparingInt(Row::y));
+        return rows;
+    }
+
+    // --------------------------------------------------------------------------------
+    // 1. 이진화 / 연결 요소
+    // --------------------------------------------------------------------------------
+
+    private boolean[][] binarize(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] luminance = image.getRGB(0, 0, width, height, null, 0, width);
+        int[] histogram = new int[256];
+        for (int i = 0; i < luminance.length; i++) {
+            int rgb = luminance[i];
+            int value = (((rgb >> 16) & 0xFF) * 299 + ((rgb >> 8) & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+            luminance[i] = value;
+            histogram[value]++;
+        }
+
+        int threshold = otsuThreshold(histogram, luminance.length);
+        long bright = 0;
+        for (int value = threshold + 1; value < 256; value++) {
+            bright += histogram[value];
+        }
+        // 점수판은 어두운 배경에 밝은 글자이므로 밝은 쪽이 글자. 밝은 쪽이 절반을 넘으면 반대로 봅니다.
+        boolean textIsBright = bright * 2 < luminance.length;
+
+        boolean[][] foreground = new boolean[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                foreground[y][x] = (luminance[y * width + x] > threshold) == textIsBright;
+            }
+        }
+        return foreground;
+    }
+
+    private static int otsuThreshold(int[] histogram, int total) {
+        long weightedSum = 0;
+        for (int value = 0; value < 256; value++) {
+            weightedSum += (long) value * histogram[value];
+        }
+        long backgroundWeight = 0;
+        long backgroundSum = 0;
+        double bestVariance = -1;
+        int bestThreshold = 127;
+        for (int value = 0; value < 256; value++) {
+            backgroundWeight += histogram[value];
+            if (backgroundWeight == 0) {
+                continue;
+            }
+            long foregroundWeight = total - backgroundWeight;
+            if (foregroundWeight == 0) {
+                break;
+            }
+            backgroundSum += (long) value * histogram[value];
+            double backgroundMean = (double) backgroundSum / backgroundWeight;
+            double foregroundMean = (double) (weightedSum - backgroundSum) / foregroundWeight;
+            double variance = (double) backgroundWeight * foregroundWeight * Math.pow(backgroundMean - foregroundMean, 2);
+            if (variance > bestVariance) {
+                bestVariance = variance;
+                bestThreshold = value;
+            }
+        }
+        return bestThreshold;
+    }
+
+    private List<Component> findComponents(boolean[][] foreground) {
+        int height = foreground.length;
+        int width = height == 0 ? 0 : foreground[0].length;
+        boolean[][] visited = new boolean[height][width];
+        int[] stack = new int[width * height];
+        List<Component> components = new ArrayList<>();
+
+        for (int startY = 0; startY < height; startY++) {
+            for (int startX = 0; startX < width; startX++) {
+                if (!foreground[startY][startX] || visited[startY][startX]) {
+                    continue;
+                }
+                int minX = startX, maxX = startX, minY = startY, maxY = startY;
+                int size = 0;
+                stack[size++] = startY * width + startX;
+                visited[startY][startX] = true;
+                while (size > 0) {
+                    int position = stack[--size];
+                    int x = position % width;
+                    int y = position / width;
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                    for (int dy = -1; dy <= 1; dy++) {
+                        for (int dx = -1; dx <= 1; dx++) {
+                            int nx = x + dx;
+                            int ny = y + dy;
+                            if (nx >= 0 && ny >= 0 && nx < width && ny < height && foreground[ny][nx] && !visited[ny][nx]) {
+                                visited[ny][nx] = true;
+                                stack[size++] = ny * width + nx;
+                            }
+                        }
+                    }
+                }
+                int componentHeight = maxY - minY + 1;
+                int componentWidth = maxX - minX + 1;
+                // 아이콘/테두리처럼 크거나 가로로 긴 요소는 글자가 아님 (작은 요소는 쉼표일 수 있어 남김)
+                if (componentHeight <= MAX_GLYPH_HEIGHT && componentWidth <= Math.max(MAX_GLYPH_HEIGHT, 2 * componentHeight)) {
+                    components.add(new Component(minX, minY, componentWidth, componentHeight, foreground));
+                }
+            }
+        }
+        return components;
+    }
+
+    // --------------------------------------------------------------------------------
+    // 2. 줄 / 토큰
+    // --------------------------------------------------------------------------------
+
+    private List<List<Component>> groupLines(List<Component> components) {
+        List<Component> glyphs = components.stream()
+                .filter(component -> component.height >= MIN_GLYPH_HEIGHT)
+                .sorted(Comparator.comparingDouble(Component::centerY))
+                .toList();
+
+        List<List<Component>> lines = new ArrayList<>();
+        List<Component> current = new ArrayList<>();
+        double lineCenter = 0;
+        int lineHeight = 0;
+        for (Component glyph : glyphs) {
+            if (!current.isEmpty() && Math.abs(glyph.centerY() - lineCenter) > lineHeight / 2.0) {
+                lines.add(current);
+                current = new ArrayList<>();
+            }
+            if (current.isEmpty()) {
+                lineCenter = glyph.centerY();
+                lineHeight = glyph.height;
+            }
+            current.add(glyph);
+        }
+        if (!current.isEmpty()) {
+            lines.add(current);
+        }
+
+        for (List<Component> line : lines) {
+            line.sort(Comparator.comparingInt(component -> component.x));
+        }
+        return lines;
+    }
+
+    private List<String> readTokens(List<Component> line) {
+        int lineHeight = line.stream().mapToInt(component -> component.height).max().orElse(0);
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        int previousRight = Integer.MIN_VALUE;
+        for (Component component : line) {
+            if (component.height < lineHeight * SEPARATOR_HEIGHT_RATIO) {
+                continue;
+            }
+            if (previousRight != Integer.MIN_VALUE && component.x - previousRight > lineHeight * TOKEN_GAP_RATIO) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+            token.append(classify(component));
+            previousRight = component.x + component.width;
+        }
+        if (!token.isEmpty()) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private Optional<Row> parseRow(List<Component> line, List<String> tokens) {
+        int kdaIndex = -1;
+        Matcher kda = null;
+        for (int i = 0; i < tokens.size(); i++) {
+            Matcher matcher = KDA_PATTERN.matcher(tokens.get(i));
+            if (matcher.matches()) {
+                kdaIndex = i;
+                kda = matcher;
+            }
+        }
+        if (kda == null) {
+            return Optional.empty();
+        }
+
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = kdaIndex + 1; i < tokens.size(); i++) {
+            if (NUMBER_PATTERN.matcher(tokens.get(i)).matches()) {
+                numbers.add(Integer.parseInt(tokens.get(i)));
+            }
+        }
+        Integer gold = numbers.isEmpty() ? null : numbers.get(numbers.size() - 1);
+        Integer damage = numbers.size() < 2 ? null : numbers.get(numbers.size() - 2);
+
+        int y = (int) Math.round(line.stream().mapToDouble(Component::centerY).average().orElse(0));
+        return Optional.of(new Row(y, Integer.parseInt(kda.group(1)), Integer.parseInt(kda.group(2)),
+                Integer.parseInt(kda.group(3)), damage, gold));
+    }
+
+    // --------------------------------------------------------------------------------
+    // 3. 글자 인식
+    // --------------------------------------------------------------------------------
+
+    char classify(Component component) {
+        float[] cells = normalize(component.mask, component.width, component.height);
+        char best = '?';
+        double bestSimilarity = minSimilarity;
+        for (Template template : templates) {
+            double similarity = similarity(cells, template.cells);
+            if (similarity >= bestSimilarity) {
+                bestSimilarity = similarity;
+                best = template.glyph;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 칸별 min 합 / max 합 (가중 자카드 유사도)
+     */
+    private static double similarity(float[] a, float[] b) {
+        double min = 0;
+        double max = 0;
+        for (int i = 0; i < a.length; i++) {
+            min += Math.min(a[i], b[i]);
+            max += Math.max(a[i], b[i]);
+        }
+        return max == 0 ? 0 : min / max;
+    }
+
+    /**
+     * 글자를 높이에 맞춰 격자에 넣고(가로세로 비율 유지, 가운데 정렬) 칸마다 글자 픽셀 비율을 구합니다.
+     * '1'처럼 좁은 글자가 격자 전체로 늘어나 다른 숫자와 헷갈리지 않도록 비율을 유지합니다.
+     */
+    private static float[] normalize(boolean[][] mask, int width, int height) {
+        float[] cells = new float[GRID_WIDTH * GRID_HEIGHT];
+        double scale = (double) GRID_HEIGHT / height;
+        int scaledWidth = Math.max(1, Math.min(GRID_WIDTH, (int) Math.round(width * scale)));
+        int offsetX = (GRID_WIDTH - scaledWidth) / 2;
+
+        for (int gy = 0; gy < GRID_HEIGHT; gy++) {
+            int fromY = gy * height / GRID_HEIGHT;
+            int toY = Math.max(fromY + 1, (gy + 1) * height / GRID_HEIGHT);
+            for (int gx = 0; gx < scaledWidth; gx++) {
+                int fromX = gx * width / scaledWidth;
+                int toX = Math.max(fromX + 1, (gx + 1) * width / scaledWidth);
+                int filled = 0;
+                for (int y = fromY; y < toY; y++) {
+                    for (int x = fromX; x < toX; x++) {
+                        if (mask[y][x]) {
+                            filled++;
+                        }
+                    }
+                }
+                cells[gy * GRID_WIDTH + offsetX + gx] = (float) filled / ((toY - fromY) * (toX - fromX));
+            }
+        }
+        return blur(cells);
+    }
+
+    /**
+     * 3x3 평균 필터: 작은 글자는 획이 한 칸 정도 어긋나기 쉬우므로 겹침이 0이 되지 않도록 번지게 합니다.
+     */
+    private static float[] blur(float[] cells) {
+        float[] blurred = new float[cells.length];
+        for (int gy = 0; gy < GRID_HEIGHT; gy++) {
+            for (int gx = 0; gx < GRID_WIDTH; gx++) {
+                float sum = 0;
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        int ny = gy + dy;
+                        int nx = gx + dx;
+                        if (ny >= 0 && nx >= 0 && ny < GRID_HEIGHT && nx < GRID_WIDTH) {
+                            sum += cells[ny * GRID_WIDTH + nx];
+                        }
+                    }
+                }
+                blurred[gy * GRID_WIDTH + gx] = sum / 9;
+            }
+        }
+        return blurred;
+    }
+
+    private static float[] renderTemplate(Font font, char glyph) {
+        BufferedImage canvas = new BufferedImage(96, 96, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = canvas.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setFont(font);
+        graphics.drawString(String.valueOf(glyph), 20, 70);
+        graphics.dispose();
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = -1, maxY = -1;
+        boolean[][] pixels = new boolean[canvas.getHeight()][canvas.getWidth()];
+        for (int y = 0; y < canvas.getHeight(); y++) {
+            for (int x = 0; x < canvas.getWidth(); x++) {
+                if ((canvas.getRGB(x, y) & 0xFF) > 127) {
+                    pixels[y][x] = true;
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (maxX < 0) {
+            return null;
+        }
+        int width = maxX - minX + 1;
+        int height = maxY - minY + 1;
+        boolean[][] mask = new boolean[height][width];
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(pixels[minY + y], minX, mask[y], 0, width);
+        }
+        return normalize(mask, width, height);
+    }
+
+    private record Template(char glyph, float[] cells) {
+    }
+
+    /** 연결 요소 (bounding box 안의 글자 픽셀) */
+    static final class Component {
+        final int x;
+        final int y;
+        final int width;
+        final int height;
+        final boolean[][] mask;
+
+        Component(int x, int y, int width, int height, boolean[][] foreground) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.mask = new boolean[height][width];
+            for (int row = 0; row < height; row++) {
+                System.arraycopy(foreground[y + row], x, mask[row], 0, width);
+            }
+        }
+
+        double centerY() {
+            return y + height / 2.0;
+        }
+    }
+}
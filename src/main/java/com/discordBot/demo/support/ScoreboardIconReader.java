@@ -0,0 +1,372 @@
+package com.discordBot.demo.support;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 점수판 아이콘(챔피언 초상화 / 소환사 주문 / 서포터 아이템) 로컬 인식기
+ *
+ * 1. 배경과 밝기/색이 다른 픽셀의 연결 요소를 찾고, 빈 열/행에서 잘라 정사각형 후보로 나눕니다. (붙어 있는 아이템 칸, 위아래 주문 칸)
+ * 2. 후보마다 Data Dragon 아이콘 지문(IconFingerprint) 중 가장 비슷한 것을 찾습니다. (챔피언 / 주문 / 서포터 아이템 중 가장 높은 것)
+ * 3. 챔피언으로 인식한 후보를 선수 행으로 보고, 같은 높이의 가장 가까운 주문/아이템 후보를 그 행에 붙입니다.
+ *
+ * 위치 대신 내용으로 칸의 종류를 정하므로 점수판 배치(한 줄 / 팀별 좌우)와 해상도에 따로 맞출 필요가 없습니다.
+ */
+public class ScoreboardIconReader {
+
+    /**
+     * 선수 한 행의 아이콘 근거 (판단할 수 없으면 null)
+     * @param smite 강타가 보이면 true, 주문 두 칸을 모두 알아봤는데 강타가 없으면 false
+     * @param supportItem 서포터 아이템이 보이면 true (다른 아이템은 색인에 없어 false로 단정하지 않음)
+     */
+    public record Row(int x, int y, String championKey, double championSimilarity, Boolean smite, Boolean supportItem) {
+    }
+
+    private enum Kind { CHAMPION, SPELL, ITEM }
+
+    private record Candidate(int x, int y, int size, Kind kind, String key, double similarity) {
+        int centerX() {
+            return x + size / 2;
+        }
+
+        int centerY() {
+            return y + size / 2;
+        }
+    }
+
+    // 아이콘으로 볼 정사각형 한 변 범위 (px)
+    private static final int MIN_ICON_SIZE = 14;
+    private static final int MAX_ICON_SIZE = 200;
+
+    // 가로/세로 비가 이 범위면 정사각형으로 봅니다.
+    private static final double MAX_ASPECT_DEVIATION = 0.25;
+
+    // 한 줄로 이어진 칸을 똑같이 나눌 최대 칸 수 (아이템 칸 7개)
+    private static final int MAX_EQUAL_PARTS = 7;
+
+    // 최소 유사도에 이만큼 못 미친 후보까지 위치/크기를 조금씩 바꿔 다시 비교합니다.
+    private static final double REFINE_MARGIN = 0.15;
+
+    // 칸 사이 틈으로 볼 열/행의 최대 전경 비율 (JPEG 압축 잡음이 틈에 번져도 자를 수 있도록)
+    private static final double GAP_MAX_OCCUPANCY = 0.15;
+
+    // 초상화 크기 중앙값 대비 허용 오차
+    private static final double PORTRAIT_SIZE_TOLERANCE = 0.2;
+
+    // 배경과 이만큼 밝기가 다르거나, 채도(최대-최소 채널)가 이 이상이면 아이콘/글자 픽셀
+    private static final int LUMINANCE_DELTA = 30;
+    private static final int MIN_CHROMA = 60;
+
+    private final IconFingerprint.Index champions;
+    private final IconFingerprint.Index spells;
+    private final IconFingerprint.Index supportItems;
+    private final String smiteKey;
+    private final double minSimilarity;
+
+    /**
+     * 아이콘 지문은 여기서 한 번만 계산합니다.
+     * @param minSimilarity 아이콘을 알아봤다고 볼 최소 지문 상관 계수 (0~1)
+     */
+    public ScoreboardIconReader(Map<String, BufferedImage> championIcons, Map<String, BufferedImage> spellIcons,
+                                Map<String, BufferedImage> supportItemIcons, String smiteKey, double minSimilarity) {
+        this.champions = new IconFingerprint.Index(championIcons);
+        this.spells = new IconFingerprint.Index(spellIcons);
+        this.supportItems = new IconFingerprint.Index(supportItemIcons);
+        this.smiteKey = smiteKey;
+        this.minSimilarity = minSimilarity;
+    }
+
+    /**
+     * 챔피언 초상화를 알아본 선수 행을 위에서부터 (같은 높이면 왼쪽부터) 반환합니다.
+     */
+    public List<Row> read(BufferedImage image) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (int[] square : findSquares(image)) {
+            classify(image, square).ifPresent(candidates::add);
+        }
+
+        List<Candidate> portraits = portraitsOfCommonSize(candidates);
+        List<List<Candidate>> attached = new ArrayList<>();
+        for (int i = 0; i < portraits.size(); i++) {
+            attached.add(new ArrayList<>());
+        }
+        for (Candidate candidate : candidates) {
+            if (candidate.kind() != Kind.CHAMPION) {
+                nearestPortrait(portraits, candidate).ifPresent(index -> attached.get(index).add(candidate));
+            }
+        }
+
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < portraits.size(); i++) {
+            Candidate portrait = portraits.get(i);
+            List<Candidate> spellSlots = attached.get(i).stream().filter(c -> c.kind() == Kind.SPELL).toList();
+            boolean hasSmite = spellSlots.stream().anyMatch(c -> c.key().equals(smiteKey));
+            boolean hasSupportItem = attached.get(i).stream().anyMatch(c -> c.kind() == Kind.ITEM);
+            rows.add(new Row(portrait.centerX(), portrait.centerY(), portrait.key(), portrait.similarity(),
+                    hasSmite ? Boolean.TRUE : spellSlots.size() >= 2 ? Boolean.FALSE : null,
+                    hasSupportItem ? Boolean.TRUE : null));
+        }
+        rows.sort(Comparator.comparingInt(Row::y).thenComparingInt(Row::x));
+        return rows;
+    }
+
+    /**
+     * 점수판의 초상화는 모두 같은 크기이므로, 챔피언으로 인식한 후보 중 크기가 중앙값과 크게 다른 것(아이템 칸 등 오인식)은 버립니다.
+     */
+    private static List<Candidate> portraitsOfCommonSize(List<Candidate> candidates) {
+        List<Candidate> portraits = candidates.stream().filter(c -> c.kind() == Kind.CHAMPION).toList();
+        if (portraits.isEmpty()) {
+            return portraits;
+        }
+        int[] sizes = portraits.stream().mapToInt(Candidate::size).sorted().toArray();
+        int medianSize = sizes[sizes.length / 2];
+        return portraits.stream()
+                .filter(c -> Math.abs(c.size() - medianSize) <= medianSize * PORTRAIT_SIZE_TOLERANCE)
+                .toList();
+    }
+
+    private Optional<Candidate> classify(BufferedImage image, int[] square) {
+        Optional<Candidate> best = bestMatch(image, square[0], square[1], square[2], minSimilarity - REFINE_MARGIN);
+        if (best.isEmpty() || best.get().similarity() >= minSimilarity) {
+            return best;
+        }
+        // 가장자리가 배경과 비슷한 아이콘은 찾은 영역이 1px쯤 어긋나므로, 아깝게 못 미친 후보만 주변 위치/크기로 다시 맞춰 봅니다.
+        Candidate refined = best.get();
+        for (int resize = -1; resize <= 1; resize++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    Optional<Candidate> shifted = bestMatch(image, square[0] + dx, square[1] + dy, square[2] + resize, refined.similarity());
+                    if (shifted.isPresent()) {
+                        refined = shifted.get();
+                    }
+                }
+            }
+        }
+        return refined.similarity() >= minSimilarity ? Optional.of(refined) : Optional.empty();
+    }
+
+    private Optional<Candidate> bestMatch(BufferedImage image, int x, int y, int size, double minSimilarity) {
+        float[] fingerprint = IconFingerprint.of(image, x, y, size, size);
+        if (fingerprint == null) {
+            return Optional.empty();
+        }
+        Candidate best = null;
+        double bestSimilarity = minSimilarity;
+        for (Kind kind : Kind.values()) {
+            Optional<IconFingerprint.Index.Match> match = indexOf(kind).nearest(fingerprint, bestSimilarity);
+            if (match.isPresent() && match.get().similarity() > bestSimilarity - 1e-9) {
+                bestSimilarity = match.get().similarity();
+                best = new Candidate(x, y, size, kind, match.get().key(), bestSimilarity);
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private IconFingerprint.Index indexOf(Kind kind) {
+        return switch (kind) {
+            case CHAMPION -> champions;
+            case SPELL -> spells;
+            case ITEM -> supportItems;
+        };
+    }
+
+    /**
+     * 세로로 초상화와 겹치는 행 중 가로로 가장 가까운 초상화 (주문/아이템 칸은 초상화보다 작거나 같고 같은 줄에 있음)
+     */
+    private static Optional<Integer> nearestPortrait(List<Candidate> portraits, Candidate candidate) {
+        Integer nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < portraits.size(); i++) {
+            Candidate portrait = portraits.get(i);
+            if (Math.abs(candidate.centerY() - portrait.centerY()) > portrait.size() * 0.75) {
+                continue;
+            }
+            int distance = Math.abs(candidate.centerX() - portrait.centerX());
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = i;
+            }
+        }
+        return Optional.ofNullable(nearest);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 정사각형 후보 찾기
+    // --------------------------------------------------------------------------------
+
+    /**
+     * @return {x, y, 한 변} 목록
+     */
+    private List<int[]> findSquares(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean[] mask = foregroundMask(image);
+
+        // 아이콘 안의 어두운 부분 때문에 요소가 쪼개지지 않도록 한 칸 넓힌 마스크로 요소를 찾습니다.
+        boolean[] dilated = new boolean[mask.length];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!mask[y * width + x]) {
+                    continue;
+                }
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        int nx = x + dx;
+                        int ny = y + dy;
+                        if (nx >= 0 && ny >= 0 && nx < width && ny < height) {
+                            dilated[ny * width + nx] = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        List<int[]> squares = new ArrayList<>();
+        boolean[] visited = new boolean[mask.length];
+        int[] stack = new int[mask.length];
+        for (int start = 0; start < mask.length; start++) {
+            if (!dilated[start] || visited[start]) {
+                continue;
+            }
+            int minX = start % width, maxX = minX, minY = start / width, maxY = minY;
+            int size = 0;
+            stack[size++] = start;
+            visited[start] = true;
+            while (size > 0) {
+                int position = stack[--size];
+                int x = position % width;
+                int y = position / width;
+                minX = Math.min(minX, x);
+                maxX = Math.max(maxX, x);
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        int nx = x + dx;
+                        int ny = y + dy;
+                        int next = ny * width + nx;
+                        if (nx >= 0 && ny >= 0 && nx < width && ny < height && dilated[next] && !visited[next]) {
+                            visited[next] = true;
+                            stack[size++] = next;
+                        }
+                    }
+                }
+            }
+            if (maxX - minX + 1 >= MIN_ICON_SIZE && maxY - minY + 1 >= MIN_ICON_SIZE) {
+                cut(mask, width, minX, minY, maxX, maxY, squares, 0);
+            }
+        }
+        return squares;
+    }
+
+    /**
+     * 빈 열/행이 있으면 그곳에서 잘라 다시 보고, 더 자를 수 없는 영역이 정사각형이면 후보로 남깁니다. (XY-cut)
+     */
+    private static void cut(boolean[] mask, int width, int minX, int minY, int maxX, int maxY, List<int[]> squares, int depth) {
+        // 원래 마스크 기준으로 내용이 있는 곳까지 줄임
+        while (minX <= maxX && columnEmpty(mask, width, minX, minY, maxY)) minX++;
+        while (maxX >= minX && columnEmpty(mask, width, maxX, minY, maxY)) maxX--;
+        while (minY <= maxY && rowEmpty(mask, width, minY, minX, maxX)) minY++;
+        while (maxY >= minY && rowEmpty(mask, width, maxY, minX, maxX)) maxY--;
+        int regionWidth = maxX - minX + 1;
+        int regionHeight = maxY - minY + 1;
+        if (regionWidth < MIN_ICON_SIZE || regionHeight < MIN_ICON_SIZE || depth > 16) {
+            return;
+        }
+
+        for (int x = minX + 1; x < maxX; x++) {
+            if (columnEmpty(mask, width, x, minY, maxY)) {
+                cut(mask, width, minX, minY, x - 1, maxY, squares, depth + 1);
+                cut(mask, width, x + 1, minY, maxX, maxY, squares, depth + 1);
+                return;
+            }
+        }
+        for (int y = minY + 1; y < maxY; y++) {
+            if (rowEmpty(mask, width, y, minX, maxX)) {
+                cut(mask, width, minX, minY, maxX, y - 1, squares, depth + 1);
+                cut(mask, width, minX, y + 1, maxX, maxY, squares, depth + 1);
+                return;
+            }
+        }
+
+        double aspect = (double) regionWidth / regionHeight;
+        if (Math.abs(aspect - 1.0) <= MAX_ASPECT_DEVIATION) {
+            if (Math.max(regionWidth, regionHeight) <= MAX_ICON_SIZE) {
+                int side = Math.max(regionWidth, regionHeight);
+                squares.add(new int[]{minX - (side - regionWidth) / 2, minY - (side - regionHeight) / 2, side});
+            }
+            return;
+        }
+
+        // 틈이 압축 잡음에 묻혀 못 자른 같은 크기 칸의 줄(아이템 칸, 위아래 주문 칸)은 칸 수만큼 똑같이 나눕니다.
+        int parts = (int) Math.round(Math.max(aspect, 1 / aspect));
+        if (parts <= MAX_EQUAL_PARTS && Math.abs(Math.max(aspect, 1 / aspect) - parts) <= MAX_ASPECT_DEVIATION) {
+            for (int part = 0; part < parts; part++) {
+                if (aspect > 1) {
+                    int side = regionWidth / parts;
+                    squares.add(new int[]{minX + part * regionWidth / parts, minY + (regionHeight - side) / 2, side});
+                } else {
+                    int side = regionHeight / parts;
+                    squares.add(new int[]{minX + (regionWidth - side) / 2, minY + part * regionHeight / parts, side});
+                }
+            }
+        }
+    }
+
+    private static boolean columnEmpty(boolean[] mask, int width, int x, int minY, int maxY) {
+        int count = 0;
+        for (int y = minY; y <= maxY; y++) {
+            if (mask[y * width + x]) {
+                count++;
+            }
+        }
+        return count <= (maxY - minY + 1) * GAP_MAX_OCCUPANCY;
+    }
+
+    private static boolean rowEmpty(boolean[] mask, int width, int y, int minX, int maxX) {
+        int count = 0;
+        for (int x = minX; x <= maxX; x++) {
+            if (mask[y * width + x]) {
+                count++;
+            }
+        }
+        return count <= (maxX - minX + 1) * GAP_MAX_OCCUPANCY;
+    }
+
+    /**
+     * 점수판 배경(가장 흔한 밝기)과 다른 픽셀
+     */
+    private static boolean[] foregroundMask(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        int[] luminance = new int[pixels.length];
+        int[] histogram = new int[256];
+        for (int i = 0; i < pixels.length; i++) {
+            int rgb = pixels[i];
+            luminance[i] = (((rgb >> 16) & 0xFF) * 299 + ((rgb >> 8) & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+            histogram[luminance[i]]++;
+        }
+        int background = 0;
+        for (int value = 1; value < 256; value++) {
+            if (histogram[value] > histogram[background]) {
+                background = value;
+            }
+        }
+
+        boolean[] mask = new boolean[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            int rgb = pixels[i];
+            int red = (rgb >> 16) & 0xFF;
+            int green = (rgb >> 8) & 0xFF;
+            int blue = rgb & 0xFF;
+            int chroma = Math.max(red, Math.max(green, blue)) - Math.min(red, Math.min(green, blue));
+            mask[i] = Math.abs(luminance[i] - background) > LUMINANCE_DELTA || chroma >= MIN_CHROMA;
+        }
+        return mask;
+    }
+}
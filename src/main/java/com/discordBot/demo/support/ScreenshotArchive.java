@@ -0,0 +1,99 @@
+package com.discordBot.demo.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * 일괄 등록용 스크린샷 ZIP 파일
+ *
+ * 디스크에 받아 둔 ZIP을 열어 이미지 항목 목록만 먼저 만들고, 각 항목은 분석 워커가 실행될 때 하나씩 읽습니다.
+ * (50장을 한꺼번에 메모리에 올리지 않음) 압축 폭탄을 막기 위해 항목 수와 항목별 해제 크기를 제한합니다.
+ */
+public class ScreenshotArchive implements Closeable {
+
+    private static final List<String> IMAGE_EXTENSIONS = List.of(".png", ".jpg", ".jpeg", ".webp", ".gif");
+
+    private final ZipFile zipFile;
+    private final long maxEntryBytes;
+    private final List<String> imageEntryNames;
+
+    /**
+     * @throws IllegalArgumentException 이미지가 없거나 maxEntries를 넘는 경우
+     */
+    public ScreenshotArchive(Path path, int maxEntries, long maxEntryBytes) throws IOException {
+        this.zipFile = new ZipFile(path.toFile());
+        this.maxEntryBytes = maxEntryBytes;
+
+        List<String> names = new ArrayList<>();
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (!entry.isDirectory() && isImage(entry.getName())) {
+                names.add(entry.getName());
+            }
+        }
+        Collections.sort(names);
+        this.imageEntryNames = List.copyOf(names);
+
+        if (imageEntryNames.isEmpty() || imageEntryNames.size() > maxEntries) {
+            zipFile.close();
+            throw new IllegalArgumentException(imageEntryNames.isEmpty()
+                    ? "❌ 오류: 압축 파일에 스크린샷 이미지(png, jpg, webp, gif)가 없습니다."
+                    : "❌ 오류: 한 번에 최대 " + maxEntries + "장까지 등록할 수 있습니다. (압축 파일 속 이미지 " + imageEntryNames.size() + "장)");
+        }
+    }
+
+    /** 파일 이름 순으로 정렬된 이미지 항목 이름 */
+    public List<String> getImageEntryNames() {
+        return imageEntryNames;
+    }
+
+    /**
+     * 항목을 읽습니다. 실제로 풀어 보며 크기를 확인하므로 헤더의 크기 정보를 속인 항목도 걸러집니다.
+     */
+    public byte[] read(String entryName) throws IOException {
+        ZipEntry entry = zipFile.getEntry(entryName);
+        if (entry == null) {
+            throw new IOException("압축 파일에 항목이 없습니다: " + entryName);
+        }
+        try (InputStream input = zipFile.getInputStream(entry)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                total += read;
+                if (total > maxEntryBytes) {
+                    throw new IllegalArgumentException("❌ 오류: 이미지가 너무 큽니다. (" + entryName + ", 최대 " + maxEntryBytes / (1024 * 1024) + "MB)");
+                }
+                output.write(buffer, 0, read);
+            }
+            return output.toByteArray();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        zipFile.close();
+    }
+
+    private static boolean isImage(String entryName) {
+        String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+        // macOS 압축 시 생기는 리소스 포크(__MACOSX/, ._파일)와 숨김 파일 제외
+        if (entryName.startsWith("__MACOSX/") || fileName.startsWith(".")) {
+            return false;
+        }
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        return IMAGE_EXTENSIONS.stream().anyMatch(lower::endsWith);
+    }
+}
@@ -0,0 +1,176 @@
+package com.discordBot.demo.support;
+
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 서버의 선수 기록을 원시 배열에 누적해 USER_SERVER_STATS / CHAMPION_STATS / LINE_STATS 행을 만듭니다.
+ * 행마다 객체를 만들지 않으므로 수십만 건을 스트리밍해도 할당이 거의 늘지 않습니다. (스레드 안전하지 않음)
+ */
+public class StatsAccumulator {
+
+    private final Long serverId;
+
+    private final Table userTable = new Table();
+    private final Table championTable = new Table();
+    private final Table lineTable = new Table();
+
+    // 누적에 포함된 경기 ID (교체 단계에서 스캔 이후 추가/삭제된 경기 검출용)
+    private long[] matchIds = new long[256];
+    private int matchCount = 0;
+
+    private long rowCount = 0;
+
+    public StatsAccumulator(Long serverId) {
+        this.serverId = serverId;
+    }
+
+    /**
+     * 선수 기록 한 건(+1경기)을 세 테이블에 모두 누적합니다.
+     */
+    public void add(long userId, long championId, long lineId, boolean win, int kills, int deaths, int assists,
+                    long gold, long damage, int teamKills, long durationSeconds) {
+        int userSlot = userTable.slot(userId, userId, 0L);
+        long userKey = ((long) userSlot) << 32;
+
+        userTable.add(userSlot, win, kills, deaths, assists, gold, damage, teamKills, durationSeconds);
+        championTable.add(championTable.slot(userKey | (championId & 0xFFFFFFFFL), userId, championId),
+                win, kills, deaths, assists, gold, damage, teamKills, durationSeconds);
+        lineTable.add(lineTable.slot(userKey | (lineId & 0xFFFFFFFFL), userId, lineId),
+                win, kills, deaths, assists, gold, damage, teamKills, durationSeconds);
+        rowCount++;
+    }
+
+    public void addMatchId(long matchId) {
+        if (matchCount == matchIds.length) {
+            matchIds = Arrays.copyOf(matchIds, matchCount * 2);
+        }
+        matchIds[matchCount++] = matchId;
+    }
+
+    /** 누적된 경기 ID를 정렬된 배열로 반환합니다. (이진 탐색용) */
+    public long[] sortedMatchIds() {
+        long[] sorted = Arrays.copyOf(matchIds, matchCount);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public int getAggregateRowCount() {
+        return userTable.size + championTable.size + lineTable.size;
+    }
+
+    public List<StatsDeltaDto> userServerStatsRows() {
+        return userTable.toDeltas(serverId, false, false);
+    }
+
+    public List<StatsDeltaDto> championStatsRows() {
+        return championTable.toDeltas(serverId, true, false);
+    }
+
+    public List<StatsDeltaDto> lineStatsRows() {
+        return lineTable.toDeltas(serverId, false, true);
+    }
+
+    /**
+     * 집계 키 하나당 슬롯 하나를 배정하고, 슬롯 번호를 인덱스로 각 누적 컬럼 배열에 더합니다.
+     */
+    private static final class Table {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final Map<Long, Integer> slotByKey = new HashMap<>();
+
+        private long[] userIds = new long[INITIAL_CAPACITY];
+        private long[] subIds = new long[INITIAL_CAPACITY];
+
+        private int[] games = new int[INITIAL_CAPACITY];
+        private int[] wins = new int[INITIAL_CAPACITY];
+        private int[] kills = new int[INITIAL_CAPACITY];
+        private int[] deaths = new int[INITIAL_CAPACITY];
+        private int[] assists = new int[INITIAL_CAPACITY];
+        private int[] teamKills = new int[INITIAL_CAPACITY];
+        private long[] gold = new long[INITIAL_CAPACITY];
+        private long[] damage = new long[INITIAL_CAPACITY];
+        private long[] duration = new long[INITIAL_CAPACITY];
+
+        private int size = 0;
+
+        int slot(long key, long userId, long subId) {
+            Integer slot = slotByKey.get(key);
+            if (slot != null) {
+                return slot;
+            }
+            if (size == games.length) {
+                grow();
+            }
+            userIds[size] = userId;
+            subIds[size] = subId;
+            slotByKey.put(key, size);
+            return size++;
+        }
+
+        void add(int slot, boolean win, int k, int d, int a, long g, long dmg, int tk, long dur) {
+            games[slot]++;
+            if (win) {
+                wins[slot]++;
+            }
+            kills[slot] += k;
+            deaths[slot] += d;
+            assists[slot] += a;
+            gold[slot] += g;
+            damage[slot] += dmg;
+            teamKills[slot] += tk;
+            duration[slot] += dur;
+        }
+
+        List<StatsDeltaDto> toDeltas(Long serverId, boolean championKey, boolean lineKey) {
+            List<StatsDeltaDto> rows = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                rows.add(StatsDeltaDto.builder()
+                        .serverId(serverId)
+                        .userId(userIds[i])
+                        .championId(championKey ? subIds[i] : null)
+                        .lineId(lineKey ? subIds[i] : null)
+                        .games(games[i])
+                        .wins(wins[i])
+                        .kills(kills[i])
+                        .deaths(deaths[i])
+                        .assists(assists[i])
+                        .gold(gold[i])
+                        .damage(damage[i])
+                        .teamKills(teamKills[i])
+                        .durationSeconds(duration[i])
+                        .build());
+            }
+            return rows;
+        }
+
+        private void grow() {
+            int capacity = games.length * 2;
+            userIds = Arrays.copyOf(userIds, capacity);
+            subIds = Arrays.copyOf(subIds, capacity);
+            games = Arrays.copyOf(games, capacity);
+            wins = Arrays.copyOf(wins, capacity);
+            kills = Arrays.copyOf(kills, capacity);
+            deaths = Arrays.copyOf(deaths, capacity);
+            assists = Arrays.copyOf(assists, capacity);
+            teamKills = Arrays.copyOf(teamKills, capacity);
+            gold = Arrays.copyOf(gold, capacity);
+            damage = Arrays.copyOf(damage, capacity);
+            duration = Arrays.copyOf(duration, capacity);
+        }
+    }
+}
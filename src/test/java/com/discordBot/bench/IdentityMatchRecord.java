@@ -0,0 +1,39 @@
+package com.discordBot.bench;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 전용: 기존(IDENTITY) 방식 MatchRecord.
+ * 애플리케이션 엔티티 스캔 범위(com.discordBot.demo) 밖에 두어 실제 스키마에는 생성되지 않습니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "BENCH_IDENTITY_MATCH")
+public class IdentityMatchRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "winner_team", nullable = false, length = 10)
+    private String winnerTeam;
+
+    @Column(name = "game_duration_seconds", nullable = false)
+    private int gameDurationSeconds;
+
+    @OneToMany(mappedBy = "matchRecord", cascade = CascadeType.ALL)
+    private List<IdentityPlayerStats> playerStats = new ArrayList<>();
+
+    public void addPlayerStats(IdentityPlayerStats stats) {
+        this.playerStats.add(stats);
+        stats.setMatchRecord(this);
+    }
+}
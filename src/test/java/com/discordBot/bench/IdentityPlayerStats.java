@@ -0,0 +1,46 @@
+package com.discordBot.bench;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 벤치마크 전용: 기존(IDENTITY) 방식 PlayerStats.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "BENCH_IDENTITY_PLAYER_STATS")
+public class IdentityPlayerStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "match_id", nullable = false)
+    private IdentityMatchRecord matchRecord;
+
+    @Column(name = "team", nullable = false, length = 10)
+    private String team;
+
+    @Column(name = "is_win", nullable = false)
+    private Boolean isWin;
+
+    @Column(name = "kills", nullable = false)
+    private Integer kills;
+
+    @Column(name = "deaths", nullable = false)
+    private Integer deaths;
+
+    @Column(name = "assists", nullable = false)
+    private Integer assists;
+
+    @Column(name = "total_gold", nullable = false)
+    private long totalGold;
+
+    @Column(name = "total_damage", nullable = false)
+    private long totalDamage;
+}
@@ -0,0 +1,180 @@
+package com.discordBot.demo.domain;
+
+import com.discordBot.bench.IdentityMatchRecord;
+import com.discordBot.bench.IdentityPlayerStats;
+import com.discordBot.demo.domain.entity.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MATCH_RECORD / PLAYER_STATS INSERT 처리량 비교 (H2 메모리 DB)
+ * - before: IDENTITY → 행마다 INSERT 한 번 (JDBC 배치 불가)
+ * - after : pooled 시퀀스 + hibernate.jdbc.batch_size / order_inserts → 배치 INSERT
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+class MatchInsertBatchingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchInsertBatchingBenchmarkTest.class);
+
+    private static final int MATCH_COUNT = 300;
+    private static final int PLAYERS_PER_MATCH = 10;
+    private static final int FLUSH_EVERY_MATCHES = 50;
+
+    @TestConfiguration
+    @EntityScan(basePackageClasses = {MatchRecord.class, IdentityMatchRecord.class})
+    static class BenchmarkEntityConfig {
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("벤치마크: pooled 시퀀스 + 배치 INSERT가 IDENTITY보다 적은 JDBC 문장으로 같은 행을 저장한다")
+    void pooledSequenceBatching_vs_Identity() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // 워밍업: 첫 실행에만 생기는 문장(시퀀스 최초 조회 등)과 JIT 시간이 비교에 섞이지 않도록 먼저 한 번 저장
+        insertIdentityMatches(20, 0);
+        insertPooledMatches(20, 0, createFixtures());
+
+        // BEFORE: IDENTITY
+        statistics.clear();
+        long identityStart = System.nanoTime();
+        insertIdentityMatches(MATCH_COUNT, 1_000);
+        long identityNanos = System.nanoTime() - identityStart;
+        long identityStatements = statistics.getPrepareStatementCount();
+
+        // AFTER: pooled 시퀀스 + JDBC 배치
+        Fixtures fixtures = createFixtures();
+        statistics.clear();
+        long pooledStart = System.nanoTime();
+        insertPooledMatches(MATCH_COUNT, 1_000, fixtures);
+        long pooledNanos = System.nanoTime() - pooledStart;
+        long pooledStatements = statistics.getPrepareStatementCount();
+
+        long rows = (long) MATCH_COUNT * (PLAYERS_PER_MATCH + 1);
+        String report = String.format("rows=%d, before (IDENTITY) %,d rows/s / %d statements, after (pooled + batch) %,d rows/s / %d statements",
+                rows, rowsPerSecond(rows, identityNanos), identityStatements, rowsPerSecond(rows, pooledNanos), pooledStatements);
+        log.info("[insert benchmark] {}", report);
+
+        // 저장 결과는 동일해야 함
+        assertThat(countRows("SELECT count(ps) FROM IdentityPlayerStats ps")).isEqualTo((MATCH_COUNT + 20L) * PLAYERS_PER_MATCH);
+        assertThat(countRows("SELECT count(ps) FROM PlayerStats ps")).isEqualTo((MATCH_COUNT + 20L) * PLAYERS_PER_MATCH);
+
+        // 배치 모드는 행마다 문장을 준비하지 않음 (시간은 환경에 따라 흔들리므로 문장 수로 검증)
+        assertThat(identityStatements).as(report).isGreaterThanOrEqualTo(rows);
+        assertThat(pooledStatements * 5).as(report).isLessThan(identityStatements);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private void insertIdentityMatches(int count, int seed) {
+        for (int i = 0; i < count; i++) {
+            IdentityMatchRecord match = new IdentityMatchRecord();
+            match.setWinnerTeam("BLUE");
+            match.setGameDurationSeconds(seed + i);
+            for (int p = 0; p < PLAYERS_PER_MATCH; p++) {
+                IdentityPlayerStats stats = new IdentityPlayerStats();
+                stats.setTeam(p < 5 ? "BLUE" : "RED");
+                stats.setIsWin(p < 5);
+                stats.setKills(p);
+                stats.setDeaths(10 - p);
+                stats.setAssists(p * 2);
+                stats.setTotalGold(10_000L + p);
+                stats.setTotalDamage(20_000L + p);
+                match.addPlayerStats(stats);
+            }
+            entityManager.persist(match);
+            flushPeriodically(i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void insertPooledMatches(int count, int seed, Fixtures fixtures) {
+        for (int i = 0; i < count; i++) {
+            MatchRecord match = new MatchRecord();
+            match.setGuildServer(entityManager.getReference(GuildServer.class, fixtures.serverId));
+            match.setWinnerTeam("BLUE");
+            match.setGameDurationSeconds(seed + i);
+            match.setBlueTotalGold(50_000);
+            match.setRedTotalGold(45_000);
+            for (int p = 0; p < PLAYERS_PER_MATCH; p++) {
+                PlayerStats stats = new PlayerStats();
+                stats.setChampion(entityManager.getReference(Champion.class, fixtures.championId));
+                stats.setLine(entityManager.getReference(Line.class, fixtures.lineId));
+                stats.setTeam(p < 5 ? "BLUE" : "RED");
+                stats.setIsWin(p < 5);
+                stats.setKills(p);
+                stats.setDeaths(10 - p);
+                stats.setAssists(p * 2);
+                stats.setTotalGold(10_000L + p);
+                stats.setTotalDamage(20_000L + p);
+                stats.setDurationSeconds(seed + i);
+                match.addPlayerStats(stats);
+            }
+            entityManager.persist(match);
+            flushPeriodically(i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void flushPeriodically(int index) {
+        if ((index + 1) % FLUSH_EVERY_MATCHES == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private Fixtures createFixtures() {
+        Long serverId = System.nanoTime();
+
+        GuildServer server = new GuildServer();
+        server.setDiscordServerId(serverId);
+        server.setServerName("BenchServer");
+        entityManager.persist(server);
+
+        Champion champion = new Champion();
+        champion.setChampionId(serverId % 100_000);
+        champion.setName("Bench" + serverId);
+        champion.setChampionKey("Bench" + serverId);
+        entityManager.persist(champion);
+
+        Line line = new Line();
+        line.setName("B" + serverId % 1_000_000_000L);
+        line.setDisplayName("벤치");
+        entityManager.persist(line);
+
+        entityManager.flush();
+        return new Fixtures(serverId, champion.getChampionId(), line.getLineId());
+    }
+
+    private long countRows(String jpql) {
+        return entityManager.createQuery(jpql, Long.class).getSingleResult();
+    }
+
+    private static long rowsPerSecond(long rows, long nanos) {
+        return nanos <= 0 ? rows : rows * 1_000_000_000L / nanos;
+    }
+
+    private record Fixtures(Long serverId, Long championId, Long lineId) {
+    }
+}
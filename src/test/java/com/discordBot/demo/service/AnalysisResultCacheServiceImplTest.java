@@ -0,0 +1,111 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.service.impl.AnalysisResultCacheServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalysisResultCacheServiceImplTest {
+
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private ValueOperations<String, Object> valueOperations;
+
+    private AnalysisResultCacheServiceImpl analysisResultCacheService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        analysisResultCacheService = new AnalysisResultCacheServiceImpl(redisTemplate, new SimpleMeterRegistry(), 72);
+    }
+
+    @Test
+    @DisplayName("캐시 적중: 저장된 JSON을 반환하고 Gemini(loader)는 호출하지 않는다")
+    void getOrLoad_Hit() throws Exception {
+        // GIVEN
+        when(valueOperations.get("analysis:result:key")).thenReturn("{\"cached\":true}");
+
+        // WHEN
+        String result = analysisResultCacheService.getOrLoad("key", () -> {
+            throw new AssertionError("캐시 적중 시 호출되면 안 됩니다.");
+        });
+
+        // THEN
+        assertThat(result).isEqualTo("{\"cached\":true}");
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("동시 요청: 같은 키의 분석은 한 번만 실행되고 모든 요청이 같은 결과를 받는다")
+    void getOrLoad_CoalescesConcurrentCalls() throws Exception {
+        // GIVEN
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // WHEN: 첫 요청이 분석 중인 동안 나머지 요청이 들어옴
+            List<Future<String>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> analysisResultCacheService.getOrLoad("same", () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "{\"players\":[]}";
+            })));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> analysisResultCacheService.getOrLoad("same", () -> {
+                    loads.incrementAndGet();
+                    return "{\"duplicate\":true}";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // THEN
+            for (Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("{\"players\":[]}");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            verify(valueOperations, times(1)).set(eq("analysis:result:same"), eq("{\"players\":[]}"), any(Duration.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("분석 실패: 예외를 그대로 전달하고 결과를 캐시하지 않는다")
+    void getOrLoad_FailureIsNotCached() {
+        // WHEN & THEN
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> analysisResultCacheService.getOrLoad("broken", () -> {
+                    throw new IllegalArgumentException("❌ 오류: 승패 여부를 확인할 수 없습니다.");
+                }));
+
+        assertThat(thrown.getMessage()).startsWith("❌ 오류:");
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+}
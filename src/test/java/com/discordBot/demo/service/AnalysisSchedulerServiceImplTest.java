@@ -0,0 +1,123 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.service.impl.AnalysisSchedulerServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AnalysisSchedulerServiceImplTest {
+
+    private static final Long GUILD_A = 100L;
+    private static final Long GUILD_B = 200L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AnalysisSchedulerServiceImpl analysisSchedulerService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 워커 1개, 전체 대기 10건, 서버별 대기 2건
+        analysisSchedulerService = new AnalysisSchedulerServiceImpl(meterRegistry, 1, 10, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        analysisSchedulerService.shutdown();
+    }
+
+    @Test
+    @DisplayName("라운드 로빈: 한 서버가 먼저 여러 건을 올려도 다른 서버의 작업이 사이에 실행되고, 대기 순번을 안내한다")
+    void submit_RoundRobinAcrossGuilds() throws Exception {
+        // GIVEN: A1이 워커를 점유한 상태
+        List<String> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        analysisSchedulerService.submit(GUILD_A, () -> {
+            executionOrder.add("A1");
+            started.countDown();
+            awaitQuietly(release);
+            return null;
+        }, position -> { });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // WHEN: A2, A3, B1 순서로 제출
+        List<Integer> a3Positions = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> b1Positions = Collections.synchronizedList(new ArrayList<>());
+        analysisSchedulerService.submit(GUILD_A, () -> executionOrder.add("A2"), position -> { });
+        CompletableFuture<Boolean> a3 = analysisSchedulerService.submit(GUILD_A, () -> executionOrder.add("A3"), a3Positions::add);
+        analysisSchedulerService.submit(GUILD_B, () -> executionOrder.add("B1"), b1Positions::add);
+
+        assertThat(analysisSchedulerService.getQueuedCount()).isEqualTo(3);
+        release.countDown();
+        a3.get(5, TimeUnit.SECONDS);
+
+        // THEN: B1이 A3보다 먼저 실행됨
+        assertThat(executionOrder).containsExactly("A1", "A2", "B1", "A3");
+        assertThat(b1Positions).containsExactly(2, 1, 0);
+        // A3는 제출 시점(B1 제출 전)에 2번째였고, B1이 끼어든 뒤 A2가 끝나면서 다시 2번째가 되어 추가 안내 없이 1 → 0
+        assertThat(a3Positions).containsExactly(2, 1, 0);
+        assertThat(analysisSchedulerService.getQueuedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("서버별 대기 한도를 넘으면 예외가 발생하고 거절 수가 집계된다")
+    void submit_RejectsWhenGuildQueueFull() throws Exception {
+        // GIVEN: 워커 점유 후 A 서버 대기 2건
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        analysisSchedulerService.submit(GUILD_A, () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return null;
+        }, position -> { });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        analysisSchedulerService.submit(GUILD_A, () -> null, position -> { });
+        analysisSchedulerService.submit(GUILD_A, () -> null, position -> { });
+
+        try {
+            // WHEN & THEN
+            IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                    () -> analysisSchedulerService.submit(GUILD_A, () -> null, position -> { }));
+            assertThat(thrown.getMessage()).startsWith("❌ 오류:");
+            assertThat(meterRegistry.get("image.analysis.queue.rejected").counter().count()).isEqualTo(1.0);
+
+            // 다른 서버는 영향 없음
+            analysisSchedulerService.submit(GUILD_B, () -> null, position -> { });
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외는 반환된 future로 전달된다")
+    void submit_PropagatesFailure() {
+        // WHEN
+        CompletableFuture<Object> future = analysisSchedulerService.submit(GUILD_A, () -> {
+            throw new IllegalStateException("boom");
+        }, position -> { });
+
+        // THEN
+        Exception thrown = assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause()).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.BulkAnalysisItemDto;
+import com.discordBot.demo.domain.dto.BulkAnalysisResultDto;
+import com.discordBot.demo.domain.dto.MatchBatchResultDto;
+import com.discordBot.demo.domain.dto.MatchImportResultDto;
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.enums.BulkAnalysisItemStatus;
+import com.discordBot.demo.domain.repository.LolAccountRepository;
+import com.discordBot.demo.service.impl.BulkAnalysisServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkAnalysisServiceImplTest {
+
+    @Mock private AnalysisSchedulerService analysisSchedulerService;
+    @Mock private ImageAnalysisService imageAnalysisService;
+    @Mock private LolAccountRepository lolAccountRepository;
+    @Mock private MatchResolutionService matchResolutionService;
+    @Mock private MatchRecordService matchRecordService;
+    @Mock private GuildWriteLaneService guildWriteLaneService;
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+
+    @Captor private ArgumentCaptor<Map<Object, Object>> restoredCaptor;
+
+    private static final Long SERVER_ID = 500L;
+    private static final Long USER_ID = 1L;
+    private static final String JOB_ID = "job1";
+    private static final String JOB_KEY = "bulk:analysis:" + SERVER_ID + ":" + JOB_ID;
+
+    private BulkAnalysisServiceImpl bulkAnalysisService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        bulkAnalysisService = new BulkAnalysisServiceImpl(analysisSchedulerService, imageAnalysisService, lolAccountRepository,
+                matchResolutionService, matchRecordService, guildWriteLaneService, redisTemplate, 1, 24);
+    }
+
+    @Test
+    @DisplayName("재개: 이전 실행에서 ANALYZED로 저장된 스크린샷은 다시 분석하지 않고, 실패했던 스크린샷만 다시 분석한다")
+    void analyze_ResumeSkipsAnalyzedItems() throws Exception {
+        // GIVEN: 1번은 분석 완료, 2번은 실패 상태로 저장되어 있음
+        when(hashOperations.values(anyString())).thenReturn(List.of(
+                analyzedItem(1, "a.png"),
+                failedItem(2, "b.png")
+        ));
+        runAnalysisInline();
+        when(imageAnalysisService.analyzeAndStructureData(any(byte[].class), eq(SERVER_ID), anyList(), eq(false)))
+                .thenAnswer(invocation -> new MatchRegistrationDto());
+
+        List<BulkAnalysisService.ImageSource> sources = List.of(
+                source("a.png", () -> {
+                    throw new AssertionError("이미 분석된 스크린샷을 다시 읽으면 안 됩니다.");
+                }),
+                source("b.png", () -> new byte[]{2}),
+                source("c.png", () -> new byte[]{3})
+        );
+
+        // WHEN
+        BulkAnalysisResultDto result = bulkAnalysisService.analyze(SERVER_ID, USER_ID, sources, false, progress -> { });
+
+        // THEN
+        assertThat(result.getResumed()).isEqualTo(1);
+        assertThat(result.getAnalyzedCount()).isEqualTo(3);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(result.isCompleted()).isTrue();
+        verify(imageAnalysisService).analyzeAndStructureData(aryEq(new byte[]{2}), eq(SERVER_ID), anyList(), eq(false));
+        verify(imageAnalysisService).analyzeAndStructureData(aryEq(new byte[]{3}), eq(SERVER_ID), anyList(), eq(false));
+        verify(hashOperations, never()).put(anyString(), eq("1"), any());
+    }
+
+    @Test
+    @DisplayName("체크포인트 저장이 실패해도 허가를 돌려주어 나머지 스크린샷을 모두 분석한다")
+    void analyze_CheckpointFailureDoesNotStallJob() throws Exception {
+        // GIVEN: 동시 분석 1장, Redis 저장은 항상 실패
+        when(hashOperations.values(anyString())).thenReturn(List.of());
+        runAnalysisInline();
+        when(imageAnalysisService.analyzeAndStructureData(any(byte[].class), eq(SERVER_ID), anyList(), eq(false)))
+                .thenAnswer(invocation -> new MatchRegistrationDto());
+        doThrow(new IllegalStateException("redis down")).when(hashOperations).put(anyString(), any(), any());
+
+        List<BulkAnalysisService.ImageSource> sources = List.of(
+                source("a.png", () -> new byte[]{1}),
+                source("b.png", () -> new byte[]{2})
+        );
+
+        // WHEN
+        BulkAnalysisResultDto result = bulkAnalysisService.analyze(SERVER_ID, USER_ID, sources, false, progress -> { });
+
+        // THEN
+        assertThat(result.getAnalyzedCount()).isEqualTo(2);
+        assertThat(result.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("중복 확정: 같은 작업을 두 번 확정하면 두 번째 요청은 거절되고 경기는 한 번만 등록된다")
+    void registerAll_SecondCallRejected() {
+        // GIVEN: 두 번째 요청은 키 삭제(작업 선점)에 실패
+        when(hashOperations.values(JOB_KEY)).thenReturn(List.of(analyzedItem(1, "a.png"), analyzedItem(2, "b.png")));
+        when(redisTemplate.delete(JOB_KEY)).thenReturn(true, false);
+        runLaneInline();
+        MatchBatchResultDto batch = new MatchBatchResultDto();
+        batch.addRegistered(10L);
+        batch.addRegistered(11L);
+        when(matchRecordService.registerMatches(anyList(), any())).thenReturn(batch);
+
+        // WHEN
+        MatchImportResultDto first = bulkAnalysisService.registerAll(SERVER_ID, JOB_ID);
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> bulkAnalysisService.registerAll(SERVER_ID, JOB_ID));
+
+        // THEN
+        assertThat(first.getImported()).isEqualTo(2);
+        assertThat(thrown.getMessage()).startsWith("❌ 오류:");
+        verify(matchRecordService, times(1)).registerMatches(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("서버 대기열이 배치를 거절하면 작업 항목을 Redis에 되돌려 다시 확정할 수 있게 한다")
+    void registerAll_LaneRejectsBatch_RestoresItems() {
+        // GIVEN
+        when(hashOperations.values(JOB_KEY)).thenReturn(List.of(analyzedItem(1, "a.png"), failedItem(2, "b.png")));
+        when(redisTemplate.delete(JOB_KEY)).thenReturn(true);
+        when(guildWriteLaneService.submit(eq(SERVER_ID), any()))
+                .thenThrow(new IllegalArgumentException("❌ 오류: 이 서버의 경기 등록 대기열이 가득 찼습니다."));
+
+        // WHEN
+        assertThrows(IllegalArgumentException.class, () -> bulkAnalysisService.registerAll(SERVER_ID, JOB_ID));
+
+        // THEN: 분석 완료/실패 항목 모두 그대로 복원
+        verify(hashOperations).putAll(eq(JOB_KEY), restoredCaptor.capture());
+        assertThat(restoredCaptor.getValue()).containsOnlyKeys("1", "2");
+        verify(redisTemplate).expire(JOB_KEY, Duration.ofHours(24));
+        verify(matchRecordService, never()).registerMatches(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("배치 트랜잭션이 실패하면 한 경기씩 다시 등록하고, 저장하지 못한 경기만 실패 목록에 남긴다")
+    void registerAll_BatchFails_FallsBackOneByOne() {
+        // GIVEN: 첫 제출(배치)은 DB 오류로 실패, 두 번째 제출(한 경기씩)은 실행
+        MatchRegistrationDto first = new MatchRegistrationDto();
+        MatchRegistrationDto second = new MatchRegistrationDto();
+        BulkAnalysisItemDto firstItem = analyzedItem(1, "a.png");
+        firstItem.setMatch(first);
+        BulkAnalysisItemDto secondItem = analyzedItem(2, "b.png");
+        secondItem.setMatch(second);
+        when(hashOperations.values(JOB_KEY)).thenReturn(List.of(firstItem, secondItem));
+        when(redisTemplate.delete(JOB_KEY)).thenReturn(true);
+
+        AtomicInteger submissions = new AtomicInteger();
+        when(guildWriteLaneService.submit(eq(SERVER_ID), any())).thenAnswer(invocation -> {
+            if (submissions.incrementAndGet() == 1) {
+                return CompletableFuture.failedFuture(new IllegalStateException("deadlock detected"));
+            }
+            return CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(1).get());
+        });
+        MatchBatchResultDto saved = new MatchBatchResultDto();
+        saved.addRegistered(11L);
+        when(matchRecordService.registerMatches(eq(List.of(first)), any())).thenThrow(new IllegalStateException("constraint violation"));
+        when(matchRecordService.registerMatches(eq(List.of(second)), any())).thenReturn(saved);
+
+        // WHEN
+        MatchImportResultDto result = bulkAnalysisService.registerAll(SERVER_ID, JOB_ID);
+
+        // THEN
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).containsExactly("#1 a.png: 저장 실패: constraint violation");
+        verify(hashOperations, never()).putAll(anyString(), anyMap());
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private void runAnalysisInline() {
+        when(analysisSchedulerService.submit(eq(SERVER_ID), any(), any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(1).get()));
+    }
+
+    private void runLaneInline() {
+        when(guildWriteLaneService.submit(eq(SERVER_ID), any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(1).get()));
+    }
+
+    private BulkAnalysisService.ImageSource source(String fileName, BulkAnalysisService.ImageLoader loader) {
+        return new BulkAnalysisService.ImageSource(fileName, fileName + ":100", loader);
+    }
+
+    private BulkAnalysisItemDto analyzedItem(int ordinal, String fileName) {
+        BulkAnalysisItemDto item = new BulkAnalysisItemDto();
+        item.setOrdinal(ordinal);
+        item.setFileName(fileName);
+        item.setStatus(BulkAnalysisItemStatus.ANALYZED);
+        item.setMatch(new MatchRegistrationDto());
+        return item;
+    }
+
+    private BulkAnalysisItemDto failedItem(int ordinal, String fileName) {
+        BulkAnalysisItemDto item = new BulkAnalysisItemDto();
+        item.setOrdinal(ordinal);
+        item.setFileName(fileName);
+        item.setStatus(BulkAnalysisItemStatus.FAILED);
+        item.setError("❌ 오류: 점수판을 찾지 못했습니다.");
+        return item;
+    }
+}
@@ -0,0 +1,142 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.service.impl.GeminiApiServiceImpl;
+import com.discordBot.demo.support.AdaptiveConcurrencyLimiter;
+import com.discordBot.demo.support.CircuitBreaker;
+import com.google.genai.types.GenerateContentResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class GeminiApiServiceImplTest {
+
+    private final GenerateContentResponse response = mock(GenerateContentResponse.class);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private GeminiApiServiceImpl geminiApiService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new CircuitBreaker(1, 60_000_000_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (geminiApiService != null) {
+            geminiApiService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("전송 계층 오류는 재시도하고, 다음 시도가 성공하면 응답을 반환한다")
+    void generateContent_RetriesTransientFailure() {
+        // GIVEN: 첫 호출만 연결 오류
+        geminiApiService = createService((model, contents, config) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new RuntimeException(new IOException("connection reset"));
+            }
+            return response;
+        }, 5_000);
+
+        // WHEN
+        GenerateContentResponse result = geminiApiService.generateContent("model", List.of(), null);
+
+        // THEN
+        assertThat(result).isSameAs(response);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("gemini.resilience.retries").counter().count()).isEqualTo(1.0);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 오류는 한 번만 호출하고 그대로 전달한다")
+    void generateContent_DoesNotRetryPermanentFailure() {
+        // GIVEN
+        geminiApiService = createService((model, contents, config) -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("invalid request");
+        }, 5_000);
+
+        // WHEN & THEN
+        assertThrows(IllegalStateException.class, () -> geminiApiService.generateContent("model", List.of(), null));
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘긴 시도를 모두 실패하면 서킷이 열리고, 이후 호출은 Gemini를 부르지 않고 바로 거절된다")
+    void generateContent_TimeoutOpensCircuit() {
+        // GIVEN: 응답이 마감 시간(50ms)보다 늦음
+        geminiApiService = createService((model, contents, config) -> {
+            calls.incrementAndGet();
+            sleep(300);
+            return response;
+        }, 50);
+
+        // WHEN
+        IllegalArgumentException timedOut = assertThrows(IllegalArgumentException.class,
+                () -> geminiApiService.generateContent("model", List.of(), null));
+        IllegalArgumentException rejected = assertThrows(IllegalArgumentException.class,
+                () -> geminiApiService.generateContent("model", List.of(), null));
+
+        // THEN
+        assertThat(timedOut.getMessage()).startsWith("❌ 오류:").contains("너무 늦어");
+        assertThat(rejected.getMessage()).startsWith("❌ 오류:").contains("일시적으로");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("gemini.resilience.timeouts").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("응답의 사용량 정보로 모델별 입력/출력/전체 토큰 수를 기록한다")
+    void generateContent_RecordsTokenUsage() {
+        // GIVEN
+        GenerateContentResponse withUsage = GenerateContentResponse.fromJson(
+                "{\"usageMetadata\":{\"promptTokenCount\":1200,\"candidatesTokenCount\":300,\"totalTokenCount\":1500}}");
+        geminiApiService = createService((model, contents, config) -> withUsage, 5_000);
+
+        // WHEN
+        geminiApiService.generateContent("flash", List.of(), null);
+        geminiApiService.generateContent("flash", List.of(), null);
+
+        // THEN
+        DistributionSummary prompt = meterRegistry.get("gemini.tokens").tag("model", "flash").tag("type", "prompt").summary();
+        DistributionSummary total = meterRegistry.get("gemini.tokens").tag("model", "flash").tag("type", "total").summary();
+        assertThat(prompt.count()).isEqualTo(2);
+        assertThat(prompt.mean()).isEqualTo(1200.0);
+        assertThat(total.mean()).isEqualTo(1500.0);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private GeminiApiServiceImpl createService(GeminiApiServiceImpl.GeminiCall call, long timeoutMillis) {
+        // 시도 2회, 백오프 0ms, 헤지 끔
+        GeminiApiServiceImpl.ResilienceSettings settings =
+                new GeminiApiServiceImpl.ResilienceSettings(1_000, timeoutMillis, 2, 0, 0, false, 0);
+        return new GeminiApiServiceImpl(call, meterRegistry,
+                new AdaptiveConcurrencyLimiter(4, 1, 8, 0.7, 2.0), circuitBreaker, settings);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.entity.Line;
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.service.impl.GuildPromptHintServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GuildPromptHintServiceImplTest {
+
+    private static final Long GUILD_A = 100L;
+    private static final Long GUILD_B = 200L;
+
+    private GuildPromptHintServiceImpl guildPromptHintService;
+
+    @BeforeEach
+    void setUp() {
+        guildPromptHintService = new GuildPromptHintServiceImpl(100, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("힌트 형식: 태그 없이 '게임이름:라인,라인'을 정렬해 잇고, 선호 라인이 없는 계정은 뺀다")
+    void render_SortedWithoutTagsAndEmptyLanes() {
+        // GIVEN
+        List<LolAccount> accounts = List.of(
+                createAccount("Zeus", "KR1", "top"),
+                createAccount("Faker", "KR1", "MID", "ADC"),
+                createAccount("Ghost", "KR9"));
+
+        // WHEN
+        String hint = guildPromptHintService.getPreferredLaneHint(GUILD_A, accounts);
+
+        // THEN
+        assertThat(hint).isEqualTo("Faker:ADC,MID; Zeus:TOP");
+    }
+
+    @Test
+    @DisplayName("캐시 적중: 같은 서버는 처음 만든 힌트를 재사용하고, 다른 서버는 따로 만든다")
+    void getPreferredLaneHint_CachedPerGuild() {
+        // GIVEN
+        String first = guildPromptHintService.getPreferredLaneHint(GUILD_A, List.of(createAccount("Faker", "KR1", "MID")));
+
+        // WHEN
+        String cached = guildPromptHintService.getPreferredLaneHint(GUILD_A, List.of(createAccount("Oner", "KR1", "JUNGLE")));
+        String otherGuild = guildPromptHintService.getPreferredLaneHint(GUILD_B, List.of(createAccount("Oner", "KR1", "JUNGLE")));
+
+        // THEN
+        assertThat(cached).isEqualTo(first).isEqualTo("Faker:MID");
+        assertThat(otherGuild).isEqualTo("Oner:JUNGLE");
+    }
+
+    @Test
+    @DisplayName("무효화: 트랜잭션 밖에서는 바로 비우고, 트랜잭션 안에서는 커밋 후에 비운다")
+    void invalidate_ImmediatelyOrAfterCommit() {
+        // GIVEN
+        guildPromptHintService.getPreferredLaneHint(GUILD_A, List.of(createAccount("Faker", "KR1", "MID")));
+        List<LolAccount> updated = List.of(createAccount("Faker", "KR1", "MID"), createAccount("Keria", "KR1", "SUPPORT"));
+
+        // WHEN & THEN: 트랜잭션 밖 → 즉시 비워져 다음 조회에서 새로 만듦
+        guildPromptHintService.invalidate(GUILD_A);
+        assertThat(guildPromptHintService.getPreferredLaneHint(GUILD_A, updated)).isEqualTo("Faker:MID; Keria:SUPPORT");
+
+        // WHEN & THEN: 트랜잭션 안 → 커밋 전에는 기존 힌트 유지, 커밋 후 비워짐
+        TransactionSynchronizationManager.initSynchronization();
+        guildPromptHintService.invalidate(GUILD_A);
+        assertThat(guildPromptHintService.getPreferredLaneHint(GUILD_A, List.of())).isEqualTo("Faker:MID; Keria:SUPPORT");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(guildPromptHintService.getPreferredLaneHint(GUILD_A, List.of())).isEmpty();
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private LolAccount createAccount(String gameName, String tagLine, String... lineNames) {
+        LolAccount account = new LolAccount();
+        account.setGameName(gameName);
+        account.setTagLine(tagLine);
+        for (String lineName : lineNames) {
+            Line line = new Line();
+            line.setName(lineName);
+            account.getPreferredLines().add(line);
+        }
+        return account;
+    }
+}
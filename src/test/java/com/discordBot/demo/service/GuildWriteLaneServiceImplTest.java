@@ -0,0 +1,142 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.config.IngestQueueEndpoint;
+import com.discordBot.demo.service.impl.GuildWriteLaneServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GuildWriteLaneServiceImplTest {
+
+    private static final Long GUILD_A = 100L;
+    private static final Long GUILD_B = 200L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GuildWriteLaneServiceImpl laneService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        laneService = new GuildWriteLaneServiceImpl(meterRegistry, 4, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        laneService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 서버의 작업은 제출 순서대로 하나씩만 실행된다")
+    void sameGuild_RunsSeriallyInOrder() throws Exception {
+        // GIVEN
+        GuildWriteLaneServiceImpl lane = new GuildWriteLaneServiceImpl(meterRegistry, 4, 100);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+
+        // WHEN
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            int index = i;
+            futures.add(lane.submit(GUILD_A, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(index);
+                sleep(1);
+                running.decrementAndGet();
+                return index;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        lane.shutdown();
+
+        // THEN
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(order).isSorted().hasSize(30);
+        assertThat(lane.getQueueDepth(GUILD_A)).isZero();
+    }
+
+    @Test
+    @DisplayName("서로 다른 서버의 작업은 동시에 실행된다")
+    void differentGuilds_RunConcurrently() throws Exception {
+        // GIVEN: 두 작업이 서로를 기다리므로, 직렬로 실행되면 완료될 수 없음
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // WHEN
+        CompletableFuture<Boolean> a = laneService.submit(GUILD_A, () -> awaitLatch(bothStarted));
+        CompletableFuture<Boolean> b = laneService.submit(GUILD_B, () -> awaitLatch(bothStarted));
+
+        // THEN
+        assertThat(a.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(b.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("서버 대기열이 가득 차면 거절하고, 대기열 깊이를 지표와 서버별 엔드포인트로 노출한다")
+    void queueFull_RejectsAndExposesDepth() throws Exception {
+        // GIVEN: 첫 작업이 워커를 붙잡고 있도록 막아 둠
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(laneService.submit(GUILD_A, () -> awaitRelease(release)));
+        }
+
+        // WHEN & THEN
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> laneService.submit(GUILD_A, () -> true));
+        assertThat(thrown.getMessage()).startsWith("❌ 오류:");
+
+        assertThat(laneService.getQueueDepth(GUILD_A)).isEqualTo(3);
+        assertThat(laneService.getQueueDepths()).containsEntry(GUILD_A, 3);
+        assertThat(meterRegistry.get("match.ingest.queue.depth.total").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.find("match.ingest.queue.depth").gauge()).isNull();
+        assertThat(new IngestQueueEndpoint(laneService).queueDepths())
+                .containsEntry("total", 3)
+                .containsEntry("guilds", Map.of(GUILD_A, 3));
+
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertThat(laneService.getQueueDepths()).isEmpty();
+        assertThat(meterRegistry.get("match.ingest.queue.depth.total").gauge().value()).isZero();
+    }
+
+    private static boolean awaitLatch(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean awaitRelease(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
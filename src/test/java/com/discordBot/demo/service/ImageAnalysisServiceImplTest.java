@@ -0,0 +1,129 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.PreprocessedImageDto;
+import com.discordBot.demo.domain.repository.MatchRecordRepository;
+import com.discordBot.demo.service.impl.GeminiApiServiceImpl;
+import com.discordBot.demo.service.impl.ImageAnalysisServiceImpl;
+import com.discordBot.demo.support.AdaptiveConcurrencyLimiter;
+import com.discordBot.demo.support.CircuitBreaker;
+import com.google.genai.types.Candidate;
+import com.google.genai.types.Content;
+import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.Part;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ImageAnalysisServiceImplTest {
+
+    private static final String FAST_MODEL = "fast-model";
+    private static final String STRONG_MODEL = "strong-model";
+    private static final byte[] IMAGE = {1, 2, 3};
+
+    private final AnalysisResultCacheService analysisResultCacheService = mock(AnalysisResultCacheService.class);
+    private final ImagePreprocessingService imagePreprocessingService = mock(ImagePreprocessingService.class);
+    private final ScoreboardOcrService scoreboardOcrService = mock(ScoreboardOcrService.class);
+    private final ScoreboardIconService scoreboardIconService = mock(ScoreboardIconService.class);
+    private final List<String> calledModels = new CopyOnWriteArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private GeminiApiServiceImpl geminiApiService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new CircuitBreaker(1, 60_000_000_000L);
+
+        when(imagePreprocessingService.preprocess(any())).thenReturn(
+                PreprocessedImageDto.builder().bytes(IMAGE).mimeType("image/jpeg").build());
+        when(scoreboardOcrService.readAsync(any())).thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(scoreboardIconService.readAsync(any())).thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(analysisResultCacheService.getOrLoad(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<AnalysisResultCacheService.Loader>getArgument(1).load());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (geminiApiService != null) {
+            geminiApiService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("회로가 열려 호출이 거절되면 강한 모델로 넘기지 않고 그 오류를 그대로 전달한다")
+    void analyze_CircuitOpen_DoesNotEscalate() {
+        // GIVEN: 연속 실패로 회로가 열린 상태
+        ImageAnalysisServiceImpl imageAnalysisService = createService();
+        circuitBreaker.onFailure();
+
+        // WHEN
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> imageAnalysisService.analyzeAndStructureData(IMAGE, 1L, List.of(), true));
+
+        // THEN
+        assertThat(thrown.getMessage()).isEqualTo("❌ 오류: AI 분석 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해 주세요.");
+        assertThat(calledModels).isEmpty();
+        assertThat(meterRegistry.find("image.analysis.routing").tag("outcome", "escalated").counter()).isNull();
+        assertThat(meterRegistry.get("gemini.resilience.circuit.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("빠른 모델 결과가 검증에 걸리면 강한 모델로 다시 분석한다")
+    void analyze_RejectedFastResult_Escalates() {
+        // GIVEN: 두 모델 모두 승패 문구를 찾지 못한 응답
+        ImageAnalysisServiceImpl imageAnalysisService = createService();
+
+        // WHEN
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> imageAnalysisService.analyzeAndStructureData(IMAGE, 1L, List.of(), true));
+
+        // THEN: 강한 모델의 검증 오류가 사용자에게 전달됨
+        assertThat(thrown.getMessage()).startsWith("❌ 오류: 경기 결과 이미지에서 승패 여부를 확인할 수 없습니다.");
+        assertThat(calledModels).containsExactly(FAST_MODEL, STRONG_MODEL);
+        assertThat(meterRegistry.get("image.analysis.routing").tag("outcome", "escalated").tag("reason", "error")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private ImageAnalysisServiceImpl createService() {
+        // 시도 1회, 백오프 0ms, 헤지 끔
+        GeminiApiServiceImpl.ResilienceSettings settings =
+                new GeminiApiServiceImpl.ResilienceSettings(1_000, 5_000, 1, 0, 0, false, 0);
+        geminiApiService = new GeminiApiServiceImpl((model, contents, config) -> {
+            calledModels.add(model);
+            return textResponse("{\"analysisStatus\":\"FAILURE_NO_VICTORY_TEXT\"}");
+        }, meterRegistry, new AdaptiveConcurrencyLimiter(4, 1, 8, 0.7, 2.0), circuitBreaker, settings);
+
+        ImageAnalysisServiceImpl service = new ImageAnalysisServiceImpl(geminiApiService, mock(ChampionService.class),
+                mock(LaneAssignmentService.class), analysisResultCacheService, mock(MatchRecordRepository.class),
+                imagePreprocessingService, mock(GuildPromptHintService.class), scoreboardOcrService, scoreboardIconService,
+                meterRegistry, -1, FAST_MODEL, STRONG_MODEL);
+        ReflectionTestUtils.setField(service, "matchDataPromptTemplate", "%s");
+        ReflectionTestUtils.setField(service, "systemInstruction", "");
+        return service;
+    }
+
+    private static GenerateContentResponse textResponse(String text) {
+        return GenerateContentResponse.builder()
+                .candidates(List.of(Candidate.builder()
+                        .content(Content.builder().parts(List.of(Part.fromText(text))).build())
+                        .build()))
+                .build();
+    }
+}
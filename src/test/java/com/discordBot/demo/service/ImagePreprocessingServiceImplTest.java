@@ -0,0 +1,116 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.PreprocessedImageDto;
+import com.discordBot.demo.service.impl.ImagePreprocessingServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImagePreprocessingServiceImplTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImagePreprocessingServiceImpl imagePreprocessingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        imagePreprocessingService = new ImagePreprocessingServiceImpl(meterRegistry, 1600, 0.85f, true);
+    }
+
+    @Test
+    @DisplayName("4K PNG: 위아래 검은 여백을 자르고 긴 변 1600으로 줄여 JPEG로 보낸다")
+    void preprocess_CropsScalesAndReencodes() throws IOException {
+        // GIVEN: 3840x2160 중 위아래 200px이 검은 여백인 점수판
+        byte[] png = encode(drawScoreboard(3840, 2160, 200), "png");
+
+        // WHEN
+        PreprocessedImageDto result = imagePreprocessingService.preprocess(png);
+
+        // THEN
+        assertThat(result.getOriginalMimeType()).isEqualTo("image/png");
+        assertThat(result.getMimeType()).isEqualTo("image/jpeg");
+        assertThat(result.getWidth()).isEqualTo(1600);
+        assertThat(result.getHeight()).isEqualTo(733); // 3840x1760 영역을 같은 비율로 축소
+        assertThat(result.getBytes()).startsWith((byte) 0xFF, (byte) 0xD8);
+        assertThat(result.getBytesSaved()).isPositive();
+
+        assertThat(meterRegistry.get("image.preprocess.stage").tag("stage", "crop").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.preprocess.bytes.saved").counter().count()).isEqualTo(result.getBytesSaved());
+    }
+
+    @Test
+    @DisplayName("이미 작은 JPEG: 재인코딩해도 줄지 않으면 원본을 그대로 보낸다")
+    void preprocess_SmallJpegPassesThrough() throws IOException {
+        // GIVEN
+        byte[] jpeg = encode(drawScoreboard(800, 450, 0), "jpeg");
+
+        // WHEN
+        PreprocessedImageDto result = imagePreprocessingService.preprocess(jpeg);
+
+        // THEN
+        assertThat(result.getMimeType()).isEqualTo("image/jpeg");
+        assertThat(result.getBytes()).isSameAs(jpeg);
+        assertThat(result.getBytesSaved()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미지 시그니처가 아니면 예외가 발생한다")
+    void preprocess_UnknownFormat() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> imagePreprocessingService.preprocess("definitely not an image".getBytes()));
+
+        assertThat(thrown.getMessage()).startsWith("❌ 오류:");
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    /**
+     * 무작위 색 블록으로 선수 행을 그린 가짜 점수판. 위아래 border 픽셀은 검은 여백으로 둡니다.
+     */
+    private BufferedImage drawScoreboard(int width, int height, int border) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, width, height);
+        // 대각선 그라데이션 배경: 점수판 영역의 가장자리 행/열은 단색이 아니므로 검은 여백만 잘려야 함
+        int[] pixels = new int[width];
+        for (int y = border; y < height - border; y++) {
+            for (int x = 0; x < width; x++) {
+                pixels[x] = new Color(20, 30, 60 + ((x + y) % 64) * 2).getRGB();
+            }
+            image.setRGB(0, y, width, 1, pixels, 0, width);
+        }
+
+        Random random = new Random(42);
+        int rowHeight = (height - border * 2) / 12;
+        for (int row = 0; row < 10; row++) {
+            int y = border + rowHeight * (row + 1);
+            for (int i = 0; i < 40; i++) {
+                g.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256)));
+                g.fillRect(random.nextInt(width - 40), y, 8 + random.nextInt(32), rowHeight / 2);
+            }
+        }
+        g.dispose();
+        return image;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+}
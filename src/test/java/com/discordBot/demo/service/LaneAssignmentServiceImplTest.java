@@ -0,0 +1,106 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.LineFrequencyDto;
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.entity.Line;
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.repository.LineStatsRepository;
+import com.discordBot.demo.service.impl.LaneAssignmentServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LaneAssignmentServiceImplTest {
+
+    @InjectMocks
+    private LaneAssignmentServiceImpl laneAssignmentService;
+
+    @Mock private LineStatsRepository lineStatsRepository;
+
+    @Test
+    @DisplayName("Gemini가 같은 라인을 두 번 줘도 강타/서포터 아이템 근거로 팀 내 라인을 중복 없이 배정한다")
+    void assignLanes_ResolvesDuplicateGuesses() {
+        // GIVEN: MID가 두 명, 강타를 든 선수가 MID로 추정됨, 서포터 아이템 선수는 UNKNOWN
+        PlayerStatsDto top = createPlayer("A", "BLUE", "TOP", null, null);
+        PlayerStatsDto smiter = createPlayer("B", "BLUE", "MID", true, false);
+        PlayerStatsDto mid = createPlayer("C", "BLUE", "MID", false, false);
+        PlayerStatsDto adc = createPlayer("D", "BLUE", "ADC", false, false);
+        PlayerStatsDto support = createPlayer("E", "BLUE", "UNKNOWN", false, true);
+        List<PlayerStatsDto> players = List.of(top, smiter, mid, adc, support);
+
+        // WHEN
+        laneAssignmentService.assignLanes(players, List.of());
+
+        // THEN
+        assertThat(players).extracting(PlayerStatsDto::getLaneName)
+                .containsExactly("TOP", "JUNGLE", "MID", "ADC", "SUPPORT");
+        verify(lineStatsRepository, never()).findLineFrequenciesByLolAccountIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("근거가 겹치면 플레이 기록 비율이 선호 라인보다 우선하고, 기록은 한 번의 조회로 가져온다")
+    void assignLanes_UsesHistoryAndPreferredLanes() {
+        // GIVEN: R1은 ADC 기록만 있고, R2는 ADC/MID를 선호 라인으로 등록
+        List<PlayerStatsDto> players = List.of(
+                createPlayer("R1", "RED", "UNKNOWN", false, false),
+                createPlayer("R2", "RED", "UNKNOWN", false, false),
+                createPlayer("R3", "RED", "UNKNOWN", true, false),
+                createPlayer("R4", "RED", "UNKNOWN", false, true),
+                createPlayer("R5", "RED", "UNKNOWN", false, false)
+        );
+        List<LolAccount> accounts = List.of(
+                createAccount(1L, "R1"),
+                createAccount(2L, "R2", "ADC", "MID")
+        );
+        when(lineStatsRepository.findLineFrequenciesByLolAccountIds(anyCollection()))
+                .thenReturn(List.of(new LineFrequencyDto(1L, "ADC", 10)));
+
+        // WHEN
+        laneAssignmentService.assignLanes(players, accounts);
+
+        // THEN
+        assertThat(players).extracting(PlayerStatsDto::getLaneName)
+                .containsExactly("ADC", "MID", "JUNGLE", "SUPPORT", "TOP");
+        verify(lineStatsRepository, times(1)).findLineFrequenciesByLolAccountIds(anyCollection());
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private PlayerStatsDto createPlayer(String gameName, String team, String lane, Boolean smite, Boolean supportItem) {
+        PlayerStatsDto dto = new PlayerStatsDto();
+        dto.setLolGameName(gameName);
+        dto.setLolTagLine("KR1");
+        dto.setTeam(team);
+        dto.setLaneName(lane);
+        dto.setSmiteDetected(smite);
+        dto.setSupportItemDetected(supportItem);
+        return dto;
+    }
+
+    private LolAccount createAccount(Long lolId, String gameName, String... preferredLanes) {
+        LolAccount account = new LolAccount();
+        account.setLolId(lolId);
+        account.setGameName(gameName);
+        account.setTagLine("KR1");
+        account.setPreferredLines(new HashSet<>(Arrays.stream(preferredLanes).map(name -> {
+            Line line = new Line();
+            line.setName(name);
+            return line;
+        }).toList()));
+        return account;
+    }
+}
@@ -0,0 +1,149 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.MatchBatchResultDto;
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.MatchResolutionCacheDto;
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.entity.Champion;
+import com.discordBot.demo.domain.entity.GuildServer;
+import com.discordBot.demo.domain.entity.Line;
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.entity.User;
+import com.discordBot.demo.domain.repository.ChampionRepository;
+import com.discordBot.demo.domain.repository.GuildServerRepository;
+import com.discordBot.demo.domain.repository.LineRepository;
+import com.discordBot.demo.domain.repository.LolAccountRepository;
+import com.discordBot.demo.domain.repository.MatchRecordRepository;
+import com.discordBot.demo.domain.repository.UserRepository;
+import com.discordBot.demo.service.impl.MatchRecordServiceImpl;
+import com.discordBot.demo.service.impl.MatchResolutionServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 트랜잭션 프록시로 배치 등록을 실행해, 한 경기의 검증 실패가 배치 커밋을 막지 않는지 확인합니다.
+ * 테스트 트랜잭션이 감싸면 rollback-only 표시가 드러나지 않으므로 테스트 메서드는 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({MatchRecordServiceImpl.class, MatchResolutionServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MatchBatchRegistrationIntegrationTest {
+
+    private static final Long DISCORD_SERVER_ID = 700L;
+
+    @Autowired private MatchRecordService matchRecordService;
+    @Autowired private MatchRecordRepository matchRecordRepository;
+    @Autowired private GuildServerRepository guildServerRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private LolAccountRepository lolAccountRepository;
+    @Autowired private ChampionRepository championRepository;
+    @Autowired private LineRepository lineRepository;
+
+    @MockitoBean private ServerManagementService serverManagementService;
+    @MockitoBean private UserServerStatsService userServerStatsService;
+    @MockitoBean private ChampionStatsService championStatsService;
+    @MockitoBean private LineStatsService lineStatsService;
+    @MockitoBean private GuildStatsLockService guildStatsLockService;
+    @MockitoBean private StatsUpsertService statsUpsertService;
+
+    @Test
+    @DisplayName("배치 중 한 경기가 미등록 계정으로 실패해도 나머지 경기는 커밋되고, 실패한 경기는 실제 검증 메시지를 남긴다")
+    void registerMatches_InvalidRow_CommitsValidRows() {
+        // GIVEN: 등록된 계정 Faker#KR1, 미등록 계정 Ghost#KR1
+        GuildServer guildServer = new GuildServer();
+        guildServer.setDiscordServerId(DISCORD_SERVER_ID);
+        guildServer.setServerName("IntegrationServer");
+        guildServerRepository.save(guildServer);
+
+        User user = new User();
+        user.setDiscordUserId(1L);
+        userRepository.save(user);
+
+        LolAccount account = new LolAccount();
+        account.setGameName("Faker");
+        account.setTagLine("KR1");
+        account.setPuuid("puuid-faker");
+        account.setGuildServer(guildServer);
+        account.setUser(user);
+        lolAccountRepository.save(account);
+
+        Champion champion = new Champion();
+        champion.setChampionId(103L);
+        champion.setName("아리");
+        champion.setChampionKey("Ahri");
+        championRepository.save(champion);
+
+        Line line = new Line();
+        line.setName("MID");
+        line.setDisplayName("미드");
+        lineRepository.save(line);
+
+        MatchResolutionCacheDto cache = MatchResolutionCacheDto.builder()
+                .serverId(DISCORD_SERVER_ID)
+                .guildServer(guildServer)
+                .accountsByFullName(Map.of(account.getFullAccountName(), account))
+                .championsByIdentifier(Map.of(champion.getName(), champion))
+                .linesByName(Map.of(line.getName(), line))
+                .build();
+
+        List<MatchRegistrationDto> matches = List.of(
+                createMatchDto(1800, 50_000, createPlayerStatsDto("Faker")),
+                createMatchDto(1900, 51_000, createPlayerStatsDto("Ghost")),
+                createMatchDto(2000, 52_000, createPlayerStatsDto("Faker")));
+
+        // WHEN
+        MatchBatchResultDto result = matchRecordService.registerMatches(matches, cache);
+
+        // THEN: 유효한 두 경기는 커밋되고, 실패한 경기는 미등록 계정 메시지를 그대로 남김
+        assertThat(result.getRegisteredMatchIds()).hasSize(2);
+        assertThat(result.getErrors()).containsOnlyKeys(1);
+        assertThat(result.getErrors().get(1))
+                .startsWith("❌ 오류: 이 서버에 등록되지 않은 롤 계정이 포함되어 있습니다.")
+                .contains("Ghost#KR1");
+        assertThat(matchRecordRepository.findAllById(result.getRegisteredMatchIds())).hasSize(2);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private PlayerStatsDto createPlayerStatsDto(String gameName) {
+        PlayerStatsDto dto = new PlayerStatsDto();
+        dto.setLolGameName(gameName);
+        dto.setLolTagLine("KR1");
+        dto.setTeam("BLUE");
+        dto.setChampionName("아리");
+        dto.setLaneName("MID");
+        dto.setKills(5);
+        dto.setDeaths(2);
+        dto.setAssists(7);
+        dto.setTotalGold(12_000);
+        dto.setTotalDamage(25_000);
+        return dto;
+    }
+
+    private MatchRegistrationDto createMatchDto(int duration, int blueGold, PlayerStatsDto player) {
+        MatchRegistrationDto matchDto = new MatchRegistrationDto();
+        matchDto.setServerId(DISCORD_SERVER_ID);
+        matchDto.setWinnerTeam("BLUE");
+        matchDto.setGameDurationSeconds(duration);
+        matchDto.setBlueTotalGold(blueGold);
+        matchDto.setRedTotalGold(45_000);
+        matchDto.setPlayerStatsList(List.of(player));
+        return matchDto;
+    }
+}
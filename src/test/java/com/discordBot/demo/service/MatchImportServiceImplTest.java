@@ -0,0 +1,140 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.MatchBatchResultDto;
+import com.discordBot.demo.domain.dto.MatchImportCheckpointDto;
+import com.discordBot.demo.domain.dto.MatchImportResultDto;
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.service.impl.MatchImportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MatchImportServiceImplTest {
+
+    @Mock private MatchResolutionService matchResolutionService;
+    @Mock private MatchRecordService matchRecordService;
+    @Mock private GuildWriteLaneService guildWriteLaneService;
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private ValueOperations<String, Object> valueOperations;
+
+    @Captor private ArgumentCaptor<List<MatchRegistrationDto>> matchesCaptor;
+
+    private static final Long SERVER_ID = 500L;
+    private static final String FILE_NAME = "matches.jsonl";
+    private static final long FILE_SIZE = 4_096L;
+    private static final String CHECKPOINT_KEY = "import:checkpoint:" + SERVER_ID + ":" + FILE_NAME + ":" + FILE_SIZE;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("재개: 체크포인트까지 커밋된 경기는 다시 등록하지 않고, 그 다음 경기부터 가져온다")
+    void importMatches_ResumeSkipsCommittedRows() throws Exception {
+        // GIVEN: 이전 실행에서 2번째 경기까지 커밋됨
+        MatchImportCheckpointDto saved = new MatchImportCheckpointDto();
+        saved.setLastOrdinal(2);
+        saved.setImported(2);
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn(saved);
+        runLaneInline();
+        when(matchRecordService.registerMatches(anyList(), any()))
+                .thenAnswer(invocation -> registered(invocation.<List<MatchRegistrationDto>>getArgument(0).size()));
+
+        String file = IntStream.rangeClosed(1, 4).mapToObj(this::validLine).collect(Collectors.joining("\n"));
+
+        // WHEN
+        MatchImportResultDto result = service(10, 200).importMatches(SERVER_ID, FILE_NAME, FILE_SIZE, input(file), progress -> { });
+
+        // THEN: 3, 4번째 경기만 한 배치로 등록
+        verify(matchRecordService).registerMatches(matchesCaptor.capture(), any());
+        assertThat(matchesCaptor.getValue())
+                .extracting(MatchRegistrationDto::getGameDurationSeconds)
+                .containsExactly(1003, 1004);
+        assertThat(result.getResumedFrom()).isEqualTo(2);
+        assertThat(result.getMatchesRead()).isEqualTo(2);
+        assertThat(result.getImported()).isEqualTo(4);
+        assertThat(result.isCompleted()).isTrue();
+        verify(redisTemplate).delete(CHECKPOINT_KEY);
+    }
+
+    @Test
+    @DisplayName("실패한 경기가 한도에 도달하면 배치 경계에서 가져오기를 멈추고 재개 지점을 남긴다")
+    void importMatches_StopsAtErrorCap() throws Exception {
+        // GIVEN: 형식 오류 10줄, 배치 2건, 실패 한도 3건
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn(null);
+        String file = IntStream.range(0, 10).mapToObj(i -> "{not json").collect(Collectors.joining("\n"));
+        List<MatchImportResultDto> progress = new ArrayList<>();
+
+        // WHEN
+        MatchImportResultDto result = service(2, 3).importMatches(SERVER_ID, FILE_NAME, FILE_SIZE, input(file), progress::add);
+
+        // THEN: 두 번째 배치(실패 4건)에서 멈추고 나머지 6줄은 읽지 않음
+        assertThat(result.isCompleted()).isFalse();
+        assertThat(result.getMatchesRead()).isEqualTo(4);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getErrors()).hasSize(4).allSatisfy(error -> assertThat(error).contains("JSON 형식 오류"));
+        assertThat(progress).hasSize(1);
+
+        ArgumentCaptor<Object> checkpoint = ArgumentCaptor.forClass(Object.class);
+        verify(valueOperations, times(2)).set(eq(CHECKPOINT_KEY), checkpoint.capture(), any(Duration.class));
+        assertThat(((MatchImportCheckpointDto) checkpoint.getValue()).getLastOrdinal()).isEqualTo(4);
+        verify(redisTemplate, never()).delete(anyString());
+        verifyNoInteractions(matchRecordService, guildWriteLaneService);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private MatchImportServiceImpl service(int batchSize, int maxErrors) {
+        return new MatchImportServiceImpl(matchResolutionService, matchRecordService, guildWriteLaneService, redisTemplate,
+                batchSize, maxErrors);
+    }
+
+    private void runLaneInline() {
+        when(guildWriteLaneService.submit(eq(SERVER_ID), any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(1).get()));
+    }
+
+    private MatchBatchResultDto registered(int count) {
+        MatchBatchResultDto result = new MatchBatchResultDto();
+        for (long id = 1; id <= count; id++) {
+            result.addRegistered(id);
+        }
+        return result;
+    }
+
+    private String validLine(int ordinal) {
+        return "{\"winnerTeam\":\"BLUE\",\"gameDurationSeconds\":" + (1000 + ordinal) + ","
+                + "\"playerStatsList\":[{\"gameName\":\"Faker\",\"tagLine\":\"KR1\",\"team\":\"BLUE\","
+                + "\"championName\":\"아리\",\"laneName\":\"MID\",\"kills\":3}]}";
+    }
+
+    private InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,23 +1,36 @@
 package com.discordBot.demo.service;
 
+import com.discordBot.demo.domain.dto.MatchBatchResultDto;
 import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.MatchResolutionCacheDto;
 import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
+import com.discordBot.demo.domain.dto.ResolvedPlayerDto;
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+import com.discordBot.demo.domain.entity.Champion;
 import com.discordBot.demo.domain.entity.GuildServer;
+import com.discordBot.demo.domain.entity.Line;
 import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.entity.MatchOutboxEvent;
 import com.discordBot.demo.domain.entity.MatchRecord;
+import com.discordBot.demo.domain.entity.PlayerStats;
 import com.discordBot.demo.domain.entity.User;
-import com.discordBot.demo.domain.repository.LolAccountRepository;
+import com.discordBot.demo.domain.repository.MatchOutboxEventRepository;
 import com.discordBot.demo.domain.repository.MatchRecordRepository;
+import com.discordBot.demo.domain.repository.PlayerStatsRepository;
 import com.discordBot.demo.service.impl.MatchRecordServiceImpl;
-import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,9 +46,14 @@ class MatchRecordServiceImplTest {
     private MatchRecordServiceImpl matchRecordService;
 
     @Mock private MatchRecordRepository matchRecordRepository;
-    @Mock private ServerManagementService serverManagementService;
-    @Mock private LolAccountRepository lolAccountRepository;
-    @Mock private EntityManager em;
+    @Mock private MatchResolutionService matchResolutionService;
+    @Mock private UserServerStatsService userServerStatsService;
+    @Mock private ChampionStatsService championStatsService;
+    @Mock private LineStatsService lineStatsService;
+    @Mock private MatchOutboxEventRepository matchOutboxEventRepository;
+    @Mock private GuildStatsLockService guildStatsLockService;
+    @Mock private PlayerStatsRepository playerStatsRepository;
+    @Mock private StatsUpsertService statsUpsertService;
 
     private static final Long DISCORD_SERVER_ID = 500L;
     private static final String WINNER_TEAM = "BLUE";
@@ -46,9 +64,6 @@ class MatchRecordServiceImplTest {
         mockGuildServer = new GuildServer();
         mockGuildServer.setDiscordServerId(DISCORD_SERVER_ID);
         mockGuildServer.setServerName("TestServer");
-
-        when(serverManagementService.findOrCreateGuildServer(DISCORD_SERVER_ID))
-                .thenReturn(mockGuildServer);
     }
 
     // --------------------------------------------------------------------------------
@@ -56,43 +71,32 @@ class MatchRecordServiceImplTest {
     // --------------------------------------------------------------------------------
 
     @Test
-    @DisplayName("성공: 모든 계정이 등록된 경우 경기 기록이 저장되어야 한다")
+    @DisplayName("성공: 일괄 조회된 엔티티로 경기 기록을 저장하고 통계 서비스에 한 번씩만 전달한다")
     void registerMatch_Success_AllAccountsRegistered() {
         // GIVEN
-        LolAccount registeredLolAccount1 = createMockLolAccount("Faker", "KR1", 1001L);
-        LolAccount registeredLolAccount2 = createMockLolAccount("Gumayusi", "KR1", 1002L);
-
-        List<PlayerStatsDto> playerStatsList = List.of(
-                createPlayerStatsDto("Faker", "KR1", "BLUE", 10, 2, 5),
-                createPlayerStatsDto("Gumayusi", "KR1", "RED", 3, 7, 2)
-        );
+        PlayerStatsDto fakerDto = createPlayerStatsDto("Faker", "KR1", "BLUE", 10, 2, 5);
+        PlayerStatsDto gumaDto = createPlayerStatsDto("Gumayusi", "KR1", "RED", 3, 7, 2);
 
         MatchRegistrationDto matchDto = new MatchRegistrationDto();
         matchDto.setServerId(DISCORD_SERVER_ID);
         matchDto.setWinnerTeam(WINNER_TEAM);
-        matchDto.setPlayerStatsList(playerStatsList);
-
-        // 2. Repository Mocking: 모든 계정이 Optional.of(LolAccount)를 반환해야 함
-        when(lolAccountRepository.findByGameNameAndTagLineAndGuildServer_DiscordServerId(
-                eq("Faker"), eq("KR1"), eq(DISCORD_SERVER_ID)))
-                .thenReturn(Optional.of(registeredLolAccount1));
-
-        when(lolAccountRepository.findByGameNameAndTagLineAndGuildServer_DiscordServerId(
-                eq("Gumayusi"), eq("KR1"), eq(DISCORD_SERVER_ID)))
-                .thenReturn(Optional.of(registeredLolAccount2));
-
-        // 3. EntityManager Mocking: getReference는 프록시 객체를 반환해야 함
-        when(em.getReference(eq(GuildServer.class), eq(DISCORD_SERVER_ID)))
-                .thenReturn(mockGuildServer);
-
-        // 4. MatchRecord 저장 Mocking (저장 호출을 확인하기 위함)
+        matchDto.setPlayerStatsList(List.of(fakerDto, gumaDto));
+
+        ResolvedMatchDto resolvedMatch = ResolvedMatchDto.builder()
+                .serverId(DISCORD_SERVER_ID)
+                .guildServer(mockGuildServer)
+                .players(List.of(
+                        createResolvedPlayer(fakerDto, createMockLolAccount("Faker", "KR1", 1001L), true),
+                        createResolvedPlayer(gumaDto, createMockLolAccount("Gumayusi", "KR1", 1002L), false)
+                ))
+                .build();
+
+        when(matchRecordRepository.findByGameDurationSecondsAndBlueTotalGoldAndRedTotalGoldAndGuildServer_DiscordServerId(
+                anyInt(), anyInt(), anyInt(), eq(DISCORD_SERVER_ID)))
+                .thenReturn(Optional.empty());
+        when(matchResolutionService.resolve(matchDto)).thenReturn(resolvedMatch);
         when(matchRecordRepository.save(any(MatchRecord.class)))
-                .thenAnswer(invocation -> {
-                    // 저장 시 PlayerStats가 MatchRecord에 올바르게 추가되었는지 확인 (4. 검증 완료 후)
-                    MatchRecord saved = invocation.getArgument(0);
-                    assertThat(saved.getPlayerStats()).hasSize(2);
-                    return saved;
-                });
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
         // WHEN
         MatchRecord savedRecord = matchRecordService.registerMatch(matchDto);
@@ -101,15 +105,60 @@ class MatchRecordServiceImplTest {
         // 1. MatchRecord가 성공적으로 저장되었는지 확인
         assertThat(savedRecord).isNotNull();
         assertThat(savedRecord.getWinnerTeam()).isEqualTo(WINNER_TEAM);
-        // ⭐ getPlayerStats() 대신 올바른 메서드명(getPlayerStatsList()) 사용
+        assertThat(savedRecord.getGuildServer()).isSameAs(mockGuildServer);
         assertThat(savedRecord.getPlayerStats()).hasSize(2);
-
-        // 2. 핵심 메서드 호출 확인
+        assertThat(savedRecord.getPlayerStats().get(0).getUser().getDiscordUserId()).isEqualTo(1001L);
+
+        // 2. 조회는 한 번, 통계 서비스는 경기 단위로 한 번씩만 호출
+        verify(matchResolutionService, times(1)).resolve(matchDto);
+        verify(guildStatsLockService, times(1)).lockShared(DISCORD_SERVER_ID);
+        verify(userServerStatsService, times(1)).applyMatch(resolvedMatch);
+        verify(championStatsService, times(1)).applyMatch(resolvedMatch);
+        verify(lineStatsService, times(1)).applyMatch(resolvedMatch);
         verify(matchRecordRepository, times(1)).save(any(MatchRecord.class));
-        verify(serverManagementService, times(1)).findOrCreateGuildServer(DISCORD_SERVER_ID);
+    }
+
+    @Test
+    @DisplayName("비동기 모드: 통계는 직접 반영하지 않고 같은 트랜잭션에서 아웃박스 이벤트를 기록한다")
+    void registerMatch_AsyncProjection_WritesOutboxEvent() {
+        // GIVEN
+        ReflectionTestUtils.setField(matchRecordService, "asyncStatsProjection", true);
+
+        PlayerStatsDto fakerDto = createPlayerStatsDto("Faker", "KR1", "BLUE", 10, 2, 5);
 
-        // ⭐ 수정: 순회 두 번(검증 + 저장)이므로 2명 * 2회 = 4회 호출이 예상됨
-        verify(lolAccountRepository, times(4)).findByGameNameAndTagLineAndGuildServer_DiscordServerId(anyString(), anyString(), eq(DISCORD_SERVER_ID));
+        MatchRegistrationDto matchDto = new MatchRegistrationDto();
+        matchDto.setServerId(DISCORD_SERVER_ID);
+        matchDto.setWinnerTeam(WINNER_TEAM);
+        matchDto.setPlayerStatsList(List.of(fakerDto));
+
+        ResolvedMatchDto resolvedMatch = ResolvedMatchDto.builder()
+                .serverId(DISCORD_SERVER_ID)
+                .guildServer(mockGuildServer)
+                .players(List.of(createResolvedPlayer(fakerDto, createMockLolAccount("Faker", "KR1", 1001L), true)))
+                .build();
+
+        when(matchRecordRepository.findByGameDurationSecondsAndBlueTotalGoldAndRedTotalGoldAndGuildServer_DiscordServerId(
+                anyInt(), anyInt(), anyInt(), eq(DISCORD_SERVER_ID)))
+                .thenReturn(Optional.empty());
+        when(matchResolutionService.resolve(matchDto)).thenReturn(resolvedMatch);
+        when(matchRecordRepository.save(any(MatchRecord.class))).thenAnswer(invocation -> {
+            MatchRecord record = invocation.getArgument(0);
+            record.setId(77L);
+            return record;
+        });
+
+        // WHEN
+        MatchRecord savedRecord = matchRecordService.registerMatch(matchDto);
+
+        // THEN
+        ArgumentCaptor<MatchOutboxEvent> eventCaptor = ArgumentCaptor.forClass(MatchOutboxEvent.class);
+        verify(matchOutboxEventRepository).save(eventCaptor.capture());
+
+        assertThat(savedRecord.getId()).isEqualTo(77L);
+        assertThat(eventCaptor.getValue().getMatchId()).isEqualTo(77L);
+        assertThat(eventCaptor.getValue().getServerId()).isEqualTo(DISCORD_SERVER_ID);
+        assertThat(eventCaptor.getValue().getProcessedAt()).isNull();
+        verifyNoInteractions(userServerStatsService, championStatsService, lineStatsService);
     }
 
     // --------------------------------------------------------------------------------
@@ -117,44 +166,173 @@ class MatchRecordServiceImplTest {
     // --------------------------------------------------------------------------------
 
     @Test
-    @DisplayName("실패: 미등록 계정이 포함된 경우 IllegalArgumentException이 발생해야 한다")
+    @DisplayName("실패: 조회 단계에서 미등록 계정이 발견되면 저장과 통계 누적을 하지 않는다")
     void registerMatch_Failure_UnregisteredAccount() {
         // GIVEN
-        LolAccount registeredLolAccount = createMockLolAccount("Faker", "KR1", 1001L);
+        MatchRegistrationDto matchDto = new MatchRegistrationDto();
+        matchDto.setServerId(DISCORD_SERVER_ID);
+        matchDto.setWinnerTeam(WINNER_TEAM);
+        matchDto.setPlayerStatsList(List.of(createPlayerStatsDto("Teemo", "NA1", "RED", 3, 7, 2)));
 
-        List<PlayerStatsDto> playerStatsList = List.of(
-                createPlayerStatsDto("Faker", "KR1", "BLUE", 10, 2, 5),
-                createPlayerStatsDto("Teemo", "NA1", "RED", 3, 7, 2)
-        );
+        when(matchRecordRepository.findByGameDurationSecondsAndBlueTotalGoldAndRedTotalGoldAndGuildServer_DiscordServerId(
+                anyInt(), anyInt(), anyInt(), eq(DISCORD_SERVER_ID)))
+                .thenReturn(Optional.empty());
+        when(matchResolutionService.resolve(matchDto))
+                .thenThrow(new IllegalArgumentException("❌ 오류: 이 서버에 등록되지 않은 롤 계정이 포함되어 있습니다."));
+
+        // WHEN & THEN
+        assertThrows(IllegalArgumentException.class, () -> matchRecordService.registerMatch(matchDto));
 
+        verify(matchRecordRepository, never()).save(any());
+        verifyNoInteractions(userServerStatsService, championStatsService, lineStatsService);
+    }
+
+    @Test
+    @DisplayName("실패: 동일 경기가 이미 등록되어 있으면 엔티티 조회 전에 예외가 발생한다")
+    void registerMatch_Failure_Duplicate() {
+        // GIVEN
         MatchRegistrationDto matchDto = new MatchRegistrationDto();
         matchDto.setServerId(DISCORD_SERVER_ID);
         matchDto.setWinnerTeam(WINNER_TEAM);
-        matchDto.setPlayerStatsList(playerStatsList);
+        matchDto.setPlayerStatsList(List.of());
 
-        when(lolAccountRepository.findByGameNameAndTagLineAndGuildServer_DiscordServerId(
-                eq("Faker"), eq("KR1"), eq(DISCORD_SERVER_ID)))
-                .thenReturn(Optional.of(registeredLolAccount));
-
-        when(lolAccountRepository.findByGameNameAndTagLineAndGuildServer_DiscordServerId(
-                eq("Teemo"), eq("NA1"), eq(DISCORD_SERVER_ID)))
-                .thenReturn(Optional.empty()); // Teemo는 미등록
+        when(matchRecordRepository.findByGameDurationSecondsAndBlueTotalGoldAndRedTotalGoldAndGuildServer_DiscordServerId(
+                anyInt(), anyInt(), anyInt(), eq(DISCORD_SERVER_ID)))
+                .thenReturn(Optional.of(new MatchRecord()));
 
         // WHEN & THEN
-        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> {
-            matchRecordService.registerMatch(matchDto);
-        });
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> matchRecordService.registerMatch(matchDto));
 
-        // ⭐ 수정: Assertions.contain()을 두 번 사용하여 Markdown 오류를 피하고 핵심 메시지 검증
-        assertThat(thrown.getMessage())
-                .contains("❌ 오류: 이 서버에 등록되지 않은 롤 계정이 포함되어 있습니다. 먼저 `/register` 명령어로 해당 계정을 등록해 주세요.")
-                .contains("**[미등록 계정 목록]**\nTeemo#NA1");
+        assertThat(thrown.getMessage()).contains("이미 등록된 것으로 보입니다");
+        verifyNoInteractions(matchResolutionService);
+    }
 
-        // DB 저장 호출이 없어야 함
-        verify(matchRecordRepository, never()).save(any());
+    // --------------------------------------------------------------------------------
+    // 일괄 등록 (경기 가져오기)
+    // --------------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("일괄 등록: 배치 안의 중복 경기는 해당 경기만 건너뛰고, 나머지는 한 번에 저장하고 통계도 한 번에 반영한다")
+    @SuppressWarnings("unchecked")
+    void registerMatches_SkipsInvalidAndUpsertsOnce() {
+        // GIVEN
+        PlayerStatsDto fakerDto = createPlayerStatsDto("Faker", "KR1", "BLUE", 10, 2, 5);
+        MatchRegistrationDto first = createMatchDto(1800, 50_000, 48_000, fakerDto);
+        MatchRegistrationDto duplicate = createMatchDto(1800, 50_000, 48_000, fakerDto);
+        MatchRegistrationDto second = createMatchDto(2000, 55_000, 60_000, fakerDto);
+
+        MatchResolutionCacheDto cache = MatchResolutionCacheDto.builder()
+                .serverId(DISCORD_SERVER_ID)
+                .guildServer(mockGuildServer)
+                .build();
+
+        LolAccount faker = createMockLolAccount("Faker", "KR1", 1001L);
+        faker.getUser().setId(1L);
+        ResolvedMatchDto resolvedMatch = ResolvedMatchDto.builder()
+                .serverId(DISCORD_SERVER_ID)
+                .guildServer(mockGuildServer)
+                .players(List.of(createResolvedPlayer(fakerDto, faker, true)))
+                .build();
+
+        when(matchRecordRepository.findByGameDurationSecondsAndBlueTotalGoldAndRedTotalGoldAndGuildServer_DiscordServerId(
+                anyInt(), anyInt(), anyInt(), eq(DISCORD_SERVER_ID)))
+                .thenReturn(Optional.empty());
+        when(matchResolutionService.resolve(any(MatchRegistrationDto.class), eq(cache))).thenReturn(resolvedMatch);
+        when(matchRecordRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // WHEN
+        MatchBatchResultDto result = matchRecordService.registerMatches(List.of(first, duplicate, second), cache);
 
-        // 검증 단계에서 호출 횟수 확인 (Faker 1회, Teemo 1회 = 총 2회)
-        verify(lolAccountRepository, times(2)).findByGameNameAndTagLineAndGuildServer_DiscordServerId(anyString(), anyString(), eq(DISCORD_SERVER_ID));
+        // THEN
+        assertThat(result.getRegisteredMatchIds()).hasSize(2);
+        assertThat(result.getErrors()).containsOnlyKeys(1);
+        assertThat(result.getErrors().get(1)).contains("이미 등록된 것으로 보입니다");
+
+        ArgumentCaptor<Collection<StatsDeltaDto>> deltaCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(statsUpsertService, times(1)).upsertAll(deltaCaptor.capture());
+        assertThat(deltaCaptor.getValue()).hasSize(2);
+
+        verify(guildStatsLockService, times(1)).lockShared(DISCORD_SERVER_ID);
+        verify(matchResolutionService, never()).resolve(any(MatchRegistrationDto.class));
+        verifyNoInteractions(userServerStatsService, championStatsService, lineStatsService);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 경기 삭제
+    // --------------------------------------------------------------------------------
+
+    @Test
+    @DisplayName("경기 삭제: 선수 기록만큼 음수 증감분을 반영하고 0경기가 된 행을 정리한 뒤 경기를 삭제한다")
+    @SuppressWarnings("unchecked")
+    void deleteMatch_RevertsAggregates() {
+        // GIVEN
+        MatchRecord match = createStoredMatch(10L);
+        List<PlayerStats> players = List.of(
+                createStoredPlayer(match, 1L, "BLUE", true, 7),
+                createStoredPlayer(match, 2L, "BLUE", true, 3),
+                createStoredPlayer(match, 3L, "RED", false, 4)
+        );
+
+        when(matchRecordRepository.findByIdAndGuildServer_DiscordServerId(10L, DISCORD_SERVER_ID)).thenReturn(Optional.of(match));
+        when(matchOutboxEventRepository.findByMatchId(10L)).thenReturn(Optional.empty());
+        when(playerStatsRepository.findAllWithMatchByMatchIdIn(List.of(10L))).thenReturn(players);
+
+        // WHEN
+        int reverted = matchRecordService.deleteMatch(DISCORD_SERVER_ID, 10L);
+
+        // THEN
+        ArgumentCaptor<Collection<StatsDeltaDto>> deltaCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(statsUpsertService).upsertAll(deltaCaptor.capture());
+        List<StatsDeltaDto> reversals = new ArrayList<>(deltaCaptor.getValue());
+
+        assertThat(reverted).isEqualTo(3);
+        assertThat(reversals).hasSize(3);
+        assertThat(reversals.get(0).getGames()).isEqualTo(-1);
+        assertThat(reversals.get(0).getWins()).isEqualTo(-1);
+        assertThat(reversals.get(0).getKills()).isEqualTo(-7);
+        assertThat(reversals.get(0).getTeamKills()).isEqualTo(-10);
+        assertThat(reversals.get(2).getWins()).isZero();
+
+        verify(guildStatsLockService).lockShared(DISCORD_SERVER_ID);
+        verify(statsUpsertService).deleteEmptyRows(deltaCaptor.getValue());
+        verify(matchRecordRepository).delete(match);
+    }
+
+    @Test
+    @DisplayName("경기 삭제: 아직 통계에 반영되지 않은 경기는 아웃박스 이벤트만 지우고 통계는 건드리지 않는다")
+    void deleteMatch_PendingOutboxEvent_SkipsReversal() {
+        // GIVEN
+        MatchRecord match = createStoredMatch(11L);
+        MatchOutboxEvent pendingEvent = MatchOutboxEvent.matchRegistered(11L, DISCORD_SERVER_ID);
+
+        when(matchRecordRepository.findByIdAndGuildServer_DiscordServerId(11L, DISCORD_SERVER_ID)).thenReturn(Optional.of(match));
+        when(matchOutboxEventRepository.findByMatchId(11L)).thenReturn(Optional.of(pendingEvent));
+        when(playerStatsRepository.findAllWithMatchByMatchIdIn(List.of(11L)))
+                .thenReturn(List.of(createStoredPlayer(match, 1L, "BLUE", true, 5)));
+
+        // WHEN
+        matchRecordService.deleteMatch(DISCORD_SERVER_ID, 11L);
+
+        // THEN
+        verify(matchOutboxEventRepository).delete(pendingEvent);
+        verifyNoInteractions(statsUpsertService);
+        verify(matchRecordRepository).delete(match);
+    }
+
+    @Test
+    @DisplayName("경기 삭제 실패: 다른 서버의 경기이거나 없는 경기면 예외가 발생한다")
+    void deleteMatch_NotFound() {
+        // GIVEN
+        when(matchRecordRepository.findByIdAndGuildServer_DiscordServerId(99L, DISCORD_SERVER_ID)).thenReturn(Optional.empty());
+
+        // WHEN & THEN
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> matchRecordService.deleteMatch(DISCORD_SERVER_ID, 99L));
+
+        assertThat(thrown.getMessage()).startsWith("❌ 오류:");
+        verifyNoInteractions(statsUpsertService, guildStatsLockService);
+        verify(matchRecordRepository, never()).delete(any());
     }
 
     // --------------------------------------------------------------------------------
@@ -173,6 +351,17 @@ class MatchRecordServiceImplTest {
         return account;
     }
 
+    private ResolvedPlayerDto createResolvedPlayer(PlayerStatsDto dto, LolAccount account, boolean isWin) {
+        return ResolvedPlayerDto.builder()
+                .playerStats(dto)
+                .lolAccount(account)
+                .user(account.getUser())
+                .champion(new Champion())
+                .line(new Line())
+                .win(isWin)
+                .build();
+    }
+
     private PlayerStatsDto createPlayerStatsDto(String gameName, String tagLine, String team, int kills, int deaths, int assists) {
         PlayerStatsDto dto = new PlayerStatsDto();
         dto.setLolGameName(gameName);
@@ -183,4 +372,46 @@ class MatchRecordServiceImplTest {
         dto.setAssists(assists);
         return dto;
     }
-}
\ No newline at end of file
+
+    private MatchRegistrationDto createMatchDto(int duration, int blueGold, int redGold, PlayerStatsDto player) {
+        MatchRegistrationDto matchDto = new MatchRegistrationDto();
+        matchDto.setServerId(DISCORD_SERVER_ID);
+        matchDto.setWinnerTeam(WINNER_TEAM);
+        matchDto.setGameDurationSeconds(duration);
+        matchDto.setBlueTotalGold(blueGold);
+        matchDto.setRedTotalGold(redGold);
+        matchDto.setPlayerStatsList(List.of(player));
+        return matchDto;
+    }
+
+    private MatchRecord createStoredMatch(Long matchId) {
+        MatchRecord match = new MatchRecord();
+        match.setId(matchId);
+        match.setGuildServer(mockGuildServer);
+        match.setGameDurationSeconds(1800);
+        return match;
+    }
+
+    private PlayerStats createStoredPlayer(MatchRecord match, Long userId, String team, boolean isWin, int kills) {
+        User user = new User();
+        user.setId(userId);
+
+        Champion champion = new Champion();
+        champion.setChampionId(1L);
+
+        Line line = new Line();
+        line.setLineId(1L);
+
+        PlayerStats stats = new PlayerStats();
+        stats.setMatchRecord(match);
+        stats.setUser(user);
+        stats.setChampion(champion);
+        stats.setLine(line);
+        stats.setTeam(team);
+        stats.setIsWin(isWin);
+        stats.setKills(kills);
+        stats.setDeaths(2);
+        stats.setAssists(3);
+        return stats;
+    }
+}
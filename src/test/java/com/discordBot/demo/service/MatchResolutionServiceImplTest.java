@@ -0,0 +1,163 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.dto.ResolvedMatchDto;
+import com.discordBot.demo.domain.entity.Champion;
+import com.discordBot.demo.domain.entity.GuildServer;
+import com.discordBot.demo.domain.entity.Line;
+import com.discordBot.demo.domain.entity.LolAccount;
+import com.discordBot.demo.domain.entity.User;
+import com.discordBot.demo.domain.repository.ChampionRepository;
+import com.discordBot.demo.domain.repository.LineRepository;
+import com.discordBot.demo.domain.repository.LolAccountRepository;
+import com.discordBot.demo.service.impl.MatchResolutionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MatchResolutionServiceImplTest {
+
+    @InjectMocks
+    private MatchResolutionServiceImpl matchResolutionService;
+
+    @Mock private ServerManagementService serverManagementService;
+    @Mock private LolAccountRepository lolAccountRepository;
+    @Mock private ChampionRepository championRepository;
+    @Mock private LineRepository lineRepository;
+
+    private static final Long DISCORD_SERVER_ID = 500L;
+
+    @BeforeEach
+    void setUp() {
+        GuildServer guildServer = new GuildServer();
+        guildServer.setDiscordServerId(DISCORD_SERVER_ID);
+
+        when(serverManagementService.findOrCreateGuildServer(DISCORD_SERVER_ID)).thenReturn(guildServer);
+    }
+
+    @Test
+    @DisplayName("성공: 계정/챔피언/라인을 IN 쿼리 한 번씩으로 조회하고 팀 킬 수를 계산한다")
+    void resolve_Success_SingleRoundTripPerEntity() {
+        // GIVEN
+        MatchRegistrationDto matchDto = createMatchDto(
+                createPlayerStatsDto("Faker", "KR1", "BLUE", "아리", "mid", 10),
+                createPlayerStatsDto("Keria", "KR1", "BLUE", "Thresh", "SUPPORT", 1),
+                createPlayerStatsDto("Zeus", "KR1", "RED", "아리", "TOP", 4)
+        );
+
+        when(lolAccountRepository.findAllWithUserByServerIdAndGameNameIn(eq(DISCORD_SERVER_ID), anyCollection()))
+                .thenReturn(List.of(
+                        createLolAccount("Faker", "KR1", 1001L),
+                        createLolAccount("Keria", "KR1", 1002L),
+                        createLolAccount("Zeus", "KR1", 1003L),
+                        createLolAccount("Zeus", "KR2", 1004L)
+                ));
+        when(championRepository.findAllByNameIn(anyCollection())).thenReturn(List.of(createChampion(103L, "아리", "Ahri")));
+        when(championRepository.findAllByChampionKeyIn(anyCollection())).thenReturn(List.of(createChampion(412L, "쓰레쉬", "Thresh")));
+        when(lineRepository.findAllByNameIn(anyCollection()))
+                .thenReturn(List.of(createLine("TOP"), createLine("MID"), createLine("SUPPORT")));
+
+        // WHEN
+        ResolvedMatchDto resolved = matchResolutionService.resolve(matchDto);
+
+        // THEN
+        assertThat(resolved.getPlayers()).hasSize(3);
+        assertThat(resolved.getPlayers().get(0).getLine().getName()).isEqualTo("MID");
+        assertThat(resolved.getPlayers().get(0).getTeamTotalKills()).isEqualTo(11);
+        assertThat(resolved.getPlayers().get(0).isWin()).isTrue();
+        assertThat(resolved.getPlayers().get(1).getChampion().getChampionId()).isEqualTo(412L);
+        assertThat(resolved.getPlayers().get(2).getUser().getDiscordUserId()).isEqualTo(1003L);
+        assertThat(resolved.getPlayers().get(2).getTeamTotalKills()).isEqualTo(4);
+
+        verify(lolAccountRepository, times(1)).findAllWithUserByServerIdAndGameNameIn(eq(DISCORD_SERVER_ID), anyCollection());
+        verify(championRepository, times(1)).findAllByNameIn(anyCollection());
+        verify(lineRepository, times(1)).findAllByNameIn(anyCollection());
+        verify(lolAccountRepository, never()).findByGameNameAndTagLineAndGuildServer_DiscordServerId(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("실패: 미등록 계정이 포함된 경우 IllegalArgumentException이 발생해야 한다")
+    void resolve_Failure_UnregisteredAccount() {
+        // GIVEN
+        MatchRegistrationDto matchDto = createMatchDto(
+                createPlayerStatsDto("Faker", "KR1", "BLUE", "아리", "MID", 10),
+                createPlayerStatsDto("Teemo", "NA1", "RED", "티모", "TOP", 3)
+        );
+
+        when(lolAccountRepository.findAllWithUserByServerIdAndGameNameIn(eq(DISCORD_SERVER_ID), anyCollection()))
+                .thenReturn(List.of(createLolAccount("Faker", "KR1", 1001L)));
+
+        // WHEN & THEN
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> matchResolutionService.resolve(matchDto));
+
+        assertThat(thrown.getMessage())
+                .contains("❌ 오류: 이 서버에 등록되지 않은 롤 계정이 포함되어 있습니다. 먼저 `/register` 명령어로 해당 계정을 등록해 주세요.")
+                .contains("**[미등록 계정 목록]**\nTeemo#NA1");
+
+        // 계정 검증에 실패하면 챔피언/라인 조회를 하지 않아야 함
+        verifyNoInteractions(championRepository, lineRepository);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private MatchRegistrationDto createMatchDto(PlayerStatsDto... players) {
+        MatchRegistrationDto matchDto = new MatchRegistrationDto();
+        matchDto.setServerId(DISCORD_SERVER_ID);
+        matchDto.setWinnerTeam("BLUE");
+        matchDto.setGameDurationSeconds(1500);
+        matchDto.setPlayerStatsList(List.of(players));
+        return matchDto;
+    }
+
+    private LolAccount createLolAccount(String gameName, String tagLine, Long discordUserId) {
+        User user = new User();
+        user.setDiscordUserId(discordUserId);
+
+        LolAccount account = new LolAccount();
+        account.setGameName(gameName);
+        account.setTagLine(tagLine);
+        account.setUser(user);
+        return account;
+    }
+
+    private Champion createChampion(Long id, String name, String key) {
+        Champion champion = new Champion();
+        champion.setChampionId(id);
+        champion.setName(name);
+        champion.setChampionKey(key);
+        return champion;
+    }
+
+    private Line createLine(String name) {
+        Line line = new Line();
+        line.setName(name);
+        return line;
+    }
+
+    private PlayerStatsDto createPlayerStatsDto(String gameName, String tagLine, String team, String championName, String laneName, int kills) {
+        PlayerStatsDto dto = new PlayerStatsDto();
+        dto.setLolGameName(gameName);
+        dto.setLolTagLine(tagLine);
+        dto.setTeam(team);
+        dto.setChampionName(championName);
+        dto.setLaneName(laneName);
+        dto.setKills(kills);
+        return dto;
+    }
+}
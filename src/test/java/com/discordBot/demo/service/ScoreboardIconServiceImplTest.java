@@ -0,0 +1,173 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.domain.entity.Champion;
+import com.discordBot.demo.domain.repository.ChampionRepository;
+import com.discordBot.demo.service.impl.ScoreboardIconServiceImpl;
+import com.discordBot.demo.support.ScoreboardIconReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ScoreboardIconServiceImplTest {
+
+    private final RiotApiService riotApiService = mock(RiotApiService.class);
+    private final ChampionService championService = mock(ChampionService.class);
+    private final ChampionRepository championRepository = mock(ChampionRepository.class);
+
+    @TempDir
+    Path snapshotDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ScoreboardIconServiceImpl scoreboardIconService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // GIVEN (공통): 챔피언 세 명의 아이콘 스냅샷 (주문/아이템 아이콘은 이 테스트에서 쓰지 않음)
+        when(championService.getChampionDataVersion()).thenReturn("14.1.1");
+        when(championRepository.findAll()).thenReturn(List.of(
+                createChampion(103L, "Ahri", "아리"),
+                createChampion(64L, "LeeSin", "리 신"),
+                createChampion(412L, "Thresh", "쓰레쉬")));
+        when(riotApiService.downloadIcon(anyString(), eq("champion"), anyString()))
+                .thenAnswer(invocation -> Optional.of(iconBytes(invocation.<String>getArgument(2).hashCode())));
+        when(riotApiService.getSummonerSpellKeys(anyString())).thenReturn(List.of());
+        when(riotApiService.getSupportItemIds()).thenReturn(List.of());
+        when(riotApiService.getSmiteSpellKey()).thenReturn("SummonerSmite");
+
+        meterRegistry = new SimpleMeterRegistry();
+        scoreboardIconService = new ScoreboardIconServiceImpl(riotApiService, championService, championRepository,
+                meterRegistry, true, snapshotDir.toString(), 0.8);
+        scoreboardIconService.prepareSnapshot().get(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreboardIconService.shutdown();
+    }
+
+    @Test
+    @DisplayName("일치: 챔피언으로 맞춘 선수에 화면에서 확인한 강타/서포터 아이템 여부를 채운다")
+    void applyIconEvidence_MatchedRows_FillEvidence() {
+        // GIVEN: Gemini는 리 신의 강타를 놓침
+        PlayerStatsDto jungle = createPlayer("Oner", "리 신", false, false);
+        PlayerStatsDto support = createPlayer("Keria", "쓰레쉬", false, false);
+        List<ScoreboardIconReader.Row> rows = List.of(
+                new ScoreboardIconReader.Row(10, 100, "LeeSin", 0.97, true, false),
+                new ScoreboardIconReader.Row(10, 160, "Thresh", 0.95, false, true));
+
+        // WHEN
+        int updated = scoreboardIconService.applyIconEvidence(List.of(jungle, support), rows);
+
+        // THEN
+        assertThat(updated).isEqualTo(2);
+        assertThat(jungle.getSmiteDetected()).isTrue();
+        assertThat(support.getSupportItemDetected()).isTrue();
+        assertThat(meterRegistry.get("image.analysis.icon-match.rows").tag("result", "matched").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("불일치: 이름이 다른 선수와 행이 하나씩만 남으면 초상화의 챔피언으로 바로잡고, 여럿이면 건드리지 않는다")
+    void applyIconEvidence_MismatchedChampion() {
+        // GIVEN: Gemini가 '리 신'을 '리신'으로 잘못 읽음
+        PlayerStatsDto misread = createPlayer("Oner", "리신", null, null);
+        PlayerStatsDto mid = createPlayer("Faker", "아리", null, null);
+        List<ScoreboardIconReader.Row> rows = List.of(
+                new ScoreboardIconReader.Row(10, 100, "LeeSin", 0.96, true, false),
+                new ScoreboardIconReader.Row(10, 130, "Ahri", 0.98, false, false));
+
+        // WHEN
+        scoreboardIconService.applyIconEvidence(List.of(misread, mid), rows);
+
+        // THEN
+        assertThat(misread.getChampionName()).isEqualTo("리 신");
+        assertThat(misread.getSmiteDetected()).isTrue();
+
+        // GIVEN: 이름으로 맞출 수 없는 선수와 행이 두 개씩 남음 → 어느 쪽인지 알 수 없음
+        PlayerStatsDto first = createPlayer("A", "알수없음1", null, null);
+        PlayerStatsDto second = createPlayer("B", "알수없음2", null, null);
+
+        // WHEN
+        int updated = scoreboardIconService.applyIconEvidence(List.of(first, second), rows);
+
+        // THEN
+        assertThat(updated).isZero();
+        assertThat(first.getChampionName()).isEqualTo("알수없음1");
+        assertThat(second.getChampionName()).isEqualTo("알수없음2");
+        assertThat(first.getSmiteDetected()).isNull();
+        assertThat(second.getSmiteDetected()).isNull();
+    }
+
+    @Test
+    @DisplayName("낮은 확신: 초상화 유사도가 낮으면 챔피언 이름을 바꾸지 않고, 알아보지 못한 주문/아이템은 Gemini 판단을 유지한다")
+    void applyIconEvidence_LowConfidence_KeepsGeminiValues() {
+        // GIVEN: 남은 행이 하나지만 유사도가 보정 기준보다 낮음 / 맞춘 행은 주문·아이템을 알아보지 못함(null)
+        PlayerStatsDto misread = createPlayer("Oner", "리신", true, false);
+        PlayerStatsDto support = createPlayer("Keria", "쓰레쉬", false, true);
+        List<ScoreboardIconReader.Row> rows = List.of(
+                new ScoreboardIconReader.Row(10, 100, "LeeSin", 0.82, false, false),
+                new ScoreboardIconReader.Row(10, 160, "Thresh", 0.95, null, null));
+
+        // WHEN
+        int updated = scoreboardIconService.applyIconEvidence(List.of(misread, support), rows);
+
+        // THEN
+        assertThat(updated).isZero();
+        assertThat(misread.getChampionName()).isEqualTo("리신");
+        assertThat(misread.getSmiteDetected()).isTrue();
+        assertThat(support.getSmiteDetected()).isFalse();
+        assertThat(support.getSupportItemDetected()).isTrue();
+        assertThat(meterRegistry.get("image.analysis.icon-match.rows").tag("result", "unmatched").counter().count()).isEqualTo(1.0);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private static Champion createChampion(Long id, String key, String name) {
+        Champion champion = new Champion();
+        champion.setChampionId(id);
+        champion.setChampionKey(key);
+        champion.setName(name);
+        return champion;
+    }
+
+    private static PlayerStatsDto createPlayer(String gameName, String championName, Boolean smite, Boolean supportItem) {
+        PlayerStatsDto player = new PlayerStatsDto();
+        player.setLolGameName(gameName);
+        player.setChampionName(championName);
+        player.setSmiteDetected(smite);
+        player.setSupportItemDetected(supportItem);
+        return player;
+    }
+
+    private static byte[] iconBytes(int seed) throws IOException {
+        Random random = new Random(seed);
+        BufferedImage icon = new BufferedImage(48, 48, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < icon.getHeight(); y++) {
+            for (int x = 0; x < icon.getWidth(); x++) {
+                icon.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(icon, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,130 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import com.discordBot.demo.service.impl.ScoreboardOcrServiceImpl;
+import com.discordBot.demo.support.ScoreboardDigitReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScoreboardOcrServiceImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("check 모드: 순서가 달라도 값으로 행을 맞추고, 다른 항목만 경고로 남긴다 (값은 그대로)")
+    void crossCheck_FlagsMismatchesByMatchedRow() {
+        // GIVEN: Gemini 순서와 화면 행 순서가 다르고, B의 골드만 다름
+        ScoreboardOcrService service = new ScoreboardOcrServiceImpl(meterRegistry, "check", 0.5);
+        PlayerStatsDto a = player("A", 5, 2, 10, 23456, 12345);
+        PlayerStatsDto b = player("B", 0, 7, 3, 8123, 7650);
+        List<ScoreboardDigitReader.Row> rows = List.of(
+                new ScoreboardDigitReader.Row(100, 0, 7, 3, 8123, 7850),
+                new ScoreboardDigitReader.Row(170, 5, 2, 10, 23456, 12345));
+
+        // WHEN
+        int mismatches = service.crossCheck(List.of(a, b), rows);
+
+        // THEN
+        assertThat(mismatches).isEqualTo(1);
+        assertThat(a.getOcrWarning()).isNull();
+        assertThat(b.getOcrWarning()).isEqualTo("골드 7650≠7850");
+        assertThat(b.getTotalGold()).isEqualTo(7650);
+        assertThat(meterRegistry.get("image.analysis.digit-ocr.fields").tag("result", "mismatch").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("fill 모드: 맞춰진 행의 다른 항목을 로컬 값으로 바꾸고, 3개 이상 다른 행은 다른 선수로 보고 건드리지 않는다")
+    void crossCheck_FillsMatchedRowsOnly() {
+        // GIVEN
+        ScoreboardOcrService service = new ScoreboardOcrServiceImpl(meterRegistry, "fill", 0.5);
+        PlayerStatsDto a = player("A", 5, 2, 10, 23456, 12345);
+        PlayerStatsDto b = player("B", 0, 7, 3, 8123, 7650);
+        List<ScoreboardDigitReader.Row> rows = List.of(
+                new ScoreboardDigitReader.Row(100, 6, 2, 10, 23456, 12345),
+                new ScoreboardDigitReader.Row(170, 1, 1, 1, 1000, 7650));
+
+        // WHEN
+        service.crossCheck(List.of(a, b), rows);
+
+        // THEN
+        assertThat(a.getKills()).isEqualTo(6);
+        assertThat(a.getOcrWarning()).isEqualTo("K 5≠6");
+        assertThat(b.getKills()).isZero();
+        assertThat(b.getOcrWarning()).isNull();
+    }
+
+    @Test
+    @DisplayName("읽은 행이 선수의 절반보다 적으면 비교하지 않는다")
+    void crossCheck_SkipsWhenTooFewRows() {
+        // GIVEN
+        ScoreboardOcrService service = new ScoreboardOcrServiceImpl(meterRegistry, "check", 0.5);
+        List<PlayerStatsDto> players = List.of(player("A", 5, 2, 10, 23456, 12345), player("B", 0, 7, 3, 8123, 7650),
+                player("C", 1, 1, 1, 5000, 6000));
+
+        // WHEN
+        int mismatches = service.crossCheck(players, List.of(new ScoreboardDigitReader.Row(100, 9, 9, 9, 9999, 9999)));
+
+        // THEN
+        assertThat(mismatches).isZero();
+        assertThat(players).allSatisfy(player -> assertThat(player.getOcrWarning()).isNull());
+    }
+
+    @Test
+    @DisplayName("기본 설정(application.yml)으로 만들면 로컬 인식이 꺼져 있어 비교도 경고도 하지 않는다")
+    void defaultConfiguration_DisablesReader() throws Exception {
+        // GIVEN: 실제 application.yml 값을 @Value와 같은 방식으로 해석
+        StandardEnvironment environment = new StandardEnvironment();
+        new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"))
+                .forEach(environment.getPropertySources()::addLast);
+        String mode = environment.resolvePlaceholders("${spring.analysis.digit-ocr.mode:off}");
+        double minSimilarity = Double.parseDouble(environment.resolvePlaceholders("${spring.analysis.digit-ocr.min-similarity:0.5}"));
+        ScoreboardOcrService service = new ScoreboardOcrServiceImpl(meterRegistry, mode, minSimilarity);
+        PlayerStatsDto a = player("A", 5, 2, 10, 23456, 12345);
+
+        // WHEN
+        int mismatches = service.crossCheck(List.of(a), List.of(new ScoreboardDigitReader.Row(100, 6, 2, 10, 23456, 12345)));
+
+        // THEN
+        assertThat(mode).isEqualTo("off");
+        assertThat(mismatches).isZero();
+        assertThat(a.getOcrWarning()).isNull();
+        assertThat(service.readAsync(new byte[]{1}).join()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("따옴표 없이 off를 적어 false로 읽힌 값도 꺼짐으로 보고, 알 수 없는 모드는 시작할 때 거부한다")
+    void constructor_NormalizesFalseAndRejectsUnknownMode() {
+        // GIVEN
+        ScoreboardOcrService service = new ScoreboardOcrServiceImpl(meterRegistry, "false", 0.5);
+        PlayerStatsDto a = player("A", 5, 2, 10, 23456, 12345);
+
+        // WHEN
+        int mismatches = service.crossCheck(List.of(a), List.of(new ScoreboardDigitReader.Row(100, 6, 2, 10, 23456, 12345)));
+
+        // THEN
+        assertThat(mismatches).isZero();
+        assertThatThrownBy(() -> new ScoreboardOcrServiceImpl(meterRegistry, "on", 0.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("on");
+    }
+
+    private static PlayerStatsDto player(String gameName, int kills, int deaths, int assists, int damage, int gold) {
+        PlayerStatsDto player = new PlayerStatsDto();
+        player.setLolGameName(gameName);
+        player.setKills(kills);
+        player.setDeaths(deaths);
+        player.setAssists(assists);
+        player.setTotalDamage(damage);
+        player.setTotalGold(gold);
+        return player;
+    }
+}
@@ -0,0 +1,150 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+import com.discordBot.demo.domain.entity.*;
+import com.discordBot.demo.domain.repository.MatchOutboxEventRepository;
+import com.discordBot.demo.domain.repository.PlayerStatsRepository;
+import com.discordBot.demo.service.impl.StatsProjectionServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatsProjectionServiceImplTest {
+
+    @InjectMocks
+    private StatsProjectionServiceImpl statsProjectionService;
+
+    @Mock private MatchOutboxEventRepository outboxRepository;
+    @Mock private PlayerStatsRepository playerStatsRepository;
+    @Mock private StatsUpsertService statsUpsertService;
+    @Mock private GuildStatsLockService guildStatsLockService;
+
+    @Captor private ArgumentCaptor<Collection<StatsDeltaDto>> deltasCaptor;
+
+    private static final Long SERVER_ID = 500L;
+
+    @Test
+    @DisplayName("성공: 잠근 이벤트들의 선수 기록을 한 번의 upsert로 반영하고 처리 완료로 표시한다")
+    void projectPending_AppliesBatchAndMarksProcessed() {
+        // GIVEN
+        MatchOutboxEvent event1 = MatchOutboxEvent.matchRegistered(1L, SERVER_ID);
+        MatchOutboxEvent event2 = MatchOutboxEvent.matchRegistered(2L, SERVER_ID);
+
+        MatchRecord match1 = createMatch(1L, 1800);
+        MatchRecord match2 = createMatch(2L, 1200);
+
+        List<PlayerStats> players = new ArrayList<>();
+        players.add(createPlayer(match1, 10L, "BLUE", true, 7));
+        players.add(createPlayer(match1, 11L, "BLUE", true, 3));
+        players.add(createPlayer(match1, 12L, "RED", false, 4));
+        players.add(createPlayer(match2, 10L, "RED", false, 2));
+
+        when(outboxRepository.lockPendingBatch(eq(100), anyInt())).thenReturn(List.of(event1, event2));
+        when(guildStatsLockService.tryLockShared(SERVER_ID)).thenReturn(true);
+        when(playerStatsRepository.findAllWithMatchByMatchIdIn(anyCollection())).thenReturn(players);
+
+        // WHEN
+        int processed = statsProjectionService.projectPending(100);
+
+        // THEN
+        assertThat(processed).isEqualTo(2);
+        verify(statsUpsertService, times(1)).upsertAll(deltasCaptor.capture());
+
+        List<StatsDeltaDto> deltas = new ArrayList<>(deltasCaptor.getValue());
+        assertThat(deltas).hasSize(4);
+        // 경기 1 블루팀 총 킬 = 7 + 3
+        assertThat(deltas.get(0).getTeamKills()).isEqualTo(10);
+        assertThat(deltas.get(0).getDurationSeconds()).isEqualTo(1800);
+        assertThat(deltas.get(2).getTeamKills()).isEqualTo(4);
+        // 경기 2는 경기 1과 팀 킬이 섞이지 않아야 함
+        assertThat(deltas.get(3).getTeamKills()).isEqualTo(2);
+        assertThat(deltas.get(3).getUserId()).isEqualTo(10L);
+
+        assertThat(event1.getProcessedAt()).isNotNull();
+        assertThat(event2.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("통계 재계산 중인 서버의 이벤트는 반영하지 않고 미처리로 남긴다")
+    void projectPending_SkipsRebuildingGuild() {
+        // GIVEN
+        MatchOutboxEvent event = MatchOutboxEvent.matchRegistered(1L, SERVER_ID);
+
+        when(outboxRepository.lockPendingBatch(anyInt(), anyInt())).thenReturn(List.of(event));
+        when(guildStatsLockService.tryLockShared(SERVER_ID)).thenReturn(false);
+
+        // WHEN
+        int processed = statsProjectionService.projectPending(100);
+
+        // THEN
+        assertThat(processed).isZero();
+        assertThat(event.getProcessedAt()).isNull();
+        verifyNoInteractions(playerStatsRepository, statsUpsertService);
+    }
+
+    @Test
+    @DisplayName("처리할 이벤트가 없으면 선수 기록 조회와 upsert를 하지 않는다")
+    void projectPending_NoEvents() {
+        // GIVEN
+        when(outboxRepository.lockPendingBatch(anyInt(), anyInt())).thenReturn(List.of());
+
+        // WHEN
+        int processed = statsProjectionService.projectPending(100);
+
+        // THEN
+        assertThat(processed).isZero();
+        verifyNoInteractions(playerStatsRepository, statsUpsertService);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private MatchRecord createMatch(Long matchId, int durationSeconds) {
+        GuildServer guildServer = new GuildServer();
+        guildServer.setDiscordServerId(SERVER_ID);
+
+        MatchRecord match = new MatchRecord();
+        match.setId(matchId);
+        match.setGuildServer(guildServer);
+        match.setGameDurationSeconds(durationSeconds);
+        return match;
+    }
+
+    private PlayerStats createPlayer(MatchRecord match, Long userId, String team, boolean isWin, int kills) {
+        User user = new User();
+        user.setId(userId);
+
+        Champion champion = new Champion();
+        champion.setChampionId(1L);
+
+        Line line = new Line();
+        line.setLineId(1L);
+
+        PlayerStats stats = new PlayerStats();
+        stats.setMatchRecord(match);
+        stats.setUser(user);
+        stats.setChampion(champion);
+        stats.setLine(line);
+        stats.setTeam(team);
+        stats.setIsWin(isWin);
+        stats.setKills(kills);
+        stats.setDeaths(1);
+        stats.setAssists(2);
+        return stats;
+    }
+}
@@ -0,0 +1,182 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+import com.discordBot.demo.domain.entity.*;
+import com.discordBot.demo.domain.repository.MatchOutboxEventRepository;
+import com.discordBot.demo.domain.repository.PlayerStatsRepository;
+import com.discordBot.demo.service.impl.StatsReattributionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatsReattributionServiceImplTest {
+
+    @InjectMocks
+    private StatsReattributionServiceImpl statsReattributionService;
+
+    @Mock private PlayerStatsRepository playerStatsRepository;
+    @Mock private MatchOutboxEventRepository matchOutboxEventRepository;
+    @Mock private StatsUpsertService statsUpsertService;
+    @Mock private GuildStatsLockService guildStatsLockService;
+    @Mock private StatsRebuildService statsRebuildService;
+
+    @Captor private ArgumentCaptor<Collection<StatsDeltaDto>> changesCaptor;
+    @Captor private ArgumentCaptor<Collection<StatsDeltaDto>> removalsCaptor;
+
+    private static final Long SERVER_ID = 500L;
+    private static final Long LOL_ID = 7L;
+
+    private GuildServer guildServer;
+    private LolAccount account;
+    private User oldOwner;
+    private User newOwner;
+
+    @BeforeEach
+    void setUp() {
+        guildServer = new GuildServer();
+        guildServer.setDiscordServerId(SERVER_ID);
+
+        oldOwner = createUser(1L);
+        newOwner = createUser(3L);
+
+        account = new LolAccount();
+        account.setLolId(LOL_ID);
+        account.setGameName("Faker");
+        account.setTagLine("KR1");
+        account.setGuildServer(guildServer);
+        account.setUser(oldOwner);
+    }
+
+    @Test
+    @DisplayName("성공: 계정의 기록만큼 이전 소유자에게서 빼고 새 소유자에게 더한 뒤 PLAYER_STATS 소유자를 바꾼다")
+    void reattribute_MovesDeltasBetweenOwners() {
+        // GIVEN: 경기 1에서 계정(블루, 7킬)과 팀원(블루, 3킬), 경기 2는 아직 프로젝터가 반영하지 않음
+        MatchRecord match1 = createMatch(1L);
+        MatchRecord match2 = createMatch(2L);
+        List<PlayerStats> players = List.of(
+                createPlayer(match1, account, oldOwner, "BLUE", 7),
+                createPlayer(match1, null, createUser(2L), "BLUE", 3),
+                createPlayer(match2, account, oldOwner, "RED", 5)
+        );
+        MatchOutboxEvent pendingEvent = MatchOutboxEvent.matchRegistered(2L, SERVER_ID);
+
+        when(playerStatsRepository.findMatchIdsByLolId(LOL_ID)).thenReturn(List.of(1L, 2L));
+        when(matchOutboxEventRepository.findByMatchIdIn(List.of(1L, 2L))).thenReturn(List.of(pendingEvent));
+        when(playerStatsRepository.findAllWithMatchByMatchIdIn(List.of(1L, 2L))).thenReturn(players);
+        when(playerStatsRepository.reassignUserByLolId(LOL_ID, newOwner)).thenReturn(2);
+
+        // WHEN
+        int reassigned = statsReattributionService.reattribute(account, newOwner);
+
+        // THEN
+        assertThat(reassigned).isEqualTo(2);
+        verify(guildStatsLockService).lockShared(SERVER_ID);
+        verify(statsUpsertService).upsertAll(changesCaptor.capture());
+        verify(statsUpsertService).deleteEmptyRows(removalsCaptor.capture());
+
+        List<StatsDeltaDto> changes = new ArrayList<>(changesCaptor.getValue());
+        assertThat(changes).hasSize(2);
+        assertThat(changes.get(0).getUserId()).isEqualTo(1L);
+        assertThat(changes.get(0).getGames()).isEqualTo(-1);
+        assertThat(changes.get(0).getKills()).isEqualTo(-7);
+        assertThat(changes.get(0).getTeamKills()).isEqualTo(-10);
+        assertThat(changes.get(1).getUserId()).isEqualTo(3L);
+        assertThat(changes.get(1).getGames()).isEqualTo(1);
+        assertThat(changes.get(1).getTeamKills()).isEqualTo(10);
+
+        assertThat(removalsCaptor.getValue()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("소유자가 없던 계정: 누적된 적이 없으므로 새 소유자에게 더하기만 한다")
+    void reattribute_UnownedAccount_OnlyAdds() {
+        // GIVEN
+        account.setUser(null);
+        MatchRecord match = createMatch(1L);
+        List<PlayerStats> players = List.of(createPlayer(match, account, null, "BLUE", 4));
+
+        when(playerStatsRepository.findMatchIdsByLolId(LOL_ID)).thenReturn(List.of(1L));
+        when(matchOutboxEventRepository.findByMatchIdIn(List.of(1L))).thenReturn(List.of());
+        when(playerStatsRepository.findAllWithMatchByMatchIdIn(List.of(1L))).thenReturn(players);
+
+        // WHEN
+        statsReattributionService.reattribute(account, newOwner);
+
+        // THEN
+        verify(statsUpsertService).upsertAll(changesCaptor.capture());
+        List<StatsDeltaDto> changes = new ArrayList<>(changesCaptor.getValue());
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0).getUserId()).isEqualTo(3L);
+        assertThat(changes.get(0).getGames()).isEqualTo(1);
+        verify(statsUpsertService).deleteEmptyRows(List.of());
+    }
+
+    @Test
+    @DisplayName("실패: 통계 재계산이 진행 중이면 기록을 건드리지 않고 예외가 발생한다")
+    void reattribute_RebuildInProgress() {
+        // GIVEN
+        when(statsRebuildService.isRebuilding(SERVER_ID)).thenReturn(true);
+
+        // WHEN & THEN
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> statsReattributionService.reattribute(account, newOwner));
+
+        assertThat(thrown.getMessage()).startsWith("❌ 오류:");
+        verifyNoInteractions(playerStatsRepository, statsUpsertService);
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    private User createUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private MatchRecord createMatch(Long matchId) {
+        MatchRecord match = new MatchRecord();
+        match.setId(matchId);
+        match.setGuildServer(guildServer);
+        match.setGameDurationSeconds(1800);
+        return match;
+    }
+
+    private PlayerStats createPlayer(MatchRecord match, LolAccount lolAccount, User user, String team, int kills) {
+        Champion champion = new Champion();
+        champion.setChampionId(1L);
+
+        Line line = new Line();
+        line.setLineId(1L);
+
+        PlayerStats stats = new PlayerStats();
+        stats.setMatchRecord(match);
+        stats.setLolNickname(lolAccount);
+        stats.setUser(user);
+        stats.setChampion(champion);
+        stats.setLine(line);
+        stats.setTeam(team);
+        stats.setIsWin(true);
+        stats.setKills(kills);
+        stats.setDeaths(1);
+        stats.setAssists(2);
+        return stats;
+    }
+}
@@ -0,0 +1,271 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+import com.discordBot.demo.domain.dto.StatsRebuildResultDto;
+import com.discordBot.demo.domain.entity.Champion;
+import com.discordBot.demo.domain.entity.GuildServer;
+import com.discordBot.demo.domain.entity.Line;
+import com.discordBot.demo.domain.entity.MatchRecord;
+import com.discordBot.demo.domain.entity.PlayerStats;
+import com.discordBot.demo.domain.entity.User;
+import com.discordBot.demo.domain.repository.ChampionRepository;
+import com.discordBot.demo.domain.repository.GuildServerRepository;
+import com.discordBot.demo.domain.repository.LineRepository;
+import com.discordBot.demo.domain.repository.MatchRecordRepository;
+import com.discordBot.demo.domain.repository.PlayerStatsRepository;
+import com.discordBot.demo.domain.repository.UserRepository;
+import com.discordBot.demo.service.impl.StatsRebuildServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 실제 DB(H2)의 PLAYER_STATS를 스캔해 교체하는 누적 통계가, 같은 기록으로 증분 반영(아웃박스 프로젝터) 경로가 만드는 증감분과 같은지 확인합니다.
+ * H2는 ON CONFLICT DO UPDATE를 지원하지 않으므로 StatsUpsertService는 모킹하고, 각 경로가 반영하려는 행을 키별로 합산해 비교합니다.
+ * 스캔은 별도 스레드에서 실행되므로 테스트 데이터가 커밋되어 보이도록 테스트 메서드는 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StatsRebuildServiceImplTest {
+
+    private static final Long DISCORD_SERVER_ID = 800L;
+
+    @Autowired private DataSource dataSource;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private GuildServerRepository guildServerRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ChampionRepository championRepository;
+    @Autowired private LineRepository lineRepository;
+    @Autowired private MatchRecordRepository matchRecordRepository;
+    @Autowired private PlayerStatsRepository playerStatsRepository;
+
+    private final StatsUpsertService statsUpsertService = mock(StatsUpsertService.class);
+    private final GuildStatsLockService guildStatsLockService = mock(GuildStatsLockService.class);
+
+    private StatsRebuildServiceImpl statsRebuildService;
+    private TransactionTemplate newTransaction;
+
+    private GuildServer guildServer;
+    private User userA;
+    private User userB;
+    private Champion ahri;
+    private Champion garen;
+    private Line mid;
+    private Line top;
+
+    @BeforeEach
+    void setUp() {
+        statsRebuildService = new StatsRebuildServiceImpl(new JdbcTemplate(dataSource), transactionManager,
+                statsUpsertService, guildStatsLockService, 2, 2);
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        GuildServer server = new GuildServer();
+        server.setDiscordServerId(DISCORD_SERVER_ID);
+        server.setServerName("RebuildServer");
+        guildServer = guildServerRepository.save(server);
+
+        userA = userRepository.save(createUser(1L));
+        userB = userRepository.save(createUser(2L));
+        ahri = championRepository.save(createChampion(103L, "아리", "Ahri"));
+        garen = championRepository.save(createChampion(86L, "가렌", "Garen"));
+        mid = lineRepository.save(createLine("MID", "미드"));
+        top = lineRepository.save(createLine("TOP", "탑"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 테스트 데이터가 커밋되므로 다음 테스트를 위해 직접 지웁니다. (선수 기록은 경기와 함께 삭제)
+        matchRecordRepository.deleteAll();
+        userRepository.deleteAll();
+        championRepository.deleteAll();
+        lineRepository.deleteAll();
+        guildServerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("재계산으로 교체한 집계가 같은 PLAYER_STATS를 증분 반영한 결과와 같고, 스캔 이후 등록된 경기도 포함한다")
+    void rebuild_MatchesIncrementalUpsertIncludingLateMatches() {
+        // GIVEN: 스캔 전에 두 경기 (소유자 없는 계정 기록은 통계에서 빠지지만 팀 총 킬에는 포함)
+        MatchRecord first = saveMatch(1800, 50_000,
+                player(userA, ahri, mid, "BLUE", true, 7, 2, 5),
+                player(userB, garen, top, "BLUE", true, 3, 4, 9),
+                player(null, garen, top, "BLUE", true, 6, 10, 1));
+        MatchRecord second = saveMatch(2100, 61_000,
+                player(userA, garen, top, "RED", false, 1, 6, 3),
+                player(userB, ahri, mid, "BLUE", true, 9, 1, 4));
+
+        // 교체 단계의 배타 잠금을 얻기 직전에 다른 트랜잭션이 세 번째 경기를 커밋함
+        AtomicInteger lockCalls = new AtomicInteger();
+        List<Long> lateMatchIds = new ArrayList<>();
+        doAnswer(invocation -> {
+            if (lockCalls.incrementAndGet() == 2) {
+                lateMatchIds.add(newTransaction.execute(status -> saveMatch(1500, 42_000,
+                        player(userA, ahri, mid, "BLUE", true, 12, 0, 8),
+                        player(userB, ahri, top, "RED", false, 2, 5, 2)).getId()));
+            }
+            return null;
+        }).when(guildStatsLockService).lockExclusive(anyLong());
+
+        // WHEN
+        StatsRebuildResultDto result = statsRebuildService.rebuild(List.of(DISCORD_SERVER_ID), null);
+
+        // THEN
+        assertThat(lateMatchIds).hasSize(1);
+        assertThat(result.getMatchesScanned()).isEqualTo(3);
+
+        List<StatsDeltaDto> incremental = newTransaction.execute(status -> StatsDeltaDto.fromPlayerStats(
+                playerStatsRepository.findAllWithMatchByMatchIdIn(List.of(first.getId(), second.getId(), lateMatchIds.get(0)))));
+
+        assertThat(fold(capture("user"), d -> d.getUserId().toString()))
+                .isEqualTo(fold(incremental, d -> d.getUserId().toString()))
+                .hasSize(2);
+        assertThat(fold(capture("champion"), d -> d.getUserId() + "/" + d.getChampionId()))
+                .isEqualTo(fold(incremental, d -> d.getUserId() + "/" + d.getChampionId()))
+                .hasSize(4);
+        assertThat(fold(capture("line"), d -> d.getUserId() + "/" + d.getLineId()))
+                .isEqualTo(fold(incremental, d -> d.getUserId() + "/" + d.getLineId()))
+                .hasSize(4);
+        assertThat(statsRebuildService.isRebuilding(DISCORD_SERVER_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("팀 이름의 대소문자가 섞여 있어도 재계산의 팀 총 킬이 증분 반영과 같다")
+    void rebuild_MixedCaseTeams_MatchesIncrementalTeamKills() {
+        // GIVEN: 같은 블루 팀이 "blue", "BLUE", "Blue"로 저장됨 (7 + 3 + 6 = 16킬)
+        MatchRecord match = saveMatch(1800, 50_000,
+                player(userA, ahri, mid, "blue", true, 7, 2, 5),
+                player(userB, garen, top, "BLUE", true, 3, 4, 9),
+                player(null, garen, top, "Blue", true, 6, 10, 1),
+                player(null, ahri, mid, "red", false, 4, 16, 2));
+
+        // WHEN
+        statsRebuildService.rebuild(List.of(DISCORD_SERVER_ID), null);
+
+        // THEN
+        List<StatsDeltaDto> incremental = newTransaction.execute(status -> StatsDeltaDto.fromPlayerStats(
+                playerStatsRepository.findAllWithMatchByMatchIdIn(List.of(match.getId()))));
+
+        Map<Long, Integer> rebuiltTeamKills = capture("user").stream()
+                .collect(Collectors.toMap(StatsDeltaDto::getUserId, StatsDeltaDto::getTeamKills, Integer::sum));
+        assertThat(rebuiltTeamKills).containsOnly(Map.entry(userA.getId(), 16), Map.entry(userB.getId(), 16));
+        assertThat(fold(capture("user"), d -> d.getUserId().toString()))
+                .isEqualTo(fold(incremental, d -> d.getUserId().toString()));
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private Collection<StatsDeltaDto> capture(String table) {
+        ArgumentCaptor<Collection<StatsDeltaDto>> captor = ArgumentCaptor.forClass(Collection.class);
+        switch (table) {
+            case "user" -> verify(statsUpsertService).upsertUserServerStats(captor.capture());
+            case "champion" -> verify(statsUpsertService).upsertChampionStats(captor.capture());
+            default -> verify(statsUpsertService).upsertLineStats(captor.capture());
+        }
+        return captor.getValue();
+    }
+
+    /**
+     * StatsUpsertServiceImpl과 같은 방식으로 키별 증감분을 합산합니다. (소유자 없는 기록 제외)
+     */
+    private Map<String, String> fold(Collection<StatsDeltaDto> deltas, Function<StatsDeltaDto, String> keyFn) {
+        Map<String, long[]> sums = new TreeMap<>();
+        for (StatsDeltaDto d : deltas) {
+            if (d.getUserId() == null) {
+                continue;
+            }
+            assertThat(d.getServerId()).isEqualTo(DISCORD_SERVER_ID);
+            long[] sum = sums.computeIfAbsent(keyFn.apply(d), key -> new long[9]);
+            long[] values = {d.getGames(), d.getWins(), d.getKills(), d.getDeaths(), d.getAssists(),
+                    d.getGold(), d.getDamage(), d.getTeamKills(), d.getDurationSeconds()};
+            for (int i = 0; i < values.length; i++) {
+                sum[i] += values[i];
+            }
+        }
+        Map<String, String> folded = new TreeMap<>();
+        sums.forEach((key, sum) -> folded.put(key, Arrays.toString(sum)));
+        return folded;
+    }
+
+    private MatchRecord saveMatch(int durationSeconds, int blueGold, PlayerStats... players) {
+        MatchRecord match = new MatchRecord();
+        match.setGuildServer(guildServer);
+        match.setWinnerTeam("BLUE");
+        match.setGameDurationSeconds(durationSeconds);
+        match.setBlueTotalGold(blueGold);
+        match.setRedTotalGold(blueGold - 5_000);
+        for (PlayerStats stats : players) {
+            stats.setDurationSeconds(durationSeconds);
+            match.addPlayerStats(stats);
+        }
+        return matchRecordRepository.save(match);
+    }
+
+    private PlayerStats player(User user, Champion champion, Line line, String team, boolean win,
+                               int kills, int deaths, int assists) {
+        PlayerStats stats = new PlayerStats();
+        stats.setUser(user);
+        stats.setChampion(champion);
+        stats.setLine(line);
+        stats.setTeam(team);
+        stats.setIsWin(win);
+        stats.setKills(kills);
+        stats.setDeaths(deaths);
+        stats.setAssists(assists);
+        stats.setTotalGold(10_000L + kills * 300L);
+        stats.setTotalDamage(15_000L + kills * 1_000L);
+        return stats;
+    }
+
+    private User createUser(Long discordUserId) {
+        User user = new User();
+        user.setDiscordUserId(discordUserId);
+        return user;
+    }
+
+    private Champion createChampion(Long championId, String name, String key) {
+        Champion champion = new Champion();
+        champion.setChampionId(championId);
+        champion.setName(name);
+        champion.setChampionKey(key);
+        return champion;
+    }
+
+    private Line createLine(String name, String displayName) {
+        Line line = new Line();
+        line.setName(name);
+        line.setDisplayName(displayName);
+        return line;
+    }
+}
@@ -0,0 +1,113 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+import com.discordBot.demo.service.impl.StatsUpsertServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatsUpsertServiceImplTest {
+
+    @InjectMocks
+    private StatsUpsertServiceImpl statsUpsertService;
+
+    @Mock private JdbcTemplate jdbcTemplate;
+
+    @Captor private ArgumentCaptor<String> sqlCaptor;
+    @Captor private ArgumentCaptor<List<Object[]>> argsCaptor;
+
+    private static final Long SERVER_ID = 500L;
+
+    @Test
+    @DisplayName("성공: 같은 (서버, 유저) 증감분은 하나로 합쳐 한 번의 배치로 실행한다")
+    void upsertUserServerStats_MergesSameKey() {
+        // GIVEN
+        List<StatsDeltaDto> deltas = List.of(
+                createDelta(2L, 10L, 1L, true, 10, 2),
+                createDelta(1L, 20L, 2L, false, 3, 7),
+                createDelta(2L, 30L, 3L, true, 5, 1)
+        );
+
+        // WHEN
+        statsUpsertService.upsertUserServerStats(deltas);
+
+        // THEN
+        verify(jdbcTemplate, times(1)).batchUpdate(sqlCaptor.capture(), argsCaptor.capture());
+
+        assertThat(sqlCaptor.getValue())
+                .startsWith("INSERT INTO user_server_stats")
+                .contains("ON CONFLICT (guild_server_id, user_id) DO UPDATE SET")
+                .contains("total_kills = user_server_stats.total_kills + excluded.total_kills");
+
+        List<Object[]> rows = argsCaptor.getValue();
+        assertThat(rows).hasSize(2);
+
+        // 키 순서로 정렬되어 유저 1이 먼저 나와야 함
+        assertThat(rows.get(0)[1]).isEqualTo(1L);
+        // 유저 2: games=2, wins=2, kills=15, deaths=3
+        assertThat(rows.get(1)).containsExactly(SERVER_ID, 2L, 2, 2, 15, 3, 0, 0L, 0L, 0, 3000L);
+    }
+
+    @Test
+    @DisplayName("성공: upsertAll은 세 통계 테이블에 각각 한 번씩 배치를 실행한다")
+    void upsertAll_ExecutesOneBatchPerTable() {
+        // GIVEN
+        List<StatsDeltaDto> deltas = List.of(
+                createDelta(1L, 10L, 1L, true, 10, 2),
+                createDelta(2L, 10L, 2L, false, 3, 7)
+        );
+
+        // WHEN
+        statsUpsertService.upsertAll(deltas);
+
+        // THEN
+        verify(jdbcTemplate, times(3)).batchUpdate(sqlCaptor.capture(), argsCaptor.capture());
+        assertThat(sqlCaptor.getAllValues())
+                .anyMatch(sql -> sql.startsWith("INSERT INTO user_server_stats"))
+                .anyMatch(sql -> sql.startsWith("INSERT INTO champion_stats"))
+                .anyMatch(sql -> sql.startsWith("INSERT INTO line_stats"));
+
+        // 챔피언 10을 두 유저가 사용했으므로 챔피언 통계도 2행
+        assertThat(argsCaptor.getAllValues()).allSatisfy(rows -> assertThat(rows).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("성공: 소유자가 없는 증감분만 있으면 DB를 호출하지 않는다")
+    void upsert_SkipsWhenNoOwner() {
+        // GIVEN
+        StatsDeltaDto ownerless = StatsDeltaDto.builder().serverId(SERVER_ID).games(1).build();
+
+        // WHEN
+        statsUpsertService.upsertAll(List.of(ownerless));
+
+        // THEN
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private StatsDeltaDto createDelta(Long userId, Long championId, Long lineId, boolean isWin, int kills, int deaths) {
+        return StatsDeltaDto.builder()
+                .serverId(SERVER_ID)
+                .userId(userId)
+                .championId(championId)
+                .lineId(lineId)
+                .games(1)
+                .wins(isWin ? 1 : 0)
+                .kills(kills)
+                .deaths(deaths)
+                .durationSeconds(1500L)
+                .build();
+    }
+}
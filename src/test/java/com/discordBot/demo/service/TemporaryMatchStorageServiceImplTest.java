@@ -0,0 +1,105 @@
+package com.discordBot.demo.service;
+
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.discordBot.demo.domain.dto.TemporaryMatchClaimDto;
+import com.discordBot.demo.domain.enums.TemporaryMatchClaimStatus;
+import com.discordBot.demo.service.impl.TemporaryMatchStorageServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TemporaryMatchStorageServiceImplTest {
+
+    @InjectMocks
+    private TemporaryMatchStorageServiceImpl storageService;
+
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private ValueOperations<String, Object> valueOperations;
+
+    private static final Long TEMP_MATCH_ID = 7L;
+
+    @Test
+    @DisplayName("성공: 첫 요청은 임시 경기를 원자적으로 꺼내 CLAIMED를 받는다")
+    void claim_FirstRequestWins() {
+        // GIVEN
+        MatchRegistrationDto dto = new MatchRegistrationDto();
+        stubClaimScript(dto);
+
+        // WHEN
+        TemporaryMatchClaimDto claim = storageService.claimTemporaryMatch(TEMP_MATCH_ID, "interaction-1");
+
+        // THEN
+        assertThat(claim.isClaimed()).isTrue();
+        assertThat(claim.getMatch()).isSameAs(dto);
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("중복 요청: 이미 점유 기록이 있으면 ALREADY_CLAIMED를 반환한다")
+    void claim_DuplicateRequest() {
+        // GIVEN
+        stubClaimScript(null);
+        when(redisTemplate.hasKey("temp:match:claimed:" + TEMP_MATCH_ID)).thenReturn(true);
+
+        // WHEN
+        TemporaryMatchClaimDto claim = storageService.claimTemporaryMatch(TEMP_MATCH_ID, "interaction-2");
+
+        // THEN
+        assertThat(claim.getStatus()).isEqualTo(TemporaryMatchClaimStatus.ALREADY_CLAIMED);
+        assertThat(claim.getMatch()).isNull();
+    }
+
+    @Test
+    @DisplayName("만료: 임시 경기와 점유 기록이 모두 없으면 EXPIRED를 반환한다")
+    void claim_Expired() {
+        // GIVEN
+        stubClaimScript(null);
+        when(redisTemplate.hasKey("temp:match:claimed:" + TEMP_MATCH_ID)).thenReturn(false);
+
+        // WHEN
+        TemporaryMatchClaimDto claim = storageService.claimTemporaryMatch(TEMP_MATCH_ID, "interaction-3");
+
+        // THEN
+        assertThat(claim.getStatus()).isEqualTo(TemporaryMatchClaimStatus.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("되돌리기: 점유한 경기를 같은 ID로 다시 저장한 뒤 점유 기록을 지워 다시 확정할 수 있게 한다")
+    void restore_PutsMatchBackUnderSameId() {
+        // GIVEN
+        MatchRegistrationDto dto = new MatchRegistrationDto();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // WHEN
+        storageService.restoreTemporaryMatch(TEMP_MATCH_ID, dto);
+
+        // THEN
+        InOrder inOrder = inOrder(valueOperations, redisTemplate);
+        inOrder.verify(valueOperations).set("temp:match:" + TEMP_MATCH_ID, dto, Duration.ofMinutes(30));
+        inOrder.verify(redisTemplate).delete("temp:match:claimed:" + TEMP_MATCH_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubClaimScript(Object result) {
+        when(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(),
+                eq(List.of("temp:match:" + TEMP_MATCH_ID, "temp:match:claimed:" + TEMP_MATCH_ID)),
+                any(), any()))
+                .thenReturn(result);
+    }
+}
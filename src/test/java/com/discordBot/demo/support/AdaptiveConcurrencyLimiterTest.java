@@ -0,0 +1,79 @@
+package com.discordBot.demo.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long NORMAL_LATENCY = TimeUnit.SECONDS.toNanos(3);
+
+    @Test
+    @DisplayName("지연이 안정적이면 한도가 점차 늘어나되 최대 한도를 넘지 않는다")
+    void onSuccess_GrowsAdditively() throws InterruptedException {
+        // GIVEN
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 4, 0.5, 2.0);
+
+        // WHEN: 첫 호출은 기준 지연 측정, 이후 호출마다 1/한도씩 증가
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+            limiter.onSuccess(NORMAL_LATENCY);
+        }
+
+        // THEN
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("429를 받으면 한도가 backoffRatio배로 줄고, 동시에 실패한 다른 호출은 한도를 다시 깎지 않는다")
+    void onDropped_DecreasesOncePerWindow() throws InterruptedException {
+        // GIVEN
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 16, 0.5, 2.0);
+        limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+        limiter.onSuccess(NORMAL_LATENCY);
+
+        // WHEN
+        limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+        limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+        limiter.onDropped();
+        limiter.onDropped();
+
+        // THEN
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("지연이 기준의 허용 배수를 넘으면 한도가 줄어든다")
+    void onSuccess_LatencySpikeDecreases() throws InterruptedException {
+        // GIVEN
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(6, 1, 16, 0.5, 2.0);
+        limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+        limiter.onSuccess(NORMAL_LATENCY);
+
+        // WHEN
+        limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+        limiter.onSuccess(NORMAL_LATENCY * 3);
+
+        // THEN
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한도만큼 실행 중이면 대기 시간 안에 슬롯을 얻지 못하고, 반납되면 다시 얻을 수 있다")
+    void tryAcquire_BlocksAtLimit() throws InterruptedException {
+        // GIVEN
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 4, 0.5, 2.0);
+        assertThat(limiter.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+
+        // WHEN & THEN
+        assertThat(limiter.tryAcquire(50, TimeUnit.MILLISECONDS)).isFalse();
+        limiter.onIgnore();
+        assertThat(limiter.tryAcquire(50, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.discordBot.demo.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(2, 1_000, clock::get);
+
+    @Test
+    @DisplayName("연속 실패가 기준에 닿으면 열리고, 열린 동안은 호출을 거절한다")
+    void opensAfterConsecutiveFailures() {
+        // WHEN
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure();
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure();
+
+        // THEN
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출 1건만 허용하고, 성공하면 닫힌다")
+    void halfOpenAllowsSingleTrial() {
+        // GIVEN
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        clock.addAndGet(1_000);
+
+        // WHEN & THEN
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void halfOpenFailureReopens() {
+        // GIVEN
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        clock.addAndGet(1_000);
+        circuitBreaker.tryAcquirePermission();
+
+        // WHEN
+        circuitBreaker.onFailure();
+
+        // THEN
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+}
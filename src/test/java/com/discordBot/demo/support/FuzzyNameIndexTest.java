@@ -0,0 +1,77 @@
+package com.discordBot.demo.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzyNameIndexTest {
+
+    private static final String[][] CHAMPIONS = {
+            {"블라디미르", "Vladimir"}, {"블리츠크랭크", "Blitzcrank"}, {"볼리베어", "Volibear"},
+            {"리 신", "LeeSin"}, {"아리", "Ahri"}, {"애니", "Annie"},
+            {"카이사", "Kaisa"}, {"카서스", "Karthus"}, {"카직스", "Khazix"}
+    };
+
+    @Test
+    @DisplayName("한글은 자모 단위로 비교해 모음/받침 하나가 틀린 챔피언 이름도 보정한다")
+    void findBest_CorrectsHangulTypos() {
+        // GIVEN
+        FuzzyNameIndex<String> index = championIndex();
+
+        // WHEN & THEN
+        assertThat(index.findBest("블라디머르", 0.5)).map(FuzzyNameIndex.Match::value).contains("블라디미르");
+        assertThat(index.findBest("카이샤", 0.5)).map(FuzzyNameIndex.Match::value).contains("카이사");
+        assertThat(index.findBest("애나", 0.5)).map(FuzzyNameIndex.Match::value).contains("애니");
+        assertThat(index.findBest("완전히다른이름", 0.5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공백/기호/대소문자와 OCR 혼동 글자(0↔O, 1↔l↔I)는 같은 글자로 보고, 영문 Key로도 찾는다")
+    void findBest_NormalizesOcrConfusions() {
+        // GIVEN
+        FuzzyNameIndex<String> index = championIndex();
+
+        // WHEN
+        Optional<FuzzyNameIndex.Match<String>> spaced = index.findBest("리신", 0.5);
+        Optional<FuzzyNameIndex.Match<String>> key = index.findBest("Kai'Sa", 0.5);
+        Optional<FuzzyNameIndex.Match<String>> ocr = index.findBest("VLADIMlR", 0.5);
+
+        // THEN
+        assertThat(spaced).map(FuzzyNameIndex.Match::value).contains("리 신");
+        assertThat(spaced.get().similarity()).isEqualTo(1.0);
+        assertThat(key).map(FuzzyNameIndex.Match::value).contains("카이사");
+        assertThat(ocr).map(FuzzyNameIndex.Match::value).contains("블라디미르");
+    }
+
+    @Test
+    @DisplayName("같은 이름이 서로 다른 값을 가리키면 모호하므로 보정하지 않는다")
+    void findBest_AmbiguousNamesAreNotCorrected() {
+        // GIVEN: 태그만 다른 같은 이름의 계정 두 개
+        FuzzyNameIndex<String> index = new FuzzyNameIndex<>(List.of(
+                Map.entry("Hide on bush", "account-1"),
+                Map.entry("Faker", "account-2"),
+                Map.entry("Faker", "account-3")
+        ));
+
+        // WHEN & THEN
+        assertThat(index.findBest("Faker", 0.5)).isEmpty();
+        assertThat(index.findBest("Fakr", 0.1)).isEmpty();
+        assertThat(index.findBest("H1de 0n bush", 0.5)).map(FuzzyNameIndex.Match::value).contains("account-1");
+        assertThat(index.findBest("Hide on bosh", 0.6)).map(FuzzyNameIndex.Match::value).contains("account-1");
+    }
+
+    private FuzzyNameIndex<String> championIndex() {
+        List<Map.Entry<String, String>> keyedNames = new ArrayList<>();
+        for (String[] champion : CHAMPIONS) {
+            keyedNames.add(Map.entry(champion[0], champion[0]));
+            keyedNames.add(Map.entry(champion[1], champion[0]));
+        }
+        return new FuzzyNameIndex<>(keyedNames);
+    }
+}
@@ -0,0 +1,110 @@
+package com.discordBot.demo.support;
+
+import com.google.genai.errors.ApiException;
+import com.google.genai.types.Content;
+import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.Part;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiReplayCallTest {
+
+    private static final byte[] RECORDED_IMAGE = {1, 2, 3};
+    private static final byte[] UNKNOWN_IMAGE = {9, 9, 9};
+
+    @TempDir
+    Path corpusDir;
+
+    @Test
+    @DisplayName("녹화한 응답은 새로 연 녹화 폴더에서도 같은 이미지로 재생된다")
+    void generate_ReplaysRecordedResponseByImageHash() throws IOException {
+        // GIVEN: 녹화 후 폴더를 다시 읽음 (재시작)
+        new GeminiCorpus(corpusDir).save(ContentHash.sha256Hex(RECORDED_IMAGE), response("{\"winnerTeam\":\"BLUE\"}"));
+        GeminiReplayCall replayCall = new GeminiReplayCall(new GeminiCorpus(corpusDir), false, 0, 0, 0.0, 0.0);
+
+        // WHEN
+        GenerateContentResponse replayed = replayCall.generate("model", request(RECORDED_IMAGE), null);
+
+        // THEN
+        assertThat(replayed.text()).isEqualTo("{\"winnerTeam\":\"BLUE\"}");
+        assertThatThrownBy(() -> replayCall.generate("model", request(UNKNOWN_IMAGE), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("on-miss가 pick이면 녹화에 없는 이미지도 녹화 중 하나로 항상 같게 응답한다")
+    void generate_PicksRecordedResponseOnMiss() throws IOException {
+        // GIVEN
+        GeminiCorpus corpus = new GeminiCorpus(corpusDir);
+        corpus.save("a", response("first"));
+        corpus.save("b", response("second"));
+        GeminiReplayCall replayCall = new GeminiReplayCall(corpus, true, 0, 0, 0.0, 0.0);
+
+        // WHEN
+        String firstReply = replayCall.generate("model", request(UNKNOWN_IMAGE), null).text();
+        String secondReply = replayCall.generate("model", request(UNKNOWN_IMAGE), null).text();
+
+        // THEN
+        assertThat(firstReply).isIn("first", "second");
+        assertThat(secondReply).isEqualTo(firstReply);
+    }
+
+    @Test
+    @DisplayName("오류 주입 비율에 따라 재시도 대상인 429 / 503 ApiException을 던진다")
+    void generate_InjectsErrors() throws IOException {
+        // GIVEN
+        GeminiCorpus corpus = new GeminiCorpus(corpusDir);
+        corpus.save(ContentHash.sha256Hex(RECORDED_IMAGE), response("ok"));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> new GeminiReplayCall(corpus, false, 0, 0, 1.0, 0.0).generate("model", request(RECORDED_IMAGE), null))
+                .isInstanceOfSatisfying(ApiException.class, e -> assertThat(e.code()).isEqualTo(429));
+        assertThatThrownBy(() -> new GeminiReplayCall(corpus, false, 0, 0, 0.0, 1.0).generate("model", request(RECORDED_IMAGE), null))
+                .isInstanceOfSatisfying(ApiException.class, e -> assertThat(e.code()).isEqualTo(503));
+    }
+
+    @Test
+    @DisplayName("지연 분포는 중앙값 근처에 절반이 모이고 p99를 크게 넘지 않는다")
+    void sampleLatencyMillis_FollowsConfiguredDistribution() throws IOException {
+        // GIVEN
+        GeminiReplayCall replayCall = new GeminiReplayCall(new GeminiCorpus(corpusDir), false, 1_000, 4_000, 0.0, 0.0);
+
+        // WHEN
+        int samples = 20_000;
+        int belowMedian = 0;
+        int aboveP99 = 0;
+        for (int i = 0; i < samples; i++) {
+            long latency = replayCall.sampleLatencyMillis();
+            if (latency < 1_000) {
+                belowMedian++;
+            }
+            if (latency > 4_000) {
+                aboveP99++;
+            }
+        }
+
+        // THEN
+        assertThat(belowMedian / (double) samples).isBetween(0.47, 0.53);
+        assertThat(aboveP99 / (double) samples).isBetween(0.005, 0.02);
+    }
+
+    private static List<Content> request(byte[] image) {
+        return List.of(Content.builder()
+                .role("user")
+                .parts(List.of(Part.fromText("prompt"), Part.fromBytes(image, "image/jpeg")))
+                .build());
+    }
+
+    private static GenerateContentResponse response(String text) {
+        return GenerateContentResponse.fromJson(
+                "{\"candidates\":[{\"content\":{\"role\":\"model\",\"parts\":[{\"text\":\"" + text.replace("\"", "\\\"") + "\"}]}}]}");
+    }
+}
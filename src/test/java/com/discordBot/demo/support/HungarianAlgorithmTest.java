@@ -0,0 +1,43 @@
+package com.discordBot.demo.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HungarianAlgorithmTest {
+
+    @Test
+    @DisplayName("탐욕적으로 고르면 틀리는 경우에도 비용 합이 최소인 배정을 찾는다")
+    void solve_FindsMinimumCostAssignment() {
+        // GIVEN: 0행이 가장 싼 0열을 가져가면 1행이 비싼 값을 내야 함
+        double[][] cost = {
+                {1, 2, 9},
+                {1, 9, 9},
+                {9, 9, 1}
+        };
+
+        // WHEN
+        int[] assignment = HungarianAlgorithm.solve(cost);
+
+        // THEN: 0→1, 1→0, 2→2 (합계 4)
+        assertThat(assignment).containsExactly(1, 0, 2);
+    }
+
+    @Test
+    @DisplayName("행이 열보다 많으면 비용상 가장 불리한 행이 -1(미배정)이 된다")
+    void solve_MoreRowsThanColumns() {
+        // GIVEN: 음수 비용 = 해당 열을 선호
+        double[][] cost = {
+                {-5, 0},
+                {0, -5},
+                {-1, -1}
+        };
+
+        // WHEN
+        int[] assignment = HungarianAlgorithm.solve(cost);
+
+        // THEN
+        assertThat(assignment).containsExactly(0, 1, -1);
+    }
+}
@@ -0,0 +1,127 @@
+package com.discordBot.demo.support;
+
+import com.discordBot.demo.domain.dto.MatchRegistrationDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MatchImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV: 같은 match_key의 연속된 행을 한 경기로 묶고, 팀 골드 합계가 없으면 선수 골드로 채운다")
+    void csv_GroupsRowsByMatchKey() throws IOException {
+        // GIVEN
+        String csv = String.join("\n",
+                "match_key,winner_team,game_duration_seconds,game_name,tag_line,team,champion_name,lane_name,kills,deaths,assists,total_gold",
+                "A,blue,1800,Faker,KR1,BLUE,아리,MID,10,2,5,12000",
+                "A,blue,1800,\"Hide, On\",KR1,red,제드,MID,3,7,2,9000",
+                "",
+                "B,RED,2000,Faker,KR1,BLUE,아리,MID,1,5,0,8000");
+
+        // WHEN
+        try (MatchImportReader reader = new MatchImportReader(new StringReader(csv), MatchImportReader.Format.CSV, objectMapper)) {
+            MatchImportReader.Entry first = reader.next();
+            MatchImportReader.Entry second = reader.next();
+
+            // THEN
+            assertThat(first.isValid()).isTrue();
+            assertThat(first.getOrdinal()).isEqualTo(1);
+            assertThat(first.getLineNumber()).isEqualTo(2);
+            MatchRegistrationDto match = first.getMatch();
+            assertThat(match.getWinnerTeam()).isEqualTo("BLUE");
+            assertThat(match.getPlayerStatsList()).hasSize(2);
+            assertThat(match.getPlayerStatsList().get(1).getLolGameName()).isEqualTo("Hide, On");
+            assertThat(match.getPlayerStatsList().get(1).getTeam()).isEqualTo("RED");
+            assertThat(match.getPlayerStatsList().get(1).getDurationSeconds()).isEqualTo(1800);
+            assertThat(match.getBlueTotalGold()).isEqualTo(12000);
+            assertThat(match.getRedTotalGold()).isEqualTo(9000);
+
+            assertThat(second.getOrdinal()).isEqualTo(2);
+            assertThat(second.getLineNumber()).isEqualTo(5);
+            assertThat(second.getMatch().getPlayerStatsList()).hasSize(1);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("CSV: 숫자가 아닌 값이 있는 경기는 오류로 돌려주고 다음 경기를 계속 읽는다")
+    void csv_InvalidRowDoesNotStopReading() throws IOException {
+        // GIVEN
+        String csv = String.join("\n",
+                "match_key,winner_team,game_name,tag_line,team,champion_name,lane_name,kills,deaths,assists",
+                "A,BLUE,Faker,KR1,BLUE,아리,MID,열,2,5",
+                "A,BLUE,Keria,KR1,BLUE,라칸,SUPPORT,0,1,12",
+                "B,RED,Faker,KR1,BLUE,아리,MID,1,5,0");
+
+        // WHEN
+        try (MatchImportReader reader = new MatchImportReader(new StringReader(csv), MatchImportReader.Format.CSV, objectMapper)) {
+            MatchImportReader.Entry first = reader.next();
+            MatchImportReader.Entry second = reader.next();
+
+            // THEN
+            assertThat(first.isValid()).isFalse();
+            assertThat(first.getError()).contains("kills").contains("2번째 줄");
+            assertThat(second.isValid()).isTrue();
+            assertThat(second.getOrdinal()).isEqualTo(2);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("CSV: 필수 열이 없으면 첫 경기를 읽을 때 예외가 발생한다")
+    void csv_MissingRequiredColumn() {
+        // GIVEN
+        String csv = "match_key,winner_team\nA,BLUE";
+        MatchImportReader reader = new MatchImportReader(new StringReader(csv), MatchImportReader.Format.CSV, objectMapper);
+
+        // WHEN & THEN
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, reader::next);
+        assertThat(thrown.getMessage()).startsWith("❌ 오류:").contains("game_name");
+    }
+
+    @Test
+    @DisplayName("JSON Lines: 한 줄에 한 경기를 읽고, 형식 오류나 잘못된 승리 팀은 해당 경기만 오류로 돌려준다")
+    void jsonLines_ReadsOneMatchPerLine() throws IOException {
+        // GIVEN
+        String jsonl = String.join("\n",
+                "{\"winnerTeam\":\"RED\",\"gameDurationSeconds\":1500,\"unknownField\":1,"
+                        + "\"playerStatsList\":[{\"gameName\":\"Faker\",\"tagLine\":\"KR1\",\"team\":\"red\",\"championName\":\"아리\",\"laneName\":\"MID\",\"kills\":3}]}",
+                "{not json",
+                "{\"winnerTeam\":\"GREEN\",\"playerStatsList\":[{\"gameName\":\"Faker\",\"team\":\"BLUE\"}]}");
+
+        // WHEN
+        try (MatchImportReader reader = new MatchImportReader(new StringReader(jsonl), MatchImportReader.Format.JSON_LINES, objectMapper)) {
+            MatchImportReader.Entry first = reader.next();
+            MatchImportReader.Entry broken = reader.next();
+            MatchImportReader.Entry wrongWinner = reader.next();
+
+            // THEN
+            assertThat(first.isValid()).isTrue();
+            assertThat(first.getMatch().getPlayerStatsList().get(0).getLolGameName()).isEqualTo("Faker");
+            assertThat(first.getMatch().getPlayerStatsList().get(0).getTeam()).isEqualTo("RED");
+
+            assertThat(broken.isValid()).isFalse();
+            assertThat(broken.getError()).startsWith("JSON 형식 오류");
+            assertThat(broken.getLineNumber()).isEqualTo(2);
+
+            assertThat(wrongWinner.isValid()).isFalse();
+            assertThat(wrongWinner.getError()).contains("GREEN");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("확장자가 .csv면 CSV, 그 외에는 JSON Lines로 판단한다")
+    void detectFormat() {
+        assertThat(MatchImportReader.detectFormat("matches.CSV")).isEqualTo(MatchImportReader.Format.CSV);
+        assertThat(MatchImportReader.detectFormat("matches.jsonl")).isEqualTo(MatchImportReader.Format.JSON_LINES);
+    }
+}
@@ -0,0 +1,63 @@
+package com.discordBot.demo.support;
+
+import com.discordBot.demo.domain.dto.PlayerStatsDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchStructureValidatorTest {
+
+    @Test
+    @DisplayName("10명, 팀당 5명이고 골드가 경기 시간에 맞으면 문제가 없다")
+    void validate_AcceptsWellFormedMatch() {
+        // GIVEN: 30분 경기, 1인당 10,000 골드
+        List<PlayerStatsDto> players = players(5, 5, 10_000);
+
+        // WHEN & THEN
+        assertThat(MatchStructureValidator.validate(1_800, players)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인원/팀 구성이 틀리면 문제로 보고한다")
+    void validate_RejectsWrongTeamComposition() {
+        // WHEN
+        List<String> missingPlayer = MatchStructureValidator.validate(1_800, players(5, 4, 10_000));
+        List<String> wrongTeams = MatchStructureValidator.validate(1_800, players(6, 4, 10_000));
+
+        // THEN
+        assertThat(missingPlayer).singleElement().asString().contains("9명");
+        assertThat(wrongTeams).singleElement().asString().contains("BLUE 6명");
+    }
+
+    @Test
+    @DisplayName("경기 시간에 비해 골드가 너무 적거나 많으면(자릿수 오인식) 문제로 보고한다")
+    void validate_RejectsImplausibleGold() {
+        // GIVEN: 30분 경기에 한 명은 골드 한 자리 누락, 한 명은 한 자리 추가
+        List<PlayerStatsDto> players = players(5, 5, 10_000);
+        players.get(0).setTotalGold(1_000);
+        players.get(1).setTotalGold(100_000);
+
+        // WHEN
+        List<String> problems = MatchStructureValidator.validate(1_800, players);
+
+        // THEN
+        assertThat(problems).hasSize(2);
+        assertThat(MatchStructureValidator.validate(0, players(5, 5, 10_000))).isNotEmpty();
+    }
+
+    private List<PlayerStatsDto> players(int blue, int red, int gold) {
+        List<PlayerStatsDto> players = new ArrayList<>();
+        for (int i = 0; i < blue + red; i++) {
+            PlayerStatsDto player = new PlayerStatsDto();
+            player.setLolGameName("player" + i);
+            player.setTeam(i < blue ? "BLUE" : "RED");
+            player.setTotalGold(gold);
+            players.add(player);
+        }
+        return players;
+    }
+}
@@ -0,0 +1,103 @@
+package com.discordBot.demo.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerceptualHashTest {
+
+    @Test
+    @DisplayName("같은 화면을 다른 해상도와 JPEG 품질로 저장해도 해밍 거리가 작다")
+    void dHash_StableAcrossResizeAndRecompression() throws IOException {
+        // GIVEN
+        BufferedImage original = drawScoreboard(1920, 1080, 0);
+        BufferedImage downscaled = resize(original, 1280, 720);
+
+        // WHEN
+        long originalHash = PerceptualHash.dHash(original);
+        Long recompressedHash = PerceptualHash.dHash(encodeJpeg(downscaled, 0.4f));
+
+        // THEN
+        assertThat(recompressedHash).isNotNull();
+        assertThat(PerceptualHash.distance(originalHash, recompressedHash)).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 화면은 해밍 거리가 크다")
+    void dHash_DifferentScreensAreFarApart() {
+        // GIVEN
+        long first = PerceptualHash.dHash(drawScoreboard(1920, 1080, 0));
+        long second = PerceptualHash.dHash(drawScoreboard(1920, 1080, 1));
+
+        // THEN
+        assertThat(PerceptualHash.distance(first, second)).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("이미지로 읽을 수 없는 바이트는 null을 반환한다")
+    void dHash_UnreadableBytes() throws IOException {
+        assertThat(PerceptualHash.dHash("not an image".getBytes())).isNull();
+    }
+
+    // --------------------------------------------------------------------------------
+    // 헬퍼 메서드
+    // --------------------------------------------------------------------------------
+
+    /**
+     * 줄무늬 배경 위에 선수 행 10개를 그린 가짜 점수판. variant마다 행 밝기 배치가 달라집니다.
+     */
+    private BufferedImage drawScoreboard(int width, int height, int variant) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        for (int x = 0; x < width; x++) {
+            int shade = variant == 0 ? x * 255 / width : 255 - x * 255 / width;
+            g.setColor(new Color(shade / 2, shade / 3, shade));
+            g.drawLine(x, 0, x, height);
+        }
+        for (int row = 0; row < 10; row++) {
+            int brightness = ((row + variant * 3) * 97) % 256;
+            g.setColor(new Color(brightness, brightness, brightness));
+            g.fillRect(width / 10 + (row % 3) * width / 8, height / 12 * (row + 1), width / 3, height / 16);
+        }
+        g.dispose();
+        return image;
+    }
+
+    private BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(output)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
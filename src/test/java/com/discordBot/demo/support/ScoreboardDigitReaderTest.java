@@ -0,0 +1,70 @@
+package com.discordBot.demo.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreboardDigitReaderTest {
+
+    private final ScoreboardDigitReader reader = new ScoreboardDigitReader(0.5);
+
+    @Test
+    @DisplayName("어두운 점수판에서 선수 행의 KDA와 마지막 두 숫자 열(피해량, 골드)을 위에서부터 읽는다")
+    void read_ReadsKdaDamageAndGoldPerRow() {
+        // GIVEN: 이름/챔피언/CS 열과 천 단위 쉼표가 섞인 점수판
+        BufferedImage image = new BufferedImage(1600, 500, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(15, 20, 35));
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 18));
+        g.setColor(new Color(220, 210, 190));
+        g.drawString("VICTORY 32:15", 700, 40);
+        drawRow(g, 100, "Hide on bush", "5 / 2 / 10", "23,456", "12,345");
+        drawRow(g, 170, "Faker", "0 / 7 / 3", "8,123", "7,650");
+        g.dispose();
+
+        // WHEN
+        List<ScoreboardDigitReader.Row> rows = reader.read(image);
+
+        // THEN
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).extracting(ScoreboardDigitReader.Row::kills, ScoreboardDigitReader.Row::deaths,
+                        ScoreboardDigitReader.Row::assists, ScoreboardDigitReader.Row::totalDamage, ScoreboardDigitReader.Row::totalGold)
+                .containsExactly(5, 2, 10, 23456, 12345);
+        assertThat(rows.get(1)).extracting(ScoreboardDigitReader.Row::kills, ScoreboardDigitReader.Row::deaths,
+                        ScoreboardDigitReader.Row::assists, ScoreboardDigitReader.Row::totalDamage, ScoreboardDigitReader.Row::totalGold)
+                .containsExactly(0, 7, 3, 8123, 7650);
+    }
+
+    @Test
+    @DisplayName("KDA 토큰이 없는 화면은 빈 목록을 반환한다")
+    void read_ReturnsEmptyWithoutScoreboard() {
+        // GIVEN
+        BufferedImage image = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 18));
+        g.setColor(Color.WHITE);
+        g.drawString("12345 678", 40, 100);
+        g.dispose();
+
+        // WHEN & THEN
+        assertThat(reader.read(image)).isEmpty();
+    }
+
+    private static void drawRow(Graphics2D g, int y, String name, String kda, String damage, String gold) {
+        g.drawString(name, 80, y);
+        g.drawString(kda, 700, y);
+        g.drawString("212", 1000, y);
+        g.drawString(damage, 1250, y);
+        g.drawString(gold, 1450, y);
+    }
+}
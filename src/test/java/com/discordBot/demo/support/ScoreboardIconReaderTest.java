@@ -0,0 +1,142 @@
+package com.discordBot.demo.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreboardIconReaderTest {
+
+    private static final String SMITE = "SummonerSmite";
+    private static final String SUPPORT_ITEM = "3865";
+    private static final int PORTRAIT_SIZE = 40;
+
+    private final Map<String, BufferedImage> championIcons = icons("Champion", 120, 40, 0);
+    private final Map<String, BufferedImage> spellIcons = icons("Spell", 64, 10, 1_000);
+    private final Map<String, BufferedImage> itemIcons = icons("Item", 64, 8, 2_000);
+
+    @Test
+    @DisplayName("JPEG로 재압축한 점수판에서도 초상화로 행을 찾고, 같은 줄의 강타/서포터 아이템을 알아본다")
+    void read_FindsChampionSmiteAndSupportItemPerRow() throws IOException {
+        // GIVEN: 정글(강타) / 서포터(첫 칸 서포터 아이템) / 그 외 한 명, 나머지 아이템 칸은 색인에 없는 아이콘
+        spellIcons.put(SMITE, spellIcons.remove("Spell0"));
+        itemIcons.put(SUPPORT_ITEM, itemIcons.remove("Item0"));
+        BufferedImage scoreboard = scoreboard();
+        Graphics2D g = scoreboard.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        drawRow(g, 100, "Champion3", SMITE, "Spell4", false);
+        drawRow(g, 170, "Champion17", "Spell1", "Spell2", true);
+        drawRow(g, 240, "Champion29", "Spell5", "Spell6", false);
+        g.dispose();
+        ScoreboardIconReader reader = new ScoreboardIconReader(championIcons, spellIcons, itemIcons, SMITE, 0.8);
+
+        // WHEN
+        List<ScoreboardIconReader.Row> rows = reader.read(jpegRoundTrip(scoreboard));
+
+        // THEN
+        assertThat(rows).extracting(ScoreboardIconReader.Row::championKey)
+                .containsExactly("Champion3", "Champion17", "Champion29");
+        assertThat(rows).extracting(ScoreboardIconReader.Row::smite)
+                .containsExactly(true, false, false);
+        assertThat(rows).extracting(ScoreboardIconReader.Row::supportItem)
+                .containsExactly(null, true, null);
+    }
+
+    @Test
+    @DisplayName("색인에 없는 아이콘과 글자만 있는 화면에서는 행을 만들지 않는다")
+    void read_ReturnsEmptyWithoutKnownPortraits() {
+        // GIVEN
+        BufferedImage scoreboard = scoreboard();
+        Graphics2D g = scoreboard.createGraphics();
+        for (int i = 0; i < 5; i++) {
+            g.drawImage(icon(PORTRAIT_SIZE, 9_000 + i), 60 + i * 60, 100, PORTRAIT_SIZE, PORTRAIT_SIZE, null);
+        }
+        g.dispose();
+        ScoreboardIconReader reader = new ScoreboardIconReader(championIcons, spellIcons, itemIcons, SMITE, 0.8);
+
+        // WHEN & THEN
+        assertThat(reader.read(scoreboard)).isEmpty();
+    }
+
+    private void drawRow(Graphics2D g, int y, String champion, String firstSpell, String secondSpell, boolean supportItem) {
+        int spellSize = (PORTRAIT_SIZE - 2) / 2;
+        int itemSize = PORTRAIT_SIZE * 7 / 10;
+        g.drawImage(championIcons.get(champion), 60, y, PORTRAIT_SIZE, PORTRAIT_SIZE, null);
+        g.drawImage(spellIcons.get(firstSpell), 60 + PORTRAIT_SIZE + 3, y, spellSize, spellSize, null);
+        g.drawImage(spellIcons.get(secondSpell), 60 + PORTRAIT_SIZE + 3, y + spellSize + 2, spellSize, spellSize, null);
+        g.setColor(new Color(220, 210, 190));
+        g.drawString("Hide on bush", 180, y + PORTRAIT_SIZE / 2);
+        g.drawString("5 / 2 / 10", 500, y + PORTRAIT_SIZE / 2);
+        for (int slot = 0; slot < 6; slot++) {
+            BufferedImage item = supportItem && slot == 0 ? itemIcons.get(SUPPORT_ITEM) : icon(64, 5_000 + y * 10 + slot);
+            g.drawImage(item, 700 + slot * (itemSize + 2), y + (PORTRAIT_SIZE - itemSize) / 2, itemSize, itemSize, null);
+        }
+    }
+
+    private static BufferedImage scoreboard() {
+        BufferedImage image = new BufferedImage(1200, 340, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(15, 20, 35));
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 18));
+        g.setColor(new Color(220, 210, 190));
+        g.drawString("VICTORY 32:15", 500, 40);
+        g.dispose();
+        return image;
+    }
+
+    private static Map<String, BufferedImage> icons(String prefix, int size, int count, long seed) {
+        Map<String, BufferedImage> icons = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            icons.put(prefix + i, icon(size, seed + i));
+        }
+        return icons;
+    }
+
+    /**
+     * 그라디언트 위에 도형을 흩뿌린 가짜 아이콘 (시드마다 다른 모양/색)
+     */
+    private static BufferedImage icon(int size, long seed) {
+        Random random = new Random(seed);
+        BufferedImage icon = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = icon.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, randomColor(random), size, size, randomColor(random)));
+        g.fillRect(0, 0, size, size);
+        for (int i = 0; i < 6; i++) {
+            g.setColor(randomColor(random));
+            int shape = size / 4 + random.nextInt(size / 2);
+            if (random.nextBoolean()) {
+                g.fillOval(random.nextInt(size) - shape / 2, random.nextInt(size) - shape / 2, shape, shape);
+            } else {
+                g.fillRect(random.nextInt(size) - shape / 2, random.nextInt(size) - shape / 2, shape, shape / 2);
+            }
+        }
+        g.dispose();
+        return icon;
+    }
+
+    private static Color randomColor(Random random) {
+        return new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+    }
+
+    private static BufferedImage jpegRoundTrip(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -0,0 +1,87 @@
+package com.discordBot.demo.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScreenshotArchiveTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("이미지 항목만 이름 순으로 나열하고, macOS 리소스 포크와 숨김 파일은 제외한다")
+    void getImageEntryNames_FiltersAndSorts() throws IOException {
+        // GIVEN
+        Path zip = createZip(Map.of(
+                "match-02.PNG", new byte[]{2},
+                "match-01.jpg", new byte[]{1},
+                "notes.txt", new byte[]{9},
+                "__MACOSX/._match-01.jpg", new byte[]{9},
+                "sub/.hidden.png", new byte[]{9},
+                "sub/match-03.webp", new byte[]{3}
+        ));
+
+        // WHEN
+        try (ScreenshotArchive archive = new ScreenshotArchive(zip, 50, 1024)) {
+
+            // THEN
+            assertThat(archive.getImageEntryNames()).containsExactly("match-01.jpg", "match-02.PNG", "sub/match-03.webp");
+            assertThat(archive.read("sub/match-03.webp")).containsExactly(3);
+        }
+    }
+
+    @Test
+    @DisplayName("이미지가 없거나 최대 장수를 넘으면 IllegalArgumentException을 던진다")
+    void constructor_RejectsEmptyOrTooManyImages() throws IOException {
+        // GIVEN
+        Path empty = createZip(Map.of("readme.txt", new byte[]{1}));
+        Path tooMany = createZip(Map.of("a.png", new byte[]{1}, "b.png", new byte[]{2}, "c.png", new byte[]{3}));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> new ScreenshotArchive(empty, 50, 1024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ScreenshotArchive(tooMany, 2, 1024))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 2장");
+    }
+
+    @Test
+    @DisplayName("풀었을 때 항목별 최대 크기를 넘으면 읽기를 중단한다")
+    void read_RejectsOversizedEntry() throws IOException {
+        // GIVEN: 압축하면 작아지지만 풀면 64KB인 항목
+        Path zip = createZip(Map.of("big.png", new byte[64 * 1024], "small.png", new byte[100]));
+
+        // WHEN & THEN
+        try (ScreenshotArchive archive = new ScreenshotArchive(zip, 50, 32 * 1024)) {
+            assertThat(archive.read("small.png")).hasSize(100);
+            assertThatThrownBy(() -> archive.read("big.png"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("big.png");
+        }
+    }
+
+    private Path createZip(Map<String, byte[]> entries) throws IOException {
+        Path zip = Files.createTempFile(tempDir, "screenshots-", ".zip");
+        try (OutputStream output = Files.newOutputStream(zip);
+             ZipOutputStream zipOutput = new ZipOutputStream(output)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zipOutput.putNextEntry(new ZipEntry(entry.getKey()));
+                zipOutput.write(entry.getValue());
+                zipOutput.closeEntry();
+            }
+        }
+        return zip;
+    }
+}
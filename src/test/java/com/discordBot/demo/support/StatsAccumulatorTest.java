@@ -0,0 +1,75 @@
+package com.discordBot.demo.support;
+
+import com.discordBot.demo.domain.dto.StatsDeltaDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatsAccumulatorTest {
+
+    private static final Long SERVER_ID = 500L;
+
+    @Test
+    @DisplayName("유저 / 유저+챔피언 / 유저+라인 단위로 각각 합산한다")
+    void add_AggregatesPerTableKey() {
+        // GIVEN
+        StatsAccumulator accumulator = new StatsAccumulator(SERVER_ID);
+
+        // WHEN: 유저 1이 챔피언 10으로 두 판(라인 1, 2), 챔피언 20으로 한 판 / 유저 2가 한 판
+        accumulator.add(1L, 10L, 1L, true, 5, 1, 3, 10_000, 20_000, 15, 1800);
+        accumulator.add(1L, 10L, 2L, false, 2, 4, 1, 8_000, 12_000, 10, 1500);
+        accumulator.add(1L, 20L, 1L, true, 7, 0, 2, 12_000, 25_000, 20, 2000);
+        accumulator.add(2L, 10L, 1L, false, 1, 6, 0, 6_000, 7_000, 8, 1800);
+
+        // THEN
+        List<StatsDeltaDto> userRows = accumulator.userServerStatsRows();
+        assertThat(userRows).hasSize(2);
+        StatsDeltaDto user1 = userRows.get(0);
+        assertThat(user1.getServerId()).isEqualTo(SERVER_ID);
+        assertThat(user1.getUserId()).isEqualTo(1L);
+        assertThat(user1.getGames()).isEqualTo(3);
+        assertThat(user1.getWins()).isEqualTo(2);
+        assertThat(user1.getKills()).isEqualTo(14);
+        assertThat(user1.getGold()).isEqualTo(30_000);
+        assertThat(user1.getTeamKills()).isEqualTo(45);
+        assertThat(user1.getDurationSeconds()).isEqualTo(5300);
+
+        List<StatsDeltaDto> championRows = accumulator.championStatsRows();
+        assertThat(championRows).hasSize(3);
+        assertThat(championRows.get(0).getChampionId()).isEqualTo(10L);
+        assertThat(championRows.get(0).getGames()).isEqualTo(2);
+        assertThat(championRows.get(0).getLineId()).isNull();
+
+        List<StatsDeltaDto> lineRows = accumulator.lineStatsRows();
+        assertThat(lineRows).hasSize(3);
+        assertThat(lineRows.get(0).getLineId()).isEqualTo(1L);
+        assertThat(lineRows.get(0).getGames()).isEqualTo(2);
+
+        assertThat(accumulator.getRowCount()).isEqualTo(4);
+        assertThat(accumulator.getAggregateRowCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("배열 용량을 넘어서도 슬롯과 경기 ID가 유지된다")
+    void add_GrowsBeyondInitialCapacity() {
+        // GIVEN
+        StatsAccumulator accumulator = new StatsAccumulator(SERVER_ID);
+
+        // WHEN
+        for (long userId = 1; userId <= 1000; userId++) {
+            accumulator.add(userId, 1L, 1L, true, 1, 1, 1, 100, 100, 5, 60);
+            accumulator.addMatchId(2000 - userId);
+        }
+
+        // THEN
+        assertThat(accumulator.userServerStatsRows()).hasSize(1000);
+        assertThat(accumulator.userServerStatsRows().get(999).getUserId()).isEqualTo(1000L);
+        long[] matchIds = accumulator.sortedMatchIds();
+        assertThat(matchIds).hasSize(1000);
+        assertThat(matchIds[0]).isEqualTo(1000L);
+        assertThat(accumulator.getMatchCount()).isEqualTo(1000);
+    }
+}